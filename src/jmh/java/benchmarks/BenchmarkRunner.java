@@ -0,0 +1,81 @@
+package benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+
+/**
+ * Запуск JMH-бенчмарков библиотеки
+ * <p>
+ * Каждый набор запускается с профилировщиком сборщика мусора, поэтому помимо
+ * количества операций в секунду в отчёт попадает скорость выделения памяти
+ * (gc.alloc.rate и gc.alloc.rate.norm)
+ * <p>
+ * На Java 17+ форки запускаются с модулем jdk.incubator.vector, а каталоги
+ * multi-release части (META-INF/versions/17) добавляются в начало classpath,
+ * чтобы ядра VectorKernels на Vector API были доступны и при запуске из каталогов классов
+ */
+public class BenchmarkRunner {
+    /**
+     * Минимальная версия Java, для которой собирается реализация на Vector API
+     */
+    private static final int SIMD_JAVA_VERSION = 17;
+
+    /**
+     * Запустить бенчмарки
+     *
+     * @param args регулярное выражение для отбора бенчмарков (по умолчанию все)
+     * @throws RunnerException ошибка запуска JMH
+     */
+    public static void main(String[] args) throws RunnerException {
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .include(args.length > 0 ? args[0] : ".*Benchmark.*")
+                .addProfiler(GCProfiler.class);
+        if (getJavaVersion() >= SIMD_JAVA_VERSION) {
+            addVersionedClassPath();
+            options.jvmArgsAppend("--add-modules=jdk.incubator.vector");
+        }
+        new Runner(options.build()).run();
+    }
+
+    /**
+     * Получить основную версию Java
+     *
+     * @return основная версия Java (8 для 1.8)
+     */
+    private static int getJavaVersion() {
+        String version = System.getProperty("java.specification.version");
+        if (version.startsWith("1."))
+            version = version.substring(2);
+        return Integer.parseInt(version);
+    }
+
+    /**
+     * Добавить в начало classpath каталоги multi-release части
+     * для всех каталогов классов из classpath
+     */
+    private static void addVersionedClassPath() {
+        StringBuilder classPath = new StringBuilder();
+        String[] entries = System.getProperty("java.class.path").split(File.pathSeparator);
+        for (String entry : entries) {
+            File versioned = new File(entry, "META-INF/versions/" + SIMD_JAVA_VERSION);
+            if (versioned.isDirectory())
+                classPath.append(versioned.getPath()).append(File.pathSeparator);
+        }
+        if (classPath.length() > 0)
+            System.setProperty("java.class.path", classPath + System.getProperty("java.class.path"));
+    }
+
+    /**
+     * Конструктор для запрета наследования
+     */
+    private BenchmarkRunner() {
+        // Подавление создания конструктора по умолчанию
+        // для достижения неинстанцируемости
+        throw new AssertionError("constructor is disabled");
+    }
+}
@@ -0,0 +1,125 @@
+package benchmarks;
+
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem2d;
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem2i;
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem3d;
+import jMath.aoklyunin.github.com.coordinateSystem.RealToIntMapping;
+import jMath.aoklyunin.github.com.vector.Vector2d;
+import jMath.aoklyunin.github.com.vector.Vector2dArray;
+import jMath.aoklyunin.github.com.vector.Vector2i;
+import jMath.aoklyunin.github.com.vector.Vector2iArray;
+import jMath.aoklyunin.github.com.vector.Vector3d;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки перевода координат между системами координат
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CoordinateSystemBenchmark {
+    /**
+     * количество точек в массовых операциях
+     */
+    private static final int POINT_CNT = 100_000;
+    /**
+     * целочисленная СК (окно рисования)
+     */
+    private CoordinateSystem2i cs2i;
+    /**
+     * вещественная СК (область задачи)
+     */
+    private CoordinateSystem2d cs2d;
+    /**
+     * трёхмерная вещественная СК
+     */
+    private CoordinateSystem3d cs3d;
+    /**
+     * целочисленный вектор для свёртки
+     */
+    private Vector2i coords2i;
+    /**
+     * вещественный вектор для свёртки
+     */
+    private Vector3d coords3d;
+    /**
+     * значение свёртки
+     */
+    private int convValue;
+    /**
+     * точки в вещественной СК
+     */
+    private Vector2dArray points;
+    /**
+     * массив для записи результата
+     */
+    private Vector2iArray pointsDest;
+    /**
+     * отображение из вещественной СК в целочисленную
+     */
+    private RealToIntMapping mapping;
+
+    /**
+     * Подготовка данных
+     */
+    @Setup
+    public void setup() {
+        cs2i = new CoordinateSystem2i(1919, 1079);
+        cs2d = new CoordinateSystem2d(-10, 10, -5, 5);
+        cs3d = new CoordinateSystem3d(-1, 1, -1, 1, -1, 1);
+        coords2i = new Vector2i(640, 480);
+        coords3d = new Vector3d(0.25, -0.5, 0.75);
+        convValue = cs2i.conv(coords2i);
+        points = new Vector2dArray(POINT_CNT);
+        for (int i = 0; i < POINT_CNT; i++)
+            points.set(i, Vector2d.rand(cs2d.getMin(), cs2d.getMax()));
+        pointsDest = new Vector2iArray(POINT_CNT);
+        mapping = cs2i.mappingFrom(cs2d);
+    }
+
+    @Benchmark
+    public Vector2i getCoords2i() {
+        return cs2i.getCoords(3.5, -1.25, cs2d);
+    }
+
+    @Benchmark
+    public int conv2i() {
+        return cs2i.conv(coords2i);
+    }
+
+    @Benchmark
+    public Vector2i deconv2i() {
+        return cs2i.deconv(convValue);
+    }
+
+    @Benchmark
+    public int conv3d() {
+        return cs3d.conv(coords3d, 100);
+    }
+
+    @Benchmark
+    public Vector2iArray getCoords2iScalar() {
+        Vector2i dest = new Vector2i();
+        for (int i = 0; i < POINT_CNT; i++)
+            pointsDest.set(i, cs2i.getCoords(points.x[i], points.y[i], cs2d, dest));
+        return pointsDest;
+    }
+
+    @Benchmark
+    public Vector2iArray getCoords2iBulk() {
+        return cs2i.getCoords(points, cs2d, pointsDest);
+    }
+
+    @Benchmark
+    public Vector2iArray getCoords2iMapping() {
+        Vector2i dest = new Vector2i();
+        for (int i = 0; i < POINT_CNT; i++)
+            pointsDest.set(i, mapping.map(points.x[i], points.y[i], dest));
+        return pointsDest;
+    }
+}
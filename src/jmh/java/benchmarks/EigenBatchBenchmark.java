@@ -0,0 +1,97 @@
+package benchmarks;
+
+import jMath.aoklyunin.github.com.linearAlgebra.ComplexValue;
+import jMath.aoklyunin.github.com.linearAlgebra.EigenValueKernels;
+import jMath.aoklyunin.github.com.linearAlgebra.LinearAlgebra;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки вычисления собственных значений множества матриц:
+ * EigenValueKernels против поочерёдных вызовов LinearAlgebra.getEigenValues()
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EigenBatchBenchmark {
+    /**
+     * количество матриц
+     */
+    private static final int MATRIX_CNT = 10_000;
+    /**
+     * порядок матриц
+     */
+    @Param({"3", "4", "6"})
+    private int n;
+    /**
+     * матрицы
+     */
+    private double[][][] matrices;
+    /**
+     * матрицы, записанные по строкам подряд
+     */
+    private double[] packed;
+    /**
+     * вещественные части собственных значений
+     */
+    private double[] real;
+    /**
+     * мнимые части собственных значений
+     */
+    private double[] imag;
+
+    /**
+     * Подготовка данных
+     */
+    @Setup
+    public void setup() {
+        matrices = new double[MATRIX_CNT][][];
+        packed = new double[MATRIX_CNT * n * n];
+        for (int k = 0; k < MATRIX_CNT; k++) {
+            matrices[k] = LinearAlgebra.getRandomMatrix(n, 2.0);
+            for (int i = 0; i < n; i++)
+                System.arraycopy(matrices[k][i], 0, packed, k * n * n + i * n, n);
+        }
+        real = new double[MATRIX_CNT * n];
+        imag = new double[MATRIX_CNT * n];
+    }
+
+    /**
+     * Поочерёдные вызовы LinearAlgebra.getEigenValues()
+     *
+     * @return собственные значения последней матрицы
+     */
+    @Benchmark
+    public ComplexValue[] commonsMath() {
+        ComplexValue[] result = null;
+        for (double[][] matrix : matrices)
+            result = LinearAlgebra.getEigenValues(matrix);
+        return result;
+    }
+
+    /**
+     * Пакетное вычисление в одном потоке
+     *
+     * @return вещественные части собственных значений
+     */
+    @Benchmark
+    public double[] batchSequential() {
+        EigenValueKernels.getEigenValues(packed, n, real, imag, Integer.MAX_VALUE);
+        return real;
+    }
+
+    /**
+     * Пакетное вычисление в общем пуле fork-join
+     *
+     * @return вещественные части собственных значений
+     */
+    @Benchmark
+    public double[] batchParallel() {
+        EigenValueKernels.getEigenValues(packed, n, real, imag);
+        return real;
+    }
+}
@@ -0,0 +1,105 @@
+package benchmarks;
+
+import jMath.aoklyunin.github.com.io.FileComparator;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки сравнения файлов как мультимножеств строк:
+ * хэш-таблица строк, отображение файлов в память и внешняя сортировка
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FileComparatorBenchmark {
+    /**
+     * количество строк в файле
+     */
+    private static final int LINE_CNT = 300_000;
+    /**
+     * размер серии при внешней сортировке (количество строк)
+     */
+    private static final int RUN_SIZE = 50_000;
+    /**
+     * первый файл
+     */
+    private Path file1;
+    /**
+     * второй файл (те же строки в другом порядке)
+     */
+    private Path file2;
+
+    /**
+     * Подготовка файлов
+     *
+     * @throws IOException ошибка записи
+     */
+    @Setup
+    public void setup() throws IOException {
+        Random random = new Random(42);
+        List<String> lines = new ArrayList<>(LINE_CNT);
+        for (int i = 0; i < LINE_CNT; i++)
+            lines.add("line " + random.nextInt(100_000));
+        file1 = Files.createTempFile("lines", ".txt");
+        file2 = Files.createTempFile("lines", ".txt");
+        Files.write(file1, lines, StandardCharsets.UTF_8);
+        Collections.shuffle(lines, random);
+        Files.write(file2, lines, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Удаление файлов
+     *
+     * @throws IOException ошибка удаления
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.delete(file1);
+        Files.delete(file2);
+    }
+
+    /**
+     * Сравнение через хэш-таблицу строк
+     *
+     * @return флаг, совпадают ли файлы
+     * @throws IOException ошибка чтения
+     */
+    @Benchmark
+    public boolean sameLines() throws IOException {
+        return FileComparator.sameLines(file1, file2);
+    }
+
+    /**
+     * Сравнение файлов, отображённых в память
+     *
+     * @return флаг, совпадают ли файлы
+     * @throws IOException ошибка чтения
+     */
+    @Benchmark
+    public boolean sameLinesMapped() throws IOException {
+        return FileComparator.sameLinesMapped(file1, file2);
+    }
+
+    /**
+     * Сравнение внешней сортировкой
+     *
+     * @return флаг, совпадают ли файлы
+     * @throws IOException ошибка чтения или записи серий
+     */
+    @Benchmark
+    public boolean sameLinesExternal() throws IOException {
+        return FileComparator.sameLinesExternal(file1, file2, RUN_SIZE);
+    }
+}
@@ -0,0 +1,117 @@
+package benchmarks;
+
+import jMath.aoklyunin.github.com.Algorithms;
+import jMath.aoklyunin.github.com.GridResampler;
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem2i;
+import jMath.aoklyunin.github.com.vector.Vector2d;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки передискретизации растра:
+ * GridResampler против поточечных вызовов Algorithms.bilinearInterpolation()
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GridResamplerBenchmark {
+    /**
+     * размер исходного растра вдоль оси
+     */
+    private static final int SRC_SIZE = 512;
+    /**
+     * размер целевого растра вдоль оси
+     */
+    @Param({"256", "1024"})
+    private int dstSize;
+    /**
+     * исходный растр
+     */
+    private double[] src;
+    /**
+     * массив для записи результата
+     */
+    private double[] dest;
+    /**
+     * билинейная передискретизация
+     */
+    private GridResampler bilinear;
+    /**
+     * бикубическая передискретизация
+     */
+    private GridResampler bicubic;
+
+    /**
+     * Подготовка данных
+     */
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        src = new double[SRC_SIZE * SRC_SIZE];
+        for (int i = 0; i < src.length; i++)
+            src[i] = random.nextDouble();
+        dest = new double[dstSize * dstSize];
+        CoordinateSystem2i srcCS = new CoordinateSystem2i(SRC_SIZE - 1, SRC_SIZE - 1);
+        CoordinateSystem2i dstCS = new CoordinateSystem2i(dstSize - 1, dstSize - 1);
+        bilinear = new GridResampler(srcCS, dstCS);
+        bicubic = new GridResampler(srcCS, dstCS, true);
+    }
+
+    /**
+     * Поточечная билинейная интерполяция
+     *
+     * @return целевой растр
+     */
+    @Benchmark
+    public double[] pointwise() {
+        double scale = (double) (SRC_SIZE - 1) / (dstSize - 1);
+        for (int j = 0; j < dstSize; j++)
+            for (int i = 0; i < dstSize; i++) {
+                Vector2d p = new Vector2d(i * scale, j * scale);
+                int x1 = Math.min((int) p.x, SRC_SIZE - 2);
+                int y1 = Math.min((int) p.y, SRC_SIZE - 2);
+                dest[i + j * dstSize] = Algorithms.bilinearInterpolation(
+                        x1, y1, x1 + 1, y1 + 1,
+                        src[x1 + y1 * SRC_SIZE], src[x1 + 1 + y1 * SRC_SIZE],
+                        src[x1 + 1 + (y1 + 1) * SRC_SIZE], src[x1 + (y1 + 1) * SRC_SIZE],
+                        p
+                );
+            }
+        return dest;
+    }
+
+    /**
+     * Билинейная передискретизация в одном потоке
+     *
+     * @return целевой растр
+     */
+    @Benchmark
+    public double[] bilinearSequential() {
+        return bilinear.resample(src, dest, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Билинейная передискретизация с распараллеливанием по строкам
+     *
+     * @return целевой растр
+     */
+    @Benchmark
+    public double[] bilinearParallel() {
+        return bilinear.resample(src, dest);
+    }
+
+    /**
+     * Бикубическая передискретизация с распараллеливанием по строкам
+     *
+     * @return целевой растр
+     */
+    @Benchmark
+    public double[] bicubicParallel() {
+        return bicubic.resample(src, dest);
+    }
+}
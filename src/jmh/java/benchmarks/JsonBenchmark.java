@@ -0,0 +1,89 @@
+package benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jMath.aoklyunin.github.com.json.JMathModule;
+import jMath.aoklyunin.github.com.vector.Vector3d;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки JSON-сериализации векторов:
+ * сериализация Jackson по умолчанию против модуля JMathModule
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonBenchmark {
+    /**
+     * количество векторов
+     */
+    private static final int POINT_CNT = 100_000;
+    /**
+     * тип списка векторов
+     */
+    private static final TypeReference<List<Vector3d>> LIST_TYPE = new TypeReference<List<Vector3d>>() {
+    };
+    /**
+     * сериализация
+     */
+    @Param({"default", "jMath"})
+    private String mapperName;
+    /**
+     * преобразователь
+     */
+    private ObjectMapper mapper;
+    /**
+     * список векторов
+     */
+    private List<Vector3d> points;
+    /**
+     * список векторов в JSON
+     */
+    private String json;
+
+    /**
+     * Подготовка данных
+     *
+     * @throws IOException ошибка сериализации
+     */
+    @Setup
+    public void setup() throws IOException {
+        mapper = new ObjectMapper();
+        if ("jMath".equals(mapperName))
+            mapper.registerModule(new JMathModule());
+        points = new ArrayList<>(POINT_CNT);
+        for (int i = 0; i < POINT_CNT; i++)
+            points.add(Vector3d.rand(10));
+        json = mapper.writeValueAsString(points);
+    }
+
+    /**
+     * Запись списка векторов
+     *
+     * @return JSON
+     * @throws IOException ошибка сериализации
+     */
+    @Benchmark
+    public String write() throws IOException {
+        return mapper.writeValueAsString(points);
+    }
+
+    /**
+     * Чтение списка векторов
+     *
+     * @return список векторов
+     * @throws IOException ошибка десериализации
+     */
+    @Benchmark
+    public List<Vector3d> read() throws IOException {
+        return mapper.readValue(json, LIST_TYPE);
+    }
+}
@@ -0,0 +1,91 @@
+package benchmarks;
+
+import jMath.aoklyunin.github.com.json.JsonComparator;
+import jMath.aoklyunin.github.com.json.JsonDifference;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки структурного сравнения JSON-файлов с большим массивом,
+ * элементы которого во втором файле переставлены
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonComparatorBenchmark {
+    /**
+     * количество элементов массива
+     */
+    private static final int ELEMENT_CNT = 200_000;
+    /**
+     * первый файл
+     */
+    private Path file1;
+    /**
+     * второй файл (те же элементы в другом порядке)
+     */
+    private Path file2;
+
+    /**
+     * Подготовка файлов
+     *
+     * @throws IOException ошибка записи
+     */
+    @Setup
+    public void setup() throws IOException {
+        Random random = new Random(42);
+        List<String> elements = new ArrayList<>(ELEMENT_CNT);
+        for (int i = 0; i < ELEMENT_CNT; i++)
+            elements.add("{\"id\":" + i + ",\"v\":[" + random.nextDouble() + "," + random.nextInt(100) + "]}");
+        file1 = Files.createTempFile("json", ".json");
+        file2 = Files.createTempFile("json", ".json");
+        Files.write(file1, ("{\"items\":[" + String.join(",", elements) + "]}").getBytes(StandardCharsets.UTF_8));
+        Collections.shuffle(elements, random);
+        Files.write(file2, ("{\"items\":[" + String.join(",", elements) + "]}").getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Удаление файлов
+     *
+     * @throws IOException ошибка удаления
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.delete(file1);
+        Files.delete(file2);
+    }
+
+    /**
+     * Проверка совпадения
+     *
+     * @return флаг, совпадают ли файлы
+     * @throws IOException ошибка чтения или разбора
+     */
+    @Benchmark
+    public boolean same() throws IOException {
+        return JsonComparator.same(file1, file2);
+    }
+
+    /**
+     * Получение списка различий
+     *
+     * @return список различий
+     * @throws IOException ошибка чтения или разбора
+     */
+    @Benchmark
+    public List<JsonDifference> compare() throws IOException {
+        return JsonComparator.compare(file1, file2);
+    }
+}
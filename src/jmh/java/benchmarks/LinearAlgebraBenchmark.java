@@ -0,0 +1,104 @@
+package benchmarks;
+
+import jMath.aoklyunin.github.com.linearAlgebra.ComplexArray;
+import jMath.aoklyunin.github.com.linearAlgebra.ComplexValue;
+import jMath.aoklyunin.github.com.linearAlgebra.LinearAlgebra;
+import jMath.aoklyunin.github.com.linearAlgebra.SmallEigenSolver;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки вычисления собственных значений
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LinearAlgebraBenchmark {
+    /**
+     * порядок матрицы
+     */
+    @Param({"2", "3", "4", "6"})
+    private int n;
+    /**
+     * матрица
+     */
+    private double[][] matrix;
+    /**
+     * матрица, записанная по строкам
+     */
+    private double[] flatMatrix;
+    /**
+     * вычислитель собственных значений небольших матриц
+     */
+    private SmallEigenSolver solver;
+    /**
+     * вещественные части собственных значений
+     */
+    private double[] real;
+    /**
+     * мнимые части собственных значений
+     */
+    private double[] imag;
+    /**
+     * собственные значения
+     */
+    private ComplexArray values;
+
+    /**
+     * Подготовка данных
+     */
+    @Setup
+    public void setup() {
+        matrix = LinearAlgebra.getRandomMatrix(n, 2.0);
+        flatMatrix = new double[n * n];
+        for (int i = 0; i < n; i++)
+            System.arraycopy(matrix[i], 0, flatMatrix, i * n, n);
+        solver = new SmallEigenSolver();
+        real = new double[n];
+        imag = new double[n];
+        values = new ComplexArray(n);
+    }
+
+    @Benchmark
+    public ComplexValue[] getEigenValues() {
+        return LinearAlgebra.getEigenValues(matrix);
+    }
+
+    /**
+     * Собственные значения через SmallEigenSolver
+     *
+     * @return вещественные части собственных значений
+     */
+    @Benchmark
+    public double[] smallEigenSolver() {
+        solver.getEigenValues(flatMatrix, n, real, imag);
+        return real;
+    }
+
+    /**
+     * Спектральный радиус через ComplexValue[]
+     *
+     * @return спектральный радиус
+     */
+    @Benchmark
+    public double spectralRadiusObjects() {
+        double max = 0;
+        for (ComplexValue value : LinearAlgebra.getEigenValues(matrix))
+            max = Math.max(max, value.getMagnitude());
+        return max;
+    }
+
+    /**
+     * Спектральный радиус через ComplexArray
+     *
+     * @return спектральный радиус
+     */
+    @Benchmark
+    public double spectralRadiusArray() {
+        return LinearAlgebra.getEigenValues(matrix, values).getMaxMagnitude();
+    }
+}
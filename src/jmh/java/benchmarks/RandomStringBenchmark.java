@@ -0,0 +1,112 @@
+package benchmarks;
+
+import jMath.aoklyunin.github.com.RandomStringGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.passay.CharacterData;
+import org.passay.CharacterRule;
+import org.passay.EnglishCharacterData;
+import org.passay.PasswordGenerator;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.passay.WhitespaceRule.ERROR_CODE;
+
+/**
+ * Бенчмарки генерации случайных строк:
+ * RandomStringGenerator против создания правил passay на каждый вызов
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RandomStringBenchmark {
+    /**
+     * количество символов каждого класса
+     */
+    @Param({"2", "5", "20"})
+    private int cnt;
+    /**
+     * генератор строк
+     */
+    private RandomStringGenerator generator;
+    /**
+     * генератор случайных чисел
+     */
+    private SplittableRandom random;
+    /**
+     * массив для записи результата
+     */
+    private String[] dest;
+
+    /**
+     * Подготовка данных
+     */
+    @Setup
+    public void setup() {
+        generator = new RandomStringGenerator(cnt, cnt, cnt, 1);
+        random = new SplittableRandom(42);
+        dest = new String[256];
+    }
+
+    /**
+     * Генерация через passay с созданием правил на каждый вызов
+     * (так раньше работал Algorithms.generateRandomString())
+     *
+     * @return случайная строка
+     */
+    @Benchmark
+    public String passay() {
+        PasswordGenerator gen = new PasswordGenerator();
+        CharacterRule lowerCaseRule = new CharacterRule(EnglishCharacterData.LowerCase);
+        lowerCaseRule.setNumberOfCharacters(cnt);
+        CharacterRule upperCaseRule = new CharacterRule(EnglishCharacterData.UpperCase);
+        upperCaseRule.setNumberOfCharacters(cnt);
+        CharacterRule digitRule = new CharacterRule(EnglishCharacterData.Digit);
+        digitRule.setNumberOfCharacters(cnt);
+        CharacterData specialChars = new CharacterData() {
+            public String getErrorCode() {
+                return ERROR_CODE;
+            }
+
+            public String getCharacters() {
+                return "!@#$%^&*()_+";
+            }
+        };
+        CharacterRule splCharRule = new CharacterRule(specialChars);
+        splCharRule.setNumberOfCharacters(1);
+        return gen.generatePassword(3 * cnt + 1, splCharRule, lowerCaseRule, upperCaseRule, digitRule);
+    }
+
+    /**
+     * Генерация с ThreadLocalRandom
+     *
+     * @return случайная строка
+     */
+    @Benchmark
+    public String threadLocal() {
+        return generator.generate();
+    }
+
+    /**
+     * Генерация с SplittableRandom
+     *
+     * @return случайная строка
+     */
+    @Benchmark
+    public String splittable() {
+        return generator.generate(random);
+    }
+
+    /**
+     * Пакетная генерация в заранее созданный массив
+     *
+     * @return массив строк
+     */
+    @Benchmark
+    public String[] bulk() {
+        return generator.generate(dest, random);
+    }
+}
@@ -0,0 +1,88 @@
+package benchmarks;
+
+import jMath.aoklyunin.github.com.Algorithms;
+import jMath.aoklyunin.github.com.UniqueIntSampler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки выборки уникальных целых чисел:
+ * UniqueIntSampler против упаковывающих методов Algorithms
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SamplingBenchmark {
+    /**
+     * размер диапазона
+     */
+    private static final int RANGE = 100_000;
+    /**
+     * количество чисел
+     */
+    @Param({"100", "10000", "80000"})
+    private int cnt;
+    /**
+     * выборка
+     */
+    private UniqueIntSampler sampler;
+    /**
+     * массив для записи результата
+     */
+    private int[] dest;
+
+    /**
+     * Подготовка данных
+     */
+    @Setup
+    public void setup() {
+        sampler = new UniqueIntSampler(42);
+        dest = new int[cnt];
+    }
+
+    /**
+     * Неупорядоченная выборка в заранее созданный массив
+     *
+     * @return массив чисел
+     */
+    @Benchmark
+    public int[] sample() {
+        return sampler.sample(0, RANGE - 1, dest);
+    }
+
+    /**
+     * Упорядоченная выборка в заранее созданный массив
+     *
+     * @return массив чисел
+     */
+    @Benchmark
+    public int[] sampleOrdered() {
+        return sampler.sampleOrdered(0, RANGE - 1, dest);
+    }
+
+    /**
+     * Упорядоченное множество Integer
+     *
+     * @return множество чисел
+     */
+    @Benchmark
+    public Set<Integer> orderedIntegerSet() {
+        return Algorithms.getUniqueOrderedIntegerSet(0, RANGE - 1, cnt);
+    }
+
+    /**
+     * Неупорядоченный список Integer
+     *
+     * @return список чисел
+     */
+    @Benchmark
+    public List<Integer> unorderedIntegerList() {
+        return Algorithms.getUniqueUnorderedIntegerList(0, RANGE - 1, cnt);
+    }
+}
@@ -0,0 +1,98 @@
+package benchmarks;
+
+import jMath.aoklyunin.github.com.linearAlgebra.ComplexArray;
+import jMath.aoklyunin.github.com.linearAlgebra.LinearAlgebra;
+import jMath.aoklyunin.github.com.linearAlgebra.Polinomial;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки проверки устойчивости по Шуру
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StabilityBenchmark {
+    /**
+     * степень многочлена и порядок матрицы
+     */
+    @Param({"4", "8", "16"})
+    private int n;
+    /**
+     * коэффициенты многочлена начиная с коэффициента при старшей степени
+     */
+    private double[] coeffs;
+    /**
+     * коэффициенты многочлена начиная со свободного члена
+     */
+    private double[] reversedCoeffs;
+    /**
+     * корни многочлена
+     */
+    private ComplexArray roots;
+    /**
+     * матрица
+     */
+    private double[][] matrix;
+
+    /**
+     * Подготовка данных
+     */
+    @Setup
+    public void setup() {
+        Double[] generated = Polinomial.generateRandomShurPolynomial(n, 100);
+        coeffs = new double[n + 1];
+        reversedCoeffs = new double[n + 1];
+        for (int i = 0; i <= n; i++) {
+            coeffs[i] = generated[i];
+            reversedCoeffs[n - i] = generated[i];
+        }
+        roots = new ComplexArray(n);
+        // матрица не проходит достаточные условия, поэтому вычисляются собственные значения
+        matrix = LinearAlgebra.getRandomMatrix(n, 4.0 / Math.sqrt(n));
+    }
+
+    /**
+     * Устойчивость многочлена через корни
+     *
+     * @return флаг устойчивости
+     */
+    @Benchmark
+    public boolean polynomialRoots() {
+        return Polinomial.findRoots(reversedCoeffs, roots).getMaxMagnitude() < 1;
+    }
+
+    /**
+     * Устойчивость многочлена по критерию Шура-Кона
+     *
+     * @return флаг устойчивости
+     */
+    @Benchmark
+    public boolean polynomialSchurCohn() {
+        return Polinomial.isSchurStable(coeffs);
+    }
+
+    /**
+     * Устойчивость матрицы через спектральный радиус
+     *
+     * @return флаг устойчивости
+     */
+    @Benchmark
+    public boolean matrixSpectralRadius() {
+        return LinearAlgebra.spectralRadius(matrix) < 1;
+    }
+
+    /**
+     * Устойчивость матрицы с проверкой достаточных условий
+     *
+     * @return флаг устойчивости
+     */
+    @Benchmark
+    public boolean matrixSchurStable() {
+        return LinearAlgebra.isSchurStable(matrix);
+    }
+}
@@ -0,0 +1,168 @@
+package benchmarks;
+
+import jMath.aoklyunin.github.com.Transform3d;
+import jMath.aoklyunin.github.com.Transform3dBuffer;
+import jMath.aoklyunin.github.com.Transform3dKernels;
+import jMath.aoklyunin.github.com.Transform3dNode;
+import jMath.aoklyunin.github.com.vector.Vector3d;
+import jMath.aoklyunin.github.com.vector.Vector3dArray;
+import org.joml.Matrix4d;
+import org.joml.Matrix4dc;
+import org.lwjgl.BufferUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки матрицы трансформации
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Transform3dBenchmark {
+    /**
+     * матрица трансформации
+     */
+    private Transform3d transform;
+    /**
+     * положение, задаваемое матрице трансформации
+     */
+    private Vector3d position;
+    /**
+     * количество точек в массовых операциях
+     */
+    private static final int POINT_CNT = 1_000_000;
+    /**
+     * матрица трансформации
+     */
+    private Matrix4d matrix;
+    /**
+     * массив точек
+     */
+    private Vector3dArray points;
+    /**
+     * массив для записи результата
+     */
+    private Vector3dArray dest;
+    /**
+     * корень иерархии
+     */
+    private Transform3dNode root;
+    /**
+     * изменяемый лист иерархии
+     */
+    private Transform3dNode leaf;
+    /**
+     * список узлов второго уровня иерархии
+     */
+    private List<Transform3dNode> leaves;
+    /**
+     * общий буфер матриц
+     */
+    private Transform3dBuffer packer;
+
+    /**
+     * Подготовка данных
+     */
+    @Setup
+    public void setup() {
+        transform = new Transform3d(1, 2, 3, 30, 45, 60, 1, 2, 0.5);
+        position = new Vector3d(1, 2, 3);
+        matrix = transform.getTransformMatrix();
+        points = new Vector3dArray(POINT_CNT);
+        for (int i = 0; i < POINT_CNT; i++)
+            points.set(i, Vector3d.rand(10));
+        dest = new Vector3dArray(POINT_CNT);
+        root = new Transform3dNode(transform);
+        for (int i = 0; i < 100; i++) {
+            Transform3dNode child = new Transform3dNode(transform);
+            root.addChild(child);
+            for (int j = 0; j < 10; j++)
+                child.addChild(leaf = new Transform3dNode(transform));
+        }
+        root.update();
+        leaves = new ArrayList<>();
+        for (Transform3dNode child : root.getChildren())
+            leaves.addAll(child.getChildren());
+        packer = new Transform3dBuffer();
+    }
+
+    @Benchmark
+    public Matrix4d getTransformMatrix() {
+        return transform.getTransformMatrix();
+    }
+
+    @Benchmark
+    public Matrix4dc getTransformMatrixView() {
+        return transform.getTransformMatrixView();
+    }
+
+    @Benchmark
+    public DoubleBuffer getDoubleBufferTransform() {
+        return transform.getDoubleBufferTransform();
+    }
+
+    @Benchmark
+    public Matrix4dc getTransformMatrixChanged() {
+        transform.setPosition(position);
+        return transform.getTransformMatrixView();
+    }
+
+    @Benchmark
+    public Vector3dArray transformLoop() {
+        org.joml.Vector3d v = new org.joml.Vector3d();
+        for (int i = 0; i < POINT_CNT; i++) {
+            matrix.transformPosition(v.set(points.x[i], points.y[i], points.z[i]));
+            dest.x[i] = v.x;
+            dest.y[i] = v.y;
+            dest.z[i] = v.z;
+        }
+        return dest;
+    }
+
+    @Benchmark
+    public Vector3dArray transformSequential() {
+        return Transform3dKernels.transform(matrix, points, dest, Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public Vector3dArray transformParallel() {
+        return Transform3dKernels.transform(matrix, points, dest);
+    }
+
+    @Benchmark
+    public Matrix4dc updateHierarchy() {
+        leaf.setPosition(position);
+        root.update();
+        return leaf.getWorldMatrixView();
+    }
+
+    @Benchmark
+    public Matrix4d naiveHierarchy() {
+        Matrix4d m = new Matrix4d();
+        for (Transform3dNode child : root.getChildren())
+            for (Transform3dNode node : child.getChildren())
+                m = root.getTransformMatrix().mul(child.getTransformMatrix()).mul(node.getTransformMatrix());
+        return m;
+    }
+
+    @Benchmark
+    public FloatBuffer packWorldFloat() {
+        return packer.getWorldFloatBuffer(leaves);
+    }
+
+    @Benchmark
+    public double packNaive() {
+        double sum = 0;
+        for (Transform3dNode node : leaves)
+            sum += node.getWorldMatrix().get(BufferUtils.createDoubleBuffer(16)).get(0);
+        return sum;
+    }
+}
@@ -0,0 +1,109 @@
+package benchmarks;
+
+import jMath.aoklyunin.github.com.vector.Vector3d;
+import jMath.aoklyunin.github.com.vector.Vector3dArray;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки операций над трёхмерными векторами
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class VectorBenchmark {
+    /**
+     * первый вектор
+     */
+    private Vector3d a;
+    /**
+     * второй вектор
+     */
+    private Vector3d b;
+    /**
+     * количество точек в массовых операциях
+     */
+    private static final int POINT_CNT = 100_000;
+    /**
+     * первый список векторов
+     */
+    private List<Vector3d> listA;
+    /**
+     * второй список векторов
+     */
+    private List<Vector3d> listB;
+    /**
+     * первый массив векторов
+     */
+    private Vector3dArray arrA;
+    /**
+     * второй массив векторов
+     */
+    private Vector3dArray arrB;
+    /**
+     * массив для записи результата
+     */
+    private Vector3dArray arrDest;
+
+    /**
+     * Подготовка данных
+     */
+    @Setup
+    public void setup() {
+        a = new Vector3d(1.5, -2.25, 3.125);
+        b = new Vector3d(-0.5, 4.75, 2.0);
+        listA = new ArrayList<>();
+        listB = new ArrayList<>();
+        for (int i = 0; i < POINT_CNT; i++) {
+            listA.add(Vector3d.rand(10));
+            listB.add(Vector3d.rand(10));
+        }
+        arrA = new Vector3dArray(listA);
+        arrB = new Vector3dArray(listB);
+        arrDest = new Vector3dArray(POINT_CNT);
+    }
+
+    @Benchmark
+    public Vector3d sum() {
+        return Vector3d.sum(a, b);
+    }
+
+    @Benchmark
+    public Vector3d mul() {
+        return Vector3d.mul(a, 2.5);
+    }
+
+    @Benchmark
+    public Vector3d cross() {
+        return Vector3d.cross(a, b);
+    }
+
+    @Benchmark
+    public Vector3d norm() {
+        return Vector3d.norm(a);
+    }
+
+    @Benchmark
+    public List<Vector3d> sumList() {
+        List<Vector3d> res = new ArrayList<>(POINT_CNT);
+        for (int i = 0; i < POINT_CNT; i++)
+            res.add(Vector3d.sum(listA.get(i), listB.get(i)));
+        return res;
+    }
+
+    @Benchmark
+    public Vector3dArray sumArray() {
+        return Vector3dArray.sum(arrA, arrB, arrDest);
+    }
+
+    @Benchmark
+    public Vector3dArray crossArray() {
+        return Vector3dArray.cross(arrA, arrB, arrDest);
+    }
+}
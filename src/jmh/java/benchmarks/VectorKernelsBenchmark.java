@@ -0,0 +1,90 @@
+package benchmarks;
+
+import jMath.aoklyunin.github.com.vector.Vector3d;
+import jMath.aoklyunin.github.com.vector.Vector3dArray;
+import jMath.aoklyunin.github.com.vector.VectorKernels;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки ядер массовых операций над векторами:
+ * скалярная реализация против реализации по умолчанию (на Java 17+ - Vector API)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class VectorKernelsBenchmark {
+    /**
+     * количество точек
+     */
+    private static final int POINT_CNT = 100_000;
+    /**
+     * реализация ядер
+     */
+    @Param({"scalar", "default"})
+    private String kernelsName;
+    /**
+     * ядра
+     */
+    private VectorKernels kernels;
+    /**
+     * первый массив векторов
+     */
+    private Vector3dArray arrA;
+    /**
+     * второй массив векторов
+     */
+    private Vector3dArray arrB;
+    /**
+     * массив для записи результата
+     */
+    private Vector3dArray arrDest;
+    /**
+     * массив для записи скалярных результатов
+     */
+    private double[] scalarDest;
+
+    /**
+     * Подготовка данных
+     */
+    @Setup
+    public void setup() {
+        kernels = "scalar".equals(kernelsName) ? VectorKernels.getScalar() : VectorKernels.getDefault();
+        arrA = new Vector3dArray(POINT_CNT);
+        arrB = new Vector3dArray(POINT_CNT);
+        for (int i = 0; i < POINT_CNT; i++) {
+            arrA.set(i, Vector3d.rand(10));
+            arrB.set(i, Vector3d.rand(10));
+        }
+        arrDest = new Vector3dArray(POINT_CNT);
+        scalarDest = new double[POINT_CNT];
+    }
+
+    @Benchmark
+    public double[] add() {
+        kernels.add(arrA.x, arrB.x, arrDest.x);
+        return arrDest.x;
+    }
+
+    @Benchmark
+    public double[] dot() {
+        kernels.dot(arrA.x, arrA.y, arrA.z, arrB.x, arrB.y, arrB.z, scalarDest);
+        return scalarDest;
+    }
+
+    @Benchmark
+    public double[] length() {
+        kernels.length(arrA.x, arrA.y, arrA.z, scalarDest);
+        return scalarDest;
+    }
+
+    @Benchmark
+    public Vector3dArray normalize() {
+        kernels.normalize(arrA.x, arrA.y, arrA.z, arrDest.x, arrDest.y, arrDest.z);
+        return arrDest;
+    }
+}
@@ -0,0 +1,117 @@
+package benchmarks;
+
+import jMath.aoklyunin.github.com.AliasSampler;
+import jMath.aoklyunin.github.com.Algorithms;
+import jMath.aoklyunin.github.com.FenwickSampler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки выбора индекса с весами:
+ * AliasSampler и FenwickSampler против двоичного поиска Algorithms.findCumulativeValue()
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WeightedSamplingBenchmark {
+    /**
+     * количество выборов за вызов
+     */
+    private static final int BATCH = 1024;
+    /**
+     * количество индексов
+     */
+    @Param({"16", "1000", "100000"})
+    private int size;
+    /**
+     * накопленные веса
+     */
+    private float[] cumulative;
+    /**
+     * таблица псевдонимов
+     */
+    private AliasSampler aliasSampler;
+    /**
+     * дерево Фенвика
+     */
+    private FenwickSampler fenwickSampler;
+    /**
+     * генератор случайных чисел
+     */
+    private SplittableRandom random;
+    /**
+     * массив для записи результата
+     */
+    private int[] dest;
+
+    /**
+     * Подготовка данных
+     */
+    @Setup
+    public void setup() {
+        random = new SplittableRandom(42);
+        float[] weights = new float[size];
+        cumulative = new float[size];
+        float sum = 0;
+        for (int i = 0; i < size; i++) {
+            weights[i] = (float) random.nextDouble();
+            sum += weights[i];
+            cumulative[i] = sum;
+        }
+        aliasSampler = new AliasSampler(weights);
+        fenwickSampler = new FenwickSampler(weights);
+        dest = new int[BATCH];
+    }
+
+    /**
+     * Двоичный поиск по накопленным весам
+     *
+     * @return массив индексов
+     */
+    @Benchmark
+    public int[] cumulative() {
+        float total = cumulative[size - 1];
+        for (int i = 0; i < BATCH; i++)
+            dest[i] = Algorithms.findCumulativeValue(cumulative, (float) (random.nextDouble() * total));
+        return dest;
+    }
+
+    /**
+     * Таблица псевдонимов
+     *
+     * @return массив индексов
+     */
+    @Benchmark
+    public int[] alias() {
+        return aliasSampler.sample(dest, random);
+    }
+
+    /**
+     * Дерево Фенвика
+     *
+     * @return массив индексов
+     */
+    @Benchmark
+    public int[] fenwick() {
+        return fenwickSampler.sample(dest, random);
+    }
+
+    /**
+     * Дерево Фенвика с изменением одного веса на каждый выбор
+     *
+     * @return массив индексов
+     */
+    @Benchmark
+    public int[] fenwickWithUpdates() {
+        for (int i = 0; i < BATCH; i++) {
+            fenwickSampler.set(random.nextInt(size), random.nextDouble());
+            dest[i] = fenwickSampler.sample(random);
+        }
+        return dest;
+    }
+}
@@ -1,39 +1,38 @@
 package jMath.aoklyunin.github.com;
 
 import com.sun.istack.NotNull;
+import jMath.aoklyunin.github.com.io.FileComparator;
+import jMath.aoklyunin.github.com.json.JsonComparator;
 import jMath.aoklyunin.github.com.vector.Vector2d;
 import jMath.aoklyunin.github.com.vector.Vector2i;
+import jMath.aoklyunin.github.com.vector.Vector2iArray;
 
 import org.jfree.data.json.impl.JSONArray;
 import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
-import org.json.simple.parser.ParseException;
-import org.passay.CharacterData;
-import org.passay.CharacterRule;
-import org.passay.EnglishCharacterData;
-import org.passay.PasswordGenerator;
 
 import java.io.*;
-import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.*;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Predicate;
-import java.util.stream.Stream;
 
 import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem2i;
 
-import static java.util.stream.Collectors.toList;
-import static org.passay.WhitespaceRule.ERROR_CODE;
-
 /**
  * Вспомогательный класс алгоритмов
  */
 public class Algorithms {
+    /**
+     * Генератор случайных строк по умолчанию
+     */
+    @NotNull
+    private static final RandomStringGenerator DEFAULT_STRING_GENERATOR = new RandomStringGenerator(5);
 
     /**
      * Получить значение в точке {x,y} по значениям в 4 точках квадрата(билинейная интерполяция)
      * <a href="https://ru.wikipedia.org/wiki/Bilinear_interpolation">Подробнее</a>
+     * <p>
+     * Для передискретизации целого растра используйте GridResampler
      *
      * @param x1 x координата левой нижней точки квадрата
      * @param y1 y координата левой нижней  точки квадрата
@@ -64,7 +63,9 @@ public class Algorithms {
      * @param obj2 второй JSON-объект
      * @param log  нужно ли выводить лог сравнения
      * @return флаг, совпадают ли json-ситруктуры в указанных файлах
+     * @deprecated сравнивает массивы за O(n^2), используйте JsonComparator
      */
+    @Deprecated
     public static boolean sameJSONContent(@NotNull Object obj1, @NotNull Object obj2, boolean log) {
         if (obj1 instanceof JSONArray) {
             if (((JSONArray) obj1).size() != ((JSONArray) obj2).size()) {
@@ -157,24 +158,21 @@ public class Algorithms {
 
     /**
      * Проверить, что в файлах содержится одинаковые json-структуры
+     * <p>
+     * Массивы сравниваются как мультимножества: кратность одинаковых элементов тоже
+     * должна совпадать, поэтому [1, 1, 2] и [1, 2, 2] различаются. Ничего не выводит,
+     * список различий можно получить через JsonComparator.compare()
      *
      * @param file1 путь к первому файлу
      * @param file2 путь к второму файлу
-     * @return флаг, совпадают ли json-ситруктуры в указанных файлах
+     * @return флаг, совпадают ли json-ситруктуры в указанных файлах (false, если файл не удалось прочитать или разобрать)
      */
     public static boolean sameJSONContent(@NotNull String file1, @NotNull String file2) {
-        try (
-                InputStreamReader isr1 = new InputStreamReader(new FileInputStream(file1));
-                InputStreamReader isr2 = new InputStreamReader(new FileInputStream(file2))
-        ) {
-            JSONObject obj1 = (JSONObject) new JSONParser().parse(isr1);
-            JSONObject obj2 = (JSONObject) new JSONParser().parse(isr2);
-            return sameJSONContent(obj1, obj2, true);
-        } catch (IOException | ParseException e) {
-            e.printStackTrace();
+        try {
+            return JsonComparator.compare(Paths.get(file1), Paths.get(file2)).isEmpty();
+        } catch (IOException e) {
+            return false;
         }
-
-        return false;
     }
 
     /**
@@ -237,27 +235,19 @@ public class Algorithms {
     }
 
     /**
-     * Проверка, что два файла одинановые
+     * Проверка, что два файла одинановые (состоят из одних и тех же строк без учёта их порядка,
+     * каждая строка встречается в файлах одинаковое число раз)
      *
      * @param path1 путь к первому файлу
      * @param path2 путь ко второму файлу
-     * @return совпдают ли  два файла
+     * @return совпдают ли  два файла (false, если файл не удалось прочитать)
      */
     public static boolean areFilesEqual(@NotNull String path1, @NotNull String path2) {
-        try (Stream<String> lines1 = Files.lines(Paths.get(path1));
-             Stream<String> lines2 = Files.lines(Paths.get(path2))
-        ) {
-            List<String> list1 = lines1.collect(toList());
-            List<String> list2 = lines2.collect(toList());
-            if (list1.size() != list2.size()) {
-                System.out.println("list1 has size " + list1.size() + " list2 " + list2.size());
-                return false;
-            }
-            return list1.containsAll(list2) && list2.containsAll(list1);
+        try {
+            return FileComparator.sameLines(Paths.get(path1), Paths.get(path2));
         } catch (IOException e) {
-            e.printStackTrace();
+            return false;
         }
-        return true;
     }
 
     /**
@@ -321,6 +311,8 @@ public class Algorithms {
 
     /**
      * Сгенерировать случайную строку
+     * <p>
+     * Для генерации большого количества строк создайте один RandomStringGenerator
      *
      * @param lowerCaseCharactersCnt количество символов-букв нижнего регистра
      * @param upperCaseCharactersCnt количество символов-букв верхнего регистра
@@ -331,44 +323,9 @@ public class Algorithms {
     public static String generateRandomString(
             int lowerCaseCharactersCnt, int upperCaseCharactersCnt, int digitCharactersCnt, int specialCharactersCnt
     ) {
-        PasswordGenerator gen = new PasswordGenerator();
-        CharacterData lowerCaseChars = EnglishCharacterData.LowerCase;
-        CharacterRule lowerCaseRule = new CharacterRule(lowerCaseChars);
-        lowerCaseRule.setNumberOfCharacters(lowerCaseCharactersCnt);
-
-        CharacterData upperCaseChars = EnglishCharacterData.UpperCase;
-        CharacterRule upperCaseRule = new CharacterRule(upperCaseChars);
-        upperCaseRule.setNumberOfCharacters(upperCaseCharactersCnt);
-
-        CharacterData digitChars = EnglishCharacterData.Digit;
-        CharacterRule digitRule = new CharacterRule(digitChars);
-        digitRule.setNumberOfCharacters(digitCharactersCnt);
-
-        if (specialCharactersCnt == 0) {
-            return gen.generatePassword(
-                    lowerCaseCharactersCnt + upperCaseCharactersCnt + digitCharactersCnt, lowerCaseRule,
-                    upperCaseRule, digitRule
-            );
-        } else {
-            CharacterData specialChars = new CharacterData() {
-                public String getErrorCode() {
-                    return ERROR_CODE;
-                }
-
-                public String getCharacters() {
-                    return "!@#$%^&*()_+";
-                }
-            };
-
-            CharacterRule splCharRule = new CharacterRule(specialChars);
-            splCharRule.setNumberOfCharacters(specialCharactersCnt);
-
-            return gen.generatePassword(
-                    lowerCaseCharactersCnt + upperCaseCharactersCnt + digitCharactersCnt + specialCharactersCnt,
-                    splCharRule, lowerCaseRule, upperCaseRule, digitRule
-            );
-        }
-
+        return new RandomStringGenerator(
+                lowerCaseCharactersCnt, upperCaseCharactersCnt, digitCharactersCnt, specialCharactersCnt
+        ).generate();
     }
 
     /**
@@ -391,11 +348,14 @@ public class Algorithms {
      */
     @NotNull
     public static String generateRandomString() {
-        return generateRandomString(5);
+        return DEFAULT_STRING_GENERATOR.generate();
     }
 
     /**
      * Получить индекс минимального элемента отсортированного массива, который больше или равен заданного числа
+     * <p>
+     * Для многократного выбора индекса с весами быстрее AliasSampler (O(1) на выбор),
+     * а для изменяемых весов - FenwickSampler (O(log n) на изменение и выбор)
      *
      * @param arr   отсортированный массив
      * @param value заданное число
@@ -465,24 +425,9 @@ public class Algorithms {
                             " is less than set size " + setSize
             );
         }
-        // если кол-во элементов множества больше половины интервала
-        if (setSize > range / 2) {
-            // создаём множество со всеми элементами
-            TreeSet<Integer> resultSet = new TreeSet<>();
-            for (int i = minValue; i <= maxValue; i++) {
-                resultSet.add(i);
-            }
-            // получаем элементы, которые надо из него удалить
-            Set<Integer> inverseSet = getUniqueOrderedIntegerSet(minValue, maxValue, range - setSize);
-            // удаляем
-            resultSet.removeAll(inverseSet);
-            return resultSet;
-        }
         TreeSet<Integer> uniqueSet = new TreeSet<>();
-        // пока в множестве  меньше элементов, чем нам нужно
-        while (uniqueSet.size() < setSize)
-            // добавляем новые
-            uniqueSet.add(ThreadLocalRandom.current().nextInt(minValue, maxValue));
+        for (int value : getUniqueOrderedIntegers(minValue, maxValue, setSize))
+            uniqueSet.add(value);
         return uniqueSet;
     }
 
@@ -505,74 +450,88 @@ public class Algorithms {
                             " is less than set size " + listSize
             );
         }
-        // если кол-во элементов списка больше половины интервала
-        if (listSize > range / 2) {
-            // создаём множество со всеми элементами
-            List<Integer> resultSet = new LinkedList<>();
-            for (int i = minValue; i <= maxValue; i++) {
-                resultSet.add(i);
-            }
-            // получаем элементы, которые надо из него удалить
-            List<Integer> inverseSet = getUniqueUnorderedIntegerList(minValue, maxValue, range - listSize);
-            // удаляем
-            resultSet.removeAll(inverseSet);
-            // перемешиваем список
-            Collections.shuffle(resultSet);
-            return resultSet;
-        }
-        LinkedList<Integer> uniqueList = new LinkedList<>();
-        // пока в множестве  меньше элементов, чем нам нужно
-        while (uniqueList.size() < listSize) {
-            // новое значение
-            int newValue = ThreadLocalRandom.current().nextInt(minValue, maxValue);
-            // если его ещё нет в списке
-            if (!uniqueList.contains(newValue))
-                // добавляем
-                uniqueList.add(newValue);
-        }
+        List<Integer> uniqueList = new ArrayList<>(listSize);
+        for (int value : getUniqueIntegers(minValue, maxValue, listSize))
+            uniqueList.add(value);
         return uniqueList;
     }
 
+    /**
+     * Возвращает массив уникальных целочисленных значений из заданного диапазона в случайном порядке
+     *
+     * @param minValue минимальное значение
+     * @param maxValue максимальное значение (включительно)
+     * @param cnt      количество значений
+     * @return массив уникальных значений
+     */
+    @NotNull
+    public static int[] getUniqueIntegers(int minValue, int maxValue, int cnt) {
+        return new UniqueIntSampler().sample(minValue, maxValue, cnt);
+    }
+
+    /**
+     * Возвращает массив уникальных целочисленных значений из заданного диапазона в случайном порядке
+     *
+     * @param minValue минимальное значение
+     * @param maxValue максимальное значение (включительно)
+     * @param cnt      количество значений
+     * @param random   генератор случайных чисел
+     * @return массив уникальных значений
+     */
+    @NotNull
+    public static int[] getUniqueIntegers(int minValue, int maxValue, int cnt, @NotNull SplittableRandom random) {
+        return new UniqueIntSampler(random).sample(minValue, maxValue, cnt);
+    }
+
+    /**
+     * Возвращает упорядоченный по возрастанию массив уникальных целочисленных значений из заданного диапазона
+     *
+     * @param minValue минимальное значение
+     * @param maxValue максимальное значение (включительно)
+     * @param cnt      количество значений
+     * @return массив уникальных значений
+     */
+    @NotNull
+    public static int[] getUniqueOrderedIntegers(int minValue, int maxValue, int cnt) {
+        return new UniqueIntSampler().sampleOrdered(minValue, maxValue, cnt);
+    }
+
+    /**
+     * Возвращает упорядоченный по возрастанию массив уникальных целочисленных значений из заданного диапазона
+     *
+     * @param minValue минимальное значение
+     * @param maxValue максимальное значение (включительно)
+     * @param cnt      количество значений
+     * @param random   генератор случайных чисел
+     * @return массив уникальных значений
+     */
+    @NotNull
+    public static int[] getUniqueOrderedIntegers(
+            int minValue, int maxValue, int cnt, @NotNull SplittableRandom random
+    ) {
+        return new UniqueIntSampler(random).sampleOrdered(minValue, maxValue, cnt);
+    }
+
     /**
      * Возвращает множество уникальных значений двумерноговектора из заданного диапазона
      *
      * @param cs          система координат
      * @param density     плотность значений
-     * @param checkCoords предикат для проеврки, подходят ли значения
+     * @param checkCoords предикат для проеврки, подходят ли значения (каждый вызов получает новый вектор)
      * @return множество уникальных значений
      */
     @NotNull
     public static Set<Vector2i> getUniqueVector2iSet(
             @NotNull CoordinateSystem2i cs, double density, @NotNull Predicate<Vector2i> checkCoords
     ) {
-        if (density > 0.5) {
-            Set<Vector2i> res = new HashSet<>();
-            for (int i = cs.getMin().x; i <= cs.getMax().x; i++)
-                for (int j = cs.getMin().y; j <= cs.getMax().y; j++) {
-                    Vector2i coords = new Vector2i(i, j);
-                    if (checkCoords.test(coords))
-                        res.add(coords);
-                }
-            res.removeAll(getUniqueVector2iSet(cs, 1 - density, checkCoords));
-            return res;
-        }
-
-        int checkedCount = 0;
-        for (int i = cs.getMin().x; i <= cs.getMax().x; i++)
-            for (int j = cs.getMin().y; j <= cs.getMax().y; j++) {
-                Vector2i coords = new Vector2i(i, j);
-                if (checkCoords.test(coords))
-                    checkedCount++;
-            }
-        int setSize = (int) (density * checkedCount);
-        Set<Vector2i> uniqueList = new HashSet<>();
-        while (uniqueList.size() < setSize) {
-            Vector2i coords = cs.getRandomCoords();
-            if (!uniqueList.contains(coords) && checkCoords.test(coords))
-                // добавляем новые
-                uniqueList.add(coords);
-        }
-        return uniqueList;
+        Objects.requireNonNull(checkCoords);
+        // предикат получает собственный вектор на каждую ячейку, поэтому может его сохранить
+        int[] indices = new CellSampler().sample(cs, density, (x, y) -> checkCoords.test(new Vector2i(x, y)));
+        Vector2iArray coords = CellSampler.toCoords(cs, indices, new Vector2iArray(indices.length));
+        Set<Vector2i> uniqueSet = new HashSet<>();
+        for (int i = 0; i < indices.length; i++)
+            uniqueSet.add(new Vector2i(coords.x[i], coords.y[i]));
+        return uniqueSet;
     }
 
     /**
@@ -0,0 +1,198 @@
+package jMath.aoklyunin.github.com;
+
+import com.sun.istack.NotNull;
+
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Выбор случайного индекса с заданными весами методом псевдонимов (алгоритм Уолкера в варианте Воуза)
+ * <p>
+ * Таблица строится один раз за O(n), после чего каждый выбор занимает O(1) и требует одного
+ * случайного числа: случайно выбирается столбец таблицы, а затем либо сам столбец, либо его
+ * псевдоним. В отличие от Algorithms.findCumulativeValue() не нужен двоичный поиск
+ * по накопленным весам. Веса после построения не меняются (для изменяемых весов
+ * см. FenwickSampler), поэтому объект можно использовать из нескольких потоков
+ */
+public class AliasSampler {
+    /**
+     * Вероятность выбрать сам столбец, а не его псевдоним
+     */
+    @NotNull
+    private final double[] probabilities;
+    /**
+     * Псевдонимы столбцов
+     */
+    @NotNull
+    private final int[] aliases;
+
+    /**
+     * Конструктор таблицы псевдонимов
+     *
+     * @param weights неотрицательные веса индексов (хотя бы один вес положительный)
+     */
+    public AliasSampler(@NotNull double[] weights) {
+        int n = weights.length;
+        double sum = 0;
+        for (double weight : weights) {
+            if (!(weight >= 0) || Double.isInfinite(weight))
+                throw new IllegalArgumentException("weight must be non-negative and finite: " + weight);
+            sum += weight;
+        }
+        if (!(sum > 0) || Double.isInfinite(sum))
+            throw new IllegalArgumentException("sum of weights must be positive and finite: " + sum);
+        this.probabilities = new double[n];
+        this.aliases = new int[n];
+        // масштабированные веса: в среднем 1 на столбец
+        double[] scaled = new double[n];
+        // стеки столбцов с недостатком и избытком веса
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCnt = 0;
+        int largeCnt = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / sum;
+            if (scaled[i] < 1)
+                small[smallCnt++] = i;
+            else
+                large[largeCnt++] = i;
+        }
+        while (smallCnt > 0 && largeCnt > 0) {
+            int less = small[--smallCnt];
+            int more = large[--largeCnt];
+            probabilities[less] = scaled[less];
+            aliases[less] = more;
+            // избыток столбца more заполняет недостаток столбца less
+            scaled[more] = scaled[more] + scaled[less] - 1;
+            if (scaled[more] < 1)
+                small[smallCnt++] = more;
+            else
+                large[largeCnt++] = more;
+        }
+        // оставшиеся столбцы заполнены целиком (с точностью до ошибок округления)
+        while (largeCnt > 0) {
+            int i = large[--largeCnt];
+            probabilities[i] = 1;
+            aliases[i] = i;
+        }
+        while (smallCnt > 0) {
+            int i = small[--smallCnt];
+            probabilities[i] = 1;
+            aliases[i] = i;
+        }
+    }
+
+    /**
+     * Конструктор таблицы псевдонимов
+     *
+     * @param weights неотрицательные веса индексов (хотя бы один вес положительный)
+     */
+    public AliasSampler(@NotNull float[] weights) {
+        this(toDouble(weights));
+    }
+
+    /**
+     * Выбрать случайный индекс (генератор ThreadLocalRandom)
+     *
+     * @return индекс
+     */
+    public int sample() {
+        return sample(ThreadLocalRandom.current().nextDouble());
+    }
+
+    /**
+     * Выбрать случайный индекс
+     *
+     * @param random генератор случайных чисел
+     * @return индекс
+     */
+    public int sample(@NotNull SplittableRandom random) {
+        return sample(random.nextDouble());
+    }
+
+    /**
+     * Выбрать случайные индексы (генератор ThreadLocalRandom)
+     *
+     * @param cnt количество индексов
+     * @return массив индексов
+     */
+    @NotNull
+    public int[] sample(int cnt) {
+        return sample(new int[cnt]);
+    }
+
+    /**
+     * Выбрать случайные индексы (генератор ThreadLocalRandom)
+     *
+     * @param dest массив, который заполняется индексами целиком
+     * @return массив индексов
+     */
+    @NotNull
+    public int[] sample(@NotNull int[] dest) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < dest.length; i++)
+            dest[i] = sample(random.nextDouble());
+        return dest;
+    }
+
+    /**
+     * Выбрать случайные индексы
+     *
+     * @param dest   массив, который заполняется индексами целиком
+     * @param random генератор случайных чисел
+     * @return массив индексов
+     */
+    @NotNull
+    public int[] sample(@NotNull int[] dest, @NotNull SplittableRandom random) {
+        Objects.requireNonNull(random);
+        for (int i = 0; i < dest.length; i++)
+            dest[i] = sample(random.nextDouble());
+        return dest;
+    }
+
+    /**
+     * Получить количество индексов
+     *
+     * @return количество индексов
+     */
+    public int size() {
+        return aliases.length;
+    }
+
+    /**
+     * Выбрать индекс по случайному числу
+     *
+     * @param u равномерно распределённое случайное число из [0, 1)
+     * @return индекс
+     */
+    private int sample(double u) {
+        double column = u * aliases.length;
+        int i = (int) column;
+        // защита от округления u * n до n
+        if (i == aliases.length)
+            i--;
+        return column - i < probabilities[i] ? i : aliases[i];
+    }
+
+    /**
+     * Преобразовать массив float в массив double
+     *
+     * @param arr массив float
+     * @return массив double
+     */
+    @NotNull
+    static double[] toDouble(@NotNull float[] arr) {
+        double[] result = new double[arr.length];
+        for (int i = 0; i < arr.length; i++)
+            result[i] = arr[i];
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "AliasSampler{" +
+                "size=" + aliases.length +
+                '}';
+    }
+}
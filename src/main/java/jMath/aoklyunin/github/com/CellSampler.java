@@ -0,0 +1,271 @@
+package jMath.aoklyunin.github.com;
+
+import com.sun.istack.NotNull;
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem2i;
+import jMath.aoklyunin.github.com.vector.Vector2i;
+import jMath.aoklyunin.github.com.vector.Vector2iArray;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.function.Predicate;
+
+/**
+ * Выборка уникальных ячеек целочисленной системы координат
+ * <p>
+ * Ячейки представляются индексами свёртки CoordinateSystem2i.conv()
+ * (index = (x - min.x) + size.x * (y - min.y)), поэтому выборка не создаёт объектов Vector2i.
+ * Выборка по плотности проверяет предикат один раз для каждой ячейки, запоминая подходящие
+ * ячейки в битовом массиве, затем выбирает номера подходящих ячеек через UniqueIntSampler
+ * и находит их в битовом массиве за один проход по словам. Выборка фиксированного
+ * размера (резервуарная) обходит ячейки один раз и хранит только сами выбранные индексы.
+ * <p>
+ * Объект не потокобезопасен: для каждого потока нужен свой экземпляр
+ */
+public class CellSampler {
+    /**
+     * Генератор случайных чисел
+     */
+    @NotNull
+    private final SplittableRandom random;
+    /**
+     * Выборка номеров подходящих ячеек
+     */
+    @NotNull
+    private final UniqueIntSampler rankSampler;
+    /**
+     * Битовый массив подходящих ячеек
+     */
+    @NotNull
+    private long[] bits = new long[0];
+
+    /**
+     * Предикат ячейки по её координатам
+     */
+    public interface CellPredicate {
+        /**
+         * Проверить ячейку
+         *
+         * @param x x - координата ячейки
+         * @param y y - координата ячейки
+         * @return флаг, подходит ли ячейка
+         */
+        boolean test(int x, int y);
+    }
+
+    /**
+     * Конструктор выборки со случайным начальным значением генератора
+     */
+    public CellSampler() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Конструктор выборки
+     *
+     * @param seed начальное значение генератора случайных чисел
+     */
+    public CellSampler(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    /**
+     * Конструктор выборки
+     *
+     * @param random генератор случайных чисел
+     */
+    public CellSampler(@NotNull SplittableRandom random) {
+        this.random = Objects.requireNonNull(random);
+        this.rankSampler = new UniqueIntSampler(random.split());
+    }
+
+    /**
+     * Выбрать заданную долю подходящих ячеек
+     *
+     * @param cs        система координат
+     * @param density   доля подходящих ячеек, которую нужно выбрать (от 0 до 1)
+     * @param predicate предикат, определяющий подходящие ячейки
+     * @return индексы свёртки выбранных ячеек по возрастанию
+     */
+    @NotNull
+    public int[] sample(@NotNull CoordinateSystem2i cs, double density, @NotNull CellPredicate predicate) {
+        if (!(density >= 0 && density <= 1))
+            throw new IllegalArgumentException("density must be in [0, 1]: " + density);
+        int cellCnt = getCellCnt(cs);
+        int words = (cellCnt + 63) >>> 6;
+        if (bits.length < words)
+            bits = new long[words];
+        else
+            Arrays.fill(bits, 0, words, 0);
+        int minX = cs.getMin().x;
+        int minY = cs.getMin().y;
+        int sizeX = cs.getSize().x;
+        int sizeY = cs.getSize().y;
+        int validCnt = 0;
+        int index = 0;
+        for (int j = 0; j < sizeY; j++)
+            for (int i = 0; i < sizeX; i++, index++)
+                if (predicate.test(minX + i, minY + j)) {
+                    bits[index >>> 6] |= 1L << index;
+                    validCnt++;
+                }
+        int[] result = rankSampler.sampleOrdered(0, validCnt - 1, (int) (density * validCnt));
+        // номера подходящих ячеек заменяются индексами свёртки на месте
+        int r = 0;
+        int passed = 0;
+        for (int w = 0; w < words && r < result.length; w++) {
+            long word = bits[w];
+            int wordCnt = Long.bitCount(word);
+            int rank = passed;
+            while (r < result.length && result[r] < passed + wordCnt) {
+                for (; rank < result[r]; rank++)
+                    word &= word - 1;
+                result[r++] = (w << 6) + Long.numberOfTrailingZeros(word);
+            }
+            passed += wordCnt;
+        }
+        return result;
+    }
+
+    /**
+     * Выбрать заданную долю подходящих ячеек
+     *
+     * @param cs        система координат
+     * @param density   доля подходящих ячеек, которую нужно выбрать (от 0 до 1)
+     * @param predicate предикат, определяющий подходящие ячейки (получает один и тот же изменяемый вектор)
+     * @return индексы свёртки выбранных ячеек по возрастанию
+     */
+    @NotNull
+    public int[] sample(@NotNull CoordinateSystem2i cs, double density, @NotNull Predicate<Vector2i> predicate) {
+        return sample(cs, density, toCellPredicate(predicate));
+    }
+
+    /**
+     * Выбрать заданное количество подходящих ячеек за один проход (резервуарная выборка)
+     *
+     * @param cs        система координат
+     * @param cnt       количество ячеек
+     * @param predicate предикат, определяющий подходящие ячейки
+     * @return индексы свёртки выбранных ячеек в произвольном порядке; если подходящих ячеек
+     * меньше cnt, возвращаются все подходящие ячейки
+     */
+    @NotNull
+    public int[] sampleReservoir(@NotNull CoordinateSystem2i cs, int cnt, @NotNull CellPredicate predicate) {
+        if (cnt < 0)
+            throw new IllegalArgumentException("count must be non-negative: " + cnt);
+        getCellCnt(cs);
+        int minX = cs.getMin().x;
+        int minY = cs.getMin().y;
+        int sizeX = cs.getSize().x;
+        int sizeY = cs.getSize().y;
+        int[] reservoir = new int[cnt];
+        int validCnt = 0;
+        int index = 0;
+        for (int j = 0; j < sizeY; j++)
+            for (int i = 0; i < sizeX; i++, index++)
+                if (predicate.test(minX + i, minY + j)) {
+                    if (validCnt < cnt) {
+                        reservoir[validCnt] = index;
+                    } else {
+                        int k = random.nextInt(validCnt + 1);
+                        if (k < cnt)
+                            reservoir[k] = index;
+                    }
+                    validCnt++;
+                }
+        return validCnt < cnt ? Arrays.copyOf(reservoir, validCnt) : reservoir;
+    }
+
+    /**
+     * Выбрать заданное количество подходящих ячеек за один проход (резервуарная выборка)
+     *
+     * @param cs        система координат
+     * @param cnt       количество ячеек
+     * @param predicate предикат, определяющий подходящие ячейки (получает один и тот же изменяемый вектор)
+     * @return индексы свёртки выбранных ячеек в произвольном порядке; если подходящих ячеек
+     * меньше cnt, возвращаются все подходящие ячейки
+     */
+    @NotNull
+    public int[] sampleReservoir(@NotNull CoordinateSystem2i cs, int cnt, @NotNull Predicate<Vector2i> predicate) {
+        return sampleReservoir(cs, cnt, toCellPredicate(predicate));
+    }
+
+    /**
+     * Выбрать заданную долю подходящих ячеек
+     *
+     * @param cs        система координат
+     * @param density   доля подходящих ячеек, которую нужно выбрать (от 0 до 1)
+     * @param predicate предикат, определяющий подходящие ячейки
+     * @return координаты выбранных ячеек в порядке возрастания индексов свёртки
+     */
+    @NotNull
+    public Vector2iArray sampleCoords(@NotNull CoordinateSystem2i cs, double density, @NotNull CellPredicate predicate) {
+        int[] indices = sample(cs, density, predicate);
+        return toCoords(cs, indices, new Vector2iArray(indices.length));
+    }
+
+    /**
+     * Получить координаты ячеек по индексам свёртки
+     *
+     * @param cs      система координат
+     * @param indices индексы свёртки
+     * @param dest    массив, в который записываются координаты (не меньше количества индексов)
+     * @return массив координат
+     */
+    @NotNull
+    public static Vector2iArray toCoords(
+            @NotNull CoordinateSystem2i cs, @NotNull int[] indices, @NotNull Vector2iArray dest
+    ) {
+        if (dest.size() < indices.length)
+            throw new IllegalArgumentException("dest size " + dest.size() + " is less than " + indices.length);
+        int cellCnt = getCellCnt(cs);
+        int minX = cs.getMin().x;
+        int minY = cs.getMin().y;
+        int sizeX = cs.getSize().x;
+        for (int i = 0; i < indices.length; i++) {
+            int index = indices[i];
+            if (index < 0 || index >= cellCnt)
+                throw new IllegalArgumentException("index " + index + " is not in CS " + cs);
+            dest.x[i] = minX + index % sizeX;
+            dest.y[i] = minY + index / sizeX;
+        }
+        return dest;
+    }
+
+    /**
+     * Получить количество ячеек системы координат
+     *
+     * @param cs система координат
+     * @return количество ячеек
+     */
+    public static int getCellCnt(@NotNull CoordinateSystem2i cs) {
+        long cellCnt = (long) cs.getSize().x * cs.getSize().y;
+        if (cellCnt > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("CS has too many cells to index with int: " + cellCnt);
+        return (int) cellCnt;
+    }
+
+    /**
+     * Преобразовать предикат векторов в предикат ячеек
+     *
+     * @param predicate предикат векторов
+     * @return предикат ячеек, который передаёт координаты в один и тот же изменяемый вектор
+     */
+    @NotNull
+    private static CellPredicate toCellPredicate(@NotNull Predicate<Vector2i> predicate) {
+        Objects.requireNonNull(predicate);
+        Vector2i coords = new Vector2i();
+        return (x, y) -> {
+            coords.x = x;
+            coords.y = y;
+            return predicate.test(coords);
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "CellSampler{" +
+                "bitsCapacity=" + ((long) bits.length << 6) +
+                '}';
+    }
+}
@@ -0,0 +1,232 @@
+package jMath.aoklyunin.github.com;
+
+import com.sun.istack.NotNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Выбор случайного индекса с изменяемыми весами на дереве Фенвика
+ * <p>
+ * Дерево хранит частичные суммы весов, поэтому изменение веса и выбор индекса занимают
+ * O(log n) без пересчёта массива накопленных весов, как при Algorithms.findCumulativeValue().
+ * Чтобы ошибки округления от многократных изменений не накапливались, после каждых
+ * n изменений дерево пересчитывается заново (O(1) на изменение в среднем).
+ * Если веса не меняются, быстрее AliasSampler.
+ * <p>
+ * Объект не потокобезопасен
+ */
+public class FenwickSampler {
+    /**
+     * Веса индексов
+     */
+    @NotNull
+    private final double[] weights;
+    /**
+     * Дерево Фенвика: tree[i] - сумма весов индексов (i - (i &amp; -i), i], нумерация с 1
+     */
+    @NotNull
+    private final double[] tree;
+    /**
+     * Старший бит количества индексов для спуска по дереву
+     */
+    private final int highBit;
+    /**
+     * Количество изменений весов после последнего пересчёта дерева
+     */
+    private int updateCnt;
+
+    /**
+     * Конструктор выбора с нулевыми весами
+     *
+     * @param size количество индексов
+     */
+    public FenwickSampler(int size) {
+        if (size < 0)
+            throw new IllegalArgumentException("size must be non-negative: " + size);
+        this.weights = new double[size];
+        this.tree = new double[size + 1];
+        this.highBit = Integer.highestOneBit(size);
+    }
+
+    /**
+     * Конструктор выбора
+     *
+     * @param weights неотрицательные веса индексов
+     */
+    public FenwickSampler(@NotNull double[] weights) {
+        this(weights.length);
+        for (int i = 0; i < weights.length; i++) {
+            checkWeight(weights[i]);
+            this.weights[i] = weights[i];
+        }
+        rebuild();
+    }
+
+    /**
+     * Конструктор выбора
+     *
+     * @param weights неотрицательные веса индексов
+     */
+    public FenwickSampler(@NotNull float[] weights) {
+        this(AliasSampler.toDouble(weights));
+    }
+
+    /**
+     * Задать вес индекса
+     *
+     * @param i      индекс
+     * @param weight неотрицательный вес
+     */
+    public void set(int i, double weight) {
+        checkWeight(weight);
+        double delta = weight - weights[i];
+        weights[i] = weight;
+        if (++updateCnt >= weights.length) {
+            rebuild();
+            return;
+        }
+        for (int j = i + 1; j < tree.length; j += j & -j)
+            tree[j] += delta;
+    }
+
+    /**
+     * Получить вес индекса
+     *
+     * @param i индекс
+     * @return вес
+     */
+    public double get(int i) {
+        return weights[i];
+    }
+
+    /**
+     * Получить сумму весов
+     *
+     * @return сумма весов
+     */
+    public double getTotalWeight() {
+        return getPrefixWeight(weights.length);
+    }
+
+    /**
+     * Получить сумму весов первых индексов
+     *
+     * @param cnt количество индексов
+     * @return сумма весов индексов 0..cnt-1
+     */
+    public double getPrefixWeight(int cnt) {
+        if (cnt < 0 || cnt > weights.length)
+            throw new IndexOutOfBoundsException("prefix " + cnt + " of " + weights.length);
+        double sum = 0;
+        for (int j = cnt; j > 0; j -= j & -j)
+            sum += tree[j];
+        return sum;
+    }
+
+    /**
+     * Получить количество индексов
+     *
+     * @return количество индексов
+     */
+    public int size() {
+        return weights.length;
+    }
+
+    /**
+     * Выбрать случайный индекс (генератор ThreadLocalRandom)
+     *
+     * @return индекс
+     */
+    public int sample() {
+        return sample(ThreadLocalRandom.current().nextDouble(), getTotalWeight());
+    }
+
+    /**
+     * Выбрать случайный индекс
+     *
+     * @param random генератор случайных чисел
+     * @return индекс
+     */
+    public int sample(@NotNull SplittableRandom random) {
+        return sample(random.nextDouble(), getTotalWeight());
+    }
+
+    /**
+     * Выбрать случайные индексы
+     *
+     * @param dest   массив, который заполняется индексами целиком
+     * @param random генератор случайных чисел
+     * @return массив индексов
+     */
+    @NotNull
+    public int[] sample(@NotNull int[] dest, @NotNull SplittableRandom random) {
+        Objects.requireNonNull(random);
+        double total = getTotalWeight();
+        for (int i = 0; i < dest.length; i++)
+            dest[i] = sample(random.nextDouble(), total);
+        return dest;
+    }
+
+    /**
+     * Пересчитать дерево по весам за O(n)
+     */
+    public void rebuild() {
+        Arrays.fill(tree, 0);
+        for (int j = 1; j < tree.length; j++) {
+            tree[j] += weights[j - 1];
+            int parent = j + (j & -j);
+            if (parent < tree.length)
+                tree[parent] += tree[j];
+        }
+        updateCnt = 0;
+    }
+
+    /**
+     * Выбрать индекс по случайному числу спуском по дереву
+     *
+     * @param u     равномерно распределённое случайное число из [0, 1)
+     * @param total сумма весов
+     * @return индекс
+     */
+    private int sample(double u, double total) {
+        if (!(total > 0))
+            throw new IllegalStateException("sum of weights must be positive: " + total);
+        double target = u * total;
+        // наибольший pos, у которого сумма весов первых pos индексов не больше target
+        int pos = 0;
+        for (int step = highBit; step > 0; step >>= 1) {
+            int next = pos + step;
+            if (next < tree.length && tree[next] <= target) {
+                pos = next;
+                target -= tree[next];
+            }
+        }
+        // защита от округления: индекс с нулевым весом или за концом массива не выбирается
+        while (pos < weights.length - 1 && weights[pos] == 0)
+            pos++;
+        while (pos > 0 && (pos >= weights.length || weights[pos] == 0))
+            pos--;
+        return pos;
+    }
+
+    /**
+     * Проверить вес
+     *
+     * @param weight вес
+     */
+    private static void checkWeight(double weight) {
+        if (!(weight >= 0) || Double.isInfinite(weight))
+            throw new IllegalArgumentException("weight must be non-negative and finite: " + weight);
+    }
+
+    @Override
+    public String toString() {
+        return "FenwickSampler{" +
+                "size=" + weights.length +
+                ", totalWeight=" + getTotalWeight() +
+                '}';
+    }
+}
@@ -0,0 +1,396 @@
+package jMath.aoklyunin.github.com;
+
+import com.sun.istack.NotNull;
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem2i;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Передискретизация растра с одной целочисленной сетки на другую
+ * <p>
+ * Растр хранится в массиве double по индексам свёртки CoordinateSystem2i.conv()
+ * (index = (x - min.x) + size.x * (y - min.y)). Сетки совмещаются так же, как
+ * в CoordinateMapping для целочисленных СК: крайние ячейки целевой сетки совпадают
+ * с крайними ячейками исходной, то есть ячейка i целевой сетки соответствует точке
+ * i * (srcSize - 1) / (dstSize - 1) исходной.
+ * <p>
+ * Индексы соседних ячеек и веса по каждой оси считаются один раз при создании объекта,
+ * поэтому на каждую ячейку нет ни делений, ни выделения памяти, в отличие
+ * от Algorithms.bilinearInterpolation(). Бикубическая интерполяция использует
+ * ядро Катмулла-Рома, ячейки за краем растра заменяются крайними.
+ * Если ячеек больше порога распараллеливания, строки целевого растра делятся
+ * на участки, которые обрабатываются в общем пуле fork-join.
+ * <p>
+ * Объект неизменяемый, его можно использовать из нескольких потоков
+ */
+public final class GridResampler {
+    /**
+     * Порог распараллеливания по умолчанию (количество ячеек целевого растра)
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 16;
+    /**
+     * Исходная система координат
+     */
+    @NotNull
+    private final CoordinateSystem2i srcCS;
+    /**
+     * Целевая система координат
+     */
+    @NotNull
+    private final CoordinateSystem2i dstCS;
+    /**
+     * Флаг, используется ли бикубическая интерполяция
+     */
+    private final boolean bicubic;
+    /**
+     * Количество соседних ячеек вдоль оси (2 или 4)
+     */
+    private final int taps;
+    /**
+     * Размеры исходного растра
+     */
+    private final int srcSizeX, srcSizeY;
+    /**
+     * Размеры целевого растра
+     */
+    private final int dstSizeX, dstSizeY;
+    /**
+     * Индексы соседних столбцов исходного растра для каждого столбца целевого
+     */
+    @NotNull
+    private final int[] xIndices;
+    /**
+     * Веса соседних столбцов
+     */
+    @NotNull
+    private final double[] xWeights;
+    /**
+     * Смещения соседних строк исходного растра для каждой строки целевого
+     */
+    @NotNull
+    private final int[] yOffsets;
+    /**
+     * Веса соседних строк
+     */
+    @NotNull
+    private final double[] yWeights;
+
+    /**
+     * Конструктор билинейной передискретизации
+     *
+     * @param srcCS исходная система координат
+     * @param dstCS целевая система координат
+     */
+    public GridResampler(@NotNull CoordinateSystem2i srcCS, @NotNull CoordinateSystem2i dstCS) {
+        this(srcCS, dstCS, false);
+    }
+
+    /**
+     * Конструктор передискретизации
+     *
+     * @param srcCS   исходная система координат
+     * @param dstCS   целевая система координат
+     * @param bicubic флаг, нужно ли использовать бикубическую интерполяцию вместо билинейной
+     */
+    public GridResampler(@NotNull CoordinateSystem2i srcCS, @NotNull CoordinateSystem2i dstCS, boolean bicubic) {
+        this.srcCS = new CoordinateSystem2i(Objects.requireNonNull(srcCS));
+        this.dstCS = new CoordinateSystem2i(Objects.requireNonNull(dstCS));
+        this.bicubic = bicubic;
+        this.taps = bicubic ? 4 : 2;
+        CellSampler.getCellCnt(srcCS);
+        CellSampler.getCellCnt(dstCS);
+        this.srcSizeX = srcCS.getSize().x;
+        this.srcSizeY = srcCS.getSize().y;
+        this.dstSizeX = dstCS.getSize().x;
+        this.dstSizeY = dstCS.getSize().y;
+        this.xIndices = new int[dstSizeX * taps];
+        this.xWeights = new double[dstSizeX * taps];
+        this.yOffsets = new int[dstSizeY * taps];
+        this.yWeights = new double[dstSizeY * taps];
+        buildAxis(srcSizeX, dstSizeX, 1, xIndices, xWeights);
+        buildAxis(srcSizeY, dstSizeY, srcSizeX, yOffsets, yWeights);
+    }
+
+    /**
+     * Передискретизировать растр
+     *
+     * @param src исходный растр
+     * @return целевой растр
+     */
+    @NotNull
+    public double[] resample(@NotNull double[] src) {
+        return resample(src, new double[dstSizeX * dstSizeY], DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Передискретизировать растр
+     *
+     * @param src  исходный растр
+     * @param dest массив, в который записывается целевой растр (не может совпадать с src)
+     * @return целевой растр
+     */
+    @NotNull
+    public double[] resample(@NotNull double[] src, @NotNull double[] dest) {
+        return resample(src, dest, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Передискретизировать растр
+     *
+     * @param src               исходный растр
+     * @param dest              массив, в который записывается целевой растр (не может совпадать с src)
+     * @param parallelThreshold максимальное количество ячеек, обрабатываемых одним потоком
+     * @return целевой растр
+     */
+    @NotNull
+    public double[] resample(@NotNull double[] src, @NotNull double[] dest, int parallelThreshold) {
+        if (Objects.requireNonNull(src).length != srcSizeX * srcSizeY)
+            throw new IllegalArgumentException(
+                    "source raster length " + src.length + " does not match CS " + srcCS
+            );
+        if (Objects.requireNonNull(dest).length != dstSizeX * dstSizeY)
+            throw new IllegalArgumentException(
+                    "target raster length " + dest.length + " does not match CS " + dstCS
+            );
+        if (src == dest)
+            throw new IllegalArgumentException("source and target rasters must be different arrays");
+        if (parallelThreshold < 1)
+            throw new IllegalArgumentException("parallel threshold must be positive: " + parallelThreshold);
+        int rowsPerTask = Math.max(1, parallelThreshold / Math.max(1, dstSizeX));
+        if (dstSizeY <= rowsPerTask)
+            resampleRows(src, dest, 0, dstSizeY);
+        else
+            ForkJoinPool.commonPool().invoke(new RowTask(src, dest, 0, dstSizeY, rowsPerTask));
+        return dest;
+    }
+
+    /**
+     * Передискретизировать растр
+     *
+     * @param src     исходный растр
+     * @param srcCS   исходная система координат
+     * @param dstCS   целевая система координат
+     * @param bicubic флаг, нужно ли использовать бикубическую интерполяцию вместо билинейной
+     * @return целевой растр
+     */
+    @NotNull
+    public static double[] resample(
+            @NotNull double[] src, @NotNull CoordinateSystem2i srcCS, @NotNull CoordinateSystem2i dstCS, boolean bicubic
+    ) {
+        return new GridResampler(srcCS, dstCS, bicubic).resample(src);
+    }
+
+    /**
+     * Получить исходную систему координат
+     *
+     * @return исходная система координат
+     */
+    @NotNull
+    public CoordinateSystem2i getSourceCS() {
+        return new CoordinateSystem2i(srcCS);
+    }
+
+    /**
+     * Получить целевую систему координат
+     *
+     * @return целевая система координат
+     */
+    @NotNull
+    public CoordinateSystem2i getTargetCS() {
+        return new CoordinateSystem2i(dstCS);
+    }
+
+    /**
+     * Проверить, используется ли бикубическая интерполяция
+     *
+     * @return флаг, используется ли бикубическая интерполяция
+     */
+    public boolean isBicubic() {
+        return bicubic;
+    }
+
+    /**
+     * Посчитать индексы соседних ячеек и веса вдоль оси
+     *
+     * @param srcSize размер исходного растра вдоль оси
+     * @param dstSize размер целевого растра вдоль оси
+     * @param stride  шаг индекса исходного растра вдоль оси
+     * @param indices массив, в который записываются индексы (taps на каждую ячейку)
+     * @param weights массив, в который записываются веса (taps на каждую ячейку)
+     */
+    private void buildAxis(int srcSize, int dstSize, int stride, @NotNull int[] indices, @NotNull double[] weights) {
+        double scale = dstSize > 1 ? (double) (srcSize - 1) / (dstSize - 1) : 0;
+        for (int i = 0; i < dstSize; i++) {
+            double pos = i * scale;
+            // левая ячейка, у последней ячейки растра правой соседки нет
+            int left = Math.min((int) pos, Math.max(srcSize - 2, 0));
+            double t = pos - left;
+            int k = i * taps;
+            if (bicubic) {
+                indices[k] = clamp(left - 1, srcSize) * stride;
+                indices[k + 1] = left * stride;
+                indices[k + 2] = clamp(left + 1, srcSize) * stride;
+                indices[k + 3] = clamp(left + 2, srcSize) * stride;
+                // ядро Катмулла-Рома
+                weights[k] = ((-0.5 * t + 1) * t - 0.5) * t;
+                weights[k + 1] = (1.5 * t - 2.5) * t * t + 1;
+                weights[k + 2] = ((-1.5 * t + 2) * t + 0.5) * t;
+                weights[k + 3] = (0.5 * t - 0.5) * t * t;
+            } else {
+                indices[k] = left * stride;
+                indices[k + 1] = clamp(left + 1, srcSize) * stride;
+                weights[k] = 1 - t;
+                weights[k + 1] = t;
+            }
+        }
+    }
+
+    /**
+     * Передискретизировать строки целевого растра
+     *
+     * @param src  исходный растр
+     * @param dest целевой растр
+     * @param from номер первой строки
+     * @param to   номер строки, следующей за последней
+     */
+    private void resampleRows(@NotNull double[] src, @NotNull double[] dest, int from, int to) {
+        if (bicubic)
+            resampleBicubicRows(src, dest, from, to);
+        else
+            resampleBilinearRows(src, dest, from, to);
+    }
+
+    /**
+     * Билинейно передискретизировать строки целевого растра
+     *
+     * @param src  исходный растр
+     * @param dest целевой растр
+     * @param from номер первой строки
+     * @param to   номер строки, следующей за последней
+     */
+    private void resampleBilinearRows(@NotNull double[] src, @NotNull double[] dest, int from, int to) {
+        int[] xi = xIndices;
+        double[] xw = xWeights;
+        for (int j = from; j < to; j++) {
+            int row0 = yOffsets[2 * j];
+            int row1 = yOffsets[2 * j + 1];
+            double wy0 = yWeights[2 * j];
+            double wy1 = yWeights[2 * j + 1];
+            int out = j * dstSizeX;
+            for (int i = 0, k = 0; i < dstSizeX; i++, k += 2) {
+                int x0 = xi[k];
+                int x1 = xi[k + 1];
+                double wx0 = xw[k];
+                double wx1 = xw[k + 1];
+                dest[out + i] = wy0 * (wx0 * src[row0 + x0] + wx1 * src[row0 + x1]) +
+                        wy1 * (wx0 * src[row1 + x0] + wx1 * src[row1 + x1]);
+            }
+        }
+    }
+
+    /**
+     * Бикубически передискретизировать строки целевого растра
+     *
+     * @param src  исходный растр
+     * @param dest целевой растр
+     * @param from номер первой строки
+     * @param to   номер строки, следующей за последней
+     */
+    private void resampleBicubicRows(@NotNull double[] src, @NotNull double[] dest, int from, int to) {
+        int[] xi = xIndices;
+        double[] xw = xWeights;
+        for (int j = from; j < to; j++) {
+            int k = 4 * j;
+            int row0 = yOffsets[k], row1 = yOffsets[k + 1], row2 = yOffsets[k + 2], row3 = yOffsets[k + 3];
+            double wy0 = yWeights[k], wy1 = yWeights[k + 1], wy2 = yWeights[k + 2], wy3 = yWeights[k + 3];
+            int out = j * dstSizeX;
+            for (int i = 0, l = 0; i < dstSizeX; i++, l += 4) {
+                int x0 = xi[l], x1 = xi[l + 1], x2 = xi[l + 2], x3 = xi[l + 3];
+                double wx0 = xw[l], wx1 = xw[l + 1], wx2 = xw[l + 2], wx3 = xw[l + 3];
+                dest[out + i] =
+                        wy0 * (wx0 * src[row0 + x0] + wx1 * src[row0 + x1] + wx2 * src[row0 + x2] + wx3 * src[row0 + x3]) +
+                        wy1 * (wx0 * src[row1 + x0] + wx1 * src[row1 + x1] + wx2 * src[row1 + x2] + wx3 * src[row1 + x3]) +
+                        wy2 * (wx0 * src[row2 + x0] + wx1 * src[row2 + x1] + wx2 * src[row2 + x2] + wx3 * src[row2 + x3]) +
+                        wy3 * (wx0 * src[row3 + x0] + wx1 * src[row3 + x1] + wx2 * src[row3 + x2] + wx3 * src[row3 + x3]);
+            }
+        }
+    }
+
+    /**
+     * Ограничить индекс ячейки размером растра
+     *
+     * @param index индекс
+     * @param size  размер растра вдоль оси
+     * @return индекс из диапазона [0, size - 1]
+     */
+    private static int clamp(int index, int size) {
+        return index < 0 ? 0 : Math.min(index, size - 1);
+    }
+
+    /**
+     * Задача передискретизации участка строк целевого растра
+     */
+    private final class RowTask extends RecursiveAction {
+        /**
+         * исходный растр
+         */
+        private final double[] src;
+        /**
+         * целевой растр
+         */
+        private final double[] dest;
+        /**
+         * номер первой строки
+         */
+        private final int from;
+        /**
+         * номер строки, следующей за последней
+         */
+        private final int to;
+        /**
+         * максимальное количество строк, обрабатываемых одним потоком
+         */
+        private final int rowsPerTask;
+
+        /**
+         * Конструктор задачи
+         *
+         * @param src         исходный растр
+         * @param dest        целевой растр
+         * @param from        номер первой строки
+         * @param to          номер строки, следующей за последней
+         * @param rowsPerTask максимальное количество строк, обрабатываемых одним потоком
+         */
+        RowTask(@NotNull double[] src, @NotNull double[] dest, int from, int to, int rowsPerTask) {
+            this.src = src;
+            this.dest = dest;
+            this.from = from;
+            this.to = to;
+            this.rowsPerTask = rowsPerTask;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= rowsPerTask) {
+                resampleRows(src, dest, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                    new RowTask(src, dest, from, mid, rowsPerTask),
+                    new RowTask(src, dest, mid, to, rowsPerTask)
+            );
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "GridResampler{" +
+                "srcCS=" + srcCS +
+                ", dstCS=" + dstCS +
+                ", bicubic=" + bicubic +
+                '}';
+    }
+}
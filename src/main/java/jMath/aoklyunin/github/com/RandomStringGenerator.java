@@ -0,0 +1,217 @@
+package jMath.aoklyunin.github.com;
+
+import com.sun.istack.NotNull;
+
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Генератор случайных строк с заданным количеством символов каждого класса
+ * <p>
+ * Классы символов совпадают с теми, что раньше использовались в Algorithms.generateRandomString()
+ * через passay: латинские буквы нижнего и верхнего регистра, цифры и специальные символы
+ * "!@#$%^&amp;*()_+". Строка содержит ровно заданное количество символов каждого класса
+ * в случайном порядке. Таблицы символов создаются один раз, поэтому на каждую строку
+ * выделяется только буфер символов и сама строка.
+ * <p>
+ * Объект неизменяемый, его можно использовать из нескольких потоков
+ */
+public final class RandomStringGenerator {
+    /**
+     * Буквы нижнего регистра
+     */
+    public static final String LOWER_CASE_CHARACTERS = "abcdefghijklmnopqrstuvwxyz";
+    /**
+     * Буквы верхнего регистра
+     */
+    public static final String UPPER_CASE_CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    /**
+     * Цифры
+     */
+    public static final String DIGIT_CHARACTERS = "0123456789";
+    /**
+     * Специальные символы
+     */
+    public static final String SPECIAL_CHARACTERS = "!@#$%^&*()_+";
+    /**
+     * Таблицы символов классов
+     */
+    @NotNull
+    private static final char[][] TABLES = {
+            LOWER_CASE_CHARACTERS.toCharArray(), UPPER_CASE_CHARACTERS.toCharArray(),
+            DIGIT_CHARACTERS.toCharArray(), SPECIAL_CHARACTERS.toCharArray()
+    };
+    /**
+     * Количество символов каждого класса
+     */
+    @NotNull
+    private final int[] counts;
+    /**
+     * Длина строки
+     */
+    private final int length;
+
+    /**
+     * Конструктор генератора
+     *
+     * @param lowerCaseCharactersCnt количество символов-букв нижнего регистра
+     * @param upperCaseCharactersCnt количество символов-букв верхнего регистра
+     * @param digitCharactersCnt     количество символов-цифр
+     * @param specialCharactersCnt   количество специальных символов
+     */
+    public RandomStringGenerator(
+            int lowerCaseCharactersCnt, int upperCaseCharactersCnt, int digitCharactersCnt, int specialCharactersCnt
+    ) {
+        this.counts = new int[]{
+                lowerCaseCharactersCnt, upperCaseCharactersCnt, digitCharactersCnt, specialCharactersCnt
+        };
+        long length = 0;
+        for (int cnt : counts) {
+            if (cnt < 0)
+                throw new IllegalArgumentException("character count must be non-negative: " + cnt);
+            length += cnt;
+        }
+        if (length > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("string is too long: " + length);
+        this.length = (int) length;
+    }
+
+    /**
+     * Конструктор генератора с одинаковым количеством символов-букв нижнего регистра,
+     * символов-букв верхнего регистра и символов-цифр без специальных символов
+     *
+     * @param cnt количество символов каждого типа
+     */
+    public RandomStringGenerator(int cnt) {
+        this(cnt, cnt, cnt, 0);
+    }
+
+    /**
+     * Сгенерировать случайную строку (генератор ThreadLocalRandom)
+     *
+     * @return случайная строка
+     */
+    @NotNull
+    public String generate() {
+        return generate(ThreadLocalRandom.current()::nextInt);
+    }
+
+    /**
+     * Сгенерировать случайную строку
+     *
+     * @param random генератор случайных чисел
+     * @return случайная строка
+     */
+    @NotNull
+    public String generate(@NotNull SplittableRandom random) {
+        return generate(Objects.requireNonNull(random)::nextInt);
+    }
+
+    /**
+     * Сгенерировать случайную строку
+     *
+     * @param nextInt функция, возвращающая случайное число от 0 (включительно) до аргумента (не включительно)
+     * @return случайная строка
+     */
+    @NotNull
+    private String generate(@NotNull IntUnaryOperator nextInt) {
+        char[] buf = new char[length];
+        int pos = 0;
+        for (int c = 0; c < TABLES.length; c++) {
+            char[] table = TABLES[c];
+            for (int i = 0; i < counts[c]; i++)
+                buf[pos++] = table[nextInt.applyAsInt(table.length)];
+        }
+        // перемешивание Фишера-Йетса, чтобы классы символов не шли подряд
+        for (int i = length - 1; i > 0; i--) {
+            int j = nextInt.applyAsInt(i + 1);
+            char tmp = buf[i];
+            buf[i] = buf[j];
+            buf[j] = tmp;
+        }
+        return new String(buf);
+    }
+
+    /**
+     * Сгенерировать случайные строки (генератор ThreadLocalRandom)
+     *
+     * @param n количество строк
+     * @return массив случайных строк
+     */
+    @NotNull
+    public String[] generate(int n) {
+        return generate(new String[checkCnt(n)]);
+    }
+
+    /**
+     * Сгенерировать случайные строки
+     *
+     * @param n      количество строк
+     * @param random генератор случайных чисел
+     * @return массив случайных строк
+     */
+    @NotNull
+    public String[] generate(int n, @NotNull SplittableRandom random) {
+        return generate(new String[checkCnt(n)], random);
+    }
+
+    /**
+     * Сгенерировать случайные строки (генератор ThreadLocalRandom)
+     *
+     * @param dest массив, который заполняется строками целиком
+     * @return массив случайных строк
+     */
+    @NotNull
+    public String[] generate(@NotNull String[] dest) {
+        for (int i = 0; i < dest.length; i++)
+            dest[i] = generate();
+        return dest;
+    }
+
+    /**
+     * Сгенерировать случайные строки
+     *
+     * @param dest   массив, который заполняется строками целиком
+     * @param random генератор случайных чисел
+     * @return массив случайных строк
+     */
+    @NotNull
+    public String[] generate(@NotNull String[] dest, @NotNull SplittableRandom random) {
+        for (int i = 0; i < dest.length; i++)
+            dest[i] = generate(random);
+        return dest;
+    }
+
+    /**
+     * Получить длину генерируемых строк
+     *
+     * @return длина строк
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Проверить количество строк
+     *
+     * @param n количество строк
+     * @return количество строк
+     */
+    private static int checkCnt(int n) {
+        if (n < 0)
+            throw new IllegalArgumentException("string count must be non-negative: " + n);
+        return n;
+    }
+
+    @Override
+    public String toString() {
+        return "RandomStringGenerator{" +
+                "lowerCase=" + counts[0] +
+                ", upperCase=" + counts[1] +
+                ", digits=" + counts[2] +
+                ", special=" + counts[3] +
+                '}';
+    }
+}
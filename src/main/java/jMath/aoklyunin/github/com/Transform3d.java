@@ -4,7 +4,9 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.jogamp.opengl.GL2;
 import com.sun.istack.NotNull;
 import jMath.aoklyunin.github.com.vector.Vector3d;
+import jMath.aoklyunin.github.com.vector.Vector3dArray;
 import org.joml.Matrix4d;
+import org.joml.Matrix4dc;
 import org.lwjgl.BufferUtils;
 
 import javax.persistence.*;
@@ -13,6 +15,13 @@ import java.nio.DoubleBuffer;
 
 /**
  * Класс матрицы трансформации
+ * <p>
+ * Составленная матрица и её буфер кэшируются и пересчитываются только после изменения
+ * положения, углов поворота или коэффициентов масштабирования, поэтому чтение матрицы
+ * неподвижного объекта в каждом кадре ничего не стоит. Пересчёт выполняется под блокировкой
+ * объекта, поэтому неизменяемый объект можно читать из нескольких потоков одновременно,
+ * в том числе сразу после создания или загрузки. Изменять объект, пока его читают другие
+ * потоки, нельзя: кэшированные матрица и буфер пересчитываются на месте
  */
 @Entity
 @MappedSuperclass
@@ -69,6 +78,25 @@ public class Transform3d implements Serializable {
      */
     @Column(name = "scale_z")
     private double scaleZ;
+    /**
+     * Кэшированная матрица преобразования
+     */
+    @Transient
+    @JsonIgnore
+    private transient Matrix4d transformMatrix;
+    /**
+     * Кэшированный буфер с матрицей преобразования
+     */
+    @Transient
+    @JsonIgnore
+    private transient volatile DoubleBuffer doubleBufferTransform;
+    /**
+     * Флаг, соответствует ли кэшированная матрица текущим параметрам
+     * (после десериализации равен false, и матрица пересчитывается)
+     */
+    @Transient
+    @JsonIgnore
+    private transient volatile boolean transformValid;
 
     /**
      * Конструктор матрицы трансформации
@@ -153,16 +181,73 @@ public class Transform3d implements Serializable {
     /**
      * Получить матрицу преобразования
      *
-     * @return матрица преобразования
+     * @return новая матрица преобразования (копия кэшированной)
      */
     @NotNull
     @JsonIgnore
     public Matrix4d getTransformMatrix() {
-        return new Matrix4d().translate(getPosition().getJOML())
-                .rotateX(rotationO / 180 * Math.PI)
-                .rotateY(rotationA / 180 * Math.PI)
-                .rotateZ(rotationT / 180 * Math.PI)
-                .scale(getScale().getJOML());
+        return new Matrix4d(getTransformMatrixView());
+    }
+
+    /**
+     * Получить матрицу преобразования
+     *
+     * @param dest матрица, в которую записывается результат
+     * @return матрица преобразования
+     */
+    @NotNull
+    public Matrix4d getTransformMatrix(@NotNull Matrix4d dest) {
+        return dest.set(getTransformMatrixView());
+    }
+
+    /**
+     * Получить кэшированную матрицу преобразования без копирования
+     *
+     * @return матрица преобразования, доступная только для чтения
+     * (изменяется при изменении параметров трансформации)
+     */
+    @NotNull
+    @JsonIgnore
+    public Matrix4dc getTransformMatrixView() {
+        if (!transformValid)
+            updateTransform(false);
+        return transformMatrix;
+    }
+
+    /**
+     * Пересчитать устаревшую кэшированную матрицу преобразования и её буфер
+     * <p>
+     * Потоки, одновременно увидевшие устаревшую матрицу, пересчитывают её по очереди,
+     * и никто не получает частично составленную матрицу
+     *
+     * @param createBuffer флаг, нужно ли создать буфер, если его ещё нет
+     */
+    private synchronized void updateTransform(boolean createBuffer) {
+        if (!transformValid) {
+            if (transformMatrix == null)
+                transformMatrix = new Matrix4d();
+            transformMatrix.identity().translate(positionX, positionY, positionZ)
+                    .rotateX(rotationO / 180 * Math.PI)
+                    .rotateY(rotationA / 180 * Math.PI)
+                    .rotateZ(rotationT / 180 * Math.PI)
+                    .scale(scaleX, scaleY, scaleZ);
+            if (doubleBufferTransform != null)
+                transformMatrix.get(doubleBufferTransform);
+            transformValid = true;
+        }
+        if (createBuffer && doubleBufferTransform == null)
+            doubleBufferTransform = transformMatrix.get(BufferUtils.createDoubleBuffer(16));
+    }
+
+    /**
+     * Сбросить кэшированную матрицу преобразования
+     * <p>
+     * Вызывается setter-ами и после загрузки из базы данных; наследники,
+     * изменяющие параметры трансформации в обход setter-ов, должны вызывать его сами
+     */
+    @PostLoad
+    protected void invalidateTransform() {
+        transformValid = false;
     }
 
     /**
@@ -204,6 +289,7 @@ public class Transform3d implements Serializable {
         positionX = position.x;
         positionY = position.y;
         positionZ = position.z;
+        invalidateTransform();
     }
 
     /**
@@ -215,6 +301,7 @@ public class Transform3d implements Serializable {
         rotationO = rotation.x;
         rotationA = rotation.y;
         rotationT = rotation.z;
+        invalidateTransform();
     }
 
     /**
@@ -226,18 +313,70 @@ public class Transform3d implements Serializable {
         scaleX = scale.x;
         scaleY = scale.y;
         scaleZ = scale.z;
+        invalidateTransform();
     }
 
     /**
      * Получить буфер с матрицей трансформации
+     * <p>
+     * Возвращается один и тот же буфер, общий для всех вызывающих. Его нельзя изменять
+     * (включая позицию и предел) и нельзя хранить: при изменении параметров трансформации
+     * содержимое перезаписывается на месте. Для собственной копии используйте getTransformMatrix
      *
-     * @return буфер с матрицей трансформации
+     * @return кэшированный буфер с матрицей трансформации
      */
     @NotNull
     @JsonIgnore
     public DoubleBuffer getDoubleBufferTransform() {
-        DoubleBuffer fb = BufferUtils.createDoubleBuffer(16);
-        return getTransformMatrix().get(fb);
+        if (!transformValid || doubleBufferTransform == null)
+            updateTransform(true);
+        return doubleBufferTransform;
+    }
+
+    /**
+     * Применить трансформацию к точкам буфера
+     *
+     * @param points буфер точек вида {x0, y0, z0, x1, y1, z1, ...}, в который записывается результат
+     * @return буфер с результатом
+     */
+    @NotNull
+    public double[] transform(@NotNull double[] points) {
+        return transform(points, points);
+    }
+
+    /**
+     * Применить трансформацию к точкам буфера
+     *
+     * @param src  буфер точек вида {x0, y0, z0, x1, y1, z1, ...}
+     * @param dest буфер, в который записывается результат
+     * @return буфер с результатом
+     */
+    @NotNull
+    public double[] transform(@NotNull double[] src, @NotNull double[] dest) {
+        return Transform3dKernels.transform(getTransformMatrixView(), src, dest);
+    }
+
+    /**
+     * Применить трансформацию к точкам массива
+     *
+     * @param points массив точек, в который записывается результат
+     * @return массив с результатом
+     */
+    @NotNull
+    public Vector3dArray transform(@NotNull Vector3dArray points) {
+        return transform(points, points);
+    }
+
+    /**
+     * Применить трансформацию к точкам массива
+     *
+     * @param src  массив точек
+     * @param dest массив, в который записывается результат
+     * @return массив с результатом
+     */
+    @NotNull
+    public Vector3dArray transform(@NotNull Vector3dArray src, @NotNull Vector3dArray dest) {
+        return Transform3dKernels.transform(getTransformMatrixView(), src, dest);
     }
 
     /**
@@ -253,6 +392,15 @@ public class Transform3d implements Serializable {
         gl2.glScaled(scaleX, scaleY, scaleZ);
     }
 
+    /**
+     * Применить трансформацию к OpenGL одним умножением на кэшированную матрицу
+     *
+     * @param gl2 переменная OpenGL
+     */
+    public void applyMatrix(GL2 gl2) {
+        gl2.glMultMatrixd(getDoubleBufferTransform());
+    }
+
     /**
      * Строковое представление объекта вида:
      *
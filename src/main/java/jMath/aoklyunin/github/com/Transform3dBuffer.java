@@ -0,0 +1,204 @@
+package jMath.aoklyunin.github.com;
+
+import com.sun.istack.NotNull;
+import org.joml.Matrix4dc;
+import org.lwjgl.BufferUtils;
+
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.util.List;
+
+/**
+ * Общий буфер матриц трансформации для загрузки в OpenGL одним вызовом
+ * (например, для отрисовки с инстансингом)
+ * <p>
+ * Матрицы записываются подряд по 16 элементов в порядке по столбцам, как в OpenGL.
+ * Прямые буферы создаются один раз и пересоздаются только если матриц стало больше,
+ * чем в них помещается, поэтому при постоянном количестве объектов упаковка
+ * в каждом кадре не выделяет память. Возвращаемый буфер принадлежит объекту
+ * и перезаписывается при следующей упаковке
+ */
+public class Transform3dBuffer {
+    /**
+     * Количество элементов матрицы
+     */
+    private static final int MATRIX_SIZE = 16;
+    /**
+     * Буфер матриц double
+     */
+    private DoubleBuffer doubleBuffer;
+    /**
+     * Буфер матриц float
+     */
+    private FloatBuffer floatBuffer;
+
+    /**
+     * Конструктор общего буфера матриц трансформации
+     */
+    public Transform3dBuffer() {
+        this(16);
+    }
+
+    /**
+     * Конструктор общего буфера матриц трансформации
+     *
+     * @param capacity начальное количество матриц, которые помещаются в буфер
+     */
+    public Transform3dBuffer(int capacity) {
+        if (capacity < 0)
+            throw new IllegalArgumentException("capacity must be non-negative: " + capacity);
+        this.doubleBuffer = BufferUtils.createDoubleBuffer(capacity * MATRIX_SIZE);
+        this.floatBuffer = BufferUtils.createFloatBuffer(capacity * MATRIX_SIZE);
+    }
+
+    /**
+     * Упаковать локальные матрицы трансформаций в буфер double
+     *
+     * @param transforms список трансформаций
+     * @return буфер, позиция которого равна 0, а предел - 16 * количество трансформаций
+     */
+    @NotNull
+    public DoubleBuffer getDoubleBuffer(@NotNull List<? extends Transform3d> transforms) {
+        DoubleBuffer buffer = reserveDouble(transforms.size());
+        for (int i = 0; i < transforms.size(); i++)
+            transforms.get(i).getTransformMatrixView().get(i * MATRIX_SIZE, buffer);
+        return buffer;
+    }
+
+    /**
+     * Упаковать локальные матрицы трансформаций в буфер float
+     *
+     * @param transforms список трансформаций
+     * @return буфер, позиция которого равна 0, а предел - 16 * количество трансформаций
+     */
+    @NotNull
+    public FloatBuffer getFloatBuffer(@NotNull List<? extends Transform3d> transforms) {
+        FloatBuffer buffer = reserveFloat(transforms.size());
+        for (int i = 0; i < transforms.size(); i++)
+            transforms.get(i).getTransformMatrixView().get(i * MATRIX_SIZE, buffer);
+        return buffer;
+    }
+
+    /**
+     * Упаковать мировые матрицы узлов иерархии в буфер double
+     *
+     * @param nodes список узлов
+     * @return буфер, позиция которого равна 0, а предел - 16 * количество узлов
+     */
+    @NotNull
+    public DoubleBuffer getWorldDoubleBuffer(@NotNull List<? extends Transform3dNode> nodes) {
+        DoubleBuffer buffer = reserveDouble(nodes.size());
+        for (int i = 0; i < nodes.size(); i++)
+            nodes.get(i).getWorldMatrixView().get(i * MATRIX_SIZE, buffer);
+        return buffer;
+    }
+
+    /**
+     * Упаковать мировые матрицы узлов иерархии в буфер float
+     *
+     * @param nodes список узлов
+     * @return буфер, позиция которого равна 0, а предел - 16 * количество узлов
+     */
+    @NotNull
+    public FloatBuffer getWorldFloatBuffer(@NotNull List<? extends Transform3dNode> nodes) {
+        FloatBuffer buffer = reserveFloat(nodes.size());
+        for (int i = 0; i < nodes.size(); i++)
+            nodes.get(i).getWorldMatrixView().get(i * MATRIX_SIZE, buffer);
+        return buffer;
+    }
+
+    /**
+     * Упаковать матрицы в буфер double
+     *
+     * @param matrices матрицы
+     * @return буфер, позиция которого равна 0, а предел - 16 * количество матриц
+     */
+    @NotNull
+    public DoubleBuffer getDoubleBuffer(@NotNull Matrix4dc... matrices) {
+        DoubleBuffer buffer = reserveDouble(matrices.length);
+        for (int i = 0; i < matrices.length; i++)
+            matrices[i].get(i * MATRIX_SIZE, buffer);
+        return buffer;
+    }
+
+    /**
+     * Упаковать матрицы в буфер float
+     *
+     * @param matrices матрицы
+     * @return буфер, позиция которого равна 0, а предел - 16 * количество матриц
+     */
+    @NotNull
+    public FloatBuffer getFloatBuffer(@NotNull Matrix4dc... matrices) {
+        FloatBuffer buffer = reserveFloat(matrices.length);
+        for (int i = 0; i < matrices.length; i++)
+            matrices[i].get(i * MATRIX_SIZE, buffer);
+        return buffer;
+    }
+
+    /**
+     * Получить количество матриц, которые помещаются в буфер double без его пересоздания
+     *
+     * @return количество матриц
+     */
+    public int getDoubleCapacity() {
+        return doubleBuffer.capacity() / MATRIX_SIZE;
+    }
+
+    /**
+     * Получить количество матриц, которые помещаются в буфер float без его пересоздания
+     *
+     * @return количество матриц
+     */
+    public int getFloatCapacity() {
+        return floatBuffer.capacity() / MATRIX_SIZE;
+    }
+
+    /**
+     * Подготовить буфер double для заданного количества матриц
+     *
+     * @param matrixCnt количество матриц
+     * @return буфер с позицией 0 и пределом 16 * matrixCnt
+     */
+    @NotNull
+    private DoubleBuffer reserveDouble(int matrixCnt) {
+        if (doubleBuffer.capacity() < matrixCnt * MATRIX_SIZE)
+            doubleBuffer = BufferUtils.createDoubleBuffer(grow(getDoubleCapacity(), matrixCnt) * MATRIX_SIZE);
+        doubleBuffer.clear();
+        doubleBuffer.limit(matrixCnt * MATRIX_SIZE);
+        return doubleBuffer;
+    }
+
+    /**
+     * Подготовить буфер float для заданного количества матриц
+     *
+     * @param matrixCnt количество матриц
+     * @return буфер с позицией 0 и пределом 16 * matrixCnt
+     */
+    @NotNull
+    private FloatBuffer reserveFloat(int matrixCnt) {
+        if (floatBuffer.capacity() < matrixCnt * MATRIX_SIZE)
+            floatBuffer = BufferUtils.createFloatBuffer(grow(getFloatCapacity(), matrixCnt) * MATRIX_SIZE);
+        floatBuffer.clear();
+        floatBuffer.limit(matrixCnt * MATRIX_SIZE);
+        return floatBuffer;
+    }
+
+    /**
+     * Получить новую вместимость буфера
+     *
+     * @param capacity  текущая вместимость
+     * @param matrixCnt требуемое количество матриц
+     * @return новая вместимость (не меньше удвоенной текущей)
+     */
+    private static int grow(int capacity, int matrixCnt) {
+        return Math.max(matrixCnt, capacity * 2);
+    }
+
+    @Override
+    public String toString() {
+        return "Transform3dBuffer{" +
+                "doubleCapacity=" + getDoubleCapacity() +
+                ", floatCapacity=" + getFloatCapacity() +
+                '}';
+    }
+}
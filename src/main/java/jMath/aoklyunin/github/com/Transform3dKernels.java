@@ -0,0 +1,347 @@
+package jMath.aoklyunin.github.com;
+
+import com.sun.istack.NotNull;
+import jMath.aoklyunin.github.com.vector.Vector3dArray;
+import org.joml.Matrix4dc;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Массовое применение матриц трансформации к облакам точек
+ * <p>
+ * Точки хранятся либо в буфере double вида {x0, y0, z0, x1, y1, z1, ...},
+ * либо в массиве векторов Vector3dArray. Матрица считается аффинной (как у Transform3d):
+ * точка преобразуется так же, как в Matrix4dc.transformPosition(), четвёртая строка матрицы не используется
+ * <p>
+ * Если точек больше порога распараллеливания, буфер делится пополам до тех пор, пока
+ * в каждой части не останется не больше порога точек, и части обрабатываются в общем
+ * пуле fork-join. На каждую точку память не выделяется, поэтому результат можно
+ * записывать в исходный буфер
+ */
+public final class Transform3dKernels {
+    /**
+     * Порог распараллеливания по умолчанию (количество точек)
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 16;
+    /**
+     * Количество коэффициентов аффинной матрицы
+     */
+    private static final int AFFINE_SIZE = 12;
+
+    /**
+     * Преобразовать точки буфера
+     *
+     * @param matrix матрица трансформации
+     * @param src    буфер точек вида {x0, y0, z0, x1, y1, z1, ...}
+     * @param dest   буфер, в который записывается результат (может совпадать с src)
+     * @return буфер с результатом
+     */
+    @NotNull
+    public static double[] transform(@NotNull Matrix4dc matrix, @NotNull double[] src, @NotNull double[] dest) {
+        return transform(matrix, src, dest, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Преобразовать точки буфера
+     *
+     * @param matrix            матрица трансформации
+     * @param src               буфер точек вида {x0, y0, z0, x1, y1, z1, ...}
+     * @param dest              буфер, в который записывается результат (может совпадать с src)
+     * @param parallelThreshold максимальное количество точек, обрабатываемых одним потоком
+     * @return буфер с результатом
+     */
+    @NotNull
+    public static double[] transform(
+            @NotNull Matrix4dc matrix, @NotNull double[] src, @NotNull double[] dest, int parallelThreshold
+    ) {
+        if (Objects.requireNonNull(src).length % 3 != 0)
+            throw new IllegalArgumentException("buffer length is not a multiple of 3: " + src.length);
+        checkSize(src.length, Objects.requireNonNull(dest).length);
+        checkThreshold(parallelThreshold);
+        double[] m = getAffine(matrix);
+        int pointCnt = src.length / 3;
+        if (pointCnt <= parallelThreshold)
+            transform(m, src, dest, 0, pointCnt);
+        else
+            ForkJoinPool.commonPool().invoke(new BufferTask(m, src, dest, 0, pointCnt, parallelThreshold));
+        return dest;
+    }
+
+    /**
+     * Преобразовать точки массива
+     *
+     * @param matrix матрица трансформации
+     * @param src    массив точек
+     * @param dest   массив, в который записывается результат (может совпадать с src)
+     * @return массив с результатом
+     */
+    @NotNull
+    public static Vector3dArray transform(
+            @NotNull Matrix4dc matrix, @NotNull Vector3dArray src, @NotNull Vector3dArray dest
+    ) {
+        return transform(matrix, src, dest, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Преобразовать точки массива
+     *
+     * @param matrix            матрица трансформации
+     * @param src               массив точек
+     * @param dest              массив, в который записывается результат (может совпадать с src)
+     * @param parallelThreshold максимальное количество точек, обрабатываемых одним потоком
+     * @return массив с результатом
+     */
+    @NotNull
+    public static Vector3dArray transform(
+            @NotNull Matrix4dc matrix, @NotNull Vector3dArray src, @NotNull Vector3dArray dest, int parallelThreshold
+    ) {
+        checkSize(Objects.requireNonNull(src).size(), Objects.requireNonNull(dest).size());
+        checkThreshold(parallelThreshold);
+        double[] m = getAffine(matrix);
+        if (src.size() <= parallelThreshold)
+            transform(m, src, dest, 0, src.size());
+        else
+            ForkJoinPool.commonPool().invoke(new ArrayTask(m, src, dest, 0, src.size(), parallelThreshold));
+        return dest;
+    }
+
+    /**
+     * Получить коэффициенты аффинной части матрицы
+     *
+     * @param matrix матрица трансформации
+     * @return коэффициенты {m00, m01, m02, m10, m11, m12, m20, m21, m22, m30, m31, m32}
+     */
+    @NotNull
+    private static double[] getAffine(@NotNull Matrix4dc matrix) {
+        Objects.requireNonNull(matrix);
+        double[] m = new double[AFFINE_SIZE];
+        m[0] = matrix.m00();
+        m[1] = matrix.m01();
+        m[2] = matrix.m02();
+        m[3] = matrix.m10();
+        m[4] = matrix.m11();
+        m[5] = matrix.m12();
+        m[6] = matrix.m20();
+        m[7] = matrix.m21();
+        m[8] = matrix.m22();
+        m[9] = matrix.m30();
+        m[10] = matrix.m31();
+        m[11] = matrix.m32();
+        return m;
+    }
+
+    /**
+     * Преобразовать участок буфера точек
+     *
+     * @param m    коэффициенты аффинной части матрицы
+     * @param src  буфер точек
+     * @param dest буфер, в который записывается результат
+     * @param from индекс первой точки
+     * @param to   индекс точки, следующей за последней
+     */
+    private static void transform(
+            @NotNull double[] m, @NotNull double[] src, @NotNull double[] dest, int from, int to
+    ) {
+        double m00 = m[0], m01 = m[1], m02 = m[2];
+        double m10 = m[3], m11 = m[4], m12 = m[5];
+        double m20 = m[6], m21 = m[7], m22 = m[8];
+        double m30 = m[9], m31 = m[10], m32 = m[11];
+        for (int i = from * 3, end = to * 3; i < end; i += 3) {
+            double x = src[i];
+            double y = src[i + 1];
+            double z = src[i + 2];
+            dest[i] = m00 * x + m10 * y + m20 * z + m30;
+            dest[i + 1] = m01 * x + m11 * y + m21 * z + m31;
+            dest[i + 2] = m02 * x + m12 * y + m22 * z + m32;
+        }
+    }
+
+    /**
+     * Преобразовать участок массива точек
+     *
+     * @param m    коэффициенты аффинной части матрицы
+     * @param src  массив точек
+     * @param dest массив, в который записывается результат
+     * @param from индекс первой точки
+     * @param to   индекс точки, следующей за последней
+     */
+    private static void transform(
+            @NotNull double[] m, @NotNull Vector3dArray src, @NotNull Vector3dArray dest, int from, int to
+    ) {
+        double m00 = m[0], m01 = m[1], m02 = m[2];
+        double m10 = m[3], m11 = m[4], m12 = m[5];
+        double m20 = m[6], m21 = m[7], m22 = m[8];
+        double m30 = m[9], m31 = m[10], m32 = m[11];
+        double[] srcX = src.x, srcY = src.y, srcZ = src.z;
+        double[] destX = dest.x, destY = dest.y, destZ = dest.z;
+        for (int i = from; i < to; i++) {
+            double x = srcX[i];
+            double y = srcY[i];
+            double z = srcZ[i];
+            destX[i] = m00 * x + m10 * y + m20 * z + m30;
+            destY[i] = m01 * x + m11 * y + m21 * z + m31;
+            destZ[i] = m02 * x + m12 * y + m22 * z + m32;
+        }
+    }
+
+    /**
+     * Проверить, что размеры совпадают
+     *
+     * @param a первый размер
+     * @param b второй размер
+     */
+    private static void checkSize(int a, int b) {
+        if (a != b)
+            throw new IllegalArgumentException("arrays have different sizes: " + a + " " + b);
+    }
+
+    /**
+     * Проверить порог распараллеливания
+     *
+     * @param parallelThreshold порог распараллеливания
+     */
+    private static void checkThreshold(int parallelThreshold) {
+        if (parallelThreshold < 1)
+            throw new IllegalArgumentException("parallel threshold must be positive: " + parallelThreshold);
+    }
+
+    /**
+     * Задача преобразования участка буфера точек
+     */
+    private static final class BufferTask extends RecursiveAction {
+        /**
+         * коэффициенты аффинной части матрицы
+         */
+        private final double[] m;
+        /**
+         * буфер точек
+         */
+        private final double[] src;
+        /**
+         * буфер, в который записывается результат
+         */
+        private final double[] dest;
+        /**
+         * индекс первой точки
+         */
+        private final int from;
+        /**
+         * индекс точки, следующей за последней
+         */
+        private final int to;
+        /**
+         * порог распараллеливания
+         */
+        private final int threshold;
+
+        /**
+         * Конструктор задачи
+         *
+         * @param m         коэффициенты аффинной части матрицы
+         * @param src       буфер точек
+         * @param dest      буфер, в который записывается результат
+         * @param from      индекс первой точки
+         * @param to        индекс точки, следующей за последней
+         * @param threshold порог распараллеливания
+         */
+        BufferTask(
+                @NotNull double[] m, @NotNull double[] src, @NotNull double[] dest, int from, int to, int threshold
+        ) {
+            this.m = m;
+            this.src = src;
+            this.dest = dest;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                transform(m, src, dest, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                    new BufferTask(m, src, dest, from, mid, threshold),
+                    new BufferTask(m, src, dest, mid, to, threshold)
+            );
+        }
+    }
+
+    /**
+     * Задача преобразования участка массива точек
+     */
+    private static final class ArrayTask extends RecursiveAction {
+        /**
+         * коэффициенты аффинной части матрицы
+         */
+        private final double[] m;
+        /**
+         * массив точек
+         */
+        private final Vector3dArray src;
+        /**
+         * массив, в который записывается результат
+         */
+        private final Vector3dArray dest;
+        /**
+         * индекс первой точки
+         */
+        private final int from;
+        /**
+         * индекс точки, следующей за последней
+         */
+        private final int to;
+        /**
+         * порог распараллеливания
+         */
+        private final int threshold;
+
+        /**
+         * Конструктор задачи
+         *
+         * @param m         коэффициенты аффинной части матрицы
+         * @param src       массив точек
+         * @param dest      массив, в который записывается результат
+         * @param from      индекс первой точки
+         * @param to        индекс точки, следующей за последней
+         * @param threshold порог распараллеливания
+         */
+        ArrayTask(
+                @NotNull double[] m, @NotNull Vector3dArray src, @NotNull Vector3dArray dest,
+                int from, int to, int threshold
+        ) {
+            this.m = m;
+            this.src = src;
+            this.dest = dest;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                transform(m, src, dest, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                    new ArrayTask(m, src, dest, from, mid, threshold),
+                    new ArrayTask(m, src, dest, mid, to, threshold)
+            );
+        }
+    }
+
+    /**
+     * Конструктор для запрета наследования
+     */
+    private Transform3dKernels() {
+        // Подавление создания конструктора по умолчанию
+        // для достижения неинстанцируемости
+        throw new AssertionError("constructor is disabled");
+    }
+}
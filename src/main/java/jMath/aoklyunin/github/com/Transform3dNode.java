@@ -0,0 +1,358 @@
+package jMath.aoklyunin.github.com;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.sun.istack.NotNull;
+import jMath.aoklyunin.github.com.vector.Vector3d;
+import jMath.aoklyunin.github.com.vector.Vector3dArray;
+import org.joml.Matrix4d;
+import org.joml.Matrix4dc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Узел иерархии матриц трансформации
+ * <p>
+ * Параметры узла (положение, углы поворота, коэффициенты масштабирования) задают
+ * локальную матрицу относительно родителя, мировая матрица равна произведению мировой
+ * матрицы родителя на локальную. При изменении параметров узла мировые матрицы его
+ * поддерева помечаются устаревшими, а у предков отмечается, что в их поддереве есть
+ * устаревшие узлы; метод update() пересчитывает только такие поддеревья
+ * <p>
+ * Мировую матрицу отдельного узла можно получить и без update(): устаревшая матрица
+ * пересчитывается при чтении вместе с устаревшими матрицами предков.
+ * Иерархия не синхронизирована: её нельзя изменять во время обновления
+ */
+public class Transform3dNode extends Transform3d {
+    /**
+     * Родительский узел
+     */
+    private Transform3dNode parent;
+    /**
+     * Дочерние узлы
+     */
+    private final List<Transform3dNode> children = new ArrayList<>();
+    /**
+     * Мировая матрица
+     */
+    private final Matrix4d worldMatrix = new Matrix4d();
+    /**
+     * Флаг, актуальна ли мировая матрица (после десериализации равен false)
+     */
+    private transient boolean worldValid;
+    /**
+     * Флаг, актуальны ли мировые матрицы узла и всего его поддерева
+     */
+    private transient boolean subtreeValid;
+
+    /**
+     * Конструктор узла с единичной локальной матрицей
+     */
+    public Transform3dNode() {
+        this(0, 0, 0, 0, 0, 0, 1, 1, 1);
+    }
+
+    /**
+     * Конструктор узла
+     *
+     * @param positionX X координата положения
+     * @param positionY Y координата положения
+     * @param positionZ Z координата положения
+     * @param rotationO O угол поворота
+     * @param rotationA A угол поворота
+     * @param rotationT T угол поворота
+     * @param scaleX    X коэффициент масштабирования
+     * @param scaleY    Y коэффициент масштабирования
+     * @param scaleZ    Z коэффициент масштабирования
+     */
+    public Transform3dNode(
+            double positionX, double positionY, double positionZ,
+            double rotationO, double rotationA, double rotationT,
+            double scaleX, double scaleY, double scaleZ
+    ) {
+        super(positionX, positionY, positionZ, rotationO, rotationA, rotationT, scaleX, scaleY, scaleZ);
+    }
+
+    /**
+     * Конструктор узла
+     *
+     * @param position положение
+     * @param rotation углы поворота в градусах
+     * @param scale    коэффициенты масштабирования
+     */
+    public Transform3dNode(@NotNull Vector3d position, @NotNull Vector3d rotation, @NotNull Vector3d scale) {
+        super(position, rotation, scale);
+    }
+
+    /**
+     * Конструктор узла
+     *
+     * @param transform3d локальная матрица трансформации
+     */
+    public Transform3dNode(@NotNull Transform3d transform3d) {
+        super(transform3d);
+    }
+
+    /**
+     * Получить родительский узел
+     *
+     * @return родительский узел или null, если узел корневой
+     */
+    @JsonIgnore
+    public Transform3dNode getParent() {
+        return parent;
+    }
+
+    /**
+     * Получить дочерние узлы
+     *
+     * @return неизменяемый список дочерних узлов
+     */
+    @NotNull
+    public List<Transform3dNode> getChildren() {
+        return Collections.unmodifiableList(children);
+    }
+
+    /**
+     * Добавить дочерний узел (если у узла уже есть родитель, он удаляется из его дочерних узлов)
+     *
+     * @param child дочерний узел
+     * @return этот узел
+     */
+    @NotNull
+    public Transform3dNode addChild(@NotNull Transform3dNode child) {
+        Objects.requireNonNull(child);
+        for (Transform3dNode node = this; node != null; node = node.parent)
+            if (node == child)
+                throw new IllegalArgumentException("node can not be a child of itself or of its descendant");
+        if (child.parent != null)
+            child.parent.removeChild(child);
+        child.parent = this;
+        children.add(child);
+        child.invalidateWorld();
+        return this;
+    }
+
+    /**
+     * Удалить дочерний узел (он становится корневым)
+     *
+     * @param child дочерний узел
+     * @return флаг, был ли узел дочерним
+     */
+    public boolean removeChild(@NotNull Transform3dNode child) {
+        for (int i = 0; i < children.size(); i++) {
+            if (children.get(i) == child) {
+                children.remove(i);
+                child.parent = null;
+                child.invalidateWorld();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Получить корневой узел иерархии
+     *
+     * @return корневой узел
+     */
+    @NotNull
+    @JsonIgnore
+    public Transform3dNode getRoot() {
+        Transform3dNode node = this;
+        while (node.parent != null)
+            node = node.parent;
+        return node;
+    }
+
+    /**
+     * Получить мировую матрицу без копирования
+     *
+     * @return мировая матрица, доступная только для чтения
+     */
+    @NotNull
+    @JsonIgnore
+    public Matrix4dc getWorldMatrixView() {
+        if (!worldValid)
+            updateWorldMatrix();
+        return worldMatrix;
+    }
+
+    /**
+     * Получить мировую матрицу
+     *
+     * @return новая мировая матрица
+     */
+    @NotNull
+    @JsonIgnore
+    public Matrix4d getWorldMatrix() {
+        return new Matrix4d(getWorldMatrixView());
+    }
+
+    /**
+     * Получить мировую матрицу
+     *
+     * @param dest матрица, в которую записывается результат
+     * @return мировая матрица
+     */
+    @NotNull
+    public Matrix4d getWorldMatrix(@NotNull Matrix4d dest) {
+        return dest.set(getWorldMatrixView());
+    }
+
+    /**
+     * Проверить, актуальна ли мировая матрица
+     *
+     * @return флаг, актуальна ли мировая матрица
+     */
+    @JsonIgnore
+    public boolean isWorldValid() {
+        return worldValid;
+    }
+
+    /**
+     * Перевести точки массива из системы координат узла в мировую
+     *
+     * @param src  массив точек
+     * @param dest массив, в который записывается результат
+     * @return массив с результатом
+     */
+    @NotNull
+    public Vector3dArray transformToWorld(@NotNull Vector3dArray src, @NotNull Vector3dArray dest) {
+        return Transform3dKernels.transform(getWorldMatrixView(), src, dest);
+    }
+
+    /**
+     * Пересчитать устаревшие мировые матрицы поддерева узла
+     */
+    public void update() {
+        updateSubtree(this);
+    }
+
+    /**
+     * Пересчитать устаревшие мировые матрицы поддерева узла, обрабатывая дочерние узлы
+     * параллельно в общем пуле fork-join, если их не меньше порога
+     *
+     * @param parallelThreshold минимальное количество дочерних узлов для параллельной обработки
+     */
+    public void update(int parallelThreshold) {
+        if (parallelThreshold < 1)
+            throw new IllegalArgumentException("parallel threshold must be positive: " + parallelThreshold);
+        if (!subtreeValid)
+            ForkJoinPool.commonPool().invoke(new UpdateTask(this, parallelThreshold));
+    }
+
+    /**
+     * Пересчитать устаревшие мировые матрицы поддерева узла
+     *
+     * @param node узел
+     */
+    private static void updateSubtree(@NotNull Transform3dNode node) {
+        if (node.subtreeValid)
+            return;
+        if (!node.worldValid)
+            node.updateWorldMatrix();
+        for (Transform3dNode child : node.children)
+            updateSubtree(child);
+        node.subtreeValid = true;
+    }
+
+    /**
+     * Пересчитать мировую матрицу (и устаревшие мировые матрицы предков)
+     */
+    private void updateWorldMatrix() {
+        if (parent == null)
+            worldMatrix.set(getTransformMatrixView());
+        else
+            parent.getWorldMatrixView().mulAffine(getTransformMatrixView(), worldMatrix);
+        worldValid = true;
+    }
+
+    /**
+     * Пометить мировые матрицы поддерева узла устаревшими, а у предков отметить,
+     * что в их поддереве есть устаревшие узлы
+     */
+    private void invalidateWorld() {
+        List<Transform3dNode> stack = new ArrayList<>();
+        stack.add(this);
+        while (!stack.isEmpty()) {
+            Transform3dNode node = stack.remove(stack.size() - 1);
+            // у устаревшего узла всё поддерево уже устаревшее
+            if (!node.worldValid && node != this)
+                continue;
+            node.worldValid = false;
+            node.subtreeValid = false;
+            stack.addAll(node.children);
+        }
+        for (Transform3dNode node = parent; node != null && node.subtreeValid; node = node.parent)
+            node.subtreeValid = false;
+    }
+
+    /**
+     * Сбросить кэшированную матрицу преобразования вместе с мировыми матрицами поддерева
+     */
+    @Override
+    protected void invalidateTransform() {
+        super.invalidateTransform();
+        invalidateWorld();
+    }
+
+    /**
+     * Строковое представление объекта вида:
+     *
+     * @return Transform3dNode{position, rotation, scale, childCnt}
+     */
+    @Override
+    public String toString() {
+        return "Transform3dNode{" + getPosition() + ", " + getRotation() + ", " + getScale() +
+                ", children=" + children.size() + '}';
+    }
+
+    /**
+     * Задача параллельного пересчёта мировых матриц поддерева
+     */
+    private static final class UpdateTask extends RecursiveAction {
+        /**
+         * узел
+         */
+        private final Transform3dNode node;
+        /**
+         * минимальное количество дочерних узлов для параллельной обработки
+         */
+        private final int threshold;
+
+        /**
+         * Конструктор задачи
+         *
+         * @param node      узел
+         * @param threshold минимальное количество дочерних узлов для параллельной обработки
+         */
+        UpdateTask(@NotNull Transform3dNode node, int threshold) {
+            this.node = node;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (node.subtreeValid)
+                return;
+            if (!node.worldValid)
+                node.updateWorldMatrix();
+            if (node.children.size() >= threshold) {
+                List<UpdateTask> tasks = new ArrayList<>(node.children.size());
+                for (Transform3dNode child : node.children)
+                    if (!child.subtreeValid)
+                        tasks.add(new UpdateTask(child, threshold));
+                invokeAll(tasks);
+            } else {
+                for (Transform3dNode child : node.children)
+                    new UpdateTask(child, threshold).compute();
+            }
+            node.subtreeValid = true;
+        }
+    }
+}
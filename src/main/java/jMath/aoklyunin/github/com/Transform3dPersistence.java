@@ -0,0 +1,165 @@
+package jMath.aoklyunin.github.com;
+
+import com.sun.istack.NotNull;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+
+import javax.persistence.EntityManager;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Массовое сохранение и чтение матриц трансформации через JPA (Hibernate)
+ * <p>
+ * Группировка вставок в JDBC batch невозможна при стратегии GenerationType.IDENTITY,
+ * которая задана аннотациями Transform3d. Для массового сохранения в единицу
+ * персистентности нужно подключить файл отображения META-INF/jmath-pooled-orm.xml:
+ * он заменяет стратегию на последовательность с оптимизатором pooled
+ * (один запрос к последовательности на DEFAULT_BATCH_SIZE id)
+ * <p>
+ * Сохраняются только сущности Transform3d: узлы Transform3dNode сущностями не являются
+ */
+public final class Transform3dPersistence {
+    /**
+     * Размер пакета по умолчанию (совпадает с allocation-size последовательности в jmath-pooled-orm.xml)
+     */
+    public static final int DEFAULT_BATCH_SIZE = 50;
+
+    /**
+     * Получить свойства Hibernate для группировки вставок в JDBC batch
+     *
+     * @param batchSize размер пакета
+     * @return свойства, которые можно передать в Persistence.createEntityManagerFactory()
+     */
+    @NotNull
+    public static Map<String, Object> getBatchProperties(int batchSize) {
+        checkBatchSize(batchSize);
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("hibernate.jdbc.batch_size", String.valueOf(batchSize));
+        properties.put("hibernate.order_inserts", "true");
+        return properties;
+    }
+
+    /**
+     * Сохранить матрицы трансформации пакетами
+     *
+     * @param entityManager менеджер сущностей с открытой транзакцией
+     * @param transforms    матрицы трансформации
+     * @return количество сохранённых матриц
+     */
+    public static long persistAll(
+            @NotNull EntityManager entityManager, @NotNull Iterable<? extends Transform3d> transforms
+    ) {
+        return persistAll(entityManager, transforms, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Сохранить матрицы трансформации пакетами
+     * <p>
+     * После каждого пакета контекст персистентности сбрасывается в базу данных и очищается,
+     * поэтому память не растёт с количеством матриц, а все ранее загруженные
+     * в этот менеджер сущности становятся отсоединёнными. Транзакцией управляет вызывающий код
+     *
+     * @param entityManager менеджер сущностей с открытой транзакцией
+     * @param transforms    матрицы трансформации
+     * @param batchSize     размер пакета
+     * @return количество сохранённых матриц
+     */
+    public static long persistAll(
+            @NotNull EntityManager entityManager, @NotNull Iterable<? extends Transform3d> transforms, int batchSize
+    ) {
+        checkBatchSize(batchSize);
+        Session session = Objects.requireNonNull(entityManager).unwrap(Session.class);
+        Integer prevBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(batchSize);
+        try {
+            long cnt = 0;
+            for (Transform3d transform : transforms) {
+                session.persist(transform);
+                if (++cnt % batchSize == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+            session.flush();
+            session.clear();
+            return cnt;
+        } finally {
+            session.setJdbcBatchSize(prevBatchSize);
+        }
+    }
+
+    /**
+     * Прочитать все матрицы трансформации прокручиваемым запросом
+     *
+     * @param entityManager менеджер сущностей
+     * @param consumer      обработчик матриц
+     * @return количество прочитанных матриц
+     */
+    public static long streamAll(
+            @NotNull EntityManager entityManager, @NotNull Consumer<? super Transform3d> consumer
+    ) {
+        return streamAll(entityManager, DEFAULT_BATCH_SIZE * 20, consumer);
+    }
+
+    /**
+     * Прочитать все матрицы трансформации прокручиваемым запросом
+     * <p>
+     * Строки читаются курсором только вперёд по fetchSize строк, сущности загружаются
+     * только для чтения и после каждых fetchSize строк удаляются из контекста персистентности,
+     * поэтому память не растёт с количеством матриц. Обработчик получает отсоединённые
+     * сущности и может сохранить ссылки на них
+     *
+     * @param entityManager менеджер сущностей
+     * @param fetchSize     количество строк, получаемых из базы данных за одно обращение
+     * @param consumer      обработчик матриц
+     * @return количество прочитанных матриц
+     */
+    public static long streamAll(
+            @NotNull EntityManager entityManager, int fetchSize, @NotNull Consumer<? super Transform3d> consumer
+    ) {
+        checkBatchSize(fetchSize);
+        Objects.requireNonNull(consumer);
+        Session session = Objects.requireNonNull(entityManager).unwrap(Session.class);
+        ScrollableResults results = session.createQuery("select t from Transform3d t", Transform3d.class)
+                .setFetchSize(fetchSize)
+                .setReadOnly(true)
+                .setCacheMode(CacheMode.IGNORE)
+                .scroll(ScrollMode.FORWARD_ONLY);
+        try {
+            long cnt = 0;
+            while (results.next()) {
+                consumer.accept((Transform3d) results.get(0));
+                if (++cnt % fetchSize == 0)
+                    session.clear();
+            }
+            session.clear();
+            return cnt;
+        } finally {
+            results.close();
+        }
+    }
+
+    /**
+     * Проверить размер пакета
+     *
+     * @param batchSize размер пакета
+     */
+    private static void checkBatchSize(int batchSize) {
+        if (batchSize < 1)
+            throw new IllegalArgumentException("batch size must be positive: " + batchSize);
+    }
+
+    /**
+     * Конструктор для запрета наследования
+     */
+    private Transform3dPersistence() {
+        // Подавление создания конструктора по умолчанию
+        // для достижения неинстанцируемости
+        throw new AssertionError("constructor is disabled");
+    }
+}
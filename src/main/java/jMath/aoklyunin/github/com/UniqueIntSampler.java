@@ -0,0 +1,293 @@
+package jMath.aoklyunin.github.com;
+
+import com.sun.istack.NotNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * Выборка уникальных целых чисел из диапазона без упаковки в Integer
+ * <p>
+ * Если выбирается небольшая часть диапазона, используется алгоритм Флойда с открытой
+ * хэш-таблицей на массиве int (O(k) для k чисел), иначе - частичное перемешивание
+ * Фишера-Йетса массива значений диапазона, а для упорядоченной выборки - последовательный
+ * отбор (алгоритм S Кнута), который сразу даёт числа по возрастанию. Вспомогательные
+ * массивы принадлежат объекту и переиспользуются, поэтому повторные выборки в заранее
+ * созданный массив не выделяют память.
+ * <p>
+ * Объект не потокобезопасен: для каждого потока нужен свой экземпляр
+ */
+public class UniqueIntSampler {
+    /**
+     * Выборка считается плотной, если диапазон не больше чем в DENSE_RATIO раз превышает её размер
+     */
+    private static final int DENSE_RATIO = 4;
+    /**
+     * Генератор случайных чисел
+     */
+    @NotNull
+    private final SplittableRandom random;
+    /**
+     * Значения хэш-таблицы алгоритма Флойда
+     */
+    @NotNull
+    private int[] table = new int[0];
+    /**
+     * Поколения ячеек хэш-таблицы: ячейка занята, если её поколение равно текущему
+     */
+    @NotNull
+    private int[] stamps = new int[0];
+    /**
+     * Текущее поколение хэш-таблицы
+     */
+    private int generation;
+    /**
+     * Массив значений диапазона для перемешивания Фишера-Йетса
+     */
+    @NotNull
+    private int[] scratch = new int[0];
+
+    /**
+     * Конструктор выборки со случайным начальным значением генератора
+     */
+    public UniqueIntSampler() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Конструктор выборки
+     *
+     * @param seed начальное значение генератора случайных чисел
+     */
+    public UniqueIntSampler(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    /**
+     * Конструктор выборки
+     *
+     * @param random генератор случайных чисел
+     */
+    public UniqueIntSampler(@NotNull SplittableRandom random) {
+        this.random = Objects.requireNonNull(random);
+    }
+
+    /**
+     * Выбрать уникальные числа из диапазона в случайном порядке
+     *
+     * @param minValue минимальное значение
+     * @param maxValue максимальное значение (включительно)
+     * @param cnt      количество чисел
+     * @return массив чисел
+     */
+    @NotNull
+    public int[] sample(int minValue, int maxValue, int cnt) {
+        checkCnt(minValue, maxValue, cnt);
+        return sample(minValue, maxValue, new int[cnt]);
+    }
+
+    /**
+     * Выбрать уникальные числа из диапазона в случайном порядке
+     * (все перестановки выбранных чисел равновероятны)
+     *
+     * @param minValue минимальное значение
+     * @param maxValue максимальное значение (включительно)
+     * @param dest     массив, который заполняется числами целиком
+     * @return массив чисел
+     */
+    @NotNull
+    public int[] sample(int minValue, int maxValue, @NotNull int[] dest) {
+        long range = checkCnt(minValue, maxValue, dest.length);
+        if (isDense(range, dest.length)) {
+            fisherYates(minValue, (int) range, dest);
+        } else {
+            floyd(minValue, range, dest);
+            // порядок чисел алгоритма Флойда не случаен
+            shuffle(dest);
+        }
+        return dest;
+    }
+
+    /**
+     * Выбрать уникальные числа из диапазона по возрастанию
+     *
+     * @param minValue минимальное значение
+     * @param maxValue максимальное значение (включительно)
+     * @param cnt      количество чисел
+     * @return массив чисел
+     */
+    @NotNull
+    public int[] sampleOrdered(int minValue, int maxValue, int cnt) {
+        checkCnt(minValue, maxValue, cnt);
+        return sampleOrdered(minValue, maxValue, new int[cnt]);
+    }
+
+    /**
+     * Выбрать уникальные числа из диапазона по возрастанию
+     *
+     * @param minValue минимальное значение
+     * @param maxValue максимальное значение (включительно)
+     * @param dest     массив, который заполняется числами целиком
+     * @return массив чисел
+     */
+    @NotNull
+    public int[] sampleOrdered(int minValue, int maxValue, @NotNull int[] dest) {
+        long range = checkCnt(minValue, maxValue, dest.length);
+        if (isDense(range, dest.length)) {
+            selection(minValue, (int) range, dest);
+        } else {
+            floyd(minValue, range, dest);
+            Arrays.sort(dest);
+        }
+        return dest;
+    }
+
+    /**
+     * Выбрать числа частичным перемешиванием Фишера-Йетса
+     *
+     * @param minValue минимальное значение
+     * @param range    размер диапазона
+     * @param dest     массив, который заполняется числами целиком
+     */
+    private void fisherYates(int minValue, int range, @NotNull int[] dest) {
+        if (scratch.length < range)
+            scratch = new int[range];
+        for (int i = 0; i < range; i++)
+            scratch[i] = minValue + i;
+        for (int i = 0; i < dest.length; i++) {
+            int j = i + random.nextInt(range - i);
+            int value = scratch[j];
+            scratch[j] = scratch[i];
+            scratch[i] = value;
+            dest[i] = value;
+        }
+    }
+
+    /**
+     * Выбрать числа по возрастанию последовательным отбором: каждое значение диапазона
+     * берётся с вероятностью (сколько осталось выбрать) / (сколько осталось значений)
+     *
+     * @param minValue минимальное значение
+     * @param range    размер диапазона
+     * @param dest     массив, который заполняется числами целиком
+     */
+    private void selection(int minValue, int range, @NotNull int[] dest) {
+        int selected = 0;
+        for (int i = 0; selected < dest.length; i++)
+            if (random.nextInt(range - i) < dest.length - selected)
+                dest[selected++] = minValue + i;
+    }
+
+    /**
+     * Выбрать числа алгоритмом Флойда
+     *
+     * @param minValue минимальное значение
+     * @param range    размер диапазона
+     * @param dest     массив, который заполняется числами целиком
+     */
+    private void floyd(int minValue, long range, @NotNull int[] dest) {
+        prepareTable(dest.length);
+        int i = 0;
+        for (long j = range - dest.length; j < range; j++) {
+            long t = j < Integer.MAX_VALUE ? random.nextInt((int) j + 1) : random.nextLong(j + 1);
+            int value = (int) (minValue + t);
+            if (!add(value)) {
+                // t уже выбрано, а j - ещё нет: j больше всех ранее рассмотренных значений
+                value = (int) (minValue + j);
+                add(value);
+            }
+            dest[i++] = value;
+        }
+    }
+
+    /**
+     * Перемешать массив (Фишер-Йетс)
+     *
+     * @param arr массив
+     */
+    private void shuffle(@NotNull int[] arr) {
+        for (int i = arr.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int value = arr[j];
+            arr[j] = arr[i];
+            arr[i] = value;
+        }
+    }
+
+    /**
+     * Подготовить пустую хэш-таблицу для заданного количества чисел
+     *
+     * @param cnt количество чисел
+     */
+    private void prepareTable(int cnt) {
+        // заполненность таблицы не больше 1/2
+        int capacity = Integer.highestOneBit(Math.max(cnt, 1) * 2 - 1) << 1;
+        if (table.length < capacity) {
+            table = new int[capacity];
+            stamps = new int[capacity];
+            generation = 0;
+        }
+        // таблица очищается сменой поколения, а не обнулением
+        if (++generation == 0) {
+            Arrays.fill(stamps, 0);
+            generation = 1;
+        }
+    }
+
+    /**
+     * Добавить число в хэш-таблицу
+     *
+     * @param value число
+     * @return false, если число уже есть в таблице
+     */
+    private boolean add(int value) {
+        int mask = table.length - 1;
+        int hash = value * 0x9E3779B9;
+        int i = (hash ^ (hash >>> 16)) & mask;
+        while (stamps[i] == generation) {
+            if (table[i] == value)
+                return false;
+            i = (i + 1) & mask;
+        }
+        stamps[i] = generation;
+        table[i] = value;
+        return true;
+    }
+
+    /**
+     * Проверить, является ли выборка плотной
+     *
+     * @param range размер диапазона
+     * @param cnt   количество чисел
+     * @return флаг, является ли выборка плотной
+     */
+    private static boolean isDense(long range, int cnt) {
+        return range <= (long) DENSE_RATIO * cnt && range < Integer.MAX_VALUE;
+    }
+
+    /**
+     * Проверить количество чисел
+     *
+     * @param minValue минимальное значение
+     * @param maxValue максимальное значение (включительно)
+     * @param cnt      количество чисел
+     * @return размер диапазона
+     */
+    private static long checkCnt(int minValue, int maxValue, int cnt) {
+        long range = (long) maxValue - minValue + 1;
+        if (cnt < 0 || cnt > range)
+            throw new IllegalArgumentException(
+                    "can not select " + cnt + " unique values from range " + minValue + ".." + maxValue
+            );
+        return range;
+    }
+
+    @Override
+    public String toString() {
+        return "UniqueIntSampler{" +
+                "tableCapacity=" + table.length +
+                ", scratchCapacity=" + scratch.length +
+                '}';
+    }
+}
@@ -0,0 +1,198 @@
+package jMath.aoklyunin.github.com.coordinateSystem;
+
+import com.sun.istack.NotNull;
+
+/**
+ * Покоординатные ядра перевода массивов координат между системами координат
+ * <p>
+ * Каждый метод обрабатывает одну ось: параметры осей исходной и целевой СК
+ * вычисляются один раз до цикла, а порядок арифметических операций совпадает
+ * с поштучными методами getCoords, getFloorCoords и getSize, поэтому результаты
+ * совпадают побитово
+ */
+final class CoordinateKernels {
+    /**
+     * Перевести координаты из вещественной СК в вещественную
+     *
+     * @param src     координаты в исходной СК
+     * @param srcMin  минимальная координата исходной СК
+     * @param srcSize размер исходной СК
+     * @param dest    массив, в который записываются координаты в целевой СК
+     * @param dstMin  минимальная координата целевой СК
+     * @param dstSize размер целевой СК
+     */
+    static void getCoords(
+            @NotNull double[] src, double srcMin, double srcSize, @NotNull double[] dest, double dstMin, double dstSize
+    ) {
+        for (int i = 0; i < dest.length; i++)
+            dest[i] = (src[i] - srcMin) * dstSize / srcSize + dstMin;
+    }
+
+    /**
+     * Перевести координаты из целочисленной СК в вещественную
+     *
+     * @param src     координаты в исходной СК
+     * @param srcMin  минимальная координата исходной СК
+     * @param srcSize размер исходной СК
+     * @param dest    массив, в который записываются координаты в целевой СК
+     * @param dstMin  минимальная координата целевой СК
+     * @param dstSize размер целевой СК
+     */
+    static void getCoords(
+            @NotNull int[] src, int srcMin, int srcSize, @NotNull double[] dest, double dstMin, double dstSize
+    ) {
+        int den = srcSize - 1;
+        for (int i = 0; i < dest.length; i++)
+            dest[i] = (src[i] - srcMin) * dstSize / den + dstMin;
+    }
+
+    /**
+     * Перевести координаты из вещественной СК в целочисленную
+     *
+     * @param src     координаты в исходной СК
+     * @param srcMin  минимальная координата исходной СК
+     * @param srcSize размер исходной СК
+     * @param dest    массив, в который записываются координаты в целевой СК
+     * @param dstMin  минимальная координата целевой СК
+     * @param dstSize размер целевой СК
+     */
+    static void getCoords(
+            @NotNull double[] src, double srcMin, double srcSize, @NotNull int[] dest, int dstMin, int dstSize
+    ) {
+        int num = dstSize - 1;
+        for (int i = 0; i < dest.length; i++)
+            dest[i] = (int) ((src[i] - srcMin) * num / srcSize + dstMin);
+    }
+
+    /**
+     * Перевести координаты из целочисленной СК в целочисленную
+     *
+     * @param src     координаты в исходной СК
+     * @param srcMin  минимальная координата исходной СК
+     * @param srcSize размер исходной СК
+     * @param dest    массив, в который записываются координаты в целевой СК
+     * @param dstMin  минимальная координата целевой СК
+     * @param dstSize размер целевой СК
+     */
+    static void getCoords(
+            @NotNull int[] src, int srcMin, int srcSize, @NotNull int[] dest, int dstMin, int dstSize
+    ) {
+        int num = dstSize - 1;
+        int den = srcSize - 1;
+        for (int i = 0; i < dest.length; i++)
+            dest[i] = (src[i] - srcMin) * num / den + dstMin;
+    }
+
+    /**
+     * Перевести координаты из вещественной СК в целочисленную с округлением вниз
+     *
+     * @param src     координаты в исходной СК
+     * @param srcMin  минимальная координата исходной СК
+     * @param srcSize размер исходной СК
+     * @param dest    массив, в который записываются координаты в целевой СК
+     * @param dstMin  минимальная координата целевой СК
+     * @param dstSize размер целевой СК
+     */
+    static void getFloorCoords(
+            @NotNull double[] src, double srcMin, double srcSize, @NotNull int[] dest, int dstMin, int dstSize
+    ) {
+        int num = dstSize - 1;
+        for (int i = 0; i < dest.length; i++)
+            dest[i] = (int) Math.floor((src[i] - srcMin) * num / srcSize + dstMin);
+    }
+
+    /**
+     * Перевести координаты из целочисленной СК в целочисленную с округлением вниз
+     *
+     * @param src     координаты в исходной СК
+     * @param srcMin  минимальная координата исходной СК
+     * @param srcSize размер исходной СК
+     * @param dest    массив, в который записываются координаты в целевой СК
+     * @param dstMin  минимальная координата целевой СК
+     * @param dstSize размер целевой СК
+     */
+    static void getFloorCoords(
+            @NotNull int[] src, int srcMin, int srcSize, @NotNull int[] dest, int dstMin, int dstSize
+    ) {
+        int num = dstSize - 1;
+        int den = srcSize - 1;
+        for (int i = 0; i < dest.length; i++)
+            dest[i] = (int) Math.floor((double) (src[i] - srcMin) * num / den + dstMin);
+    }
+
+    /**
+     * Перевести размеры из вещественной СК в вещественную
+     *
+     * @param src     размеры в исходной СК
+     * @param srcSize размер исходной СК
+     * @param dest    массив, в который записываются размеры в целевой СК
+     * @param dstSize размер целевой СК
+     */
+    static void getSize(@NotNull double[] src, double srcSize, @NotNull double[] dest, double dstSize) {
+        for (int i = 0; i < dest.length; i++)
+            dest[i] = src[i] * dstSize / srcSize;
+    }
+
+    /**
+     * Перевести размеры из целочисленной СК в вещественную
+     *
+     * @param src     размеры в исходной СК
+     * @param srcSize размер исходной СК
+     * @param dest    массив, в который записываются размеры в целевой СК
+     * @param dstSize размер целевой СК
+     */
+    static void getSize(@NotNull int[] src, int srcSize, @NotNull double[] dest, double dstSize) {
+        int den = srcSize - 1;
+        for (int i = 0; i < dest.length; i++)
+            dest[i] = src[i] * dstSize / den;
+    }
+
+    /**
+     * Перевести размеры из вещественной СК в целочисленную
+     *
+     * @param src     размеры в исходной СК
+     * @param srcSize размер исходной СК
+     * @param dest    массив, в который записываются размеры в целевой СК
+     * @param dstSize размер целевой СК
+     */
+    static void getSize(@NotNull double[] src, double srcSize, @NotNull int[] dest, int dstSize) {
+        int num = dstSize - 1;
+        for (int i = 0; i < dest.length; i++)
+            dest[i] = (int) (src[i] * num / srcSize);
+    }
+
+    /**
+     * Перевести размеры из целочисленной СК в целочисленную
+     *
+     * @param src     размеры в исходной СК
+     * @param srcSize размер исходной СК
+     * @param dest    массив, в который записываются размеры в целевой СК
+     * @param dstSize размер целевой СК
+     */
+    static void getSize(@NotNull int[] src, int srcSize, @NotNull int[] dest, int dstSize) {
+        int num = dstSize - 1;
+        int den = srcSize - 1;
+        for (int i = 0; i < dest.length; i++)
+            dest[i] = src[i] * num / den;
+    }
+
+    /**
+     * Проверить, что количество исходных векторов совпадает с размером массива результата
+     *
+     * @param srcSize  количество исходных векторов
+     * @param destSize размер массива результата
+     */
+    static void checkSize(int srcSize, int destSize) {
+        if (srcSize != destSize)
+            throw new IllegalArgumentException("arrays have different sizes: " + srcSize + " " + destSize);
+    }
+
+    /**
+     * Конструктор для запрета наследования
+     */
+    private CoordinateKernels() {
+        // Подавление создания конструктора по умолчанию
+        // для достижения неинстанцируемости
+        throw new AssertionError("constructor is disabled");
+    }
+}
@@ -0,0 +1,223 @@
+package jMath.aoklyunin.github.com.coordinateSystem;
+
+import com.sun.istack.NotNull;
+import jMath.aoklyunin.github.com.vector.*;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Неизменяемое отображение координат из одной системы координат в другую
+ * <p>
+ * Параметры осей обеих СК копируются при создании, поэтому отображение можно
+ * хранить (например, одно на окно рисования) и применять к любому количеству точек.
+ * Результаты совпадают с методами getCoords, getFloorCoords и getSize целевой СК,
+ * в том числе правила округления целочисленных СК: оси, которых нет в исходной СК,
+ * а также ось W СК CoordinateSystem4d всегда получают значение 0
+ * <p>
+ * Типы координат исходной и целевой СК задаются классом отображения: RealToRealMapping,
+ * IntToRealMapping, RealToIntMapping и IntToIntMapping, поэтому методы перевода не проверяют
+ * типы во время выполнения, а перевод координат неподходящего типа не компилируется.
+ * Отображение создаётся методами mappingFrom систем координат
+ */
+public abstract class CoordinateMapping implements Serializable {
+    /**
+     * минимальные координаты исходной СК
+     */
+    @NotNull
+    final double[] srcMin;
+    /**
+     * размеры исходной СК
+     */
+    @NotNull
+    final double[] srcSize;
+    /**
+     * минимальные координаты целевой СК
+     */
+    @NotNull
+    final double[] dstMin;
+    /**
+     * размеры целевой СК
+     */
+    @NotNull
+    final double[] dstSize;
+    /**
+     * количество осей, которые переводятся из исходной СК (остальные оси целевой СК равны 0)
+     */
+    final int mappedAxisCnt;
+
+    /**
+     * Конструктор отображения (наследники должны находиться в этом пакете)
+     *
+     * @param srcMin  минимальные координаты исходной СК
+     * @param srcSize размеры исходной СК
+     * @param dstMin  минимальные координаты целевой СК
+     * @param dstSize размеры целевой СК
+     */
+    CoordinateMapping(
+            @NotNull double[] srcMin, @NotNull double[] srcSize, @NotNull double[] dstMin, @NotNull double[] dstSize
+    ) {
+        this.srcMin = srcMin.clone();
+        this.srcSize = srcSize.clone();
+        this.dstMin = dstMin.clone();
+        this.dstSize = dstSize.clone();
+        // ось W четырёхмерной СК не переводится, как и в методах CoordinateSystem4d
+        this.mappedAxisCnt = Math.min(Math.min(srcMin.length, dstMin.length), 3);
+    }
+
+    /**
+     * Получить обратное отображение (из целевой СК в исходную)
+     *
+     * @return обратное отображение
+     */
+    @NotNull
+    public abstract CoordinateMapping inverse();
+
+    /**
+     * Проверить, является ли исходная СК целочисленной
+     *
+     * @return флаг, является ли исходная СК целочисленной
+     */
+    public abstract boolean isSourceInteger();
+
+    /**
+     * Проверить, является ли целевая СК целочисленной
+     *
+     * @return флаг, является ли целевая СК целочисленной
+     */
+    public abstract boolean isTargetInteger();
+
+    /**
+     * Получить размерность исходной СК
+     *
+     * @return размерность исходной СК
+     */
+    public int getSourceDimension() {
+        return srcMin.length;
+    }
+
+    /**
+     * Получить размерность целевой СК
+     *
+     * @return размерность целевой СК
+     */
+    public int getTargetDimension() {
+        return dstMin.length;
+    }
+
+    /**
+     * Получить координаты вектора в виде массива
+     *
+     * @param v вектор
+     * @return массив координат вектора
+     */
+    @NotNull
+    static double[] toArray(@NotNull Vector2d v) {
+        return new double[]{v.x, v.y};
+    }
+
+    /**
+     * Получить координаты вектора в виде массива
+     *
+     * @param v вектор
+     * @return массив координат вектора
+     */
+    @NotNull
+    static double[] toArray(@NotNull Vector2i v) {
+        return new double[]{v.x, v.y};
+    }
+
+    /**
+     * Получить координаты вектора в виде массива
+     *
+     * @param v вектор
+     * @return массив координат вектора
+     */
+    @NotNull
+    static double[] toArray(@NotNull Vector3d v) {
+        return new double[]{v.x, v.y, v.z};
+    }
+
+    /**
+     * Получить координаты вектора в виде массива
+     *
+     * @param v вектор
+     * @return массив координат вектора
+     */
+    @NotNull
+    static double[] toArray(@NotNull Vector3i v) {
+        return new double[]{v.x, v.y, v.z};
+    }
+
+    /**
+     * Получить координаты вектора в виде массива
+     *
+     * @param v вектор
+     * @return массив координат вектора
+     */
+    @NotNull
+    static double[] toArray(@NotNull Vector4d v) {
+        return new double[]{v.x, v.y, v.z, v.w};
+    }
+
+    /**
+     * Получить целочисленные параметры осей целочисленной СК
+     *
+     * @param values параметры осей
+     * @param offset слагаемое, прибавляемое к каждому параметру
+     * @return массив целочисленных параметров
+     */
+    @NotNull
+    static int[] toIntArray(@NotNull double[] values, int offset) {
+        int[] result = new int[values.length];
+        for (int i = 0; i < values.length; i++)
+            result[i] = (int) values[i] + offset;
+        return result;
+    }
+
+    /**
+     * Проверить, что размерность целевой СК совпадает с размерностью вектора результата
+     *
+     * @param dim размерность вектора результата
+     */
+    void checkDimension(int dim) {
+        if (dstMin.length != dim)
+            throw new IllegalArgumentException(
+                    "mapping target dimension is " + dstMin.length + ", but dest dimension is " + dim
+            );
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{" +
+                "srcMin=" + Arrays.toString(srcMin) +
+                ", srcSize=" + Arrays.toString(srcSize) +
+                ", dstMin=" + Arrays.toString(dstMin) +
+                ", dstSize=" + Arrays.toString(dstSize) +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        CoordinateMapping that = (CoordinateMapping) o;
+
+        if (!Arrays.equals(srcMin, that.srcMin)) return false;
+        if (!Arrays.equals(srcSize, that.srcSize)) return false;
+        if (!Arrays.equals(dstMin, that.dstMin)) return false;
+        return Arrays.equals(dstSize, that.dstSize);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = (isSourceInteger() ? 1 : 0);
+        result = 31 * result + (isTargetInteger() ? 1 : 0);
+        result = 31 * result + Arrays.hashCode(srcMin);
+        result = 31 * result + Arrays.hashCode(srcSize);
+        result = 31 * result + Arrays.hashCode(dstMin);
+        result = 31 * result + Arrays.hashCode(dstSize);
+        return result;
+    }
+}
@@ -9,8 +9,10 @@ import org.apache.commons.math3.util.Precision;
 
 import java.io.Serializable;
 import java.lang.Math;
+import java.util.Arrays;
 import java.util.Objects;
 
+import static jMath.aoklyunin.github.com.coordinateSystem.CoordinateMapping.toArray;
 import static jMath.aoklyunin.github.com.vector.Vector2d.VECTOR_2D_OPACITY;
 
 /**
@@ -175,10 +177,21 @@ public class CoordinateSystem2d implements Serializable {
      */
     @NotNull
     public Vector2d truncate(@NotNull Vector2d coords) {
-        return new Vector2d(
-                Math.max(Math.min(coords.x, max.x), min.x),
-                Math.max(Math.min(coords.y, max.y), min.y)
-        );
+        return truncate(coords, new Vector2d());
+    }
+
+    /**
+     * Обрезать координаты вектора по границам системы координат и записать результат в заданный вектор
+     *
+     * @param coords координаты вектора
+     * @param dest   вектор, в который записывается результат, может совпадать с coords
+     * @return вектор dest с обрезанными координатами
+     */
+    @NotNull
+    public Vector2d truncate(@NotNull Vector2d coords, @NotNull Vector2d dest) {
+        dest.x = Math.max(Math.min(coords.x, max.x), min.x);
+        dest.y = Math.max(Math.min(coords.y, max.y), min.y);
+        return dest;
     }
 
     /**
@@ -191,10 +204,26 @@ public class CoordinateSystem2d implements Serializable {
      */
     @NotNull
     public Vector2d truncate(@NotNull Vector2d coords, @NotNull Vector2d minPadding, @NotNull Vector2d maxPadding) {
-        return new Vector2d(
-                Math.max(Math.min(coords.x, max.x - maxPadding.x), min.x - minPadding.x),
-                Math.max(Math.min(coords.y, max.y - maxPadding.y), min.y - minPadding.y)
-        );
+        return truncate(coords, minPadding, maxPadding, new Vector2d());
+    }
+
+    /**
+     * Обрезать координаты вектора по границам системы координат с учётом отступов относительно самого вектора
+     * и записать результат в заданный вектор
+     *
+     * @param coords     координаты вектора
+     * @param minPadding отступ со стороны минимума (отрицательные координаты)
+     * @param maxPadding отступ со стороны максимума (положительные координаты)
+     * @param dest       вектор, в который записывается результат, может совпадать с coords
+     * @return вектор dest с обрезанными координатами
+     */
+    @NotNull
+    public Vector2d truncate(
+            @NotNull Vector2d coords, @NotNull Vector2d minPadding, @NotNull Vector2d maxPadding, @NotNull Vector2d dest
+    ) {
+        dest.x = Math.max(Math.min(coords.x, max.x - maxPadding.x), min.x - minPadding.x);
+        dest.y = Math.max(Math.min(coords.y, max.y - maxPadding.y), min.y - minPadding.y);
+        return dest;
     }
 
     /**
@@ -215,7 +244,8 @@ public class CoordinateSystem2d implements Serializable {
      * @return флаг, попадают ли координаты в границы СК
      */
     public boolean checkCoords(double x, double y) {
-        return checkCoords(new Vector2d(x, y));
+        return x - min.x >= -VECTOR_2D_OPACITY && max.x - x >= -VECTOR_2D_OPACITY &&
+                y - min.y >= -VECTOR_2D_OPACITY && max.y - y >= -VECTOR_2D_OPACITY;
     }
 
     /**
@@ -240,10 +270,25 @@ public class CoordinateSystem2d implements Serializable {
      */
     @NotNull
     public Vector2d getCoords(double x, double y, @NotNull CoordinateSystem2d coordinateSystem) {
-        return new Vector2d(
-                (x - coordinateSystem.min.x) * size.x / coordinateSystem.size.x + min.x,
-                (y - coordinateSystem.min.y) * size.y / coordinateSystem.size.y + min.y
-        );
+        return getCoords(x, y, coordinateSystem, new Vector2d());
+    }
+
+    /**
+     * Получить координаты вектора в текущей систему координат и записать их в заданный вектор
+     *
+     * @param x                координата X вектора в другой системе координат
+     * @param y                координата Y вектора в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты вектора
+     * @param dest             вектор, в который записывается результат
+     * @return вектор dest с координатами вектора в текущей системе координат
+     */
+    @NotNull
+    public Vector2d getCoords(
+            double x, double y, @NotNull CoordinateSystem2d coordinateSystem, @NotNull Vector2d dest
+    ) {
+        dest.x = (x - coordinateSystem.min.x) * size.x / coordinateSystem.size.x + min.x;
+        dest.y = (y - coordinateSystem.min.y) * size.y / coordinateSystem.size.y + min.y;
+        return dest;
     }
 
     /**
@@ -268,10 +313,23 @@ public class CoordinateSystem2d implements Serializable {
      */
     @NotNull
     public Vector2d getCoords(int x, int y, @NotNull CoordinateSystem2i coordinateSystem) {
-        return new Vector2d(
-                (x - coordinateSystem.getMin().x) * size.x / (coordinateSystem.getSize().x - 1) + min.x,
-                (y - coordinateSystem.getMin().y) * size.y / (coordinateSystem.getSize().y - 1) + min.y
-        );
+        return getCoords(x, y, coordinateSystem, new Vector2d());
+    }
+
+    /**
+     * Получить координаты вектора в текущей систему координат и записать их в заданный вектор
+     *
+     * @param x                координата X вектора в другой системе координат
+     * @param y                координата Y вектора в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты вектора
+     * @param dest             вектор, в который записывается результат
+     * @return вектор dest с координатами вектора в текущей системе координат
+     */
+    @NotNull
+    public Vector2d getCoords(int x, int y, @NotNull CoordinateSystem2i coordinateSystem, @NotNull Vector2d dest) {
+        dest.x = (x - coordinateSystem.getMin().x) * size.x / (coordinateSystem.getSize().x - 1) + min.x;
+        dest.y = (y - coordinateSystem.getMin().y) * size.y / (coordinateSystem.getSize().y - 1) + min.y;
+        return dest;
     }
 
     /**
@@ -297,10 +355,26 @@ public class CoordinateSystem2d implements Serializable {
      */
     @NotNull
     public Vector2d getCoords(double x, double y, double z, @NotNull CoordinateSystem3d coordinateSystem) {
-        return new Vector2d(
-                (x - coordinateSystem.getMin().x) * size.x / coordinateSystem.getSize().x + min.x,
-                (y - coordinateSystem.getMin().y) * size.y / coordinateSystem.getSize().y + min.y
-        );
+        return getCoords(x, y, z, coordinateSystem, new Vector2d());
+    }
+
+    /**
+     * Получить координаты вектора в текущей систему координат и записать их в заданный вектор
+     *
+     * @param x                координата X вектора в другой системе координат
+     * @param y                координата Y вектора в другой системе координат
+     * @param z                координата Z вектора в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты вектора
+     * @param dest             вектор, в который записывается результат
+     * @return вектор dest с координатами вектора в текущей системе координат
+     */
+    @NotNull
+    public Vector2d getCoords(
+            double x, double y, double z, @NotNull CoordinateSystem3d coordinateSystem, @NotNull Vector2d dest
+    ) {
+        dest.x = (x - coordinateSystem.getMin().x) * size.x / coordinateSystem.getSize().x + min.x;
+        dest.y = (y - coordinateSystem.getMin().y) * size.y / coordinateSystem.getSize().y + min.y;
+        return dest;
     }
 
     /**
@@ -326,10 +400,26 @@ public class CoordinateSystem2d implements Serializable {
      */
     @NotNull
     public Vector2d getCoords(int x, int y, int z, @NotNull CoordinateSystem3i coordinateSystem) {
-        return new Vector2d(
-                (x - coordinateSystem.getMin().x) * size.x / (coordinateSystem.getSize().x - 1) + min.x,
-                (y - coordinateSystem.getMin().y) * size.y / (coordinateSystem.getSize().y - 1) + min.y
-        );
+        return getCoords(x, y, z, coordinateSystem, new Vector2d());
+    }
+
+    /**
+     * Получить координаты вектора в текущей систему координат и записать их в заданный вектор
+     *
+     * @param x                координата X вектора в другой системе координат
+     * @param y                координата Y вектора в другой системе координат
+     * @param z                координата Z вектора в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты вектора
+     * @param dest             вектор, в который записывается результат
+     * @return вектор dest с координатами вектора в текущей системе координат
+     */
+    @NotNull
+    public Vector2d getCoords(
+            int x, int y, int z, @NotNull CoordinateSystem3i coordinateSystem, @NotNull Vector2d dest
+    ) {
+        dest.x = (x - coordinateSystem.getMin().x) * size.x / (coordinateSystem.getSize().x - 1) + min.x;
+        dest.y = (y - coordinateSystem.getMin().y) * size.y / (coordinateSystem.getSize().y - 1) + min.y;
+        return dest;
     }
 
     /**
@@ -356,10 +446,27 @@ public class CoordinateSystem2d implements Serializable {
      */
     @NotNull
     public Vector2d getCoords(double x, double y, double z, double w, @NotNull CoordinateSystem4d coordinateSystem) {
-        return new Vector2d(
-                (x - coordinateSystem.getMin().x) * size.x / coordinateSystem.getSize().x + min.x,
-                (y - coordinateSystem.getMin().y) * size.y / coordinateSystem.getSize().y + min.y
-        );
+        return getCoords(x, y, z, w, coordinateSystem, new Vector2d());
+    }
+
+    /**
+     * Получить координаты вектора в текущей систему координат и записать их в заданный вектор
+     *
+     * @param x                координата X вектора в другой системе координат
+     * @param y                координата Y вектора в другой системе координат
+     * @param z                координата Z вектора в другой системе координат
+     * @param w                координата W вектора в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты вектора
+     * @param dest             вектор, в который записывается результат
+     * @return вектор dest с координатами вектора в текущей системе координат
+     */
+    @NotNull
+    public Vector2d getCoords(
+            double x, double y, double z, double w, @NotNull CoordinateSystem4d coordinateSystem, @NotNull Vector2d dest
+    ) {
+        dest.x = (x - coordinateSystem.getMin().x) * size.x / coordinateSystem.getSize().x + min.x;
+        dest.y = (y - coordinateSystem.getMin().y) * size.y / coordinateSystem.getSize().y + min.y;
+        return dest;
     }
 
     /**
@@ -505,6 +612,396 @@ public class CoordinateSystem2d implements Serializable {
         );
     }
 
+    /**
+     * Получить координаты массива векторов в текущей системе координат
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector2dArray getCoords(@NotNull Vector2dArray coords, @NotNull CoordinateSystem2d coordinateSystem) {
+        return getCoords(coords, coordinateSystem, new Vector2dArray(coords.size()));
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат и записать их в заданный массив
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector2dArray getCoords(
+            @NotNull Vector2dArray coords, @NotNull CoordinateSystem2d coordinateSystem, @NotNull Vector2dArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector2d srcMin = coordinateSystem.getMin();
+        Vector2d srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getCoords(coords.x, srcMin.x, srcSize.x, dest.x, min.x, size.x);
+        CoordinateKernels.getCoords(coords.y, srcMin.y, srcSize.y, dest.y, min.y, size.y);
+        return dest;
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector2dArray getCoords(@NotNull Vector2iArray coords, @NotNull CoordinateSystem2i coordinateSystem) {
+        return getCoords(coords, coordinateSystem, new Vector2dArray(coords.size()));
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат и записать их в заданный массив
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector2dArray getCoords(
+            @NotNull Vector2iArray coords, @NotNull CoordinateSystem2i coordinateSystem, @NotNull Vector2dArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector2i srcMin = coordinateSystem.getMin();
+        Vector2i srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getCoords(coords.x, srcMin.x, srcSize.x, dest.x, min.x, size.x);
+        CoordinateKernels.getCoords(coords.y, srcMin.y, srcSize.y, dest.y, min.y, size.y);
+        return dest;
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector2dArray getCoords(@NotNull Vector3dArray coords, @NotNull CoordinateSystem3d coordinateSystem) {
+        return getCoords(coords, coordinateSystem, new Vector2dArray(coords.size()));
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат и записать их в заданный массив
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector2dArray getCoords(
+            @NotNull Vector3dArray coords, @NotNull CoordinateSystem3d coordinateSystem, @NotNull Vector2dArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector3d srcMin = coordinateSystem.getMin();
+        Vector3d srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getCoords(coords.x, srcMin.x, srcSize.x, dest.x, min.x, size.x);
+        CoordinateKernels.getCoords(coords.y, srcMin.y, srcSize.y, dest.y, min.y, size.y);
+        return dest;
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector2dArray getCoords(@NotNull Vector3iArray coords, @NotNull CoordinateSystem3i coordinateSystem) {
+        return getCoords(coords, coordinateSystem, new Vector2dArray(coords.size()));
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат и записать их в заданный массив
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector2dArray getCoords(
+            @NotNull Vector3iArray coords, @NotNull CoordinateSystem3i coordinateSystem, @NotNull Vector2dArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector3i srcMin = coordinateSystem.getMin();
+        Vector3i srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getCoords(coords.x, srcMin.x, srcSize.x, dest.x, min.x, size.x);
+        CoordinateKernels.getCoords(coords.y, srcMin.y, srcSize.y, dest.y, min.y, size.y);
+        return dest;
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector2dArray getCoords(@NotNull Vector4dArray coords, @NotNull CoordinateSystem4d coordinateSystem) {
+        return getCoords(coords, coordinateSystem, new Vector2dArray(coords.size()));
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат и записать их в заданный массив
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector2dArray getCoords(
+            @NotNull Vector4dArray coords, @NotNull CoordinateSystem4d coordinateSystem, @NotNull Vector2dArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector4d srcMin = coordinateSystem.getMin();
+        Vector4d srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getCoords(coords.x, srcMin.x, srcSize.x, dest.x, min.x, size.x);
+        CoordinateKernels.getCoords(coords.y, srcMin.y, srcSize.y, dest.y, min.y, size.y);
+        return dest;
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector2dArray getSize(@NotNull Vector2dArray coords, @NotNull CoordinateSystem2d coordinateSystem) {
+        return getSize(coords, coordinateSystem, new Vector2dArray(coords.size()));
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат и записать их в заданный массив
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector2dArray getSize(
+            @NotNull Vector2dArray coords, @NotNull CoordinateSystem2d coordinateSystem, @NotNull Vector2dArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector2d srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getSize(coords.x, srcSize.x, dest.x, size.x);
+        CoordinateKernels.getSize(coords.y, srcSize.y, dest.y, size.y);
+        return dest;
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector2dArray getSize(@NotNull Vector2iArray coords, @NotNull CoordinateSystem2i coordinateSystem) {
+        return getSize(coords, coordinateSystem, new Vector2dArray(coords.size()));
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат и записать их в заданный массив
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector2dArray getSize(
+            @NotNull Vector2iArray coords, @NotNull CoordinateSystem2i coordinateSystem, @NotNull Vector2dArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector2i srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getSize(coords.x, srcSize.x, dest.x, size.x);
+        CoordinateKernels.getSize(coords.y, srcSize.y, dest.y, size.y);
+        return dest;
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector2dArray getSize(@NotNull Vector3dArray coords, @NotNull CoordinateSystem3d coordinateSystem) {
+        return getSize(coords, coordinateSystem, new Vector2dArray(coords.size()));
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат и записать их в заданный массив
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector2dArray getSize(
+            @NotNull Vector3dArray coords, @NotNull CoordinateSystem3d coordinateSystem, @NotNull Vector2dArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector3d srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getSize(coords.x, srcSize.x, dest.x, size.x);
+        CoordinateKernels.getSize(coords.y, srcSize.y, dest.y, size.y);
+        return dest;
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector2dArray getSize(@NotNull Vector3iArray coords, @NotNull CoordinateSystem3i coordinateSystem) {
+        return getSize(coords, coordinateSystem, new Vector2dArray(coords.size()));
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат и записать их в заданный массив
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector2dArray getSize(
+            @NotNull Vector3iArray coords, @NotNull CoordinateSystem3i coordinateSystem, @NotNull Vector2dArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector3i srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getSize(coords.x, srcSize.x, dest.x, size.x);
+        CoordinateKernels.getSize(coords.y, srcSize.y, dest.y, size.y);
+        return dest;
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector2dArray getSize(@NotNull Vector4dArray coords, @NotNull CoordinateSystem4d coordinateSystem) {
+        return getSize(coords, coordinateSystem, new Vector2dArray(coords.size()));
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат и записать их в заданный массив
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector2dArray getSize(
+            @NotNull Vector4dArray coords, @NotNull CoordinateSystem4d coordinateSystem, @NotNull Vector2dArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector4d srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getSize(coords.x, srcSize.x, dest.x, size.x);
+        CoordinateKernels.getSize(coords.y, srcSize.y, dest.y, size.y);
+        return dest;
+    }
+
+    /**
+     * Получить отображение координат из заданной системы координат в текущую
+     *
+     * @param coordinateSystem система координат, из которой переводятся координаты
+     * @return отображение координат из заданной системы координат в текущую
+     */
+    @NotNull
+    public RealToRealMapping mappingFrom(@NotNull CoordinateSystem2d coordinateSystem) {
+        Objects.requireNonNull(coordinateSystem);
+        return new RealToRealMapping(
+                toArray(coordinateSystem.getMin()), toArray(coordinateSystem.getSize()),
+                toArray(min), toArray(size)
+        );
+    }
+
+    /**
+     * Получить отображение координат из заданной системы координат в текущую
+     *
+     * @param coordinateSystem система координат, из которой переводятся координаты
+     * @return отображение координат из заданной системы координат в текущую
+     */
+    @NotNull
+    public IntToRealMapping mappingFrom(@NotNull CoordinateSystem2i coordinateSystem) {
+        Objects.requireNonNull(coordinateSystem);
+        return new IntToRealMapping(
+                toArray(coordinateSystem.getMin()), toArray(coordinateSystem.getSize()),
+                toArray(min), toArray(size)
+        );
+    }
+
+    /**
+     * Получить отображение координат из заданной системы координат в текущую
+     *
+     * @param coordinateSystem система координат, из которой переводятся координаты
+     * @return отображение координат из заданной системы координат в текущую
+     */
+    @NotNull
+    public RealToRealMapping mappingFrom(@NotNull CoordinateSystem3d coordinateSystem) {
+        Objects.requireNonNull(coordinateSystem);
+        return new RealToRealMapping(
+                toArray(coordinateSystem.getMin()), toArray(coordinateSystem.getSize()),
+                toArray(min), toArray(size)
+        );
+    }
+
+    /**
+     * Получить отображение координат из заданной системы координат в текущую
+     *
+     * @param coordinateSystem система координат, из которой переводятся координаты
+     * @return отображение координат из заданной системы координат в текущую
+     */
+    @NotNull
+    public IntToRealMapping mappingFrom(@NotNull CoordinateSystem3i coordinateSystem) {
+        Objects.requireNonNull(coordinateSystem);
+        return new IntToRealMapping(
+                toArray(coordinateSystem.getMin()), toArray(coordinateSystem.getSize()),
+                toArray(min), toArray(size)
+        );
+    }
+
+    /**
+     * Получить отображение координат из заданной системы координат в текущую
+     *
+     * @param coordinateSystem система координат, из которой переводятся координаты
+     * @return отображение координат из заданной системы координат в текущую
+     */
+    @NotNull
+    public RealToRealMapping mappingFrom(@NotNull CoordinateSystem4d coordinateSystem) {
+        Objects.requireNonNull(coordinateSystem);
+        return new RealToRealMapping(
+                toArray(coordinateSystem.getMin()), toArray(coordinateSystem.getSize()),
+                toArray(min), toArray(size)
+        );
+    }
+
     /**
      * Получить вектор подобия двух систем координат
      * (значения единичного размера, указанного в переданнной в аргументах СК в текущей СК)
@@ -584,19 +1081,16 @@ public class CoordinateSystem2d implements Serializable {
      * @return значение свёртки вектора в число
      */
     public int conv(@NotNull Vector2d coords, int divideCnt) {
-        Vector2d delta = Vector2d.mul(size, 1.0 / divideCnt);
-        Vector2d positivePosD = Vector2d.subtract(Objects.requireNonNull(coords), min);
-        Vector2i positivePos = new Vector2i(
-                (int) Math.round(positivePosD.x / Precision.round(delta.x, DIGIT_COUNT)),
-                (int) Math.round(positivePosD.y / Precision.round(delta.y, DIGIT_COUNT))
-        );
+        Objects.requireNonNull(coords);
+        int positiveX = (int) Math.round((coords.x - min.x) / Precision.round(size.x * (1.0 / divideCnt), DIGIT_COUNT));
+        int positiveY = (int) Math.round((coords.y - min.y) / Precision.round(size.y * (1.0 / divideCnt), DIGIT_COUNT));
         if (size.y < VECTOR_2D_OPACITY)
-            return positivePos.x;
+            return positiveX;
 
         if (size.x < VECTOR_2D_OPACITY)
-            return positivePos.y;
+            return positiveY;
 
-        return positivePos.x + (divideCnt + 1) * positivePos.y;
+        return positiveX + (divideCnt + 1) * positiveY;
     }
 
     /**
@@ -607,24 +1101,39 @@ public class CoordinateSystem2d implements Serializable {
      * @return вектор, полученный из обратной свёртки числа в вектор
      */
     public Vector2d deconv(int val, int divideCnt) {
-        Vector2d delta = Vector2d.mul(size, 1.0 / divideCnt);
-        if (size.y < VECTOR_2D_OPACITY)
-            return new Vector2d(val * delta.x + min.x, min.y);
+        return deconv(val, divideCnt, new Vector2d());
+    }
 
-        if (size.x < VECTOR_2D_OPACITY)
-            return new Vector2d(min.x, val * delta.y + min.y);
-
-        Vector2i positivePos = new Vector2i();
-        positivePos.x = (val % (divideCnt + 1));
-        positivePos.y = (val / (divideCnt + 1));
-        Vector2d res = new Vector2d(
-                positivePos.x * delta.x + min.x,
-                positivePos.y * delta.y + min.y
-        );
-        if (!checkCoords(res)) {
-            throw new IllegalArgumentException("res coords are not in CS " + res);
+    /**
+     * Обратная свёртка числа в вектор с записью результата в заданный вектор
+     *
+     * @param val       число, из которого нужно получить вектор
+     * @param divideCnt количество делений
+     * @param dest      вектор, в который записывается результат
+     * @return вектор dest, полученный из обратной свёртки числа в вектор
+     */
+    @NotNull
+    public Vector2d deconv(int val, int divideCnt, @NotNull Vector2d dest) {
+        double deltaX = size.x * (1.0 / divideCnt);
+        double deltaY = size.y * (1.0 / divideCnt);
+        if (size.y < VECTOR_2D_OPACITY) {
+            dest.x = val * deltaX + min.x;
+            dest.y = min.y;
+            return dest;
+        }
+
+        if (size.x < VECTOR_2D_OPACITY) {
+            dest.x = min.x;
+            dest.y = val * deltaY + min.y;
+            return dest;
+        }
+
+        dest.x = (val % (divideCnt + 1)) * deltaX + min.x;
+        dest.y = (val / (divideCnt + 1)) * deltaY + min.y;
+        if (!checkCoords(dest)) {
+            throw new IllegalArgumentException("res coords are not in CS " + dest);
         }
-        return res;
+        return dest;
     }
 
     /**
@@ -11,8 +11,11 @@ import jMath.aoklyunin.github.com.vector.*;
 
 import java.io.Serializable;
 import java.lang.Math;
+import java.util.Arrays;
 import java.util.Objects;
 
+import static jMath.aoklyunin.github.com.coordinateSystem.CoordinateMapping.toArray;
+
 /**
  * Ограниченная двумерная целочисленная система координат
  */
@@ -162,10 +165,21 @@ public class CoordinateSystem2i implements Serializable {
      */
     @NotNull
     public Vector2i truncate(@NotNull Vector2i coords) {
-        return new Vector2i(
-                Math.max(Math.min(coords.x, max.x), min.x),
-                Math.max(Math.min(coords.y, max.y), min.y)
-        );
+        return truncate(coords, new Vector2i());
+    }
+
+    /**
+     * Обрезать координаты вектора по границам системы координат и записать результат в заданный вектор
+     *
+     * @param coords координаты вектора
+     * @param dest   вектор, в который записывается результат, может совпадать с coords
+     * @return вектор dest с обрезанными координатами
+     */
+    @NotNull
+    public Vector2i truncate(@NotNull Vector2i coords, @NotNull Vector2i dest) {
+        dest.x = Math.max(Math.min(coords.x, max.x), min.x);
+        dest.y = Math.max(Math.min(coords.y, max.y), min.y);
+        return dest;
     }
 
     /**
@@ -178,10 +192,26 @@ public class CoordinateSystem2i implements Serializable {
      */
     @NotNull
     public Vector2i truncate(@NotNull Vector2i coords, @NotNull Vector2i minPadding, @NotNull Vector2i maxPadding) {
-        return new Vector2i(
-                Math.max(Math.min(coords.x, max.x - maxPadding.x), min.x - minPadding.x),
-                Math.max(Math.min(coords.y, max.y - maxPadding.y), min.y - minPadding.y)
-        );
+        return truncate(coords, minPadding, maxPadding, new Vector2i());
+    }
+
+    /**
+     * Обрезать координаты вектора по границам системы координат с учётом отступов относительно самого вектора
+     * и записать результат в заданный вектор
+     *
+     * @param coords     координаты вектора
+     * @param minPadding отступ со стороны минимума (отрицательные координаты)
+     * @param maxPadding отступ со стороны максимума (положительные координаты)
+     * @param dest       вектор, в который записывается результат, может совпадать с coords
+     * @return вектор dest с обрезанными координатами
+     */
+    @NotNull
+    public Vector2i truncate(
+            @NotNull Vector2i coords, @NotNull Vector2i minPadding, @NotNull Vector2i maxPadding, @NotNull Vector2i dest
+    ) {
+        dest.x = Math.max(Math.min(coords.x, max.x - maxPadding.x), min.x - minPadding.x);
+        dest.y = Math.max(Math.min(coords.y, max.y - maxPadding.y), min.y - minPadding.y);
+        return dest;
     }
 
     /**
@@ -227,10 +257,25 @@ public class CoordinateSystem2i implements Serializable {
      */
     @NotNull
     public Vector2i getCoords(double x, double y, @NotNull CoordinateSystem2d coordinateSystem) {
-        return new Vector2i(
-                (int) ((x - coordinateSystem.getMin().x) * (size.x - 1) / coordinateSystem.getSize().x + min.x),
-                (int) ((y - coordinateSystem.getMin().y) * (size.y - 1) / coordinateSystem.getSize().y + min.y)
-        );
+        return getCoords(x, y, coordinateSystem, new Vector2i());
+    }
+
+    /**
+     * Получить координаты вектора в текущей системе координат и записать их в заданный вектор
+     *
+     * @param x                координата X вектора в другой системе координат
+     * @param y                координата Y вектора в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты вектора
+     * @param dest             вектор, в который записывается результат
+     * @return вектор dest с координатами вектора в текущей системе координат
+     */
+    @NotNull
+    public Vector2i getCoords(
+            double x, double y, @NotNull CoordinateSystem2d coordinateSystem, @NotNull Vector2i dest
+    ) {
+        dest.x = (int) ((x - coordinateSystem.getMin().x) * (size.x - 1) / coordinateSystem.getSize().x + min.x);
+        dest.y = (int) ((y - coordinateSystem.getMin().y) * (size.y - 1) / coordinateSystem.getSize().y + min.y);
+        return dest;
     }
 
     /**
@@ -255,10 +300,23 @@ public class CoordinateSystem2i implements Serializable {
      */
     @NotNull
     public Vector2i getCoords(int x, int y, @NotNull CoordinateSystem2i coordinateSystem) {
-        return new Vector2i(
-                (x - coordinateSystem.min.x) * (size.x - 1) / (coordinateSystem.size.x - 1) + min.x,
-                (y - coordinateSystem.min.y) * (size.y - 1) / (coordinateSystem.size.y - 1) + min.y
-        );
+        return getCoords(x, y, coordinateSystem, new Vector2i());
+    }
+
+    /**
+     * Получить координаты вектора в текущей системе координат и записать их в заданный вектор
+     *
+     * @param x                координата X вектора в другой системе координат
+     * @param y                координата Y вектора в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты вектора
+     * @param dest             вектор, в который записывается результат
+     * @return вектор dest с координатами вектора в текущей системе координат
+     */
+    @NotNull
+    public Vector2i getCoords(int x, int y, @NotNull CoordinateSystem2i coordinateSystem, @NotNull Vector2i dest) {
+        dest.x = (x - coordinateSystem.min.x) * (size.x - 1) / (coordinateSystem.size.x - 1) + min.x;
+        dest.y = (y - coordinateSystem.min.y) * (size.y - 1) / (coordinateSystem.size.y - 1) + min.y;
+        return dest;
     }
 
     /**
@@ -284,10 +342,26 @@ public class CoordinateSystem2i implements Serializable {
      */
     @NotNull
     public Vector2i getCoords(double x, double y, double z, @NotNull CoordinateSystem3d coordinateSystem) {
-        return new Vector2i(
-                (int) ((x - coordinateSystem.getMin().x) * (size.x - 1) / coordinateSystem.getSize().x + min.x),
-                (int) ((y - coordinateSystem.getMin().y) * (size.y - 1) / coordinateSystem.getSize().y + min.y)
-        );
+        return getCoords(x, y, z, coordinateSystem, new Vector2i());
+    }
+
+    /**
+     * Получить координаты вектора в текущей системе координат и записать их в заданный вектор
+     *
+     * @param x                координата X вектора в другой системе координат
+     * @param y                координата Y вектора в другой системе координат
+     * @param z                координата Z вектора в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты вектора
+     * @param dest             вектор, в который записывается результат
+     * @return вектор dest с координатами вектора в текущей системе координат
+     */
+    @NotNull
+    public Vector2i getCoords(
+            double x, double y, double z, @NotNull CoordinateSystem3d coordinateSystem, @NotNull Vector2i dest
+    ) {
+        dest.x = (int) ((x - coordinateSystem.getMin().x) * (size.x - 1) / coordinateSystem.getSize().x + min.x);
+        dest.y = (int) ((y - coordinateSystem.getMin().y) * (size.y - 1) / coordinateSystem.getSize().y + min.y);
+        return dest;
     }
 
     /**
@@ -313,10 +387,26 @@ public class CoordinateSystem2i implements Serializable {
      */
     @NotNull
     public Vector2i getCoords(int x, int y, int z, @NotNull CoordinateSystem3i coordinateSystem) {
-        return new Vector2i(
-                (x - coordinateSystem.getMin().x) * (size.x - 1) / (coordinateSystem.getSize().x - 1) + min.x,
-                (y - coordinateSystem.getMin().y) * (size.y - 1) / (coordinateSystem.getSize().y - 1) + min.y
-        );
+        return getCoords(x, y, z, coordinateSystem, new Vector2i());
+    }
+
+    /**
+     * Получить координаты вектора в текущей системе координат и записать их в заданный вектор
+     *
+     * @param x                координата X вектора в другой системе координат
+     * @param y                координата Y вектора в другой системе координат
+     * @param z                координата Z вектора в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты вектора
+     * @param dest             вектор, в который записывается результат
+     * @return вектор dest с координатами вектора в текущей системе координат
+     */
+    @NotNull
+    public Vector2i getCoords(
+            int x, int y, int z, @NotNull CoordinateSystem3i coordinateSystem, @NotNull Vector2i dest
+    ) {
+        dest.x = (x - coordinateSystem.getMin().x) * (size.x - 1) / (coordinateSystem.getSize().x - 1) + min.x;
+        dest.y = (y - coordinateSystem.getMin().y) * (size.y - 1) / (coordinateSystem.getSize().y - 1) + min.y;
+        return dest;
     }
 
     /**
@@ -343,10 +433,27 @@ public class CoordinateSystem2i implements Serializable {
      */
     @NotNull
     public Vector2i getCoords(double x, double y, double z, double w, @NotNull CoordinateSystem4d coordinateSystem) {
-        return new Vector2i(
-                (int) ((x - coordinateSystem.getMin().x) * (size.x - 1) / coordinateSystem.getSize().x + min.x),
-                (int) ((y - coordinateSystem.getMin().y) * (size.y - 1) / coordinateSystem.getSize().y + min.y)
-        );
+        return getCoords(x, y, z, w, coordinateSystem, new Vector2i());
+    }
+
+    /**
+     * Получить координаты вектора в текущей системе координат и записать их в заданный вектор
+     *
+     * @param x                координата X вектора в другой системе координат
+     * @param y                координата Y вектора в другой системе координат
+     * @param z                координата Z вектора в другой системе координат
+     * @param w                координата W вектора в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты вектора
+     * @param dest             вектор, в который записывается результат
+     * @return вектор dest с координатами вектора в текущей системе координат
+     */
+    @NotNull
+    public Vector2i getCoords(
+            double x, double y, double z, double w, @NotNull CoordinateSystem4d coordinateSystem, @NotNull Vector2i dest
+    ) {
+        dest.x = (int) ((x - coordinateSystem.getMin().x) * (size.x - 1) / coordinateSystem.getSize().x + min.x);
+        dest.y = (int) ((y - coordinateSystem.getMin().y) * (size.y - 1) / coordinateSystem.getSize().y + min.y);
+        return dest;
     }
 
     /**
@@ -371,10 +478,25 @@ public class CoordinateSystem2i implements Serializable {
      */
     @NotNull
     public Vector2i getFloorCoords(double x, double y, @NotNull CoordinateSystem2d coordinateSystem) {
-        return new Vector2i(
-                (int) Math.floor(((x - coordinateSystem.getMin().x) * (size.x - 1) / coordinateSystem.getSize().x + min.x)),
-                (int) Math.floor(((y - coordinateSystem.getMin().y) * (size.y - 1) / coordinateSystem.getSize().y + min.y))
-        );
+        return getFloorCoords(x, y, coordinateSystem, new Vector2i());
+    }
+
+    /**
+     * Получить округлённые снизу координаты вектора в текущей системе координат и записать их в заданный вектор
+     *
+     * @param x                координата X вектора в другой системе координат
+     * @param y                координата Y вектора в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты вектора
+     * @param dest             вектор, в который записывается результат
+     * @return вектор dest с координатами вектора в текущей системе координат
+     */
+    @NotNull
+    public Vector2i getFloorCoords(
+            double x, double y, @NotNull CoordinateSystem2d coordinateSystem, @NotNull Vector2i dest
+    ) {
+        dest.x = (int) Math.floor(((x - coordinateSystem.getMin().x) * (size.x - 1) / coordinateSystem.getSize().x + min.x));
+        dest.y = (int) Math.floor(((y - coordinateSystem.getMin().y) * (size.y - 1) / coordinateSystem.getSize().y + min.y));
+        return dest;
     }
 
     /**
@@ -399,10 +521,23 @@ public class CoordinateSystem2i implements Serializable {
      */
     @NotNull
     public Vector2i getFloorCoords(int x, int y, @NotNull CoordinateSystem2i coordinateSystem) {
-        return new Vector2i(
-                (int) Math.floor((double) (x - coordinateSystem.min.x) * (size.x - 1) / (coordinateSystem.size.x - 1) + min.x),
-                (int) Math.floor((double) (y - coordinateSystem.min.y) * (size.y - 1) / (coordinateSystem.size.y - 1) + min.y)
-        );
+        return getFloorCoords(x, y, coordinateSystem, new Vector2i());
+    }
+
+    /**
+     * Получить округлённые снизу координаты вектора в текущей системе координат и записать их в заданный вектор
+     *
+     * @param x                координата X вектора в другой системе координат
+     * @param y                координата Y вектора в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты вектора
+     * @param dest             вектор, в который записывается результат
+     * @return вектор dest с координатами вектора в текущей системе координат
+     */
+    @NotNull
+    public Vector2i getFloorCoords(int x, int y, @NotNull CoordinateSystem2i coordinateSystem, @NotNull Vector2i dest) {
+        dest.x = (int) Math.floor((double) (x - coordinateSystem.min.x) * (size.x - 1) / (coordinateSystem.size.x - 1) + min.x);
+        dest.y = (int) Math.floor((double) (y - coordinateSystem.min.y) * (size.y - 1) / (coordinateSystem.size.y - 1) + min.y);
+        return dest;
     }
 
     /**
@@ -428,10 +563,26 @@ public class CoordinateSystem2i implements Serializable {
      */
     @NotNull
     public Vector2i getFloorCoords(double x, double y, double z, @NotNull CoordinateSystem3d coordinateSystem) {
-        return new Vector2i(
-                (int) Math.floor(((x - coordinateSystem.getMin().x) * (size.x - 1) / coordinateSystem.getSize().x + min.x)),
-                (int) Math.floor(((y - coordinateSystem.getMin().y) * (size.y - 1) / coordinateSystem.getSize().y + min.y))
-        );
+        return getFloorCoords(x, y, z, coordinateSystem, new Vector2i());
+    }
+
+    /**
+     * Получить округлённые снизу координаты вектора в текущей системе координат и записать их в заданный вектор
+     *
+     * @param x                координата X вектора в другой системе координат
+     * @param y                координата Y вектора в другой системе координат
+     * @param z                координата Z вектора в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты вектора
+     * @param dest             вектор, в который записывается результат
+     * @return вектор dest с координатами вектора в текущей системе координат
+     */
+    @NotNull
+    public Vector2i getFloorCoords(
+            double x, double y, double z, @NotNull CoordinateSystem3d coordinateSystem, @NotNull Vector2i dest
+    ) {
+        dest.x = (int) Math.floor(((x - coordinateSystem.getMin().x) * (size.x - 1) / coordinateSystem.getSize().x + min.x));
+        dest.y = (int) Math.floor(((y - coordinateSystem.getMin().y) * (size.y - 1) / coordinateSystem.getSize().y + min.y));
+        return dest;
     }
 
     /**
@@ -457,14 +608,26 @@ public class CoordinateSystem2i implements Serializable {
      */
     @NotNull
     public Vector2i getFloorCoords(int x, int y, int z, @NotNull CoordinateSystem3i coordinateSystem) {
-        return new Vector2i(
-                (int) Math.floor(
-                        (double) (x - coordinateSystem.getMin().x) * (size.x - 1) / (coordinateSystem.getSize().x - 1) + min.x
-                ),
-                (int) Math.floor(
-                        (double) (y - coordinateSystem.getMin().y) * (size.y - 1) / (coordinateSystem.getSize().y - 1) + min.y
-                )
-        );
+        return getFloorCoords(x, y, z, coordinateSystem, new Vector2i());
+    }
+
+    /**
+     * Получить округлённые снизу координаты вектора в текущей системе координат и записать их в заданный вектор
+     *
+     * @param x                координата X вектора в другой системе координат
+     * @param y                координата Y вектора в другой системе координат
+     * @param z                координата Z вектора в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты вектора
+     * @param dest             вектор, в который записывается результат
+     * @return вектор dest с координатами вектора в текущей системе координат
+     */
+    @NotNull
+    public Vector2i getFloorCoords(
+            int x, int y, int z, @NotNull CoordinateSystem3i coordinateSystem, @NotNull Vector2i dest
+    ) {
+        dest.x = (int) Math.floor((double) (x - coordinateSystem.getMin().x) * (size.x - 1) / (coordinateSystem.getSize().x - 1) + min.x);
+        dest.y = (int) Math.floor((double) (y - coordinateSystem.getMin().y) * (size.y - 1) / (coordinateSystem.getSize().y - 1) + min.y);
+        return dest;
     }
 
     /**
@@ -491,10 +654,27 @@ public class CoordinateSystem2i implements Serializable {
      */
     @NotNull
     public Vector2i getFloorCoords(double x, double y, double z, double w, @NotNull CoordinateSystem4d coordinateSystem) {
-        return new Vector2i(
-                (int) Math.floor(((x - coordinateSystem.getMin().x) * (size.x - 1) / coordinateSystem.getSize().x + min.x)),
-                (int) Math.floor(((y - coordinateSystem.getMin().y) * (size.y - 1) / coordinateSystem.getSize().y + min.y))
-        );
+        return getFloorCoords(x, y, z, w, coordinateSystem, new Vector2i());
+    }
+
+    /**
+     * Получить округлённые снизу координаты вектора в текущей системе координат и записать их в заданный вектор
+     *
+     * @param x                координата X вектора в другой системе координат
+     * @param y                координата Y вектора в другой системе координат
+     * @param z                координата Z вектора в другой системе координат
+     * @param w                координата W вектора в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты вектора
+     * @param dest             вектор, в который записывается результат
+     * @return вектор dest с координатами вектора в текущей системе координат
+     */
+    @NotNull
+    public Vector2i getFloorCoords(
+            double x, double y, double z, double w, @NotNull CoordinateSystem4d coordinateSystem, @NotNull Vector2i dest
+    ) {
+        dest.x = (int) Math.floor(((x - coordinateSystem.getMin().x) * (size.x - 1) / coordinateSystem.getSize().x + min.x));
+        dest.y = (int) Math.floor(((y - coordinateSystem.getMin().y) * (size.y - 1) / coordinateSystem.getSize().y + min.y));
+        return dest;
     }
 
     /**
@@ -641,6 +821,556 @@ public class CoordinateSystem2i implements Serializable {
         );
     }
 
+    /**
+     * Получить координаты массива векторов в текущей системе координат
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector2iArray getCoords(@NotNull Vector2dArray coords, @NotNull CoordinateSystem2d coordinateSystem) {
+        return getCoords(coords, coordinateSystem, new Vector2iArray(coords.size()));
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат и записать их в заданный массив
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector2iArray getCoords(
+            @NotNull Vector2dArray coords, @NotNull CoordinateSystem2d coordinateSystem, @NotNull Vector2iArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector2d srcMin = coordinateSystem.getMin();
+        Vector2d srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getCoords(coords.x, srcMin.x, srcSize.x, dest.x, min.x, size.x);
+        CoordinateKernels.getCoords(coords.y, srcMin.y, srcSize.y, dest.y, min.y, size.y);
+        return dest;
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector2iArray getCoords(@NotNull Vector2iArray coords, @NotNull CoordinateSystem2i coordinateSystem) {
+        return getCoords(coords, coordinateSystem, new Vector2iArray(coords.size()));
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат и записать их в заданный массив
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector2iArray getCoords(
+            @NotNull Vector2iArray coords, @NotNull CoordinateSystem2i coordinateSystem, @NotNull Vector2iArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector2i srcMin = coordinateSystem.getMin();
+        Vector2i srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getCoords(coords.x, srcMin.x, srcSize.x, dest.x, min.x, size.x);
+        CoordinateKernels.getCoords(coords.y, srcMin.y, srcSize.y, dest.y, min.y, size.y);
+        return dest;
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector2iArray getCoords(@NotNull Vector3dArray coords, @NotNull CoordinateSystem3d coordinateSystem) {
+        return getCoords(coords, coordinateSystem, new Vector2iArray(coords.size()));
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат и записать их в заданный массив
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector2iArray getCoords(
+            @NotNull Vector3dArray coords, @NotNull CoordinateSystem3d coordinateSystem, @NotNull Vector2iArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector3d srcMin = coordinateSystem.getMin();
+        Vector3d srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getCoords(coords.x, srcMin.x, srcSize.x, dest.x, min.x, size.x);
+        CoordinateKernels.getCoords(coords.y, srcMin.y, srcSize.y, dest.y, min.y, size.y);
+        return dest;
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector2iArray getCoords(@NotNull Vector3iArray coords, @NotNull CoordinateSystem3i coordinateSystem) {
+        return getCoords(coords, coordinateSystem, new Vector2iArray(coords.size()));
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат и записать их в заданный массив
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector2iArray getCoords(
+            @NotNull Vector3iArray coords, @NotNull CoordinateSystem3i coordinateSystem, @NotNull Vector2iArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector3i srcMin = coordinateSystem.getMin();
+        Vector3i srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getCoords(coords.x, srcMin.x, srcSize.x, dest.x, min.x, size.x);
+        CoordinateKernels.getCoords(coords.y, srcMin.y, srcSize.y, dest.y, min.y, size.y);
+        return dest;
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector2iArray getCoords(@NotNull Vector4dArray coords, @NotNull CoordinateSystem4d coordinateSystem) {
+        return getCoords(coords, coordinateSystem, new Vector2iArray(coords.size()));
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат и записать их в заданный массив
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector2iArray getCoords(
+            @NotNull Vector4dArray coords, @NotNull CoordinateSystem4d coordinateSystem, @NotNull Vector2iArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector4d srcMin = coordinateSystem.getMin();
+        Vector4d srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getCoords(coords.x, srcMin.x, srcSize.x, dest.x, min.x, size.x);
+        CoordinateKernels.getCoords(coords.y, srcMin.y, srcSize.y, dest.y, min.y, size.y);
+        return dest;
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат с округлением вниз
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector2iArray getFloorCoords(@NotNull Vector2dArray coords, @NotNull CoordinateSystem2d coordinateSystem) {
+        return getFloorCoords(coords, coordinateSystem, new Vector2iArray(coords.size()));
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат с округлением вниз и записать их в заданный массив
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector2iArray getFloorCoords(
+            @NotNull Vector2dArray coords, @NotNull CoordinateSystem2d coordinateSystem, @NotNull Vector2iArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector2d srcMin = coordinateSystem.getMin();
+        Vector2d srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getFloorCoords(coords.x, srcMin.x, srcSize.x, dest.x, min.x, size.x);
+        CoordinateKernels.getFloorCoords(coords.y, srcMin.y, srcSize.y, dest.y, min.y, size.y);
+        return dest;
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат с округлением вниз
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector2iArray getFloorCoords(@NotNull Vector2iArray coords, @NotNull CoordinateSystem2i coordinateSystem) {
+        return getFloorCoords(coords, coordinateSystem, new Vector2iArray(coords.size()));
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат с округлением вниз и записать их в заданный массив
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector2iArray getFloorCoords(
+            @NotNull Vector2iArray coords, @NotNull CoordinateSystem2i coordinateSystem, @NotNull Vector2iArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector2i srcMin = coordinateSystem.getMin();
+        Vector2i srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getFloorCoords(coords.x, srcMin.x, srcSize.x, dest.x, min.x, size.x);
+        CoordinateKernels.getFloorCoords(coords.y, srcMin.y, srcSize.y, dest.y, min.y, size.y);
+        return dest;
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат с округлением вниз
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector2iArray getFloorCoords(@NotNull Vector3dArray coords, @NotNull CoordinateSystem3d coordinateSystem) {
+        return getFloorCoords(coords, coordinateSystem, new Vector2iArray(coords.size()));
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат с округлением вниз и записать их в заданный массив
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector2iArray getFloorCoords(
+            @NotNull Vector3dArray coords, @NotNull CoordinateSystem3d coordinateSystem, @NotNull Vector2iArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector3d srcMin = coordinateSystem.getMin();
+        Vector3d srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getFloorCoords(coords.x, srcMin.x, srcSize.x, dest.x, min.x, size.x);
+        CoordinateKernels.getFloorCoords(coords.y, srcMin.y, srcSize.y, dest.y, min.y, size.y);
+        return dest;
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат с округлением вниз
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector2iArray getFloorCoords(@NotNull Vector3iArray coords, @NotNull CoordinateSystem3i coordinateSystem) {
+        return getFloorCoords(coords, coordinateSystem, new Vector2iArray(coords.size()));
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат с округлением вниз и записать их в заданный массив
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector2iArray getFloorCoords(
+            @NotNull Vector3iArray coords, @NotNull CoordinateSystem3i coordinateSystem, @NotNull Vector2iArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector3i srcMin = coordinateSystem.getMin();
+        Vector3i srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getFloorCoords(coords.x, srcMin.x, srcSize.x, dest.x, min.x, size.x);
+        CoordinateKernels.getFloorCoords(coords.y, srcMin.y, srcSize.y, dest.y, min.y, size.y);
+        return dest;
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат с округлением вниз
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector2iArray getFloorCoords(@NotNull Vector4dArray coords, @NotNull CoordinateSystem4d coordinateSystem) {
+        return getFloorCoords(coords, coordinateSystem, new Vector2iArray(coords.size()));
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат с округлением вниз и записать их в заданный массив
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector2iArray getFloorCoords(
+            @NotNull Vector4dArray coords, @NotNull CoordinateSystem4d coordinateSystem, @NotNull Vector2iArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector4d srcMin = coordinateSystem.getMin();
+        Vector4d srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getFloorCoords(coords.x, srcMin.x, srcSize.x, dest.x, min.x, size.x);
+        CoordinateKernels.getFloorCoords(coords.y, srcMin.y, srcSize.y, dest.y, min.y, size.y);
+        return dest;
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector2iArray getSize(@NotNull Vector2dArray coords, @NotNull CoordinateSystem2d coordinateSystem) {
+        return getSize(coords, coordinateSystem, new Vector2iArray(coords.size()));
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат и записать их в заданный массив
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector2iArray getSize(
+            @NotNull Vector2dArray coords, @NotNull CoordinateSystem2d coordinateSystem, @NotNull Vector2iArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector2d srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getSize(coords.x, srcSize.x, dest.x, size.x);
+        CoordinateKernels.getSize(coords.y, srcSize.y, dest.y, size.y);
+        return dest;
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector2iArray getSize(@NotNull Vector2iArray coords, @NotNull CoordinateSystem2i coordinateSystem) {
+        return getSize(coords, coordinateSystem, new Vector2iArray(coords.size()));
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат и записать их в заданный массив
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector2iArray getSize(
+            @NotNull Vector2iArray coords, @NotNull CoordinateSystem2i coordinateSystem, @NotNull Vector2iArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector2i srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getSize(coords.x, srcSize.x, dest.x, size.x);
+        CoordinateKernels.getSize(coords.y, srcSize.y, dest.y, size.y);
+        return dest;
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector2iArray getSize(@NotNull Vector3dArray coords, @NotNull CoordinateSystem3d coordinateSystem) {
+        return getSize(coords, coordinateSystem, new Vector2iArray(coords.size()));
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат и записать их в заданный массив
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector2iArray getSize(
+            @NotNull Vector3dArray coords, @NotNull CoordinateSystem3d coordinateSystem, @NotNull Vector2iArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector3d srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getSize(coords.x, srcSize.x, dest.x, size.x);
+        CoordinateKernels.getSize(coords.y, srcSize.y, dest.y, size.y);
+        return dest;
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector2iArray getSize(@NotNull Vector3iArray coords, @NotNull CoordinateSystem3i coordinateSystem) {
+        return getSize(coords, coordinateSystem, new Vector2iArray(coords.size()));
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат и записать их в заданный массив
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector2iArray getSize(
+            @NotNull Vector3iArray coords, @NotNull CoordinateSystem3i coordinateSystem, @NotNull Vector2iArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector3i srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getSize(coords.x, srcSize.x, dest.x, size.x);
+        CoordinateKernels.getSize(coords.y, srcSize.y, dest.y, size.y);
+        return dest;
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector2iArray getSize(@NotNull Vector4dArray coords, @NotNull CoordinateSystem4d coordinateSystem) {
+        return getSize(coords, coordinateSystem, new Vector2iArray(coords.size()));
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат и записать их в заданный массив
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector2iArray getSize(
+            @NotNull Vector4dArray coords, @NotNull CoordinateSystem4d coordinateSystem, @NotNull Vector2iArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector4d srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getSize(coords.x, srcSize.x, dest.x, size.x);
+        CoordinateKernels.getSize(coords.y, srcSize.y, dest.y, size.y);
+        return dest;
+    }
+
+    /**
+     * Получить отображение координат из заданной системы координат в текущую
+     *
+     * @param coordinateSystem система координат, из которой переводятся координаты
+     * @return отображение координат из заданной системы координат в текущую
+     */
+    @NotNull
+    public RealToIntMapping mappingFrom(@NotNull CoordinateSystem2d coordinateSystem) {
+        Objects.requireNonNull(coordinateSystem);
+        return new RealToIntMapping(
+                toArray(coordinateSystem.getMin()), toArray(coordinateSystem.getSize()),
+                toArray(min), toArray(size)
+        );
+    }
+
+    /**
+     * Получить отображение координат из заданной системы координат в текущую
+     *
+     * @param coordinateSystem система координат, из которой переводятся координаты
+     * @return отображение координат из заданной системы координат в текущую
+     */
+    @NotNull
+    public IntToIntMapping mappingFrom(@NotNull CoordinateSystem2i coordinateSystem) {
+        Objects.requireNonNull(coordinateSystem);
+        return new IntToIntMapping(
+                toArray(coordinateSystem.getMin()), toArray(coordinateSystem.getSize()),
+                toArray(min), toArray(size)
+        );
+    }
+
+    /**
+     * Получить отображение координат из заданной системы координат в текущую
+     *
+     * @param coordinateSystem система координат, из которой переводятся координаты
+     * @return отображение координат из заданной системы координат в текущую
+     */
+    @NotNull
+    public RealToIntMapping mappingFrom(@NotNull CoordinateSystem3d coordinateSystem) {
+        Objects.requireNonNull(coordinateSystem);
+        return new RealToIntMapping(
+                toArray(coordinateSystem.getMin()), toArray(coordinateSystem.getSize()),
+                toArray(min), toArray(size)
+        );
+    }
+
+    /**
+     * Получить отображение координат из заданной системы координат в текущую
+     *
+     * @param coordinateSystem система координат, из которой переводятся координаты
+     * @return отображение координат из заданной системы координат в текущую
+     */
+    @NotNull
+    public IntToIntMapping mappingFrom(@NotNull CoordinateSystem3i coordinateSystem) {
+        Objects.requireNonNull(coordinateSystem);
+        return new IntToIntMapping(
+                toArray(coordinateSystem.getMin()), toArray(coordinateSystem.getSize()),
+                toArray(min), toArray(size)
+        );
+    }
+
+    /**
+     * Получить отображение координат из заданной системы координат в текущую
+     *
+     * @param coordinateSystem система координат, из которой переводятся координаты
+     * @return отображение координат из заданной системы координат в текущую
+     */
+    @NotNull
+    public RealToIntMapping mappingFrom(@NotNull CoordinateSystem4d coordinateSystem) {
+        Objects.requireNonNull(coordinateSystem);
+        return new RealToIntMapping(
+                toArray(coordinateSystem.getMin()), toArray(coordinateSystem.getSize()),
+                toArray(min), toArray(size)
+        );
+    }
+
     /**
      * Получить вектор подобия двух систем координат
      * (значения единичного размера, указанного в переданнной в аргументах СК в текущей СК)
@@ -717,10 +1447,10 @@ public class CoordinateSystem2i implements Serializable {
      * @return значение свёртки вектора в число
      */
     public int conv(@NotNull Vector2i coords) {
-        Vector2i positivePos = Vector2i.subtract(Objects.requireNonNull(coords), min);
+        Objects.requireNonNull(coords);
         if (size.x == 1)
-            return positivePos.y;
-        return positivePos.x + size.x * positivePos.y;
+            return coords.y - min.y;
+        return coords.x - min.x + size.x * (coords.y - min.y);
     }
 
     /**
@@ -731,19 +1461,30 @@ public class CoordinateSystem2i implements Serializable {
      */
     @NotNull
     public Vector2i deconv(int val) {
-        Vector2i positivePos = new Vector2i();
+        return deconv(val, new Vector2i());
+    }
+
+    /**
+     * Обратная свёртка числа в вектор с записью результата в заданный вектор
+     *
+     * @param val  число, из которого нужно получить вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest, полученный из обратной свёртки числа в вектор
+     */
+    @NotNull
+    public Vector2i deconv(int val, @NotNull Vector2i dest) {
         if (size.x == 1) {
-            positivePos.x = 0;
-            positivePos.y = val;
+            dest.x = 0;
+            dest.y = val;
         } else {
-            positivePos.x = val % size.x;
-            positivePos.y = val / size.x;
+            dest.x = val % size.x;
+            dest.y = val / size.x;
         }
-        Vector2i res = Vector2i.sum(positivePos, min);
-        if (!checkCoords(res)) {
-            throw new IllegalArgumentException("res coords are not in CS " + res);
+        Vector2i.sum(dest, min, dest);
+        if (!checkCoords(dest)) {
+            throw new IllegalArgumentException("res coords are not in CS " + dest);
         }
-        return res;
+        return dest;
     }
 
     /**
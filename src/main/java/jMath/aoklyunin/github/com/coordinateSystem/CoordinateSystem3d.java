@@ -11,8 +11,10 @@ import org.apache.commons.math3.util.Precision;
 
 import java.io.Serializable;
 import java.lang.Math;
+import java.util.Arrays;
 import java.util.Objects;
 
+import static jMath.aoklyunin.github.com.coordinateSystem.CoordinateMapping.toArray;
 import static jMath.aoklyunin.github.com.vector.Vector3d.VECTOR_3D_OPACITY;
 
 
@@ -186,11 +188,22 @@ public class CoordinateSystem3d implements Serializable {
      */
     @NotNull
     public Vector3d truncate(@NotNull Vector3d coords) {
-        return new Vector3d(
-                Math.max(Math.min(coords.x, max.x), min.x),
-                Math.max(Math.min(coords.y, max.y), min.y),
-                Math.max(Math.min(coords.z, max.z), min.z)
-        );
+        return truncate(coords, new Vector3d());
+    }
+
+    /**
+     * Обрезать координаты вектора по границам системы координат и записать результат в заданный вектор
+     *
+     * @param coords координаты вектора
+     * @param dest   вектор, в который записывается результат, может совпадать с coords
+     * @return вектор dest с обрезанными координатами
+     */
+    @NotNull
+    public Vector3d truncate(@NotNull Vector3d coords, @NotNull Vector3d dest) {
+        dest.x = Math.max(Math.min(coords.x, max.x), min.x);
+        dest.y = Math.max(Math.min(coords.y, max.y), min.y);
+        dest.z = Math.max(Math.min(coords.z, max.z), min.z);
+        return dest;
     }
 
     /**
@@ -203,11 +216,27 @@ public class CoordinateSystem3d implements Serializable {
      */
     @NotNull
     public Vector3d truncate(@NotNull Vector3d coords, @NotNull Vector3d minPadding, @NotNull Vector3d maxPadding) {
-        return new Vector3d(
-                Math.max(Math.min(coords.x, max.x - maxPadding.x), min.x - minPadding.x),
-                Math.max(Math.min(coords.y, max.y - maxPadding.y), min.y - minPadding.y),
-                Math.max(Math.min(coords.z, max.z - maxPadding.z), min.z - minPadding.z)
-        );
+        return truncate(coords, minPadding, maxPadding, new Vector3d());
+    }
+
+    /**
+     * Обрезать координаты вектора по границам системы координат с учётом отступов относительно самого вектора
+     * и записать результат в заданный вектор
+     *
+     * @param coords     координаты вектора
+     * @param minPadding отступ со стороны минимума (отрицательные координаты)
+     * @param maxPadding отступ со стороны максимума (положительные координаты)
+     * @param dest       вектор, в который записывается результат, может совпадать с coords
+     * @return вектор dest с обрезанными координатами
+     */
+    @NotNull
+    public Vector3d truncate(
+            @NotNull Vector3d coords, @NotNull Vector3d minPadding, @NotNull Vector3d maxPadding, @NotNull Vector3d dest
+    ) {
+        dest.x = Math.max(Math.min(coords.x, max.x - maxPadding.x), min.x - minPadding.x);
+        dest.y = Math.max(Math.min(coords.y, max.y - maxPadding.y), min.y - minPadding.y);
+        dest.z = Math.max(Math.min(coords.z, max.z - maxPadding.z), min.z - minPadding.z);
+        return dest;
     }
 
     /**
@@ -229,7 +258,9 @@ public class CoordinateSystem3d implements Serializable {
      * @return флаг, попадают ли координаты в границы СК
      */
     public boolean checkCoords(double x, double y, double z) {
-        return checkCoords(new Vector3d(x, y, z));
+        return x - min.x >= -VECTOR_3D_OPACITY && max.x - x >= -VECTOR_3D_OPACITY &&
+                y - min.y >= -VECTOR_3D_OPACITY && max.y - y >= -VECTOR_3D_OPACITY &&
+                z - min.z >= -VECTOR_3D_OPACITY && max.z - z >= -VECTOR_3D_OPACITY;
     }
 
 
@@ -255,11 +286,26 @@ public class CoordinateSystem3d implements Serializable {
      */
     @NotNull
     public Vector3d getCoords(double x, double y, @NotNull CoordinateSystem2d coordinateSystem) {
-        return new Vector3d(
-                (x - coordinateSystem.getMin().x) * size.x / coordinateSystem.getSize().x + min.x,
-                (y - coordinateSystem.getMin().y) * size.y / coordinateSystem.getSize().y + min.y,
-                0
-        );
+        return getCoords(x, y, coordinateSystem, new Vector3d());
+    }
+
+    /**
+     * Получить координаты вектора в текущей систему координат и записать их в заданный вектор
+     *
+     * @param x                координата X вектора в другой системе координат
+     * @param y                координата Y вектора в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты вектора
+     * @param dest             вектор, в который записывается результат
+     * @return вектор dest с координатами вектора в текущей системе координат
+     */
+    @NotNull
+    public Vector3d getCoords(
+            double x, double y, @NotNull CoordinateSystem2d coordinateSystem, @NotNull Vector3d dest
+    ) {
+        dest.x = (x - coordinateSystem.getMin().x) * size.x / coordinateSystem.getSize().x + min.x;
+        dest.y = (y - coordinateSystem.getMin().y) * size.y / coordinateSystem.getSize().y + min.y;
+        dest.z = 0;
+        return dest;
     }
 
     /**
@@ -284,11 +330,24 @@ public class CoordinateSystem3d implements Serializable {
      */
     @NotNull
     public Vector3d getCoords(int x, int y, @NotNull CoordinateSystem2i coordinateSystem) {
-        return new Vector3d(
-                (x - coordinateSystem.getMin().x) * size.x / (coordinateSystem.getSize().x - 1) + min.x,
-                (y - coordinateSystem.getMin().y) * size.y / (coordinateSystem.getSize().y - 1) + min.y,
-                0
-        );
+        return getCoords(x, y, coordinateSystem, new Vector3d());
+    }
+
+    /**
+     * Получить координаты вектора в текущей систему координат и записать их в заданный вектор
+     *
+     * @param x                координата X вектора в другой системе координат
+     * @param y                координата Y вектора в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты вектора
+     * @param dest             вектор, в который записывается результат
+     * @return вектор dest с координатами вектора в текущей системе координат
+     */
+    @NotNull
+    public Vector3d getCoords(int x, int y, @NotNull CoordinateSystem2i coordinateSystem, @NotNull Vector3d dest) {
+        dest.x = (x - coordinateSystem.getMin().x) * size.x / (coordinateSystem.getSize().x - 1) + min.x;
+        dest.y = (y - coordinateSystem.getMin().y) * size.y / (coordinateSystem.getSize().y - 1) + min.y;
+        dest.z = 0;
+        return dest;
     }
 
     /**
@@ -314,11 +373,27 @@ public class CoordinateSystem3d implements Serializable {
      */
     @NotNull
     public Vector3d getCoords(double x, double y, double z, @NotNull CoordinateSystem3d coordinateSystem) {
-        return new Vector3d(
-                (x - coordinateSystem.min.x) * size.x / coordinateSystem.size.x + min.x,
-                (y - coordinateSystem.min.y) * size.y / coordinateSystem.size.y + min.y,
-                (z - coordinateSystem.min.z) * size.z / coordinateSystem.size.z + min.z
-        );
+        return getCoords(x, y, z, coordinateSystem, new Vector3d());
+    }
+
+    /**
+     * Получить координаты вектора в текущей систему координат и записать их в заданный вектор
+     *
+     * @param x                координата X вектора в другой системе координат
+     * @param y                координата Y вектора в другой системе координат
+     * @param z                координата Z вектора в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты вектора
+     * @param dest             вектор, в который записывается результат
+     * @return вектор dest с координатами вектора в текущей системе координат
+     */
+    @NotNull
+    public Vector3d getCoords(
+            double x, double y, double z, @NotNull CoordinateSystem3d coordinateSystem, @NotNull Vector3d dest
+    ) {
+        dest.x = (x - coordinateSystem.min.x) * size.x / coordinateSystem.size.x + min.x;
+        dest.y = (y - coordinateSystem.min.y) * size.y / coordinateSystem.size.y + min.y;
+        dest.z = (z - coordinateSystem.min.z) * size.z / coordinateSystem.size.z + min.z;
+        return dest;
     }
 
     /**
@@ -344,11 +419,27 @@ public class CoordinateSystem3d implements Serializable {
      */
     @NotNull
     public Vector3d getCoords(int x, int y, int z, @NotNull CoordinateSystem3i coordinateSystem) {
-        return new Vector3d(
-                (x - coordinateSystem.getMin().x) * size.x / (coordinateSystem.getSize().x - 1) + min.x,
-                (y - coordinateSystem.getMin().y) * size.y / (coordinateSystem.getSize().y - 1) + min.y,
-                (z - coordinateSystem.getMin().z) * size.z / (coordinateSystem.getSize().z - 1) + min.z
-        );
+        return getCoords(x, y, z, coordinateSystem, new Vector3d());
+    }
+
+    /**
+     * Получить координаты вектора в текущей систему координат и записать их в заданный вектор
+     *
+     * @param x                координата X вектора в другой системе координат
+     * @param y                координата Y вектора в другой системе координат
+     * @param z                координата Z вектора в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты вектора
+     * @param dest             вектор, в который записывается результат
+     * @return вектор dest с координатами вектора в текущей системе координат
+     */
+    @NotNull
+    public Vector3d getCoords(
+            int x, int y, int z, @NotNull CoordinateSystem3i coordinateSystem, @NotNull Vector3d dest
+    ) {
+        dest.x = (x - coordinateSystem.getMin().x) * size.x / (coordinateSystem.getSize().x - 1) + min.x;
+        dest.y = (y - coordinateSystem.getMin().y) * size.y / (coordinateSystem.getSize().y - 1) + min.y;
+        dest.z = (z - coordinateSystem.getMin().z) * size.z / (coordinateSystem.getSize().z - 1) + min.z;
+        return dest;
     }
 
     /**
@@ -375,11 +466,28 @@ public class CoordinateSystem3d implements Serializable {
      */
     @NotNull
     public Vector3d getCoords(double x, double y, double z, double w, @NotNull CoordinateSystem4d coordinateSystem) {
-        return new Vector3d(
-                (x - coordinateSystem.getMin().x) * size.x / coordinateSystem.getSize().x + min.x,
-                (y - coordinateSystem.getMin().y) * size.y / coordinateSystem.getSize().y + min.y,
-                (z - coordinateSystem.getMin().z) * size.z / coordinateSystem.getSize().z + min.z
-        );
+        return getCoords(x, y, z, w, coordinateSystem, new Vector3d());
+    }
+
+    /**
+     * Получить координаты вектора в текущей систему координат и записать их в заданный вектор
+     *
+     * @param x                координата X вектора в другой системе координат
+     * @param y                координата Y вектора в другой системе координат
+     * @param z                координата Z вектора в другой системе координат
+     * @param w                координата W вектора в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты вектора
+     * @param dest             вектор, в который записывается результат
+     * @return вектор dest с координатами вектора в текущей системе координат
+     */
+    @NotNull
+    public Vector3d getCoords(
+            double x, double y, double z, double w, @NotNull CoordinateSystem4d coordinateSystem, @NotNull Vector3d dest
+    ) {
+        dest.x = (x - coordinateSystem.getMin().x) * size.x / coordinateSystem.getSize().x + min.x;
+        dest.y = (y - coordinateSystem.getMin().y) * size.y / coordinateSystem.getSize().y + min.y;
+        dest.z = (z - coordinateSystem.getMin().z) * size.z / coordinateSystem.getSize().z + min.z;
+        return dest;
     }
 
     /**
@@ -496,7 +604,7 @@ public class CoordinateSystem3d implements Serializable {
         return new Vector3d(
                 x * size.x / (coordinateSystem.getSize().x - 1),
                 y * size.y / (coordinateSystem.getSize().y - 1),
-                z * size.z / (coordinateSystem.getSize().y - 1)
+                z * size.z / (coordinateSystem.getSize().z - 1)
         );
     }
 
@@ -531,6 +639,406 @@ public class CoordinateSystem3d implements Serializable {
         );
     }
 
+    /**
+     * Получить координаты массива векторов в текущей системе координат
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector3dArray getCoords(@NotNull Vector2dArray coords, @NotNull CoordinateSystem2d coordinateSystem) {
+        return getCoords(coords, coordinateSystem, new Vector3dArray(coords.size()));
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат и записать их в заданный массив
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector3dArray getCoords(
+            @NotNull Vector2dArray coords, @NotNull CoordinateSystem2d coordinateSystem, @NotNull Vector3dArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector2d srcMin = coordinateSystem.getMin();
+        Vector2d srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getCoords(coords.x, srcMin.x, srcSize.x, dest.x, min.x, size.x);
+        CoordinateKernels.getCoords(coords.y, srcMin.y, srcSize.y, dest.y, min.y, size.y);
+        Arrays.fill(dest.z, 0);
+        return dest;
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector3dArray getCoords(@NotNull Vector2iArray coords, @NotNull CoordinateSystem2i coordinateSystem) {
+        return getCoords(coords, coordinateSystem, new Vector3dArray(coords.size()));
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат и записать их в заданный массив
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector3dArray getCoords(
+            @NotNull Vector2iArray coords, @NotNull CoordinateSystem2i coordinateSystem, @NotNull Vector3dArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector2i srcMin = coordinateSystem.getMin();
+        Vector2i srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getCoords(coords.x, srcMin.x, srcSize.x, dest.x, min.x, size.x);
+        CoordinateKernels.getCoords(coords.y, srcMin.y, srcSize.y, dest.y, min.y, size.y);
+        Arrays.fill(dest.z, 0);
+        return dest;
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector3dArray getCoords(@NotNull Vector3dArray coords, @NotNull CoordinateSystem3d coordinateSystem) {
+        return getCoords(coords, coordinateSystem, new Vector3dArray(coords.size()));
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат и записать их в заданный массив
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector3dArray getCoords(
+            @NotNull Vector3dArray coords, @NotNull CoordinateSystem3d coordinateSystem, @NotNull Vector3dArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector3d srcMin = coordinateSystem.getMin();
+        Vector3d srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getCoords(coords.x, srcMin.x, srcSize.x, dest.x, min.x, size.x);
+        CoordinateKernels.getCoords(coords.y, srcMin.y, srcSize.y, dest.y, min.y, size.y);
+        CoordinateKernels.getCoords(coords.z, srcMin.z, srcSize.z, dest.z, min.z, size.z);
+        return dest;
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector3dArray getCoords(@NotNull Vector3iArray coords, @NotNull CoordinateSystem3i coordinateSystem) {
+        return getCoords(coords, coordinateSystem, new Vector3dArray(coords.size()));
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат и записать их в заданный массив
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector3dArray getCoords(
+            @NotNull Vector3iArray coords, @NotNull CoordinateSystem3i coordinateSystem, @NotNull Vector3dArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector3i srcMin = coordinateSystem.getMin();
+        Vector3i srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getCoords(coords.x, srcMin.x, srcSize.x, dest.x, min.x, size.x);
+        CoordinateKernels.getCoords(coords.y, srcMin.y, srcSize.y, dest.y, min.y, size.y);
+        CoordinateKernels.getCoords(coords.z, srcMin.z, srcSize.z, dest.z, min.z, size.z);
+        return dest;
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector3dArray getCoords(@NotNull Vector4dArray coords, @NotNull CoordinateSystem4d coordinateSystem) {
+        return getCoords(coords, coordinateSystem, new Vector3dArray(coords.size()));
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат и записать их в заданный массив
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector3dArray getCoords(
+            @NotNull Vector4dArray coords, @NotNull CoordinateSystem4d coordinateSystem, @NotNull Vector3dArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector4d srcMin = coordinateSystem.getMin();
+        Vector4d srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getCoords(coords.x, srcMin.x, srcSize.x, dest.x, min.x, size.x);
+        CoordinateKernels.getCoords(coords.y, srcMin.y, srcSize.y, dest.y, min.y, size.y);
+        CoordinateKernels.getCoords(coords.z, srcMin.z, srcSize.z, dest.z, min.z, size.z);
+        return dest;
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector3dArray getSize(@NotNull Vector2dArray coords, @NotNull CoordinateSystem2d coordinateSystem) {
+        return getSize(coords, coordinateSystem, new Vector3dArray(coords.size()));
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат и записать их в заданный массив
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector3dArray getSize(
+            @NotNull Vector2dArray coords, @NotNull CoordinateSystem2d coordinateSystem, @NotNull Vector3dArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector2d srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getSize(coords.x, srcSize.x, dest.x, size.x);
+        CoordinateKernels.getSize(coords.y, srcSize.y, dest.y, size.y);
+        Arrays.fill(dest.z, 0);
+        return dest;
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector3dArray getSize(@NotNull Vector2iArray coords, @NotNull CoordinateSystem2i coordinateSystem) {
+        return getSize(coords, coordinateSystem, new Vector3dArray(coords.size()));
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат и записать их в заданный массив
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector3dArray getSize(
+            @NotNull Vector2iArray coords, @NotNull CoordinateSystem2i coordinateSystem, @NotNull Vector3dArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector2i srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getSize(coords.x, srcSize.x, dest.x, size.x);
+        CoordinateKernels.getSize(coords.y, srcSize.y, dest.y, size.y);
+        Arrays.fill(dest.z, 0);
+        return dest;
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector3dArray getSize(@NotNull Vector3dArray coords, @NotNull CoordinateSystem3d coordinateSystem) {
+        return getSize(coords, coordinateSystem, new Vector3dArray(coords.size()));
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат и записать их в заданный массив
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector3dArray getSize(
+            @NotNull Vector3dArray coords, @NotNull CoordinateSystem3d coordinateSystem, @NotNull Vector3dArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector3d srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getSize(coords.x, srcSize.x, dest.x, size.x);
+        CoordinateKernels.getSize(coords.y, srcSize.y, dest.y, size.y);
+        CoordinateKernels.getSize(coords.z, srcSize.z, dest.z, size.z);
+        return dest;
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector3dArray getSize(@NotNull Vector3iArray coords, @NotNull CoordinateSystem3i coordinateSystem) {
+        return getSize(coords, coordinateSystem, new Vector3dArray(coords.size()));
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат и записать их в заданный массив
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector3dArray getSize(
+            @NotNull Vector3iArray coords, @NotNull CoordinateSystem3i coordinateSystem, @NotNull Vector3dArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector3i srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getSize(coords.x, srcSize.x, dest.x, size.x);
+        CoordinateKernels.getSize(coords.y, srcSize.y, dest.y, size.y);
+        CoordinateKernels.getSize(coords.z, srcSize.z, dest.z, size.z);
+        return dest;
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector3dArray getSize(@NotNull Vector4dArray coords, @NotNull CoordinateSystem4d coordinateSystem) {
+        return getSize(coords, coordinateSystem, new Vector3dArray(coords.size()));
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат и записать их в заданный массив
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector3dArray getSize(
+            @NotNull Vector4dArray coords, @NotNull CoordinateSystem4d coordinateSystem, @NotNull Vector3dArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector4d srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getSize(coords.x, srcSize.x, dest.x, size.x);
+        CoordinateKernels.getSize(coords.y, srcSize.y, dest.y, size.y);
+        CoordinateKernels.getSize(coords.z, srcSize.z, dest.z, size.z);
+        return dest;
+    }
+
+    /**
+     * Получить отображение координат из заданной системы координат в текущую
+     *
+     * @param coordinateSystem система координат, из которой переводятся координаты
+     * @return отображение координат из заданной системы координат в текущую
+     */
+    @NotNull
+    public RealToRealMapping mappingFrom(@NotNull CoordinateSystem2d coordinateSystem) {
+        Objects.requireNonNull(coordinateSystem);
+        return new RealToRealMapping(
+                toArray(coordinateSystem.getMin()), toArray(coordinateSystem.getSize()),
+                toArray(min), toArray(size)
+        );
+    }
+
+    /**
+     * Получить отображение координат из заданной системы координат в текущую
+     *
+     * @param coordinateSystem система координат, из которой переводятся координаты
+     * @return отображение координат из заданной системы координат в текущую
+     */
+    @NotNull
+    public IntToRealMapping mappingFrom(@NotNull CoordinateSystem2i coordinateSystem) {
+        Objects.requireNonNull(coordinateSystem);
+        return new IntToRealMapping(
+                toArray(coordinateSystem.getMin()), toArray(coordinateSystem.getSize()),
+                toArray(min), toArray(size)
+        );
+    }
+
+    /**
+     * Получить отображение координат из заданной системы координат в текущую
+     *
+     * @param coordinateSystem система координат, из которой переводятся координаты
+     * @return отображение координат из заданной системы координат в текущую
+     */
+    @NotNull
+    public RealToRealMapping mappingFrom(@NotNull CoordinateSystem3d coordinateSystem) {
+        Objects.requireNonNull(coordinateSystem);
+        return new RealToRealMapping(
+                toArray(coordinateSystem.getMin()), toArray(coordinateSystem.getSize()),
+                toArray(min), toArray(size)
+        );
+    }
+
+    /**
+     * Получить отображение координат из заданной системы координат в текущую
+     *
+     * @param coordinateSystem система координат, из которой переводятся координаты
+     * @return отображение координат из заданной системы координат в текущую
+     */
+    @NotNull
+    public IntToRealMapping mappingFrom(@NotNull CoordinateSystem3i coordinateSystem) {
+        Objects.requireNonNull(coordinateSystem);
+        return new IntToRealMapping(
+                toArray(coordinateSystem.getMin()), toArray(coordinateSystem.getSize()),
+                toArray(min), toArray(size)
+        );
+    }
+
+    /**
+     * Получить отображение координат из заданной системы координат в текущую
+     *
+     * @param coordinateSystem система координат, из которой переводятся координаты
+     * @return отображение координат из заданной системы координат в текущую
+     */
+    @NotNull
+    public RealToRealMapping mappingFrom(@NotNull CoordinateSystem4d coordinateSystem) {
+        Objects.requireNonNull(coordinateSystem);
+        return new RealToRealMapping(
+                toArray(coordinateSystem.getMin()), toArray(coordinateSystem.getSize()),
+                toArray(min), toArray(size)
+        );
+    }
+
     /**
      * Получить вектор подобия двух систем координат
      * (значения единичного размера, указанного в переданнной в аргументах СК в текущей СК)
@@ -609,26 +1117,23 @@ public class CoordinateSystem3d implements Serializable {
      * @return значение свёртки вектора в число
      */
     public int conv(@NotNull Vector3d coords, int divideCnt) {
-        Vector3d delta = Vector3d.mul(size, 1.0 / divideCnt);
-        Vector3d positivePosD = Vector3d.subtract(Objects.requireNonNull(coords), min);
-        Vector3i positivePos = new Vector3i(
-                (int) Math.round(positivePosD.x / Precision.round(delta.x, DIGIT_COUNT)),
-                (int) Math.round(positivePosD.y / Precision.round(delta.y, DIGIT_COUNT)),
-                (int) Math.round(positivePosD.z / Precision.round(delta.z, DIGIT_COUNT))
-        );
+        Objects.requireNonNull(coords);
+        int positiveX = (int) Math.round((coords.x - min.x) / Precision.round(size.x * (1.0 / divideCnt), DIGIT_COUNT));
+        int positiveY = (int) Math.round((coords.y - min.y) / Precision.round(size.y * (1.0 / divideCnt), DIGIT_COUNT));
+        int positiveZ = (int) Math.round((coords.z - min.z) / Precision.round(size.z * (1.0 / divideCnt), DIGIT_COUNT));
         if (size.y < VECTOR_3D_OPACITY)
             if (size.z < VECTOR_3D_OPACITY)
-                return positivePos.x;
+                return positiveX;
             else
-                return positivePos.z + positivePos.x * (divideCnt + 1);
+                return positiveZ + positiveX * (divideCnt + 1);
 
         if (size.x < VECTOR_3D_OPACITY)
             if (size.z < VECTOR_3D_OPACITY)
-                return positivePos.y;
+                return positiveY;
             else
-                return positivePos.z + positivePos.y * (divideCnt + 1);
+                return positiveZ + positiveY * (divideCnt + 1);
 
-        return positivePos.x + (divideCnt + 1) * positivePos.y + (divideCnt + 1) * (divideCnt + 1) * positivePos.z;
+        return positiveX + (divideCnt + 1) * positiveY + (divideCnt + 1) * (divideCnt + 1) * positiveZ;
     }
 
     /**
@@ -640,34 +1145,60 @@ public class CoordinateSystem3d implements Serializable {
      */
     @NotNull
     public Vector3d deconv(int val, int divideCnt) {
-        Vector3d delta = Vector3d.mul(size, 1.0 / divideCnt);
+        return deconv(val, divideCnt, new Vector3d());
+    }
+
+    /**
+     * Обратная свёртка числа в вектор с записью результата в заданный вектор
+     *
+     * @param val       число, из которого нужно получить вектор
+     * @param divideCnt количество делений
+     * @param dest      вектор, в который записывается результат
+     * @return вектор dest, полученный из обратной свёртки числа в вектор
+     */
+    @NotNull
+    public Vector3d deconv(int val, int divideCnt, @NotNull Vector3d dest) {
+        double deltaX = size.x * (1.0 / divideCnt);
+        double deltaY = size.y * (1.0 / divideCnt);
+        double deltaZ = size.z * (1.0 / divideCnt);
         if (size.y < VECTOR_3D_OPACITY)
             if (size.z < VECTOR_3D_OPACITY)
-                return Vector3d.sum(new Vector3d(val * delta.x, 0, 0), min);
+                return shiftByMin(val * deltaX, 0, 0, dest);
             else
-                return Vector3d.sum(new Vector3d((val / (divideCnt + 1)) * delta.x, 0, (val % (divideCnt + 1)) * delta.z), min);
+                return shiftByMin((val / (divideCnt + 1)) * deltaX, 0, (val % (divideCnt + 1)) * deltaZ, dest);
 
         if (size.x < VECTOR_3D_OPACITY)
             if (size.z < VECTOR_3D_OPACITY)
-                return Vector3d.sum(new Vector3d(0, val * delta.y, 0), min);
+                return shiftByMin(0, val * deltaY, 0, dest);
             else
-                return Vector3d.sum(new Vector3d(0, (val / (divideCnt + 1)) * delta.y, (val % (divideCnt + 1)) * delta.z), min);
+                return shiftByMin(0, (val / (divideCnt + 1)) * deltaY, (val % (divideCnt + 1)) * deltaZ, dest);
 
-        Vector3i positivePos = new Vector3i();
-        positivePos.x = (val % (divideCnt + 1));
+        int posX = (val % (divideCnt + 1));
         val = val / (divideCnt + 1);
-        positivePos.y = (val % (divideCnt + 1));
-        positivePos.z = (val / (divideCnt + 1));
-        Vector3d positivePosD = new Vector3d(
-                positivePos.x * delta.x,
-                positivePos.y * delta.y,
-                positivePos.z * delta.z
-        );
-        Vector3d res = Vector3d.sum(positivePosD, min);
-        if (!checkCoords(res)) {
-            throw new IllegalArgumentException("res coords are not in CS " + res);
+        int posY = (val % (divideCnt + 1));
+        int posZ = (val / (divideCnt + 1));
+        shiftByMin(posX * deltaX, posY * deltaY, posZ * deltaZ, dest);
+        if (!checkCoords(dest)) {
+            throw new IllegalArgumentException("res coords are not in CS " + dest);
         }
-        return res;
+        return dest;
+    }
+
+    /**
+     * Записать в вектор сумму смещения и минимальной точки СК
+     *
+     * @param x    смещение по оси x от минимальной точки
+     * @param y    смещение по оси y от минимальной точки
+     * @param z    смещение по оси z от минимальной точки
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest
+     */
+    @NotNull
+    private Vector3d shiftByMin(double x, double y, double z, @NotNull Vector3d dest) {
+        dest.x = x + min.x;
+        dest.y = y + min.y;
+        dest.z = z + min.z;
+        return dest;
     }
 
     /**
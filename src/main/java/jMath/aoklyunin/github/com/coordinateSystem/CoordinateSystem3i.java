@@ -10,8 +10,11 @@ import jMath.aoklyunin.github.com.vector.*;
 
 import java.io.Serializable;
 import java.lang.Math;
+import java.util.Arrays;
 import java.util.Objects;
 
+import static jMath.aoklyunin.github.com.coordinateSystem.CoordinateMapping.toArray;
+
 /**
  * Ограниченная трёхмерная целочисленная система координат
  */
@@ -169,11 +172,22 @@ public class CoordinateSystem3i implements Serializable {
      */
     @NotNull
     public Vector3i truncate(@NotNull Vector3i coords) {
-        return new Vector3i(
-                Math.max(Math.min(coords.x, max.x), min.x),
-                Math.max(Math.min(coords.y, max.y), min.y),
-                Math.max(Math.min(coords.z, max.z), min.z)
-        );
+        return truncate(coords, new Vector3i());
+    }
+
+    /**
+     * Обрезать координаты вектора по границам системы координат и записать результат в заданный вектор
+     *
+     * @param coords координаты вектора
+     * @param dest   вектор, в который записывается результат, может совпадать с coords
+     * @return вектор dest с обрезанными координатами
+     */
+    @NotNull
+    public Vector3i truncate(@NotNull Vector3i coords, @NotNull Vector3i dest) {
+        dest.x = Math.max(Math.min(coords.x, max.x), min.x);
+        dest.y = Math.max(Math.min(coords.y, max.y), min.y);
+        dest.z = Math.max(Math.min(coords.z, max.z), min.z);
+        return dest;
     }
 
     /**
@@ -186,11 +200,27 @@ public class CoordinateSystem3i implements Serializable {
      */
     @NotNull
     public Vector3i truncate(@NotNull Vector3i coords, @NotNull Vector3i minPadding, @NotNull Vector3i maxPadding) {
-        return new Vector3i(
-                Math.max(Math.min(coords.x, max.x - maxPadding.x), min.x - minPadding.x),
-                Math.max(Math.min(coords.y, max.y - maxPadding.y), min.y - minPadding.y),
-                Math.max(Math.min(coords.z, max.z - maxPadding.z), min.z - minPadding.z)
-        );
+        return truncate(coords, minPadding, maxPadding, new Vector3i());
+    }
+
+    /**
+     * Обрезать координаты вектора по границам системы координат с учётом отступов относительно самого вектора
+     * и записать результат в заданный вектор
+     *
+     * @param coords     координаты вектора
+     * @param minPadding отступ со стороны минимума (отрицательные координаты)
+     * @param maxPadding отступ со стороны максимума (положительные координаты)
+     * @param dest       вектор, в который записывается результат, может совпадать с coords
+     * @return вектор dest с обрезанными координатами
+     */
+    @NotNull
+    public Vector3i truncate(
+            @NotNull Vector3i coords, @NotNull Vector3i minPadding, @NotNull Vector3i maxPadding, @NotNull Vector3i dest
+    ) {
+        dest.x = Math.max(Math.min(coords.x, max.x - maxPadding.x), min.x - minPadding.x);
+        dest.y = Math.max(Math.min(coords.y, max.y - maxPadding.y), min.y - minPadding.y);
+        dest.z = Math.max(Math.min(coords.z, max.z - maxPadding.z), min.z - minPadding.z);
+        return dest;
     }
 
     /**
@@ -237,11 +267,26 @@ public class CoordinateSystem3i implements Serializable {
      */
     @NotNull
     public Vector3i getCoords(double x, double y, @NotNull CoordinateSystem2d coordinateSystem) {
-        return new Vector3i(
-                (int) ((x - coordinateSystem.getMin().x) * (size.x - 1) / coordinateSystem.getSize().x + min.x),
-                (int) ((y - coordinateSystem.getMin().y) * (size.y - 1) / coordinateSystem.getSize().y + min.y),
-                0
-        );
+        return getCoords(x, y, coordinateSystem, new Vector3i());
+    }
+
+    /**
+     * Получить координаты вектора в текущей системе координат и записать их в заданный вектор
+     *
+     * @param x                координата X вектора в другой системе координат
+     * @param y                координата Y вектора в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты вектора
+     * @param dest             вектор, в который записывается результат
+     * @return вектор dest с координатами вектора в текущей системе координат
+     */
+    @NotNull
+    public Vector3i getCoords(
+            double x, double y, @NotNull CoordinateSystem2d coordinateSystem, @NotNull Vector3i dest
+    ) {
+        dest.x = (int) ((x - coordinateSystem.getMin().x) * (size.x - 1) / coordinateSystem.getSize().x + min.x);
+        dest.y = (int) ((y - coordinateSystem.getMin().y) * (size.y - 1) / coordinateSystem.getSize().y + min.y);
+        dest.z = 0;
+        return dest;
     }
 
     /**
@@ -266,11 +311,24 @@ public class CoordinateSystem3i implements Serializable {
      */
     @NotNull
     public Vector3i getCoords(int x, int y, @NotNull CoordinateSystem2i coordinateSystem) {
-        return new Vector3i(
-                (x - coordinateSystem.getMin().x) * (size.x - 1) / (coordinateSystem.getSize().x - 1) + min.x,
-                (y - coordinateSystem.getMin().y) * (size.y - 1) / (coordinateSystem.getSize().y - 1) + min.y,
-                0
-        );
+        return getCoords(x, y, coordinateSystem, new Vector3i());
+    }
+
+    /**
+     * Получить координаты вектора в текущей системе координат и записать их в заданный вектор
+     *
+     * @param x                координата X вектора в другой системе координат
+     * @param y                координата Y вектора в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты вектора
+     * @param dest             вектор, в который записывается результат
+     * @return вектор dest с координатами вектора в текущей системе координат
+     */
+    @NotNull
+    public Vector3i getCoords(int x, int y, @NotNull CoordinateSystem2i coordinateSystem, @NotNull Vector3i dest) {
+        dest.x = (x - coordinateSystem.getMin().x) * (size.x - 1) / (coordinateSystem.getSize().x - 1) + min.x;
+        dest.y = (y - coordinateSystem.getMin().y) * (size.y - 1) / (coordinateSystem.getSize().y - 1) + min.y;
+        dest.z = 0;
+        return dest;
     }
 
     /**
@@ -296,11 +354,27 @@ public class CoordinateSystem3i implements Serializable {
      */
     @NotNull
     public Vector3i getCoords(double x, double y, double z, @NotNull CoordinateSystem3d coordinateSystem) {
-        return new Vector3i(
-                (int) ((x - coordinateSystem.getMin().x) * (size.x - 1) / coordinateSystem.getSize().x + min.x),
-                (int) ((y - coordinateSystem.getMin().y) * (size.y - 1) / coordinateSystem.getSize().y + min.y),
-                (int) ((z - coordinateSystem.getMin().z) * (size.z - 1) / coordinateSystem.getSize().z + min.z)
-        );
+        return getCoords(x, y, z, coordinateSystem, new Vector3i());
+    }
+
+    /**
+     * Получить координаты вектора в текущей системе координат и записать их в заданный вектор
+     *
+     * @param x                координата X вектора в другой системе координат
+     * @param y                координата Y вектора в другой системе координат
+     * @param z                координата Z вектора в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты вектора
+     * @param dest             вектор, в который записывается результат
+     * @return вектор dest с координатами вектора в текущей системе координат
+     */
+    @NotNull
+    public Vector3i getCoords(
+            double x, double y, double z, @NotNull CoordinateSystem3d coordinateSystem, @NotNull Vector3i dest
+    ) {
+        dest.x = (int) ((x - coordinateSystem.getMin().x) * (size.x - 1) / coordinateSystem.getSize().x + min.x);
+        dest.y = (int) ((y - coordinateSystem.getMin().y) * (size.y - 1) / coordinateSystem.getSize().y + min.y);
+        dest.z = (int) ((z - coordinateSystem.getMin().z) * (size.z - 1) / coordinateSystem.getSize().z + min.z);
+        return dest;
     }
 
     /**
@@ -326,11 +400,27 @@ public class CoordinateSystem3i implements Serializable {
      */
     @NotNull
     public Vector3i getCoords(int x, int y, int z, @NotNull CoordinateSystem3i coordinateSystem) {
-        return new Vector3i(
-                (x - coordinateSystem.min.x) * (size.x - 1) / (coordinateSystem.size.x - 1) + min.x,
-                (y - coordinateSystem.min.y) * (size.y - 1) / (coordinateSystem.size.y - 1) + min.y,
-                (z - coordinateSystem.min.z) * (size.z - 1) / (coordinateSystem.size.z - 1) + min.z
-        );
+        return getCoords(x, y, z, coordinateSystem, new Vector3i());
+    }
+
+    /**
+     * Получить координаты вектора в текущей системе координат и записать их в заданный вектор
+     *
+     * @param x                координата X вектора в другой системе координат
+     * @param y                координата Y вектора в другой системе координат
+     * @param z                координата Z вектора в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты вектора
+     * @param dest             вектор, в который записывается результат
+     * @return вектор dest с координатами вектора в текущей системе координат
+     */
+    @NotNull
+    public Vector3i getCoords(
+            int x, int y, int z, @NotNull CoordinateSystem3i coordinateSystem, @NotNull Vector3i dest
+    ) {
+        dest.x = (x - coordinateSystem.min.x) * (size.x - 1) / (coordinateSystem.size.x - 1) + min.x;
+        dest.y = (y - coordinateSystem.min.y) * (size.y - 1) / (coordinateSystem.size.y - 1) + min.y;
+        dest.z = (z - coordinateSystem.min.z) * (size.z - 1) / (coordinateSystem.size.z - 1) + min.z;
+        return dest;
     }
 
     /**
@@ -357,11 +447,28 @@ public class CoordinateSystem3i implements Serializable {
      */
     @NotNull
     public Vector3i getCoords(double x, double y, double z, double w, @NotNull CoordinateSystem4d coordinateSystem) {
-        return new Vector3i(
-                (int) ((x - coordinateSystem.getMin().x) * (size.x - 1) / coordinateSystem.getSize().x + min.x),
-                (int) ((y - coordinateSystem.getMin().y) * (size.y - 1) / coordinateSystem.getSize().y + min.y),
-                (int) ((z - coordinateSystem.getMin().z) * (size.z - 1) / coordinateSystem.getSize().z + min.z)
-        );
+        return getCoords(x, y, z, w, coordinateSystem, new Vector3i());
+    }
+
+    /**
+     * Получить координаты вектора в текущей системе координат и записать их в заданный вектор
+     *
+     * @param x                координата X вектора в другой системе координат
+     * @param y                координата Y вектора в другой системе координат
+     * @param z                координата Z вектора в другой системе координат
+     * @param w                координата W вектора в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты вектора
+     * @param dest             вектор, в который записывается результат
+     * @return вектор dest с координатами вектора в текущей системе координат
+     */
+    @NotNull
+    public Vector3i getCoords(
+            double x, double y, double z, double w, @NotNull CoordinateSystem4d coordinateSystem, @NotNull Vector3i dest
+    ) {
+        dest.x = (int) ((x - coordinateSystem.getMin().x) * (size.x - 1) / coordinateSystem.getSize().x + min.x);
+        dest.y = (int) ((y - coordinateSystem.getMin().y) * (size.y - 1) / coordinateSystem.getSize().y + min.y);
+        dest.z = (int) ((z - coordinateSystem.getMin().z) * (size.z - 1) / coordinateSystem.getSize().z + min.z);
+        return dest;
     }
 
     /**
@@ -386,11 +493,26 @@ public class CoordinateSystem3i implements Serializable {
      */
     @NotNull
     public Vector3i getFloorCoords(double x, double y, @NotNull CoordinateSystem2d coordinateSystem) {
-        return new Vector3i(
-                (int) Math.floor(((x - coordinateSystem.getMin().x) * (size.x - 1) / coordinateSystem.getSize().x + min.x)),
-                (int) Math.floor(((y - coordinateSystem.getMin().y) * (size.y - 1) / coordinateSystem.getSize().y + min.y)),
-                0
-        );
+        return getFloorCoords(x, y, coordinateSystem, new Vector3i());
+    }
+
+    /**
+     * Получить округлённые снизу координаты вектора в текущей системе координат и записать их в заданный вектор
+     *
+     * @param x                координата X вектора в другой системе координат
+     * @param y                координата Y вектора в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты вектора
+     * @param dest             вектор, в который записывается результат
+     * @return вектор dest с координатами вектора в текущей системе координат
+     */
+    @NotNull
+    public Vector3i getFloorCoords(
+            double x, double y, @NotNull CoordinateSystem2d coordinateSystem, @NotNull Vector3i dest
+    ) {
+        dest.x = (int) Math.floor(((x - coordinateSystem.getMin().x) * (size.x - 1) / coordinateSystem.getSize().x + min.x));
+        dest.y = (int) Math.floor(((y - coordinateSystem.getMin().y) * (size.y - 1) / coordinateSystem.getSize().y + min.y));
+        dest.z = 0;
+        return dest;
     }
 
     /**
@@ -415,15 +537,24 @@ public class CoordinateSystem3i implements Serializable {
      */
     @NotNull
     public Vector3i getFloorCoords(int x, int y, @NotNull CoordinateSystem2i coordinateSystem) {
-        return new Vector3i(
-                (int) Math.floor(
-                        (double) (x - coordinateSystem.getMin().x) * (size.x - 1) / (coordinateSystem.getSize().x - 1) + min.x
-                ),
-                (int) Math.floor(
-                        (double) (y - coordinateSystem.getMin().y) * (size.y - 1) / (coordinateSystem.getSize().y - 1) + min.y
-                ),
-                0
-        );
+        return getFloorCoords(x, y, coordinateSystem, new Vector3i());
+    }
+
+    /**
+     * Получить округлённые снизу координаты вектора в текущей системе координат и записать их в заданный вектор
+     *
+     * @param x                координата X вектора в другой системе координат
+     * @param y                координата Y вектора в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты вектора
+     * @param dest             вектор, в который записывается результат
+     * @return вектор dest с координатами вектора в текущей системе координат
+     */
+    @NotNull
+    public Vector3i getFloorCoords(int x, int y, @NotNull CoordinateSystem2i coordinateSystem, @NotNull Vector3i dest) {
+        dest.x = (int) Math.floor((double) (x - coordinateSystem.getMin().x) * (size.x - 1) / (coordinateSystem.getSize().x - 1) + min.x);
+        dest.y = (int) Math.floor((double) (y - coordinateSystem.getMin().y) * (size.y - 1) / (coordinateSystem.getSize().y - 1) + min.y);
+        dest.z = 0;
+        return dest;
     }
 
     /**
@@ -449,11 +580,27 @@ public class CoordinateSystem3i implements Serializable {
      */
     @NotNull
     public Vector3i getFloorCoords(double x, double y, double z, @NotNull CoordinateSystem3d coordinateSystem) {
-        return new Vector3i(
-                (int) Math.floor(((x - coordinateSystem.getMin().x) * (size.x - 1) / coordinateSystem.getSize().x + min.x)),
-                (int) Math.floor(((y - coordinateSystem.getMin().y) * (size.y - 1) / coordinateSystem.getSize().y + min.y)),
-                (int) Math.floor(((z - coordinateSystem.getMin().z) * (size.z - 1) / coordinateSystem.getSize().z + min.z))
-        );
+        return getFloorCoords(x, y, z, coordinateSystem, new Vector3i());
+    }
+
+    /**
+     * Получить округлённые снизу координаты вектора в текущей системе координат и записать их в заданный вектор
+     *
+     * @param x                координата X вектора в другой системе координат
+     * @param y                координата Y вектора в другой системе координат
+     * @param z                координата Z вектора в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты вектора
+     * @param dest             вектор, в который записывается результат
+     * @return вектор dest с координатами вектора в текущей системе координат
+     */
+    @NotNull
+    public Vector3i getFloorCoords(
+            double x, double y, double z, @NotNull CoordinateSystem3d coordinateSystem, @NotNull Vector3i dest
+    ) {
+        dest.x = (int) Math.floor(((x - coordinateSystem.getMin().x) * (size.x - 1) / coordinateSystem.getSize().x + min.x));
+        dest.y = (int) Math.floor(((y - coordinateSystem.getMin().y) * (size.y - 1) / coordinateSystem.getSize().y + min.y));
+        dest.z = (int) Math.floor(((z - coordinateSystem.getMin().z) * (size.z - 1) / coordinateSystem.getSize().z + min.z));
+        return dest;
     }
 
     /**
@@ -479,17 +626,27 @@ public class CoordinateSystem3i implements Serializable {
      */
     @NotNull
     public Vector3i getFloorCoords(int x, int y, int z, @NotNull CoordinateSystem3i coordinateSystem) {
-        return new Vector3i(
-                (int) Math.floor(
-                        (double) (x - coordinateSystem.min.x) * (size.x - 1) / (coordinateSystem.size.x - 1) + min.x
-                ),
-                (int) Math.floor(
-                        (double) (y - coordinateSystem.min.y) * (size.y - 1) / (coordinateSystem.size.y - 1) + min.y
-                ),
-                (int) Math.floor(
-                        (double) (z - coordinateSystem.min.z) * (size.z - 1) / (coordinateSystem.size.z - 1) + min.z
-                )
-        );
+        return getFloorCoords(x, y, z, coordinateSystem, new Vector3i());
+    }
+
+    /**
+     * Получить округлённые снизу координаты вектора в текущей системе координат и записать их в заданный вектор
+     *
+     * @param x                координата X вектора в другой системе координат
+     * @param y                координата Y вектора в другой системе координат
+     * @param z                координата Z вектора в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты вектора
+     * @param dest             вектор, в который записывается результат
+     * @return вектор dest с координатами вектора в текущей системе координат
+     */
+    @NotNull
+    public Vector3i getFloorCoords(
+            int x, int y, int z, @NotNull CoordinateSystem3i coordinateSystem, @NotNull Vector3i dest
+    ) {
+        dest.x = (int) Math.floor((double) (x - coordinateSystem.min.x) * (size.x - 1) / (coordinateSystem.size.x - 1) + min.x);
+        dest.y = (int) Math.floor((double) (y - coordinateSystem.min.y) * (size.y - 1) / (coordinateSystem.size.y - 1) + min.y);
+        dest.z = (int) Math.floor((double) (z - coordinateSystem.min.z) * (size.z - 1) / (coordinateSystem.size.z - 1) + min.z);
+        return dest;
     }
 
     /**
@@ -516,11 +673,28 @@ public class CoordinateSystem3i implements Serializable {
      */
     @NotNull
     public Vector3i getFloorCoords(double x, double y, double z, double w, @NotNull CoordinateSystem4d coordinateSystem) {
-        return new Vector3i(
-                (int) Math.floor(((x - coordinateSystem.getMin().x) * (size.x - 1) / coordinateSystem.getSize().x + min.x)),
-                (int) Math.floor(((y - coordinateSystem.getMin().y) * (size.y - 1) / coordinateSystem.getSize().y + min.y)),
-                (int) Math.floor(((z - coordinateSystem.getMin().z) * (size.z - 1) / coordinateSystem.getSize().z + min.z))
-        );
+        return getFloorCoords(x, y, z, w, coordinateSystem, new Vector3i());
+    }
+
+    /**
+     * Получить округлённые снизу координаты вектора в текущей системе координат и записать их в заданный вектор
+     *
+     * @param x                координата X вектора в другой системе координат
+     * @param y                координата Y вектора в другой системе координат
+     * @param z                координата Z вектора в другой системе координат
+     * @param w                координата W вектора в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты вектора
+     * @param dest             вектор, в который записывается результат
+     * @return вектор dest с координатами вектора в текущей системе координат
+     */
+    @NotNull
+    public Vector3i getFloorCoords(
+            double x, double y, double z, double w, @NotNull CoordinateSystem4d coordinateSystem, @NotNull Vector3i dest
+    ) {
+        dest.x = (int) Math.floor(((x - coordinateSystem.getMin().x) * (size.x - 1) / coordinateSystem.getSize().x + min.x));
+        dest.y = (int) Math.floor(((y - coordinateSystem.getMin().y) * (size.y - 1) / coordinateSystem.getSize().y + min.y));
+        dest.z = (int) Math.floor(((z - coordinateSystem.getMin().z) * (size.z - 1) / coordinateSystem.getSize().z + min.z));
+        return dest;
     }
 
     /**
@@ -637,7 +811,7 @@ public class CoordinateSystem3i implements Serializable {
         return new Vector3i(
                 x * (size.x - 1) / (coordinateSystem.size.x - 1),
                 y * (size.y - 1) / (coordinateSystem.size.y - 1),
-                y * (size.z - 1) / (coordinateSystem.size.z - 1)
+                z * (size.z - 1) / (coordinateSystem.size.z - 1)
         );
     }
 
@@ -673,6 +847,571 @@ public class CoordinateSystem3i implements Serializable {
     }
 
 
+    /**
+     * Получить координаты массива векторов в текущей системе координат
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector3iArray getCoords(@NotNull Vector2dArray coords, @NotNull CoordinateSystem2d coordinateSystem) {
+        return getCoords(coords, coordinateSystem, new Vector3iArray(coords.size()));
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат и записать их в заданный массив
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector3iArray getCoords(
+            @NotNull Vector2dArray coords, @NotNull CoordinateSystem2d coordinateSystem, @NotNull Vector3iArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector2d srcMin = coordinateSystem.getMin();
+        Vector2d srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getCoords(coords.x, srcMin.x, srcSize.x, dest.x, min.x, size.x);
+        CoordinateKernels.getCoords(coords.y, srcMin.y, srcSize.y, dest.y, min.y, size.y);
+        Arrays.fill(dest.z, 0);
+        return dest;
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector3iArray getCoords(@NotNull Vector2iArray coords, @NotNull CoordinateSystem2i coordinateSystem) {
+        return getCoords(coords, coordinateSystem, new Vector3iArray(coords.size()));
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат и записать их в заданный массив
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector3iArray getCoords(
+            @NotNull Vector2iArray coords, @NotNull CoordinateSystem2i coordinateSystem, @NotNull Vector3iArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector2i srcMin = coordinateSystem.getMin();
+        Vector2i srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getCoords(coords.x, srcMin.x, srcSize.x, dest.x, min.x, size.x);
+        CoordinateKernels.getCoords(coords.y, srcMin.y, srcSize.y, dest.y, min.y, size.y);
+        Arrays.fill(dest.z, 0);
+        return dest;
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector3iArray getCoords(@NotNull Vector3dArray coords, @NotNull CoordinateSystem3d coordinateSystem) {
+        return getCoords(coords, coordinateSystem, new Vector3iArray(coords.size()));
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат и записать их в заданный массив
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector3iArray getCoords(
+            @NotNull Vector3dArray coords, @NotNull CoordinateSystem3d coordinateSystem, @NotNull Vector3iArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector3d srcMin = coordinateSystem.getMin();
+        Vector3d srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getCoords(coords.x, srcMin.x, srcSize.x, dest.x, min.x, size.x);
+        CoordinateKernels.getCoords(coords.y, srcMin.y, srcSize.y, dest.y, min.y, size.y);
+        CoordinateKernels.getCoords(coords.z, srcMin.z, srcSize.z, dest.z, min.z, size.z);
+        return dest;
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector3iArray getCoords(@NotNull Vector3iArray coords, @NotNull CoordinateSystem3i coordinateSystem) {
+        return getCoords(coords, coordinateSystem, new Vector3iArray(coords.size()));
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат и записать их в заданный массив
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector3iArray getCoords(
+            @NotNull Vector3iArray coords, @NotNull CoordinateSystem3i coordinateSystem, @NotNull Vector3iArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector3i srcMin = coordinateSystem.getMin();
+        Vector3i srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getCoords(coords.x, srcMin.x, srcSize.x, dest.x, min.x, size.x);
+        CoordinateKernels.getCoords(coords.y, srcMin.y, srcSize.y, dest.y, min.y, size.y);
+        CoordinateKernels.getCoords(coords.z, srcMin.z, srcSize.z, dest.z, min.z, size.z);
+        return dest;
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector3iArray getCoords(@NotNull Vector4dArray coords, @NotNull CoordinateSystem4d coordinateSystem) {
+        return getCoords(coords, coordinateSystem, new Vector3iArray(coords.size()));
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат и записать их в заданный массив
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector3iArray getCoords(
+            @NotNull Vector4dArray coords, @NotNull CoordinateSystem4d coordinateSystem, @NotNull Vector3iArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector4d srcMin = coordinateSystem.getMin();
+        Vector4d srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getCoords(coords.x, srcMin.x, srcSize.x, dest.x, min.x, size.x);
+        CoordinateKernels.getCoords(coords.y, srcMin.y, srcSize.y, dest.y, min.y, size.y);
+        CoordinateKernels.getCoords(coords.z, srcMin.z, srcSize.z, dest.z, min.z, size.z);
+        return dest;
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат с округлением вниз
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector3iArray getFloorCoords(@NotNull Vector2dArray coords, @NotNull CoordinateSystem2d coordinateSystem) {
+        return getFloorCoords(coords, coordinateSystem, new Vector3iArray(coords.size()));
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат с округлением вниз и записать их в заданный массив
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector3iArray getFloorCoords(
+            @NotNull Vector2dArray coords, @NotNull CoordinateSystem2d coordinateSystem, @NotNull Vector3iArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector2d srcMin = coordinateSystem.getMin();
+        Vector2d srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getFloorCoords(coords.x, srcMin.x, srcSize.x, dest.x, min.x, size.x);
+        CoordinateKernels.getFloorCoords(coords.y, srcMin.y, srcSize.y, dest.y, min.y, size.y);
+        Arrays.fill(dest.z, 0);
+        return dest;
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат с округлением вниз
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector3iArray getFloorCoords(@NotNull Vector2iArray coords, @NotNull CoordinateSystem2i coordinateSystem) {
+        return getFloorCoords(coords, coordinateSystem, new Vector3iArray(coords.size()));
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат с округлением вниз и записать их в заданный массив
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector3iArray getFloorCoords(
+            @NotNull Vector2iArray coords, @NotNull CoordinateSystem2i coordinateSystem, @NotNull Vector3iArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector2i srcMin = coordinateSystem.getMin();
+        Vector2i srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getFloorCoords(coords.x, srcMin.x, srcSize.x, dest.x, min.x, size.x);
+        CoordinateKernels.getFloorCoords(coords.y, srcMin.y, srcSize.y, dest.y, min.y, size.y);
+        Arrays.fill(dest.z, 0);
+        return dest;
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат с округлением вниз
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector3iArray getFloorCoords(@NotNull Vector3dArray coords, @NotNull CoordinateSystem3d coordinateSystem) {
+        return getFloorCoords(coords, coordinateSystem, new Vector3iArray(coords.size()));
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат с округлением вниз и записать их в заданный массив
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector3iArray getFloorCoords(
+            @NotNull Vector3dArray coords, @NotNull CoordinateSystem3d coordinateSystem, @NotNull Vector3iArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector3d srcMin = coordinateSystem.getMin();
+        Vector3d srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getFloorCoords(coords.x, srcMin.x, srcSize.x, dest.x, min.x, size.x);
+        CoordinateKernels.getFloorCoords(coords.y, srcMin.y, srcSize.y, dest.y, min.y, size.y);
+        CoordinateKernels.getFloorCoords(coords.z, srcMin.z, srcSize.z, dest.z, min.z, size.z);
+        return dest;
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат с округлением вниз
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector3iArray getFloorCoords(@NotNull Vector3iArray coords, @NotNull CoordinateSystem3i coordinateSystem) {
+        return getFloorCoords(coords, coordinateSystem, new Vector3iArray(coords.size()));
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат с округлением вниз и записать их в заданный массив
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector3iArray getFloorCoords(
+            @NotNull Vector3iArray coords, @NotNull CoordinateSystem3i coordinateSystem, @NotNull Vector3iArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector3i srcMin = coordinateSystem.getMin();
+        Vector3i srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getFloorCoords(coords.x, srcMin.x, srcSize.x, dest.x, min.x, size.x);
+        CoordinateKernels.getFloorCoords(coords.y, srcMin.y, srcSize.y, dest.y, min.y, size.y);
+        CoordinateKernels.getFloorCoords(coords.z, srcMin.z, srcSize.z, dest.z, min.z, size.z);
+        return dest;
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат с округлением вниз
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector3iArray getFloorCoords(@NotNull Vector4dArray coords, @NotNull CoordinateSystem4d coordinateSystem) {
+        return getFloorCoords(coords, coordinateSystem, new Vector3iArray(coords.size()));
+    }
+
+    /**
+     * Получить координаты массива векторов в текущей системе координат с округлением вниз и записать их в заданный массив
+     *
+     * @param coords           координаты векторов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с координатами векторов в текущей системе координат
+     */
+    @NotNull
+    public Vector3iArray getFloorCoords(
+            @NotNull Vector4dArray coords, @NotNull CoordinateSystem4d coordinateSystem, @NotNull Vector3iArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector4d srcMin = coordinateSystem.getMin();
+        Vector4d srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getFloorCoords(coords.x, srcMin.x, srcSize.x, dest.x, min.x, size.x);
+        CoordinateKernels.getFloorCoords(coords.y, srcMin.y, srcSize.y, dest.y, min.y, size.y);
+        CoordinateKernels.getFloorCoords(coords.z, srcMin.z, srcSize.z, dest.z, min.z, size.z);
+        return dest;
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector3iArray getSize(@NotNull Vector2dArray coords, @NotNull CoordinateSystem2d coordinateSystem) {
+        return getSize(coords, coordinateSystem, new Vector3iArray(coords.size()));
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат и записать их в заданный массив
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector3iArray getSize(
+            @NotNull Vector2dArray coords, @NotNull CoordinateSystem2d coordinateSystem, @NotNull Vector3iArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector2d srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getSize(coords.x, srcSize.x, dest.x, size.x);
+        CoordinateKernels.getSize(coords.y, srcSize.y, dest.y, size.y);
+        Arrays.fill(dest.z, 0);
+        return dest;
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector3iArray getSize(@NotNull Vector2iArray coords, @NotNull CoordinateSystem2i coordinateSystem) {
+        return getSize(coords, coordinateSystem, new Vector3iArray(coords.size()));
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат и записать их в заданный массив
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector3iArray getSize(
+            @NotNull Vector2iArray coords, @NotNull CoordinateSystem2i coordinateSystem, @NotNull Vector3iArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector2i srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getSize(coords.x, srcSize.x, dest.x, size.x);
+        CoordinateKernels.getSize(coords.y, srcSize.y, dest.y, size.y);
+        Arrays.fill(dest.z, 0);
+        return dest;
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector3iArray getSize(@NotNull Vector3dArray coords, @NotNull CoordinateSystem3d coordinateSystem) {
+        return getSize(coords, coordinateSystem, new Vector3iArray(coords.size()));
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат и записать их в заданный массив
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector3iArray getSize(
+            @NotNull Vector3dArray coords, @NotNull CoordinateSystem3d coordinateSystem, @NotNull Vector3iArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector3d srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getSize(coords.x, srcSize.x, dest.x, size.x);
+        CoordinateKernels.getSize(coords.y, srcSize.y, dest.y, size.y);
+        CoordinateKernels.getSize(coords.z, srcSize.z, dest.z, size.z);
+        return dest;
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector3iArray getSize(@NotNull Vector3iArray coords, @NotNull CoordinateSystem3i coordinateSystem) {
+        return getSize(coords, coordinateSystem, new Vector3iArray(coords.size()));
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат и записать их в заданный массив
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector3iArray getSize(
+            @NotNull Vector3iArray coords, @NotNull CoordinateSystem3i coordinateSystem, @NotNull Vector3iArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector3i srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getSize(coords.x, srcSize.x, dest.x, size.x);
+        CoordinateKernels.getSize(coords.y, srcSize.y, dest.y, size.y);
+        CoordinateKernels.getSize(coords.z, srcSize.z, dest.z, size.z);
+        return dest;
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @return новый массив с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector3iArray getSize(@NotNull Vector4dArray coords, @NotNull CoordinateSystem4d coordinateSystem) {
+        return getSize(coords, coordinateSystem, new Vector3iArray(coords.size()));
+    }
+
+    /**
+     * Получить размеры массива объектов в текущей систему координат и записать их в заданный массив
+     *
+     * @param coords           размеры объектов в другой системе координат
+     * @param coordinateSystem система координат, в которой заданы координаты векторов
+     * @param dest             массив, в который записывается результат
+     * @return массив dest с размерами объектов в текущей системе координат
+     */
+    @NotNull
+    public Vector3iArray getSize(
+            @NotNull Vector4dArray coords, @NotNull CoordinateSystem4d coordinateSystem, @NotNull Vector3iArray dest
+    ) {
+        CoordinateKernels.checkSize(coords.size(), dest.size());
+        Vector4d srcSize = coordinateSystem.getSize();
+        CoordinateKernels.getSize(coords.x, srcSize.x, dest.x, size.x);
+        CoordinateKernels.getSize(coords.y, srcSize.y, dest.y, size.y);
+        CoordinateKernels.getSize(coords.z, srcSize.z, dest.z, size.z);
+        return dest;
+    }
+
+    /**
+     * Получить отображение координат из заданной системы координат в текущую
+     *
+     * @param coordinateSystem система координат, из которой переводятся координаты
+     * @return отображение координат из заданной системы координат в текущую
+     */
+    @NotNull
+    public RealToIntMapping mappingFrom(@NotNull CoordinateSystem2d coordinateSystem) {
+        Objects.requireNonNull(coordinateSystem);
+        return new RealToIntMapping(
+                toArray(coordinateSystem.getMin()), toArray(coordinateSystem.getSize()),
+                toArray(min), toArray(size)
+        );
+    }
+
+    /**
+     * Получить отображение координат из заданной системы координат в текущую
+     *
+     * @param coordinateSystem система координат, из которой переводятся координаты
+     * @return отображение координат из заданной системы координат в текущую
+     */
+    @NotNull
+    public IntToIntMapping mappingFrom(@NotNull CoordinateSystem2i coordinateSystem) {
+        Objects.requireNonNull(coordinateSystem);
+        return new IntToIntMapping(
+                toArray(coordinateSystem.getMin()), toArray(coordinateSystem.getSize()),
+                toArray(min), toArray(size)
+        );
+    }
+
+    /**
+     * Получить отображение координат из заданной системы координат в текущую
+     *
+     * @param coordinateSystem система координат, из которой переводятся координаты
+     * @return отображение координат из заданной системы координат в текущую
+     */
+    @NotNull
+    public RealToIntMapping mappingFrom(@NotNull CoordinateSystem3d coordinateSystem) {
+        Objects.requireNonNull(coordinateSystem);
+        return new RealToIntMapping(
+                toArray(coordinateSystem.getMin()), toArray(coordinateSystem.getSize()),
+                toArray(min), toArray(size)
+        );
+    }
+
+    /**
+     * Получить отображение координат из заданной системы координат в текущую
+     *
+     * @param coordinateSystem система координат, из которой переводятся координаты
+     * @return отображение координат из заданной системы координат в текущую
+     */
+    @NotNull
+    public IntToIntMapping mappingFrom(@NotNull CoordinateSystem3i coordinateSystem) {
+        Objects.requireNonNull(coordinateSystem);
+        return new IntToIntMapping(
+                toArray(coordinateSystem.getMin()), toArray(coordinateSystem.getSize()),
+                toArray(min), toArray(size)
+        );
+    }
+
+    /**
+     * Получить отображение координат из заданной системы координат в текущую
+     *
+     * @param coordinateSystem система координат, из которой переводятся координаты
+     * @return отображение координат из заданной системы координат в текущую
+     */
+    @NotNull
+    public RealToIntMapping mappingFrom(@NotNull CoordinateSystem4d coordinateSystem) {
+        Objects.requireNonNull(coordinateSystem);
+        return new RealToIntMapping(
+                toArray(coordinateSystem.getMin()), toArray(coordinateSystem.getSize()),
+                toArray(min), toArray(size)
+        );
+    }
+
     /**
      * Получить вектор подобия двух систем координат
      * (значения единичного размера, указанного в переданнной в аргументах СК в текущей СК)
@@ -749,14 +1488,16 @@ public class CoordinateSystem3i implements Serializable {
      * @return значение свёртки вектора в число
      */
     public int conv(@NotNull Vector3i coords) {
-        Vector3i positivePos = Vector3i.subtract(coords, min);
+        int positiveX = coords.x - min.x;
+        int positiveY = coords.y - min.y;
+        int positiveZ = coords.z - min.z;
         if (size.y == 1)
             if (size.z == 1)
-                return positivePos.x;
+                return positiveX;
             else
-                return positivePos.z * size.x + positivePos.x;
+                return positiveZ * size.x + positiveX;
 
-        return positivePos.y + size.y * positivePos.x + size.y * size.x * positivePos.z;
+        return positiveY + size.y * positiveX + size.y * size.x * positiveZ;
     }
 
     /**
@@ -767,22 +1508,40 @@ public class CoordinateSystem3i implements Serializable {
      */
     @NotNull
     public Vector3i deconv(int val) {
-        if (size.y == 1)
-            if (size.z == 1)
-                return Vector3i.sum(new Vector3i(val, 0, 0), min);
-            else
-                return Vector3i.sum(new Vector3i(val % size.x, 0, val / size.x), min);
+        return deconv(val, new Vector3i());
+    }
+
+    /**
+     * Обратная свёртка числа в вектор с записью результата в заданный вектор
+     *
+     * @param val  число, из которого нужно получить вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest, полученный из обратной свёртки числа в вектор
+     */
+    @NotNull
+    public Vector3i deconv(int val, @NotNull Vector3i dest) {
+        if (size.y == 1) {
+            if (size.z == 1) {
+                dest.x = val;
+                dest.y = 0;
+                dest.z = 0;
+            } else {
+                dest.x = val % size.x;
+                dest.y = 0;
+                dest.z = val / size.x;
+            }
+            return Vector3i.sum(dest, min, dest);
+        }
 
-        Vector3i positivePos = new Vector3i();
-        positivePos.y = val % size.y;
+        dest.y = val % size.y;
         val = val / size.y;
-        positivePos.x = val % size.x;
-        positivePos.z = val / size.x;
-        Vector3i res = Vector3i.sum(positivePos, min);
-        if (!checkCoords(res)) {
-            throw new IllegalArgumentException("res coords are not in CS " + res);
+        dest.x = val % size.x;
+        dest.z = val / size.x;
+        Vector3i.sum(dest, min, dest);
+        if (!checkCoords(dest)) {
+            throw new IllegalArgumentException("res coords are not in CS " + dest);
         }
-        return res;
+        return dest;
     }
 
     /**
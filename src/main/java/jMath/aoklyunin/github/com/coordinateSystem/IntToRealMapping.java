@@ -0,0 +1,236 @@
+package jMath.aoklyunin.github.com.coordinateSystem;
+
+import com.sun.istack.NotNull;
+import jMath.aoklyunin.github.com.vector.Vector2d;
+import jMath.aoklyunin.github.com.vector.Vector3d;
+import jMath.aoklyunin.github.com.vector.Vector4d;
+
+import java.util.Arrays;
+
+/**
+ * Отображение координат из целочисленной СК в вещественную
+ */
+public final class IntToRealMapping extends CoordinateMapping {
+    /**
+     * минимальные координаты исходной СК
+     */
+    @NotNull
+    private final int[] srcMinInt;
+    /**
+     * размеры исходной СК
+     */
+    @NotNull
+    private final int[] srcSizeInt;
+    /**
+     * делители по осям: размер исходной СК, уменьшенный на 1
+     */
+    @NotNull
+    private final int[] den;
+
+    /**
+     * Конструктор отображения
+     *
+     * @param srcMin  минимальные координаты исходной СК
+     * @param srcSize размеры исходной СК
+     * @param dstMin  минимальные координаты целевой СК
+     * @param dstSize размеры целевой СК
+     */
+    IntToRealMapping(
+            @NotNull double[] srcMin, @NotNull double[] srcSize, @NotNull double[] dstMin, @NotNull double[] dstSize
+    ) {
+        super(srcMin, srcSize, dstMin, dstSize);
+        this.srcMinInt = toIntArray(srcMin, 0);
+        this.srcSizeInt = toIntArray(srcSize, 0);
+        this.den = toIntArray(srcSize, -1);
+    }
+
+    @NotNull
+    @Override
+    public RealToIntMapping inverse() {
+        return new RealToIntMapping(dstMin, dstSize, srcMin, srcSize);
+    }
+
+    @Override
+    public boolean isSourceInteger() {
+        return true;
+    }
+
+    @Override
+    public boolean isTargetInteger() {
+        return false;
+    }
+
+    /**
+     * Перевести координату вдоль оси
+     *
+     * @param axis  номер оси (0 - X, 1 - Y, 2 - Z, 3 - W)
+     * @param value координата в исходной СК
+     * @return координата в целевой СК
+     */
+    public double map(int axis, int value) {
+        if (axis >= mappedAxisCnt)
+            return 0;
+        return (value - srcMinInt[axis]) * dstSize[axis] / den[axis] + dstMin[axis];
+    }
+
+    /**
+     * Перевести размер вдоль оси
+     *
+     * @param axis  номер оси (0 - X, 1 - Y, 2 - Z, 3 - W)
+     * @param value размер в исходной СК
+     * @return размер в целевой СК
+     */
+    public double mapSize(int axis, int value) {
+        if (axis >= mappedAxisCnt)
+            return 0;
+        return value * dstSize[axis] / den[axis];
+    }
+
+    /**
+     * Перевести координаты вектора в целевую СК и записать их в заданный вектор
+     *
+     * @param x    координата X в исходной СК
+     * @param y    координата Y в исходной СК
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с координатами в целевой СК
+     */
+    @NotNull
+    public Vector2d map(int x, int y, @NotNull Vector2d dest) {
+        checkDimension(2);
+        dest.x = map(0, x);
+        dest.y = map(1, y);
+        return dest;
+    }
+
+    /**
+     * Перевести координаты вектора в целевую СК и записать их в заданный вектор
+     * (координаты осей, которых нет в исходной СК, игнорируются)
+     *
+     * @param x    координата X в исходной СК
+     * @param y    координата Y в исходной СК
+     * @param z    координата Z в исходной СК
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с координатами в целевой СК
+     */
+    @NotNull
+    public Vector3d map(int x, int y, int z, @NotNull Vector3d dest) {
+        checkDimension(3);
+        dest.x = map(0, x);
+        dest.y = map(1, y);
+        dest.z = map(2, z);
+        return dest;
+    }
+
+    /**
+     * Перевести координаты вектора в целевую СК и записать их в заданный вектор
+     * (координаты осей, которых нет в исходной СК, игнорируются)
+     *
+     * @param x    координата X в исходной СК
+     * @param y    координата Y в исходной СК
+     * @param z    координата Z в исходной СК
+     * @param w    координата W в исходной СК
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с координатами в целевой СК
+     */
+    @NotNull
+    public Vector4d map(int x, int y, int z, int w, @NotNull Vector4d dest) {
+        checkDimension(4);
+        dest.x = map(0, x);
+        dest.y = map(1, y);
+        dest.z = map(2, z);
+        dest.w = map(3, w);
+        return dest;
+    }
+
+    /**
+     * Перевести размеры объекта в целевую СК и записать их в заданный вектор
+     *
+     * @param x    размер объекта вдоль оси X в исходной СК
+     * @param y    размер объекта вдоль оси Y в исходной СК
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с размерами в целевой СК
+     */
+    @NotNull
+    public Vector2d mapSize(int x, int y, @NotNull Vector2d dest) {
+        checkDimension(2);
+        dest.x = mapSize(0, x);
+        dest.y = mapSize(1, y);
+        return dest;
+    }
+
+    /**
+     * Перевести размеры объекта в целевую СК и записать их в заданный вектор
+     * (координаты осей, которых нет в исходной СК, игнорируются)
+     *
+     * @param x    размер объекта вдоль оси X в исходной СК
+     * @param y    размер объекта вдоль оси Y в исходной СК
+     * @param z    размер объекта вдоль оси Z в исходной СК
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с размерами в целевой СК
+     */
+    @NotNull
+    public Vector3d mapSize(int x, int y, int z, @NotNull Vector3d dest) {
+        checkDimension(3);
+        dest.x = mapSize(0, x);
+        dest.y = mapSize(1, y);
+        dest.z = mapSize(2, z);
+        return dest;
+    }
+
+    /**
+     * Перевести размеры объекта в целевую СК и записать их в заданный вектор
+     * (координаты осей, которых нет в исходной СК, игнорируются)
+     *
+     * @param x    размер объекта вдоль оси X в исходной СК
+     * @param y    размер объекта вдоль оси Y в исходной СК
+     * @param z    размер объекта вдоль оси Z в исходной СК
+     * @param w    размер объекта вдоль оси W в исходной СК
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с размерами в целевой СК
+     */
+    @NotNull
+    public Vector4d mapSize(int x, int y, int z, int w, @NotNull Vector4d dest) {
+        checkDimension(4);
+        dest.x = mapSize(0, x);
+        dest.y = mapSize(1, y);
+        dest.z = mapSize(2, z);
+        dest.w = mapSize(3, w);
+        return dest;
+    }
+
+    /**
+     * Перевести массив координат вдоль оси
+     *
+     * @param axis номер оси (0 - X, 1 - Y, 2 - Z, 3 - W)
+     * @param src  координаты вдоль оси в исходной СК
+     * @param dest массив, в который записывается результат
+     * @return массив dest
+     */
+    @NotNull
+    public double[] map(int axis, @NotNull int[] src, @NotNull double[] dest) {
+        CoordinateKernels.checkSize(src.length, dest.length);
+        if (axis >= mappedAxisCnt)
+            Arrays.fill(dest, 0);
+        else
+            CoordinateKernels.getCoords(src, srcMinInt[axis], srcSizeInt[axis], dest, dstMin[axis], dstSize[axis]);
+        return dest;
+    }
+
+    /**
+     * Перевести массив размеров вдоль оси
+     *
+     * @param axis номер оси (0 - X, 1 - Y, 2 - Z, 3 - W)
+     * @param src  размеры вдоль оси в исходной СК
+     * @param dest массив, в который записывается результат
+     * @return массив dest
+     */
+    @NotNull
+    public double[] mapSize(int axis, @NotNull int[] src, @NotNull double[] dest) {
+        CoordinateKernels.checkSize(src.length, dest.length);
+        if (axis >= mappedAxisCnt)
+            Arrays.fill(dest, 0);
+        else
+            CoordinateKernels.getSize(src, srcSizeInt[axis], dest, dstSize[axis]);
+        return dest;
+    }
+}
@@ -0,0 +1,259 @@
+package jMath.aoklyunin.github.com.coordinateSystem;
+
+import com.sun.istack.NotNull;
+import jMath.aoklyunin.github.com.vector.Vector2i;
+import jMath.aoklyunin.github.com.vector.Vector3i;
+
+import java.util.Arrays;
+
+/**
+ * Отображение координат из вещественной СК в целочисленную
+ */
+public final class RealToIntMapping extends CoordinateMapping {
+    /**
+     * минимальные координаты целевой СК
+     */
+    @NotNull
+    private final int[] dstMinInt;
+    /**
+     * размеры целевой СК
+     */
+    @NotNull
+    private final int[] dstSizeInt;
+    /**
+     * множители по осям: размер целевой СК, уменьшенный на 1
+     */
+    @NotNull
+    private final int[] num;
+
+    /**
+     * Конструктор отображения
+     *
+     * @param srcMin  минимальные координаты исходной СК
+     * @param srcSize размеры исходной СК
+     * @param dstMin  минимальные координаты целевой СК
+     * @param dstSize размеры целевой СК
+     */
+    RealToIntMapping(
+            @NotNull double[] srcMin, @NotNull double[] srcSize, @NotNull double[] dstMin, @NotNull double[] dstSize
+    ) {
+        super(srcMin, srcSize, dstMin, dstSize);
+        this.dstMinInt = toIntArray(dstMin, 0);
+        this.dstSizeInt = toIntArray(dstSize, 0);
+        this.num = toIntArray(dstSize, -1);
+    }
+
+    @NotNull
+    @Override
+    public IntToRealMapping inverse() {
+        return new IntToRealMapping(dstMin, dstSize, srcMin, srcSize);
+    }
+
+    @Override
+    public boolean isSourceInteger() {
+        return false;
+    }
+
+    @Override
+    public boolean isTargetInteger() {
+        return true;
+    }
+
+    /**
+     * Перевести координату вдоль оси
+     *
+     * @param axis  номер оси (0 - X, 1 - Y, 2 - Z)
+     * @param value координата в исходной СК
+     * @return координата в целевой СК
+     */
+    public int map(int axis, double value) {
+        if (axis >= mappedAxisCnt)
+            return 0;
+        return (int) ((value - srcMin[axis]) * num[axis] / srcSize[axis] + dstMinInt[axis]);
+    }
+
+    /**
+     * Перевести координату вдоль оси с округлением вниз
+     *
+     * @param axis  номер оси (0 - X, 1 - Y, 2 - Z)
+     * @param value координата в исходной СК
+     * @return координата в целевой СК
+     */
+    public int mapFloor(int axis, double value) {
+        if (axis >= mappedAxisCnt)
+            return 0;
+        return (int) Math.floor((value - srcMin[axis]) * num[axis] / srcSize[axis] + dstMinInt[axis]);
+    }
+
+    /**
+     * Перевести размер вдоль оси
+     *
+     * @param axis  номер оси (0 - X, 1 - Y, 2 - Z)
+     * @param value размер в исходной СК
+     * @return размер в целевой СК
+     */
+    public int mapSize(int axis, double value) {
+        if (axis >= mappedAxisCnt)
+            return 0;
+        return (int) (value * num[axis] / srcSize[axis]);
+    }
+
+    /**
+     * Перевести координаты вектора в целевую СК и записать их в заданный вектор
+     *
+     * @param x    координата X в исходной СК
+     * @param y    координата Y в исходной СК
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с координатами в целевой СК
+     */
+    @NotNull
+    public Vector2i map(double x, double y, @NotNull Vector2i dest) {
+        checkDimension(2);
+        dest.x = map(0, x);
+        dest.y = map(1, y);
+        return dest;
+    }
+
+    /**
+     * Перевести координаты вектора в целевую СК и записать их в заданный вектор
+     * (координаты осей, которых нет в исходной СК, игнорируются)
+     *
+     * @param x    координата X в исходной СК
+     * @param y    координата Y в исходной СК
+     * @param z    координата Z в исходной СК
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с координатами в целевой СК
+     */
+    @NotNull
+    public Vector3i map(double x, double y, double z, @NotNull Vector3i dest) {
+        checkDimension(3);
+        dest.x = map(0, x);
+        dest.y = map(1, y);
+        dest.z = map(2, z);
+        return dest;
+    }
+
+    /**
+     * Перевести координаты вектора в целевую СК с округлением вниз и записать их в заданный вектор
+     *
+     * @param x    координата X в исходной СК
+     * @param y    координата Y в исходной СК
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с координатами в целевой СК
+     */
+    @NotNull
+    public Vector2i mapFloor(double x, double y, @NotNull Vector2i dest) {
+        checkDimension(2);
+        dest.x = mapFloor(0, x);
+        dest.y = mapFloor(1, y);
+        return dest;
+    }
+
+    /**
+     * Перевести координаты вектора в целевую СК с округлением вниз и записать их в заданный вектор
+     * (координаты осей, которых нет в исходной СК, игнорируются)
+     *
+     * @param x    координата X в исходной СК
+     * @param y    координата Y в исходной СК
+     * @param z    координата Z в исходной СК
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с координатами в целевой СК
+     */
+    @NotNull
+    public Vector3i mapFloor(double x, double y, double z, @NotNull Vector3i dest) {
+        checkDimension(3);
+        dest.x = mapFloor(0, x);
+        dest.y = mapFloor(1, y);
+        dest.z = mapFloor(2, z);
+        return dest;
+    }
+
+    /**
+     * Перевести размеры объекта в целевую СК и записать их в заданный вектор
+     *
+     * @param x    размер объекта вдоль оси X в исходной СК
+     * @param y    размер объекта вдоль оси Y в исходной СК
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с размерами в целевой СК
+     */
+    @NotNull
+    public Vector2i mapSize(double x, double y, @NotNull Vector2i dest) {
+        checkDimension(2);
+        dest.x = mapSize(0, x);
+        dest.y = mapSize(1, y);
+        return dest;
+    }
+
+    /**
+     * Перевести размеры объекта в целевую СК и записать их в заданный вектор
+     * (координаты осей, которых нет в исходной СК, игнорируются)
+     *
+     * @param x    размер объекта вдоль оси X в исходной СК
+     * @param y    размер объекта вдоль оси Y в исходной СК
+     * @param z    размер объекта вдоль оси Z в исходной СК
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с размерами в целевой СК
+     */
+    @NotNull
+    public Vector3i mapSize(double x, double y, double z, @NotNull Vector3i dest) {
+        checkDimension(3);
+        dest.x = mapSize(0, x);
+        dest.y = mapSize(1, y);
+        dest.z = mapSize(2, z);
+        return dest;
+    }
+
+    /**
+     * Перевести массив координат вдоль оси
+     *
+     * @param axis номер оси (0 - X, 1 - Y, 2 - Z)
+     * @param src  координаты вдоль оси в исходной СК
+     * @param dest массив, в который записывается результат
+     * @return массив dest
+     */
+    @NotNull
+    public int[] map(int axis, @NotNull double[] src, @NotNull int[] dest) {
+        CoordinateKernels.checkSize(src.length, dest.length);
+        if (axis >= mappedAxisCnt)
+            Arrays.fill(dest, 0);
+        else
+            CoordinateKernels.getCoords(src, srcMin[axis], srcSize[axis], dest, dstMinInt[axis], dstSizeInt[axis]);
+        return dest;
+    }
+
+    /**
+     * Перевести массив координат вдоль оси с округлением вниз
+     *
+     * @param axis номер оси (0 - X, 1 - Y, 2 - Z)
+     * @param src  координаты вдоль оси в исходной СК
+     * @param dest массив, в который записывается результат
+     * @return массив dest
+     */
+    @NotNull
+    public int[] mapFloor(int axis, @NotNull double[] src, @NotNull int[] dest) {
+        CoordinateKernels.checkSize(src.length, dest.length);
+        if (axis >= mappedAxisCnt)
+            Arrays.fill(dest, 0);
+        else
+            CoordinateKernels.getFloorCoords(src, srcMin[axis], srcSize[axis], dest, dstMinInt[axis], dstSizeInt[axis]);
+        return dest;
+    }
+
+    /**
+     * Перевести массив размеров вдоль оси
+     *
+     * @param axis номер оси (0 - X, 1 - Y, 2 - Z)
+     * @param src  размеры вдоль оси в исходной СК
+     * @param dest массив, в который записывается результат
+     * @return массив dest
+     */
+    @NotNull
+    public int[] mapSize(int axis, @NotNull double[] src, @NotNull int[] dest) {
+        CoordinateKernels.checkSize(src.length, dest.length);
+        if (axis >= mappedAxisCnt)
+            Arrays.fill(dest, 0);
+        else
+            CoordinateKernels.getSize(src, srcSize[axis], dest, dstSizeInt[axis]);
+        return dest;
+    }
+}
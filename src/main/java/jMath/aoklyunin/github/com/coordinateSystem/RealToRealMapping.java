@@ -0,0 +1,218 @@
+package jMath.aoklyunin.github.com.coordinateSystem;
+
+import com.sun.istack.NotNull;
+import jMath.aoklyunin.github.com.vector.Vector2d;
+import jMath.aoklyunin.github.com.vector.Vector3d;
+import jMath.aoklyunin.github.com.vector.Vector4d;
+
+import java.util.Arrays;
+
+/**
+ * Отображение координат из вещественной СК в вещественную
+ */
+public final class RealToRealMapping extends CoordinateMapping {
+
+    /**
+     * Конструктор отображения
+     *
+     * @param srcMin  минимальные координаты исходной СК
+     * @param srcSize размеры исходной СК
+     * @param dstMin  минимальные координаты целевой СК
+     * @param dstSize размеры целевой СК
+     */
+    RealToRealMapping(
+            @NotNull double[] srcMin, @NotNull double[] srcSize, @NotNull double[] dstMin, @NotNull double[] dstSize
+    ) {
+        super(srcMin, srcSize, dstMin, dstSize);
+    }
+
+    @NotNull
+    @Override
+    public RealToRealMapping inverse() {
+        return new RealToRealMapping(dstMin, dstSize, srcMin, srcSize);
+    }
+
+    @Override
+    public boolean isSourceInteger() {
+        return false;
+    }
+
+    @Override
+    public boolean isTargetInteger() {
+        return false;
+    }
+
+    /**
+     * Перевести координату вдоль оси
+     *
+     * @param axis  номер оси (0 - X, 1 - Y, 2 - Z, 3 - W)
+     * @param value координата в исходной СК
+     * @return координата в целевой СК
+     */
+    public double map(int axis, double value) {
+        if (axis >= mappedAxisCnt)
+            return 0;
+        return (value - srcMin[axis]) * dstSize[axis] / srcSize[axis] + dstMin[axis];
+    }
+
+    /**
+     * Перевести размер вдоль оси
+     *
+     * @param axis  номер оси (0 - X, 1 - Y, 2 - Z, 3 - W)
+     * @param value размер в исходной СК
+     * @return размер в целевой СК
+     */
+    public double mapSize(int axis, double value) {
+        if (axis >= mappedAxisCnt)
+            return 0;
+        return value * dstSize[axis] / srcSize[axis];
+    }
+
+    /**
+     * Перевести координаты вектора в целевую СК и записать их в заданный вектор
+     *
+     * @param x    координата X в исходной СК
+     * @param y    координата Y в исходной СК
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с координатами в целевой СК
+     */
+    @NotNull
+    public Vector2d map(double x, double y, @NotNull Vector2d dest) {
+        checkDimension(2);
+        dest.x = map(0, x);
+        dest.y = map(1, y);
+        return dest;
+    }
+
+    /**
+     * Перевести координаты вектора в целевую СК и записать их в заданный вектор
+     * (координаты осей, которых нет в исходной СК, игнорируются)
+     *
+     * @param x    координата X в исходной СК
+     * @param y    координата Y в исходной СК
+     * @param z    координата Z в исходной СК
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с координатами в целевой СК
+     */
+    @NotNull
+    public Vector3d map(double x, double y, double z, @NotNull Vector3d dest) {
+        checkDimension(3);
+        dest.x = map(0, x);
+        dest.y = map(1, y);
+        dest.z = map(2, z);
+        return dest;
+    }
+
+    /**
+     * Перевести координаты вектора в целевую СК и записать их в заданный вектор
+     * (координаты осей, которых нет в исходной СК, игнорируются)
+     *
+     * @param x    координата X в исходной СК
+     * @param y    координата Y в исходной СК
+     * @param z    координата Z в исходной СК
+     * @param w    координата W в исходной СК
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с координатами в целевой СК
+     */
+    @NotNull
+    public Vector4d map(double x, double y, double z, double w, @NotNull Vector4d dest) {
+        checkDimension(4);
+        dest.x = map(0, x);
+        dest.y = map(1, y);
+        dest.z = map(2, z);
+        dest.w = map(3, w);
+        return dest;
+    }
+
+    /**
+     * Перевести размеры объекта в целевую СК и записать их в заданный вектор
+     *
+     * @param x    размер объекта вдоль оси X в исходной СК
+     * @param y    размер объекта вдоль оси Y в исходной СК
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с размерами в целевой СК
+     */
+    @NotNull
+    public Vector2d mapSize(double x, double y, @NotNull Vector2d dest) {
+        checkDimension(2);
+        dest.x = mapSize(0, x);
+        dest.y = mapSize(1, y);
+        return dest;
+    }
+
+    /**
+     * Перевести размеры объекта в целевую СК и записать их в заданный вектор
+     * (координаты осей, которых нет в исходной СК, игнорируются)
+     *
+     * @param x    размер объекта вдоль оси X в исходной СК
+     * @param y    размер объекта вдоль оси Y в исходной СК
+     * @param z    размер объекта вдоль оси Z в исходной СК
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с размерами в целевой СК
+     */
+    @NotNull
+    public Vector3d mapSize(double x, double y, double z, @NotNull Vector3d dest) {
+        checkDimension(3);
+        dest.x = mapSize(0, x);
+        dest.y = mapSize(1, y);
+        dest.z = mapSize(2, z);
+        return dest;
+    }
+
+    /**
+     * Перевести размеры объекта в целевую СК и записать их в заданный вектор
+     * (координаты осей, которых нет в исходной СК, игнорируются)
+     *
+     * @param x    размер объекта вдоль оси X в исходной СК
+     * @param y    размер объекта вдоль оси Y в исходной СК
+     * @param z    размер объекта вдоль оси Z в исходной СК
+     * @param w    размер объекта вдоль оси W в исходной СК
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с размерами в целевой СК
+     */
+    @NotNull
+    public Vector4d mapSize(double x, double y, double z, double w, @NotNull Vector4d dest) {
+        checkDimension(4);
+        dest.x = mapSize(0, x);
+        dest.y = mapSize(1, y);
+        dest.z = mapSize(2, z);
+        dest.w = mapSize(3, w);
+        return dest;
+    }
+
+    /**
+     * Перевести массив координат вдоль оси
+     *
+     * @param axis номер оси (0 - X, 1 - Y, 2 - Z, 3 - W)
+     * @param src  координаты вдоль оси в исходной СК
+     * @param dest массив, в который записывается результат
+     * @return массив dest
+     */
+    @NotNull
+    public double[] map(int axis, @NotNull double[] src, @NotNull double[] dest) {
+        CoordinateKernels.checkSize(src.length, dest.length);
+        if (axis >= mappedAxisCnt)
+            Arrays.fill(dest, 0);
+        else
+            CoordinateKernels.getCoords(src, srcMin[axis], srcSize[axis], dest, dstMin[axis], dstSize[axis]);
+        return dest;
+    }
+
+    /**
+     * Перевести массив размеров вдоль оси
+     *
+     * @param axis номер оси (0 - X, 1 - Y, 2 - Z, 3 - W)
+     * @param src  размеры вдоль оси в исходной СК
+     * @param dest массив, в который записывается результат
+     * @return массив dest
+     */
+    @NotNull
+    public double[] mapSize(int axis, @NotNull double[] src, @NotNull double[] dest) {
+        CoordinateKernels.checkSize(src.length, dest.length);
+        if (axis >= mappedAxisCnt)
+            Arrays.fill(dest, 0);
+        else
+            CoordinateKernels.getSize(src, srcSize[axis], dest, dstSize[axis]);
+        return dest;
+    }
+}
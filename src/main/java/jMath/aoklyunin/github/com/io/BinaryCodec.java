@@ -0,0 +1,1065 @@
+package jMath.aoklyunin.github.com.io;
+
+import com.sun.istack.NotNull;
+import jMath.aoklyunin.github.com.Transform3d;
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem2d;
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem2i;
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem3d;
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem3i;
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem4d;
+import jMath.aoklyunin.github.com.vector.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Компактный двоичный формат векторов, матриц трансформации и систем координат
+ * <p>
+ * Записи не содержат заголовков: компоненты пишутся подряд в порядке x, y, z, w
+ * (у систем координат - сначала min, потом max; у матриц трансформации - положение,
+ * углы поворота и коэффициенты масштабирования), целые числа - как int32,
+ * вещественные - как float64 или, при квантовании, как float32. Все значения
+ * хранятся в порядке байт little-endian, поэтому буферы должны иметь порядок
+ * ByteOrder.LITTLE_ENDIAN (см. allocate()). Без квантования чтение записанного
+ * даёт объекты, равные исходным
+ * <p>
+ * Методы пишут и читают относительно текущей позиции буфера и сдвигают её
+ */
+public final class BinaryCodec {
+    /**
+     * Размер записи матрицы трансформации в компонентах
+     */
+    public static final int TRANSFORM3D_COMPONENT_CNT = 9;
+
+    /**
+     * Создать буфер с порядком байт little-endian
+     *
+     * @param capacity размер буфера в байтах
+     * @return буфер
+     */
+    @NotNull
+    public static ByteBuffer allocate(int capacity) {
+        return ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Создать прямой буфер с порядком байт little-endian
+     *
+     * @param capacity размер буфера в байтах
+     * @return буфер
+     */
+    @NotNull
+    public static ByteBuffer allocateDirect(int capacity) {
+        return ByteBuffer.allocateDirect(capacity).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Получить размер вещественной компоненты
+     *
+     * @param quantized флаг, квантуются ли вещественные компоненты до float32
+     * @return размер компоненты в байтах
+     */
+    public static int getRealSize(boolean quantized) {
+        return quantized ? Float.BYTES : Double.BYTES;
+    }
+
+    /**
+     * Получить размер записи с вещественными компонентами
+     *
+     * @param componentCnt количество компонент
+     * @param quantized    флаг, квантуются ли вещественные компоненты до float32
+     * @return размер записи в байтах
+     */
+    public static int getRealRecordSize(int componentCnt, boolean quantized) {
+        return componentCnt * getRealSize(quantized);
+    }
+
+    /**
+     * Получить размер записи с целочисленными компонентами
+     *
+     * @param componentCnt количество компонент
+     * @return размер записи в байтах
+     */
+    public static int getIntRecordSize(int componentCnt) {
+        return componentCnt * Integer.BYTES;
+    }
+
+    /**
+     * Записать вещественное число
+     *
+     * @param buffer    буфер
+     * @param value     число
+     * @param quantized флаг, квантовать ли число до float32
+     * @return буфер
+     */
+    @NotNull
+    public static ByteBuffer putReal(@NotNull ByteBuffer buffer, double value, boolean quantized) {
+        if (quantized)
+            buffer.putFloat((float) value);
+        else
+            buffer.putDouble(value);
+        return buffer;
+    }
+
+    /**
+     * Прочитать вещественное число
+     *
+     * @param buffer    буфер
+     * @param quantized флаг, записано ли число как float32
+     * @return число
+     */
+    public static double getReal(@NotNull ByteBuffer buffer, boolean quantized) {
+        return quantized ? buffer.getFloat() : buffer.getDouble();
+    }
+
+    /**
+     * Записать двумерный вещественный вектор
+     *
+     * @param buffer буфер
+     * @param v      вектор
+     * @return буфер
+     */
+    @NotNull
+    public static ByteBuffer put(@NotNull ByteBuffer buffer, @NotNull Vector2d v) {
+        return put(buffer, v, false);
+    }
+
+    /**
+     * Записать двумерный вещественный вектор
+     *
+     * @param buffer    буфер
+     * @param v         вектор
+     * @param quantized флаг, квантовать ли компоненты до float32
+     * @return буфер
+     */
+    @NotNull
+    public static ByteBuffer put(@NotNull ByteBuffer buffer, @NotNull Vector2d v, boolean quantized) {
+        checkOrder(buffer);
+        putReal(buffer, v.x, quantized);
+        putReal(buffer, v.y, quantized);
+        return buffer;
+    }
+
+    /**
+     * Прочитать двумерный вещественный вектор
+     *
+     * @param buffer буфер
+     * @return вектор
+     */
+    @NotNull
+    public static Vector2d getVector2d(@NotNull ByteBuffer buffer) {
+        return getVector2d(buffer, false, new Vector2d());
+    }
+
+    /**
+     * Прочитать двумерный вещественный вектор
+     *
+     * @param buffer    буфер
+     * @param quantized флаг, записаны ли компоненты как float32
+     * @return вектор
+     */
+    @NotNull
+    public static Vector2d getVector2d(@NotNull ByteBuffer buffer, boolean quantized) {
+        return getVector2d(buffer, quantized, new Vector2d());
+    }
+
+    /**
+     * Прочитать двумерный вещественный вектор
+     *
+     * @param buffer    буфер
+     * @param quantized флаг, записаны ли компоненты как float32
+     * @param dest      вектор, в который записывается результат
+     * @return вектор
+     */
+    @NotNull
+    public static Vector2d getVector2d(@NotNull ByteBuffer buffer, boolean quantized, @NotNull Vector2d dest) {
+        checkOrder(buffer);
+        dest.x = getReal(buffer, quantized);
+        dest.y = getReal(buffer, quantized);
+        return dest;
+    }
+
+    /**
+     * Записать трёхмерный вещественный вектор
+     *
+     * @param buffer буфер
+     * @param v      вектор
+     * @return буфер
+     */
+    @NotNull
+    public static ByteBuffer put(@NotNull ByteBuffer buffer, @NotNull Vector3d v) {
+        return put(buffer, v, false);
+    }
+
+    /**
+     * Записать трёхмерный вещественный вектор
+     *
+     * @param buffer    буфер
+     * @param v         вектор
+     * @param quantized флаг, квантовать ли компоненты до float32
+     * @return буфер
+     */
+    @NotNull
+    public static ByteBuffer put(@NotNull ByteBuffer buffer, @NotNull Vector3d v, boolean quantized) {
+        checkOrder(buffer);
+        putReal(buffer, v.x, quantized);
+        putReal(buffer, v.y, quantized);
+        putReal(buffer, v.z, quantized);
+        return buffer;
+    }
+
+    /**
+     * Прочитать трёхмерный вещественный вектор
+     *
+     * @param buffer буфер
+     * @return вектор
+     */
+    @NotNull
+    public static Vector3d getVector3d(@NotNull ByteBuffer buffer) {
+        return getVector3d(buffer, false, new Vector3d());
+    }
+
+    /**
+     * Прочитать трёхмерный вещественный вектор
+     *
+     * @param buffer    буфер
+     * @param quantized флаг, записаны ли компоненты как float32
+     * @return вектор
+     */
+    @NotNull
+    public static Vector3d getVector3d(@NotNull ByteBuffer buffer, boolean quantized) {
+        return getVector3d(buffer, quantized, new Vector3d());
+    }
+
+    /**
+     * Прочитать трёхмерный вещественный вектор
+     *
+     * @param buffer    буфер
+     * @param quantized флаг, записаны ли компоненты как float32
+     * @param dest      вектор, в который записывается результат
+     * @return вектор
+     */
+    @NotNull
+    public static Vector3d getVector3d(@NotNull ByteBuffer buffer, boolean quantized, @NotNull Vector3d dest) {
+        checkOrder(buffer);
+        dest.x = getReal(buffer, quantized);
+        dest.y = getReal(buffer, quantized);
+        dest.z = getReal(buffer, quantized);
+        return dest;
+    }
+
+    /**
+     * Записать четырёхмерный вещественный вектор
+     *
+     * @param buffer буфер
+     * @param v      вектор
+     * @return буфер
+     */
+    @NotNull
+    public static ByteBuffer put(@NotNull ByteBuffer buffer, @NotNull Vector4d v) {
+        return put(buffer, v, false);
+    }
+
+    /**
+     * Записать четырёхмерный вещественный вектор
+     *
+     * @param buffer    буфер
+     * @param v         вектор
+     * @param quantized флаг, квантовать ли компоненты до float32
+     * @return буфер
+     */
+    @NotNull
+    public static ByteBuffer put(@NotNull ByteBuffer buffer, @NotNull Vector4d v, boolean quantized) {
+        checkOrder(buffer);
+        putReal(buffer, v.x, quantized);
+        putReal(buffer, v.y, quantized);
+        putReal(buffer, v.z, quantized);
+        putReal(buffer, v.w, quantized);
+        return buffer;
+    }
+
+    /**
+     * Прочитать четырёхмерный вещественный вектор
+     *
+     * @param buffer буфер
+     * @return вектор
+     */
+    @NotNull
+    public static Vector4d getVector4d(@NotNull ByteBuffer buffer) {
+        return getVector4d(buffer, false, new Vector4d());
+    }
+
+    /**
+     * Прочитать четырёхмерный вещественный вектор
+     *
+     * @param buffer    буфер
+     * @param quantized флаг, записаны ли компоненты как float32
+     * @return вектор
+     */
+    @NotNull
+    public static Vector4d getVector4d(@NotNull ByteBuffer buffer, boolean quantized) {
+        return getVector4d(buffer, quantized, new Vector4d());
+    }
+
+    /**
+     * Прочитать четырёхмерный вещественный вектор
+     *
+     * @param buffer    буфер
+     * @param quantized флаг, записаны ли компоненты как float32
+     * @param dest      вектор, в который записывается результат
+     * @return вектор
+     */
+    @NotNull
+    public static Vector4d getVector4d(@NotNull ByteBuffer buffer, boolean quantized, @NotNull Vector4d dest) {
+        checkOrder(buffer);
+        dest.x = getReal(buffer, quantized);
+        dest.y = getReal(buffer, quantized);
+        dest.z = getReal(buffer, quantized);
+        dest.w = getReal(buffer, quantized);
+        return dest;
+    }
+
+    /**
+     * Записать двумерный целочисленный вектор
+     *
+     * @param buffer буфер
+     * @param v      вектор
+     * @return буфер
+     */
+    @NotNull
+    public static ByteBuffer put(@NotNull ByteBuffer buffer, @NotNull Vector2i v) {
+        checkOrder(buffer);
+        buffer.putInt(v.x);
+        buffer.putInt(v.y);
+        return buffer;
+    }
+
+    /**
+     * Прочитать двумерный целочисленный вектор
+     *
+     * @param buffer буфер
+     * @return вектор
+     */
+    @NotNull
+    public static Vector2i getVector2i(@NotNull ByteBuffer buffer) {
+        return getVector2i(buffer, new Vector2i());
+    }
+
+    /**
+     * Прочитать двумерный целочисленный вектор
+     *
+     * @param buffer буфер
+     * @param dest   вектор, в который записывается результат
+     * @return вектор
+     */
+    @NotNull
+    public static Vector2i getVector2i(@NotNull ByteBuffer buffer, @NotNull Vector2i dest) {
+        checkOrder(buffer);
+        dest.x = buffer.getInt();
+        dest.y = buffer.getInt();
+        return dest;
+    }
+
+    /**
+     * Записать трёхмерный целочисленный вектор
+     *
+     * @param buffer буфер
+     * @param v      вектор
+     * @return буфер
+     */
+    @NotNull
+    public static ByteBuffer put(@NotNull ByteBuffer buffer, @NotNull Vector3i v) {
+        checkOrder(buffer);
+        buffer.putInt(v.x);
+        buffer.putInt(v.y);
+        buffer.putInt(v.z);
+        return buffer;
+    }
+
+    /**
+     * Прочитать трёхмерный целочисленный вектор
+     *
+     * @param buffer буфер
+     * @return вектор
+     */
+    @NotNull
+    public static Vector3i getVector3i(@NotNull ByteBuffer buffer) {
+        return getVector3i(buffer, new Vector3i());
+    }
+
+    /**
+     * Прочитать трёхмерный целочисленный вектор
+     *
+     * @param buffer буфер
+     * @param dest   вектор, в который записывается результат
+     * @return вектор
+     */
+    @NotNull
+    public static Vector3i getVector3i(@NotNull ByteBuffer buffer, @NotNull Vector3i dest) {
+        checkOrder(buffer);
+        dest.x = buffer.getInt();
+        dest.y = buffer.getInt();
+        dest.z = buffer.getInt();
+        return dest;
+    }
+
+    /**
+     * Записать четырёхмерный целочисленный вектор
+     *
+     * @param buffer буфер
+     * @param v      вектор
+     * @return буфер
+     */
+    @NotNull
+    public static ByteBuffer put(@NotNull ByteBuffer buffer, @NotNull Vector4i v) {
+        checkOrder(buffer);
+        buffer.putInt(v.x);
+        buffer.putInt(v.y);
+        buffer.putInt(v.z);
+        buffer.putInt(v.w);
+        return buffer;
+    }
+
+    /**
+     * Прочитать четырёхмерный целочисленный вектор
+     *
+     * @param buffer буфер
+     * @return вектор
+     */
+    @NotNull
+    public static Vector4i getVector4i(@NotNull ByteBuffer buffer) {
+        return getVector4i(buffer, new Vector4i());
+    }
+
+    /**
+     * Прочитать четырёхмерный целочисленный вектор
+     *
+     * @param buffer буфер
+     * @param dest   вектор, в который записывается результат
+     * @return вектор
+     */
+    @NotNull
+    public static Vector4i getVector4i(@NotNull ByteBuffer buffer, @NotNull Vector4i dest) {
+        checkOrder(buffer);
+        dest.x = buffer.getInt();
+        dest.y = buffer.getInt();
+        dest.z = buffer.getInt();
+        dest.w = buffer.getInt();
+        return dest;
+    }
+
+    /**
+     * Записать трёхмерный вещественный вектор (float)
+     *
+     * @param buffer буфер
+     * @param v      вектор
+     * @return буфер
+     */
+    @NotNull
+    public static ByteBuffer put(@NotNull ByteBuffer buffer, @NotNull Vector3f v) {
+        checkOrder(buffer);
+        buffer.putFloat(v.x);
+        buffer.putFloat(v.y);
+        buffer.putFloat(v.z);
+        return buffer;
+    }
+
+    /**
+     * Прочитать трёхмерный вещественный вектор (float)
+     *
+     * @param buffer буфер
+     * @return вектор
+     */
+    @NotNull
+    public static Vector3f getVector3f(@NotNull ByteBuffer buffer) {
+        return getVector3f(buffer, new Vector3f());
+    }
+
+    /**
+     * Прочитать трёхмерный вещественный вектор (float)
+     *
+     * @param buffer буфер
+     * @param dest   вектор, в который записывается результат
+     * @return вектор
+     */
+    @NotNull
+    public static Vector3f getVector3f(@NotNull ByteBuffer buffer, @NotNull Vector3f dest) {
+        checkOrder(buffer);
+        dest.x = buffer.getFloat();
+        dest.y = buffer.getFloat();
+        dest.z = buffer.getFloat();
+        return dest;
+    }
+
+    /**
+     * Записать массив двумерных вещественных векторов
+     *
+     * @param buffer буфер
+     * @param arr    массив векторов
+     * @return буфер
+     */
+    @NotNull
+    public static ByteBuffer put(@NotNull ByteBuffer buffer, @NotNull Vector2dArray arr) {
+        return put(buffer, arr, false);
+    }
+
+    /**
+     * Записать массив двумерных вещественных векторов
+     *
+     * @param buffer    буфер
+     * @param arr       массив векторов
+     * @param quantized флаг, квантовать ли компоненты до float32
+     * @return буфер
+     */
+    @NotNull
+    public static ByteBuffer put(@NotNull ByteBuffer buffer, @NotNull Vector2dArray arr, boolean quantized) {
+        checkOrder(buffer);
+        for (int i = 0; i < arr.size(); i++) {
+            putReal(buffer, arr.x[i], quantized);
+            putReal(buffer, arr.y[i], quantized);
+        }
+        return buffer;
+    }
+
+    /**
+     * Прочитать массив двумерных вещественных векторов
+     *
+     * @param buffer буфер
+     * @param dest   массив, в который записывается результат (читается dest.size() векторов)
+     * @return массив векторов
+     */
+    @NotNull
+    public static Vector2dArray getVector2dArray(@NotNull ByteBuffer buffer, @NotNull Vector2dArray dest) {
+        return getVector2dArray(buffer, false, dest);
+    }
+
+    /**
+     * Прочитать массив двумерных вещественных векторов
+     *
+     * @param buffer    буфер
+     * @param quantized флаг, записаны ли компоненты как float32
+     * @param dest      массив, в который записывается результат (читается dest.size() векторов)
+     * @return массив векторов
+     */
+    @NotNull
+    public static Vector2dArray getVector2dArray(@NotNull ByteBuffer buffer, boolean quantized, @NotNull Vector2dArray dest) {
+        checkOrder(buffer);
+        for (int i = 0; i < dest.size(); i++) {
+            dest.x[i] = getReal(buffer, quantized);
+            dest.y[i] = getReal(buffer, quantized);
+        }
+        return dest;
+    }
+
+    /**
+     * Записать массив трёхмерных вещественных векторов
+     *
+     * @param buffer буфер
+     * @param arr    массив векторов
+     * @return буфер
+     */
+    @NotNull
+    public static ByteBuffer put(@NotNull ByteBuffer buffer, @NotNull Vector3dArray arr) {
+        return put(buffer, arr, false);
+    }
+
+    /**
+     * Записать массив трёхмерных вещественных векторов
+     *
+     * @param buffer    буфер
+     * @param arr       массив векторов
+     * @param quantized флаг, квантовать ли компоненты до float32
+     * @return буфер
+     */
+    @NotNull
+    public static ByteBuffer put(@NotNull ByteBuffer buffer, @NotNull Vector3dArray arr, boolean quantized) {
+        checkOrder(buffer);
+        for (int i = 0; i < arr.size(); i++) {
+            putReal(buffer, arr.x[i], quantized);
+            putReal(buffer, arr.y[i], quantized);
+            putReal(buffer, arr.z[i], quantized);
+        }
+        return buffer;
+    }
+
+    /**
+     * Прочитать массив трёхмерных вещественных векторов
+     *
+     * @param buffer буфер
+     * @param dest   массив, в который записывается результат (читается dest.size() векторов)
+     * @return массив векторов
+     */
+    @NotNull
+    public static Vector3dArray getVector3dArray(@NotNull ByteBuffer buffer, @NotNull Vector3dArray dest) {
+        return getVector3dArray(buffer, false, dest);
+    }
+
+    /**
+     * Прочитать массив трёхмерных вещественных векторов
+     *
+     * @param buffer    буфер
+     * @param quantized флаг, записаны ли компоненты как float32
+     * @param dest      массив, в который записывается результат (читается dest.size() векторов)
+     * @return массив векторов
+     */
+    @NotNull
+    public static Vector3dArray getVector3dArray(@NotNull ByteBuffer buffer, boolean quantized, @NotNull Vector3dArray dest) {
+        checkOrder(buffer);
+        for (int i = 0; i < dest.size(); i++) {
+            dest.x[i] = getReal(buffer, quantized);
+            dest.y[i] = getReal(buffer, quantized);
+            dest.z[i] = getReal(buffer, quantized);
+        }
+        return dest;
+    }
+
+    /**
+     * Записать массив четырёхмерных вещественных векторов
+     *
+     * @param buffer буфер
+     * @param arr    массив векторов
+     * @return буфер
+     */
+    @NotNull
+    public static ByteBuffer put(@NotNull ByteBuffer buffer, @NotNull Vector4dArray arr) {
+        return put(buffer, arr, false);
+    }
+
+    /**
+     * Записать массив четырёхмерных вещественных векторов
+     *
+     * @param buffer    буфер
+     * @param arr       массив векторов
+     * @param quantized флаг, квантовать ли компоненты до float32
+     * @return буфер
+     */
+    @NotNull
+    public static ByteBuffer put(@NotNull ByteBuffer buffer, @NotNull Vector4dArray arr, boolean quantized) {
+        checkOrder(buffer);
+        for (int i = 0; i < arr.size(); i++) {
+            putReal(buffer, arr.x[i], quantized);
+            putReal(buffer, arr.y[i], quantized);
+            putReal(buffer, arr.z[i], quantized);
+            putReal(buffer, arr.w[i], quantized);
+        }
+        return buffer;
+    }
+
+    /**
+     * Прочитать массив четырёхмерных вещественных векторов
+     *
+     * @param buffer буфер
+     * @param dest   массив, в который записывается результат (читается dest.size() векторов)
+     * @return массив векторов
+     */
+    @NotNull
+    public static Vector4dArray getVector4dArray(@NotNull ByteBuffer buffer, @NotNull Vector4dArray dest) {
+        return getVector4dArray(buffer, false, dest);
+    }
+
+    /**
+     * Прочитать массив четырёхмерных вещественных векторов
+     *
+     * @param buffer    буфер
+     * @param quantized флаг, записаны ли компоненты как float32
+     * @param dest      массив, в который записывается результат (читается dest.size() векторов)
+     * @return массив векторов
+     */
+    @NotNull
+    public static Vector4dArray getVector4dArray(@NotNull ByteBuffer buffer, boolean quantized, @NotNull Vector4dArray dest) {
+        checkOrder(buffer);
+        for (int i = 0; i < dest.size(); i++) {
+            dest.x[i] = getReal(buffer, quantized);
+            dest.y[i] = getReal(buffer, quantized);
+            dest.z[i] = getReal(buffer, quantized);
+            dest.w[i] = getReal(buffer, quantized);
+        }
+        return dest;
+    }
+
+    /**
+     * Записать массив двумерных целочисленных векторов
+     *
+     * @param buffer буфер
+     * @param arr    массив векторов
+     * @return буфер
+     */
+    @NotNull
+    public static ByteBuffer put(@NotNull ByteBuffer buffer, @NotNull Vector2iArray arr) {
+        checkOrder(buffer);
+        for (int i = 0; i < arr.size(); i++) {
+            buffer.putInt(arr.x[i]);
+            buffer.putInt(arr.y[i]);
+        }
+        return buffer;
+    }
+
+    /**
+     * Прочитать массив двумерных целочисленных векторов
+     *
+     * @param buffer буфер
+     * @param dest   массив, в который записывается результат (читается dest.size() векторов)
+     * @return массив векторов
+     */
+    @NotNull
+    public static Vector2iArray getVector2iArray(@NotNull ByteBuffer buffer, @NotNull Vector2iArray dest) {
+        checkOrder(buffer);
+        for (int i = 0; i < dest.size(); i++) {
+            dest.x[i] = buffer.getInt();
+            dest.y[i] = buffer.getInt();
+        }
+        return dest;
+    }
+
+    /**
+     * Записать массив трёхмерных целочисленных векторов
+     *
+     * @param buffer буфер
+     * @param arr    массив векторов
+     * @return буфер
+     */
+    @NotNull
+    public static ByteBuffer put(@NotNull ByteBuffer buffer, @NotNull Vector3iArray arr) {
+        checkOrder(buffer);
+        for (int i = 0; i < arr.size(); i++) {
+            buffer.putInt(arr.x[i]);
+            buffer.putInt(arr.y[i]);
+            buffer.putInt(arr.z[i]);
+        }
+        return buffer;
+    }
+
+    /**
+     * Прочитать массив трёхмерных целочисленных векторов
+     *
+     * @param buffer буфер
+     * @param dest   массив, в который записывается результат (читается dest.size() векторов)
+     * @return массив векторов
+     */
+    @NotNull
+    public static Vector3iArray getVector3iArray(@NotNull ByteBuffer buffer, @NotNull Vector3iArray dest) {
+        checkOrder(buffer);
+        for (int i = 0; i < dest.size(); i++) {
+            dest.x[i] = buffer.getInt();
+            dest.y[i] = buffer.getInt();
+            dest.z[i] = buffer.getInt();
+        }
+        return dest;
+    }
+
+    /**
+     * Записать матрицу трансформации (id не записывается)
+     *
+     * @param buffer    буфер
+     * @param transform матрица трансформации
+     * @return буфер
+     */
+    @NotNull
+    public static ByteBuffer put(@NotNull ByteBuffer buffer, @NotNull Transform3d transform) {
+        return put(buffer, transform, false);
+    }
+
+    /**
+     * Записать матрицу трансформации (id не записывается)
+     *
+     * @param buffer    буфер
+     * @param transform матрица трансформации
+     * @param quantized флаг, квантовать ли компоненты до float32
+     * @return буфер
+     */
+    @NotNull
+    public static ByteBuffer put(@NotNull ByteBuffer buffer, @NotNull Transform3d transform, boolean quantized) {
+        put(buffer, transform.getPosition(), quantized);
+        put(buffer, transform.getRotation(), quantized);
+        return put(buffer, transform.getScale(), quantized);
+    }
+
+    /**
+     * Записать матрицы трансформации
+     *
+     * @param buffer     буфер
+     * @param transforms матрицы трансформации
+     * @param quantized  флаг, квантовать ли компоненты до float32
+     * @return буфер
+     */
+    @NotNull
+    public static ByteBuffer put(
+            @NotNull ByteBuffer buffer, @NotNull List<? extends Transform3d> transforms, boolean quantized
+    ) {
+        for (Transform3d transform : transforms)
+            put(buffer, transform, quantized);
+        return buffer;
+    }
+
+    /**
+     * Прочитать матрицу трансформации
+     *
+     * @param buffer буфер
+     * @return матрица трансформации
+     */
+    @NotNull
+    public static Transform3d getTransform3d(@NotNull ByteBuffer buffer) {
+        return getTransform3d(buffer, false);
+    }
+
+    /**
+     * Прочитать матрицу трансформации
+     *
+     * @param buffer    буфер
+     * @param quantized флаг, записаны ли компоненты как float32
+     * @return матрица трансформации
+     */
+    @NotNull
+    public static Transform3d getTransform3d(@NotNull ByteBuffer buffer, boolean quantized) {
+        checkOrder(buffer);
+        return new Transform3d(
+                getReal(buffer, quantized), getReal(buffer, quantized), getReal(buffer, quantized),
+                getReal(buffer, quantized), getReal(buffer, quantized), getReal(buffer, quantized),
+                getReal(buffer, quantized), getReal(buffer, quantized), getReal(buffer, quantized)
+        );
+    }
+
+    /**
+     * Прочитать матрицы трансформации
+     *
+     * @param buffer    буфер
+     * @param quantized флаг, записаны ли компоненты как float32
+     * @param cnt       количество матриц
+     * @return список матриц трансформации
+     */
+    @NotNull
+    public static List<Transform3d> getTransform3dList(@NotNull ByteBuffer buffer, boolean quantized, int cnt) {
+        List<Transform3d> transforms = new ArrayList<>(cnt);
+        for (int i = 0; i < cnt; i++)
+            transforms.add(getTransform3d(buffer, quantized));
+        return transforms;
+    }
+
+    /**
+     * Записать двумерную вещественную систему координат
+     *
+     * @param buffer           буфер
+     * @param coordinateSystem система координат
+     * @return буфер
+     */
+    @NotNull
+    public static ByteBuffer put(@NotNull ByteBuffer buffer, @NotNull CoordinateSystem2d coordinateSystem) {
+        return put(buffer, coordinateSystem, false);
+    }
+
+    /**
+     * Записать двумерную вещественную систему координат
+     *
+     * @param buffer           буфер
+     * @param coordinateSystem система координат
+     * @param quantized        флаг, квантовать ли компоненты до float32
+     * @return буфер
+     */
+    @NotNull
+    public static ByteBuffer put(
+            @NotNull ByteBuffer buffer, @NotNull CoordinateSystem2d coordinateSystem, boolean quantized
+    ) {
+        put(buffer, coordinateSystem.getMin(), quantized);
+        return put(buffer, coordinateSystem.getMax(), quantized);
+    }
+
+    /**
+     * Прочитать двумерную вещественную систему координат
+     *
+     * @param buffer буфер
+     * @return система координат
+     */
+    @NotNull
+    public static CoordinateSystem2d getCoordinateSystem2d(@NotNull ByteBuffer buffer) {
+        return getCoordinateSystem2d(buffer, false);
+    }
+
+    /**
+     * Прочитать двумерную вещественную систему координат
+     *
+     * @param buffer    буфер
+     * @param quantized флаг, записаны ли компоненты как float32
+     * @return система координат
+     */
+    @NotNull
+    public static CoordinateSystem2d getCoordinateSystem2d(@NotNull ByteBuffer buffer, boolean quantized) {
+        Vector2d min = getVector2d(buffer, quantized);
+        return new CoordinateSystem2d(min, getVector2d(buffer, quantized));
+    }
+
+    /**
+     * Записать трёхмерную вещественную систему координат
+     *
+     * @param buffer           буфер
+     * @param coordinateSystem система координат
+     * @return буфер
+     */
+    @NotNull
+    public static ByteBuffer put(@NotNull ByteBuffer buffer, @NotNull CoordinateSystem3d coordinateSystem) {
+        return put(buffer, coordinateSystem, false);
+    }
+
+    /**
+     * Записать трёхмерную вещественную систему координат
+     *
+     * @param buffer           буфер
+     * @param coordinateSystem система координат
+     * @param quantized        флаг, квантовать ли компоненты до float32
+     * @return буфер
+     */
+    @NotNull
+    public static ByteBuffer put(
+            @NotNull ByteBuffer buffer, @NotNull CoordinateSystem3d coordinateSystem, boolean quantized
+    ) {
+        put(buffer, coordinateSystem.getMin(), quantized);
+        return put(buffer, coordinateSystem.getMax(), quantized);
+    }
+
+    /**
+     * Прочитать трёхмерную вещественную систему координат
+     *
+     * @param buffer буфер
+     * @return система координат
+     */
+    @NotNull
+    public static CoordinateSystem3d getCoordinateSystem3d(@NotNull ByteBuffer buffer) {
+        return getCoordinateSystem3d(buffer, false);
+    }
+
+    /**
+     * Прочитать трёхмерную вещественную систему координат
+     *
+     * @param buffer    буфер
+     * @param quantized флаг, записаны ли компоненты как float32
+     * @return система координат
+     */
+    @NotNull
+    public static CoordinateSystem3d getCoordinateSystem3d(@NotNull ByteBuffer buffer, boolean quantized) {
+        Vector3d min = getVector3d(buffer, quantized);
+        return new CoordinateSystem3d(min, getVector3d(buffer, quantized));
+    }
+
+    /**
+     * Записать четырёхмерную вещественную систему координат
+     *
+     * @param buffer           буфер
+     * @param coordinateSystem система координат
+     * @return буфер
+     */
+    @NotNull
+    public static ByteBuffer put(@NotNull ByteBuffer buffer, @NotNull CoordinateSystem4d coordinateSystem) {
+        return put(buffer, coordinateSystem, false);
+    }
+
+    /**
+     * Записать четырёхмерную вещественную систему координат
+     *
+     * @param buffer           буфер
+     * @param coordinateSystem система координат
+     * @param quantized        флаг, квантовать ли компоненты до float32
+     * @return буфер
+     */
+    @NotNull
+    public static ByteBuffer put(
+            @NotNull ByteBuffer buffer, @NotNull CoordinateSystem4d coordinateSystem, boolean quantized
+    ) {
+        put(buffer, coordinateSystem.getMin(), quantized);
+        return put(buffer, coordinateSystem.getMax(), quantized);
+    }
+
+    /**
+     * Прочитать четырёхмерную вещественную систему координат
+     *
+     * @param buffer буфер
+     * @return система координат
+     */
+    @NotNull
+    public static CoordinateSystem4d getCoordinateSystem4d(@NotNull ByteBuffer buffer) {
+        return getCoordinateSystem4d(buffer, false);
+    }
+
+    /**
+     * Прочитать четырёхмерную вещественную систему координат
+     *
+     * @param buffer    буфер
+     * @param quantized флаг, записаны ли компоненты как float32
+     * @return система координат
+     */
+    @NotNull
+    public static CoordinateSystem4d getCoordinateSystem4d(@NotNull ByteBuffer buffer, boolean quantized) {
+        Vector4d min = getVector4d(buffer, quantized);
+        return new CoordinateSystem4d(min, getVector4d(buffer, quantized));
+    }
+
+    /**
+     * Записать двумерную целочисленную систему координат
+     *
+     * @param buffer           буфер
+     * @param coordinateSystem система координат
+     * @return буфер
+     */
+    @NotNull
+    public static ByteBuffer put(@NotNull ByteBuffer buffer, @NotNull CoordinateSystem2i coordinateSystem) {
+        put(buffer, coordinateSystem.getMin());
+        return put(buffer, coordinateSystem.getMax());
+    }
+
+    /**
+     * Прочитать двумерную целочисленную систему координат
+     *
+     * @param buffer буфер
+     * @return система координат
+     */
+    @NotNull
+    public static CoordinateSystem2i getCoordinateSystem2i(@NotNull ByteBuffer buffer) {
+        Vector2i min = getVector2i(buffer);
+        return new CoordinateSystem2i(min, getVector2i(buffer));
+    }
+
+    /**
+     * Записать трёхмерную целочисленную систему координат
+     *
+     * @param buffer           буфер
+     * @param coordinateSystem система координат
+     * @return буфер
+     */
+    @NotNull
+    public static ByteBuffer put(@NotNull ByteBuffer buffer, @NotNull CoordinateSystem3i coordinateSystem) {
+        put(buffer, coordinateSystem.getMin());
+        return put(buffer, coordinateSystem.getMax());
+    }
+
+    /**
+     * Прочитать трёхмерную целочисленную систему координат
+     *
+     * @param buffer буфер
+     * @return система координат
+     */
+    @NotNull
+    public static CoordinateSystem3i getCoordinateSystem3i(@NotNull ByteBuffer buffer) {
+        Vector3i min = getVector3i(buffer);
+        return new CoordinateSystem3i(min, getVector3i(buffer));
+    }
+
+    /**
+     * Проверить, что буфер имеет порядок байт little-endian
+     *
+     * @param buffer буфер
+     */
+    private static void checkOrder(@NotNull ByteBuffer buffer) {
+        if (Objects.requireNonNull(buffer).order() != ByteOrder.LITTLE_ENDIAN)
+            throw new IllegalArgumentException("buffer byte order must be little-endian");
+    }
+
+    /**
+     * Конструктор для запрета наследования
+     */
+    private BinaryCodec() {
+        // Подавление создания конструктора по умолчанию
+        // для достижения неинстанцируемости
+        throw new AssertionError("constructor is disabled");
+    }
+}
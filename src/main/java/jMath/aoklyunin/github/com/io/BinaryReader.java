@@ -0,0 +1,508 @@
+package jMath.aoklyunin.github.com.io;
+
+import com.sun.istack.NotNull;
+import jMath.aoklyunin.github.com.Transform3d;
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem2d;
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem2i;
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem3d;
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem3i;
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem4d;
+import jMath.aoklyunin.github.com.vector.*;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Потоковое чтение компактного двоичного формата BinaryCodec
+ * <p>
+ * Данные читаются из канала во внутренний прямой буфер крупными блоками.
+ * Точность вещественных компонент должна совпадать с точностью, с которой
+ * данные были записаны; если запись обрывается на середине, выбрасывается EOFException
+ */
+public class BinaryReader implements Closeable {
+    /**
+     * Канал, из которого читаются данные
+     */
+    private final ReadableByteChannel channel;
+    /**
+     * Буфер (всегда в режиме чтения)
+     */
+    private final ByteBuffer buffer;
+    /**
+     * Флаг, квантованы ли вещественные компоненты до float32
+     */
+    private final boolean quantized;
+
+    /**
+     * Конструктор потокового чтения
+     *
+     * @param channel    канал, из которого читаются данные
+     * @param quantized  флаг, записаны ли вещественные компоненты как float32
+     * @param bufferSize размер буфера в байтах
+     */
+    public BinaryReader(@NotNull ReadableByteChannel channel, boolean quantized, int bufferSize) {
+        if (bufferSize < BinaryWriter.MAX_RECORD_SIZE)
+            throw new IllegalArgumentException(
+                    "buffer size must be at least " + BinaryWriter.MAX_RECORD_SIZE + ": " + bufferSize
+            );
+        this.channel = Objects.requireNonNull(channel);
+        this.buffer = BinaryCodec.allocateDirect(bufferSize);
+        this.buffer.limit(0);
+        this.quantized = quantized;
+    }
+
+    /**
+     * Конструктор потокового чтения
+     *
+     * @param channel   канал, из которого читаются данные
+     * @param quantized флаг, записаны ли вещественные компоненты как float32
+     */
+    public BinaryReader(@NotNull ReadableByteChannel channel, boolean quantized) {
+        this(channel, quantized, BinaryWriter.DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Конструктор потокового чтения
+     *
+     * @param in        поток, из которого читаются данные
+     * @param quantized флаг, записаны ли вещественные компоненты как float32
+     */
+    public BinaryReader(@NotNull InputStream in, boolean quantized) {
+        this(Channels.newChannel(in), quantized);
+    }
+
+    /**
+     * Конструктор потокового чтения из файла
+     *
+     * @param path      путь к файлу
+     * @param quantized флаг, записаны ли вещественные компоненты как float32
+     * @throws IOException ошибка открытия файла
+     */
+    public BinaryReader(@NotNull Path path, boolean quantized) throws IOException {
+        this(FileChannel.open(path, StandardOpenOption.READ), quantized);
+    }
+
+    /**
+     * Проверить, квантованы ли вещественные компоненты до float32
+     *
+     * @return флаг, квантованы ли вещественные компоненты до float32
+     */
+    public boolean isQuantized() {
+        return quantized;
+    }
+
+    /**
+     * Проверить, остались ли непрочитанные данные
+     *
+     * @return флаг, остались ли непрочитанные данные
+     * @throws IOException ошибка чтения
+     */
+    public boolean hasRemaining() throws IOException {
+        if (buffer.hasRemaining())
+            return true;
+        buffer.clear();
+        int cnt;
+        do {
+            cnt = channel.read(buffer);
+        } while (cnt == 0);
+        buffer.flip();
+        return cnt > 0;
+    }
+
+    /**
+     * Прочитать двумерный вещественный вектор
+     *
+     * @return вектор
+     * @throws IOException ошибка чтения
+     */
+    @NotNull
+    public Vector2d readVector2d() throws IOException {
+        return readVector2d(new Vector2d());
+    }
+
+    /**
+     * Прочитать двумерный вещественный вектор
+     *
+     * @param dest вектор, в который записывается результат
+     * @return вектор
+     * @throws IOException ошибка чтения
+     */
+    @NotNull
+    public Vector2d readVector2d(@NotNull Vector2d dest) throws IOException {
+        ensure(BinaryCodec.getRealRecordSize(2, quantized));
+        return BinaryCodec.getVector2d(buffer, quantized, dest);
+    }
+
+    /**
+     * Прочитать трёхмерный вещественный вектор
+     *
+     * @return вектор
+     * @throws IOException ошибка чтения
+     */
+    @NotNull
+    public Vector3d readVector3d() throws IOException {
+        return readVector3d(new Vector3d());
+    }
+
+    /**
+     * Прочитать трёхмерный вещественный вектор
+     *
+     * @param dest вектор, в который записывается результат
+     * @return вектор
+     * @throws IOException ошибка чтения
+     */
+    @NotNull
+    public Vector3d readVector3d(@NotNull Vector3d dest) throws IOException {
+        ensure(BinaryCodec.getRealRecordSize(3, quantized));
+        return BinaryCodec.getVector3d(buffer, quantized, dest);
+    }
+
+    /**
+     * Прочитать четырёхмерный вещественный вектор
+     *
+     * @return вектор
+     * @throws IOException ошибка чтения
+     */
+    @NotNull
+    public Vector4d readVector4d() throws IOException {
+        return readVector4d(new Vector4d());
+    }
+
+    /**
+     * Прочитать четырёхмерный вещественный вектор
+     *
+     * @param dest вектор, в который записывается результат
+     * @return вектор
+     * @throws IOException ошибка чтения
+     */
+    @NotNull
+    public Vector4d readVector4d(@NotNull Vector4d dest) throws IOException {
+        ensure(BinaryCodec.getRealRecordSize(4, quantized));
+        return BinaryCodec.getVector4d(buffer, quantized, dest);
+    }
+
+    /**
+     * Прочитать двумерный целочисленный вектор
+     *
+     * @return вектор
+     * @throws IOException ошибка чтения
+     */
+    @NotNull
+    public Vector2i readVector2i() throws IOException {
+        return readVector2i(new Vector2i());
+    }
+
+    /**
+     * Прочитать двумерный целочисленный вектор
+     *
+     * @param dest вектор, в который записывается результат
+     * @return вектор
+     * @throws IOException ошибка чтения
+     */
+    @NotNull
+    public Vector2i readVector2i(@NotNull Vector2i dest) throws IOException {
+        ensure(BinaryCodec.getIntRecordSize(2));
+        return BinaryCodec.getVector2i(buffer, dest);
+    }
+
+    /**
+     * Прочитать трёхмерный целочисленный вектор
+     *
+     * @return вектор
+     * @throws IOException ошибка чтения
+     */
+    @NotNull
+    public Vector3i readVector3i() throws IOException {
+        return readVector3i(new Vector3i());
+    }
+
+    /**
+     * Прочитать трёхмерный целочисленный вектор
+     *
+     * @param dest вектор, в который записывается результат
+     * @return вектор
+     * @throws IOException ошибка чтения
+     */
+    @NotNull
+    public Vector3i readVector3i(@NotNull Vector3i dest) throws IOException {
+        ensure(BinaryCodec.getIntRecordSize(3));
+        return BinaryCodec.getVector3i(buffer, dest);
+    }
+
+    /**
+     * Прочитать четырёхмерный целочисленный вектор
+     *
+     * @return вектор
+     * @throws IOException ошибка чтения
+     */
+    @NotNull
+    public Vector4i readVector4i() throws IOException {
+        return readVector4i(new Vector4i());
+    }
+
+    /**
+     * Прочитать четырёхмерный целочисленный вектор
+     *
+     * @param dest вектор, в который записывается результат
+     * @return вектор
+     * @throws IOException ошибка чтения
+     */
+    @NotNull
+    public Vector4i readVector4i(@NotNull Vector4i dest) throws IOException {
+        ensure(BinaryCodec.getIntRecordSize(4));
+        return BinaryCodec.getVector4i(buffer, dest);
+    }
+
+    /**
+     * Прочитать трёхмерный вещественный (float) вектор
+     *
+     * @return вектор
+     * @throws IOException ошибка чтения
+     */
+    @NotNull
+    public Vector3f readVector3f() throws IOException {
+        return readVector3f(new Vector3f());
+    }
+
+    /**
+     * Прочитать трёхмерный вещественный (float) вектор
+     *
+     * @param dest вектор, в который записывается результат
+     * @return вектор
+     * @throws IOException ошибка чтения
+     */
+    @NotNull
+    public Vector3f readVector3f(@NotNull Vector3f dest) throws IOException {
+        ensure(3 * Float.BYTES);
+        return BinaryCodec.getVector3f(buffer, dest);
+    }
+
+    /**
+     * Прочитать массив двумерных вещественных векторов
+     *
+     * @param dest массив, в который записывается результат (читается dest.size() векторов)
+     * @return массив векторов
+     * @throws IOException ошибка чтения
+     */
+    @NotNull
+    public Vector2dArray read(@NotNull Vector2dArray dest) throws IOException {
+        int recordSize = BinaryCodec.getRealRecordSize(2, quantized);
+        for (int i = 0; i < dest.size(); i++) {
+            ensure(recordSize);
+            dest.x[i] = BinaryCodec.getReal(buffer, quantized);
+            dest.y[i] = BinaryCodec.getReal(buffer, quantized);
+        }
+        return dest;
+    }
+
+    /**
+     * Прочитать массив трёхмерных вещественных векторов
+     *
+     * @param dest массив, в который записывается результат (читается dest.size() векторов)
+     * @return массив векторов
+     * @throws IOException ошибка чтения
+     */
+    @NotNull
+    public Vector3dArray read(@NotNull Vector3dArray dest) throws IOException {
+        int recordSize = BinaryCodec.getRealRecordSize(3, quantized);
+        for (int i = 0; i < dest.size(); i++) {
+            ensure(recordSize);
+            dest.x[i] = BinaryCodec.getReal(buffer, quantized);
+            dest.y[i] = BinaryCodec.getReal(buffer, quantized);
+            dest.z[i] = BinaryCodec.getReal(buffer, quantized);
+        }
+        return dest;
+    }
+
+    /**
+     * Прочитать массив четырёхмерных вещественных векторов
+     *
+     * @param dest массив, в который записывается результат (читается dest.size() векторов)
+     * @return массив векторов
+     * @throws IOException ошибка чтения
+     */
+    @NotNull
+    public Vector4dArray read(@NotNull Vector4dArray dest) throws IOException {
+        int recordSize = BinaryCodec.getRealRecordSize(4, quantized);
+        for (int i = 0; i < dest.size(); i++) {
+            ensure(recordSize);
+            dest.x[i] = BinaryCodec.getReal(buffer, quantized);
+            dest.y[i] = BinaryCodec.getReal(buffer, quantized);
+            dest.z[i] = BinaryCodec.getReal(buffer, quantized);
+            dest.w[i] = BinaryCodec.getReal(buffer, quantized);
+        }
+        return dest;
+    }
+
+    /**
+     * Прочитать массив двумерных целочисленных векторов
+     *
+     * @param dest массив, в который записывается результат (читается dest.size() векторов)
+     * @return массив векторов
+     * @throws IOException ошибка чтения
+     */
+    @NotNull
+    public Vector2iArray read(@NotNull Vector2iArray dest) throws IOException {
+        int recordSize = BinaryCodec.getIntRecordSize(2);
+        for (int i = 0; i < dest.size(); i++) {
+            ensure(recordSize);
+            dest.x[i] = buffer.getInt();
+            dest.y[i] = buffer.getInt();
+        }
+        return dest;
+    }
+
+    /**
+     * Прочитать массив трёхмерных целочисленных векторов
+     *
+     * @param dest массив, в который записывается результат (читается dest.size() векторов)
+     * @return массив векторов
+     * @throws IOException ошибка чтения
+     */
+    @NotNull
+    public Vector3iArray read(@NotNull Vector3iArray dest) throws IOException {
+        int recordSize = BinaryCodec.getIntRecordSize(3);
+        for (int i = 0; i < dest.size(); i++) {
+            ensure(recordSize);
+            dest.x[i] = buffer.getInt();
+            dest.y[i] = buffer.getInt();
+            dest.z[i] = buffer.getInt();
+        }
+        return dest;
+    }
+
+    /**
+     * Прочитать матрицу трансформации
+     *
+     * @return матрица трансформации
+     * @throws IOException ошибка чтения
+     */
+    @NotNull
+    public Transform3d readTransform3d() throws IOException {
+        ensure(BinaryCodec.getRealRecordSize(BinaryCodec.TRANSFORM3D_COMPONENT_CNT, quantized));
+        return BinaryCodec.getTransform3d(buffer, quantized);
+    }
+
+    /**
+     * Прочитать матрицы трансформации
+     *
+     * @param cnt количество матриц
+     * @return список матриц трансформации
+     * @throws IOException ошибка чтения
+     */
+    @NotNull
+    public List<Transform3d> readTransform3dList(int cnt) throws IOException {
+        List<Transform3d> transforms = new ArrayList<>(cnt);
+        for (int i = 0; i < cnt; i++)
+            transforms.add(readTransform3d());
+        return transforms;
+    }
+
+    /**
+     * Прочитать двумерную вещественную систему координат
+     *
+     * @return система координат
+     * @throws IOException ошибка чтения
+     */
+    @NotNull
+    public CoordinateSystem2d readCoordinateSystem2d() throws IOException {
+        ensure(BinaryCodec.getRealRecordSize(4, quantized));
+        return BinaryCodec.getCoordinateSystem2d(buffer, quantized);
+    }
+
+    /**
+     * Прочитать трёхмерную вещественную систему координат
+     *
+     * @return система координат
+     * @throws IOException ошибка чтения
+     */
+    @NotNull
+    public CoordinateSystem3d readCoordinateSystem3d() throws IOException {
+        ensure(BinaryCodec.getRealRecordSize(6, quantized));
+        return BinaryCodec.getCoordinateSystem3d(buffer, quantized);
+    }
+
+    /**
+     * Прочитать четырёхмерную вещественную систему координат
+     *
+     * @return система координат
+     * @throws IOException ошибка чтения
+     */
+    @NotNull
+    public CoordinateSystem4d readCoordinateSystem4d() throws IOException {
+        ensure(BinaryCodec.getRealRecordSize(8, quantized));
+        return BinaryCodec.getCoordinateSystem4d(buffer, quantized);
+    }
+
+    /**
+     * Прочитать двумерную целочисленную систему координат
+     *
+     * @return система координат
+     * @throws IOException ошибка чтения
+     */
+    @NotNull
+    public CoordinateSystem2i readCoordinateSystem2i() throws IOException {
+        ensure(BinaryCodec.getIntRecordSize(4));
+        return BinaryCodec.getCoordinateSystem2i(buffer);
+    }
+
+    /**
+     * Прочитать трёхмерную целочисленную систему координат
+     *
+     * @return система координат
+     * @throws IOException ошибка чтения
+     */
+    @NotNull
+    public CoordinateSystem3i readCoordinateSystem3i() throws IOException {
+        ensure(BinaryCodec.getIntRecordSize(6));
+        return BinaryCodec.getCoordinateSystem3i(buffer);
+    }
+
+    /**
+     * Закрыть канал
+     *
+     * @throws IOException ошибка закрытия
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Дочитать в буфер данные, чтобы в нём была целая запись
+     *
+     * @param size размер записи в байтах
+     * @throws IOException ошибка чтения или конец данных посреди записи
+     */
+    private void ensure(int size) throws IOException {
+        if (buffer.remaining() >= size)
+            return;
+        buffer.compact();
+        try {
+            while (buffer.position() < size)
+                if (channel.read(buffer) < 0)
+                    throw new EOFException("unexpected end of data: " + buffer.position() + " of " + size + " bytes");
+        } finally {
+            buffer.flip();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BinaryReader{" +
+                "quantized=" + quantized +
+                ", bufferSize=" + buffer.capacity() +
+                '}';
+    }
+}
@@ -0,0 +1,390 @@
+package jMath.aoklyunin.github.com.io;
+
+import com.sun.istack.NotNull;
+import jMath.aoklyunin.github.com.Transform3d;
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem2d;
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem2i;
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem3d;
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem3i;
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem4d;
+import jMath.aoklyunin.github.com.vector.*;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Потоковая запись в компактном двоичном формате BinaryCodec
+ * <p>
+ * Записи накапливаются во внутреннем прямом буфере и сбрасываются в канал,
+ * когда буфер заполнен, поэтому файлы с миллионами записей пишутся
+ * без выделения памяти на каждую запись. Все записи одного потока используют
+ * одну и ту же точность вещественных компонент
+ */
+public class BinaryWriter implements Closeable, Flushable {
+    /**
+     * Размер буфера по умолчанию
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+    /**
+     * Максимальный размер записи (матрица трансформации без квантования)
+     */
+    static final int MAX_RECORD_SIZE = BinaryCodec.TRANSFORM3D_COMPONENT_CNT * Double.BYTES;
+    /**
+     * Канал, в который пишутся данные
+     */
+    private final WritableByteChannel channel;
+    /**
+     * Буфер
+     */
+    private final ByteBuffer buffer;
+    /**
+     * Флаг, квантуются ли вещественные компоненты до float32
+     */
+    private final boolean quantized;
+
+    /**
+     * Конструктор потоковой записи
+     *
+     * @param channel    канал, в который пишутся данные
+     * @param quantized  флаг, квантовать ли вещественные компоненты до float32
+     * @param bufferSize размер буфера в байтах
+     */
+    public BinaryWriter(@NotNull WritableByteChannel channel, boolean quantized, int bufferSize) {
+        if (bufferSize < MAX_RECORD_SIZE)
+            throw new IllegalArgumentException("buffer size must be at least " + MAX_RECORD_SIZE + ": " + bufferSize);
+        this.channel = Objects.requireNonNull(channel);
+        this.buffer = BinaryCodec.allocateDirect(bufferSize);
+        this.quantized = quantized;
+    }
+
+    /**
+     * Конструктор потоковой записи
+     *
+     * @param channel   канал, в который пишутся данные
+     * @param quantized флаг, квантовать ли вещественные компоненты до float32
+     */
+    public BinaryWriter(@NotNull WritableByteChannel channel, boolean quantized) {
+        this(channel, quantized, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Конструктор потоковой записи
+     *
+     * @param out       поток, в который пишутся данные
+     * @param quantized флаг, квантовать ли вещественные компоненты до float32
+     */
+    public BinaryWriter(@NotNull OutputStream out, boolean quantized) {
+        this(Channels.newChannel(out), quantized);
+    }
+
+    /**
+     * Конструктор потоковой записи в файл (существующий файл перезаписывается)
+     *
+     * @param path      путь к файлу
+     * @param quantized флаг, квантовать ли вещественные компоненты до float32
+     * @throws IOException ошибка открытия файла
+     */
+    public BinaryWriter(@NotNull Path path, boolean quantized) throws IOException {
+        this(FileChannel.open(
+                path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE
+        ), quantized);
+    }
+
+    /**
+     * Проверить, квантуются ли вещественные компоненты до float32
+     *
+     * @return флаг, квантуются ли вещественные компоненты до float32
+     */
+    public boolean isQuantized() {
+        return quantized;
+    }
+
+    /**
+     * Записать двумерный вещественный вектор
+     *
+     * @param v вектор
+     * @throws IOException ошибка записи
+     */
+    public void write(@NotNull Vector2d v) throws IOException {
+        ensure(BinaryCodec.getRealRecordSize(2, quantized));
+        BinaryCodec.put(buffer, v, quantized);
+    }
+
+    /**
+     * Записать трёхмерный вещественный вектор
+     *
+     * @param v вектор
+     * @throws IOException ошибка записи
+     */
+    public void write(@NotNull Vector3d v) throws IOException {
+        ensure(BinaryCodec.getRealRecordSize(3, quantized));
+        BinaryCodec.put(buffer, v, quantized);
+    }
+
+    /**
+     * Записать четырёхмерный вещественный вектор
+     *
+     * @param v вектор
+     * @throws IOException ошибка записи
+     */
+    public void write(@NotNull Vector4d v) throws IOException {
+        ensure(BinaryCodec.getRealRecordSize(4, quantized));
+        BinaryCodec.put(buffer, v, quantized);
+    }
+
+    /**
+     * Записать двумерный целочисленный вектор
+     *
+     * @param v вектор
+     * @throws IOException ошибка записи
+     */
+    public void write(@NotNull Vector2i v) throws IOException {
+        ensure(BinaryCodec.getIntRecordSize(2));
+        BinaryCodec.put(buffer, v);
+    }
+
+    /**
+     * Записать трёхмерный целочисленный вектор
+     *
+     * @param v вектор
+     * @throws IOException ошибка записи
+     */
+    public void write(@NotNull Vector3i v) throws IOException {
+        ensure(BinaryCodec.getIntRecordSize(3));
+        BinaryCodec.put(buffer, v);
+    }
+
+    /**
+     * Записать четырёхмерный целочисленный вектор
+     *
+     * @param v вектор
+     * @throws IOException ошибка записи
+     */
+    public void write(@NotNull Vector4i v) throws IOException {
+        ensure(BinaryCodec.getIntRecordSize(4));
+        BinaryCodec.put(buffer, v);
+    }
+
+    /**
+     * Записать трёхмерный вещественный (float) вектор
+     *
+     * @param v вектор
+     * @throws IOException ошибка записи
+     */
+    public void write(@NotNull Vector3f v) throws IOException {
+        ensure(3 * Float.BYTES);
+        BinaryCodec.put(buffer, v);
+    }
+
+    /**
+     * Записать массив двумерных вещественных векторов
+     *
+     * @param arr массив векторов
+     * @throws IOException ошибка записи
+     */
+    public void write(@NotNull Vector2dArray arr) throws IOException {
+        int recordSize = BinaryCodec.getRealRecordSize(2, quantized);
+        for (int i = 0; i < arr.size(); i++) {
+            ensure(recordSize);
+            BinaryCodec.putReal(buffer, arr.x[i], quantized);
+            BinaryCodec.putReal(buffer, arr.y[i], quantized);
+        }
+    }
+
+    /**
+     * Записать массив трёхмерных вещественных векторов
+     *
+     * @param arr массив векторов
+     * @throws IOException ошибка записи
+     */
+    public void write(@NotNull Vector3dArray arr) throws IOException {
+        int recordSize = BinaryCodec.getRealRecordSize(3, quantized);
+        for (int i = 0; i < arr.size(); i++) {
+            ensure(recordSize);
+            BinaryCodec.putReal(buffer, arr.x[i], quantized);
+            BinaryCodec.putReal(buffer, arr.y[i], quantized);
+            BinaryCodec.putReal(buffer, arr.z[i], quantized);
+        }
+    }
+
+    /**
+     * Записать массив четырёхмерных вещественных векторов
+     *
+     * @param arr массив векторов
+     * @throws IOException ошибка записи
+     */
+    public void write(@NotNull Vector4dArray arr) throws IOException {
+        int recordSize = BinaryCodec.getRealRecordSize(4, quantized);
+        for (int i = 0; i < arr.size(); i++) {
+            ensure(recordSize);
+            BinaryCodec.putReal(buffer, arr.x[i], quantized);
+            BinaryCodec.putReal(buffer, arr.y[i], quantized);
+            BinaryCodec.putReal(buffer, arr.z[i], quantized);
+            BinaryCodec.putReal(buffer, arr.w[i], quantized);
+        }
+    }
+
+    /**
+     * Записать массив двумерных целочисленных векторов
+     *
+     * @param arr массив векторов
+     * @throws IOException ошибка записи
+     */
+    public void write(@NotNull Vector2iArray arr) throws IOException {
+        int recordSize = BinaryCodec.getIntRecordSize(2);
+        for (int i = 0; i < arr.size(); i++) {
+            ensure(recordSize);
+            buffer.putInt(arr.x[i]);
+            buffer.putInt(arr.y[i]);
+        }
+    }
+
+    /**
+     * Записать массив трёхмерных целочисленных векторов
+     *
+     * @param arr массив векторов
+     * @throws IOException ошибка записи
+     */
+    public void write(@NotNull Vector3iArray arr) throws IOException {
+        int recordSize = BinaryCodec.getIntRecordSize(3);
+        for (int i = 0; i < arr.size(); i++) {
+            ensure(recordSize);
+            buffer.putInt(arr.x[i]);
+            buffer.putInt(arr.y[i]);
+            buffer.putInt(arr.z[i]);
+        }
+    }
+
+    /**
+     * Записать матрицу трансформации (id не записывается)
+     *
+     * @param transform матрица трансформации
+     * @throws IOException ошибка записи
+     */
+    public void write(@NotNull Transform3d transform) throws IOException {
+        ensure(BinaryCodec.getRealRecordSize(BinaryCodec.TRANSFORM3D_COMPONENT_CNT, quantized));
+        BinaryCodec.put(buffer, transform, quantized);
+    }
+
+    /**
+     * Записать матрицы трансформации
+     *
+     * @param transforms матрицы трансформации
+     * @throws IOException ошибка записи
+     */
+    public void write(@NotNull List<? extends Transform3d> transforms) throws IOException {
+        for (Transform3d transform : transforms)
+            write(transform);
+    }
+
+    /**
+     * Записать двумерную вещественную систему координат
+     *
+     * @param coordinateSystem система координат
+     * @throws IOException ошибка записи
+     */
+    public void write(@NotNull CoordinateSystem2d coordinateSystem) throws IOException {
+        ensure(BinaryCodec.getRealRecordSize(4, quantized));
+        BinaryCodec.put(buffer, coordinateSystem, quantized);
+    }
+
+    /**
+     * Записать трёхмерную вещественную систему координат
+     *
+     * @param coordinateSystem система координат
+     * @throws IOException ошибка записи
+     */
+    public void write(@NotNull CoordinateSystem3d coordinateSystem) throws IOException {
+        ensure(BinaryCodec.getRealRecordSize(6, quantized));
+        BinaryCodec.put(buffer, coordinateSystem, quantized);
+    }
+
+    /**
+     * Записать четырёхмерную вещественную систему координат
+     *
+     * @param coordinateSystem система координат
+     * @throws IOException ошибка записи
+     */
+    public void write(@NotNull CoordinateSystem4d coordinateSystem) throws IOException {
+        ensure(BinaryCodec.getRealRecordSize(8, quantized));
+        BinaryCodec.put(buffer, coordinateSystem, quantized);
+    }
+
+    /**
+     * Записать двумерную целочисленную систему координат
+     *
+     * @param coordinateSystem система координат
+     * @throws IOException ошибка записи
+     */
+    public void write(@NotNull CoordinateSystem2i coordinateSystem) throws IOException {
+        ensure(BinaryCodec.getIntRecordSize(4));
+        BinaryCodec.put(buffer, coordinateSystem);
+    }
+
+    /**
+     * Записать трёхмерную целочисленную систему координат
+     *
+     * @param coordinateSystem система координат
+     * @throws IOException ошибка записи
+     */
+    public void write(@NotNull CoordinateSystem3i coordinateSystem) throws IOException {
+        ensure(BinaryCodec.getIntRecordSize(6));
+        BinaryCodec.put(buffer, coordinateSystem);
+    }
+
+    /**
+     * Сбросить накопленные записи в канал
+     *
+     * @throws IOException ошибка записи
+     */
+    @Override
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+        buffer.clear();
+    }
+
+    /**
+     * Сбросить накопленные записи и закрыть канал
+     *
+     * @throws IOException ошибка записи
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Освободить в буфере место под запись
+     *
+     * @param size размер записи в байтах
+     * @throws IOException ошибка записи
+     */
+    private void ensure(int size) throws IOException {
+        if (buffer.remaining() < size)
+            flush();
+    }
+
+    @Override
+    public String toString() {
+        return "BinaryWriter{" +
+                "quantized=" + quantized +
+                ", bufferSize=" + buffer.capacity() +
+                '}';
+    }
+}
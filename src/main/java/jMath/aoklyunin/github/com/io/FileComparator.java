@@ -0,0 +1,472 @@
+package jMath.aoklyunin.github.com.io;
+
+import com.sun.istack.NotNull;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * Сравнение файлов
+ * <p>
+ * Порядок строк можно не учитывать: тогда файлы совпадают, если совпадают мультимножества
+ * их строк (каждая строка встречается в обоих файлах одинаковое число раз). Строки
+ * считаются за один проход по каждому файлу в таблице количеств, занимающей память
+ * пропорционально числу различных строк первого файла; для файлов, строки которых
+ * не помещаются в память, есть вариант с внешней сортировкой, а для больших файлов -
+ * вариант, который читает строки прямо из отображения файла в память без декодирования.
+ * Если порядок важен, файлы сравниваются побайтно крупными блоками
+ */
+public final class FileComparator {
+    /**
+     * Размер блока побайтного сравнения по умолчанию
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+    /**
+     * Количество строк в одной отсортированной серии внешней сортировки по умолчанию
+     */
+    public static final int DEFAULT_RUN_SIZE = 1 << 20;
+    /**
+     * Размер окна отображения файла в память в байтах
+     */
+    private static final long MAPPED_WINDOW_SIZE = 1L << 30;
+
+    /**
+     * Проверить, что файлы совпадают побайтно
+     *
+     * @param file1 путь к первому файлу
+     * @param file2 путь ко второму файлу
+     * @return флаг, совпадают ли файлы
+     * @throws IOException ошибка чтения
+     */
+    public static boolean sameContent(@NotNull Path file1, @NotNull Path file2) throws IOException {
+        return sameContent(file1, file2, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Проверить, что файлы совпадают побайтно
+     * <p>
+     * Сначала сравниваются размеры файлов, потом содержимое читается
+     * в прямые буферы блоками по chunkSize байт
+     *
+     * @param file1     путь к первому файлу
+     * @param file2     путь ко второму файлу
+     * @param chunkSize размер блока в байтах
+     * @return флаг, совпадают ли файлы
+     * @throws IOException ошибка чтения
+     */
+    public static boolean sameContent(@NotNull Path file1, @NotNull Path file2, int chunkSize) throws IOException {
+        if (chunkSize < 1)
+            throw new IllegalArgumentException("chunk size must be positive: " + chunkSize);
+        try (FileChannel channel1 = FileChannel.open(file1, StandardOpenOption.READ);
+             FileChannel channel2 = FileChannel.open(file2, StandardOpenOption.READ)
+        ) {
+            if (channel1.size() != channel2.size())
+                return false;
+            ByteBuffer buffer1 = ByteBuffer.allocateDirect(chunkSize);
+            ByteBuffer buffer2 = ByteBuffer.allocateDirect(chunkSize);
+            while (true) {
+                int cnt1 = readFully(channel1, buffer1);
+                int cnt2 = readFully(channel2, buffer2);
+                if (cnt1 != cnt2)
+                    return false;
+                if (cnt1 == 0)
+                    return true;
+                if (!buffer1.equals(buffer2))
+                    return false;
+            }
+        }
+    }
+
+    /**
+     * Проверить, что файлы состоят из одних и тех же строк без учёта их порядка
+     * (файлы читаются в UTF-8)
+     *
+     * @param file1 путь к первому файлу
+     * @param file2 путь ко второму файлу
+     * @return флаг, совпадают ли мультимножества строк
+     * @throws IOException ошибка чтения
+     */
+    public static boolean sameLines(@NotNull Path file1, @NotNull Path file2) throws IOException {
+        LineCounter counter = new LineCounter();
+        try (BufferedReader reader = Files.newBufferedReader(file1, StandardCharsets.UTF_8)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine())
+                counter.add(line);
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file2, StandardCharsets.UTF_8)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine())
+                if (!counter.remove(line))
+                    return false;
+        }
+        return counter.isEmpty();
+    }
+
+    /**
+     * Проверить, что файлы состоят из одних и тех же строк без учёта их порядка,
+     * читая строки из отображения файлов в память
+     * <p>
+     * Строки не декодируются: в таблице количеств хранятся срезы отображения,
+     * которые сравниваются побайтно. Строки разделяются символом '\n', завершающий '\r'
+     * отбрасывается. Одна строка не может быть длиннее 1 ГБ
+     *
+     * @param file1 путь к первому файлу
+     * @param file2 путь ко второму файлу
+     * @return флаг, совпадают ли мультимножества строк
+     * @throws IOException ошибка чтения
+     */
+    public static boolean sameLinesMapped(@NotNull Path file1, @NotNull Path file2) throws IOException {
+        LineCounter counter = new LineCounter();
+        try (FileChannel channel = FileChannel.open(file1, StandardOpenOption.READ)) {
+            forEachMappedLine(channel, line -> {
+                counter.add(line);
+                return true;
+            });
+        }
+        try (FileChannel channel = FileChannel.open(file2, StandardOpenOption.READ)) {
+            if (!forEachMappedLine(channel, counter::remove))
+                return false;
+        }
+        return counter.isEmpty();
+    }
+
+    /**
+     * Проверить, что файлы состоят из одних и тех же строк без учёта их порядка,
+     * с помощью внешней сортировки (файлы читаются в UTF-8)
+     *
+     * @param file1 путь к первому файлу
+     * @param file2 путь ко второму файлу
+     * @return флаг, совпадают ли мультимножества строк
+     * @throws IOException ошибка чтения или записи временных файлов
+     */
+    public static boolean sameLinesExternal(@NotNull Path file1, @NotNull Path file2) throws IOException {
+        return sameLinesExternal(file1, file2, DEFAULT_RUN_SIZE);
+    }
+
+    /**
+     * Проверить, что файлы состоят из одних и тех же строк без учёта их порядка,
+     * с помощью внешней сортировки (файлы читаются в UTF-8)
+     * <p>
+     * Каждый файл разбивается на серии по runSize строк, которые сортируются в памяти
+     * и записываются во временные файлы; затем серии каждого файла сливаются,
+     * и два отсортированных потока строк сравниваются построчно. В памяти одновременно
+     * находится не больше runSize строк
+     *
+     * @param file1   путь к первому файлу
+     * @param file2   путь ко второму файлу
+     * @param runSize количество строк в одной серии
+     * @return флаг, совпадают ли мультимножества строк
+     * @throws IOException ошибка чтения или записи временных файлов
+     */
+    public static boolean sameLinesExternal(@NotNull Path file1, @NotNull Path file2, int runSize) throws IOException {
+        if (runSize < 1)
+            throw new IllegalArgumentException("run size must be positive: " + runSize);
+        List<Path> runs = new ArrayList<>();
+        try {
+            List<Path> runs1 = sortRuns(file1, runSize, runs);
+            List<Path> runs2 = sortRuns(file2, runSize, runs);
+            try (MergedLines lines1 = new MergedLines(runs1); MergedLines lines2 = new MergedLines(runs2)) {
+                while (true) {
+                    String line1 = lines1.next();
+                    String line2 = lines2.next();
+                    if (line1 == null || line2 == null)
+                        return line1 == null && line2 == null;
+                    if (!line1.equals(line2))
+                        return false;
+                }
+            }
+        } finally {
+            for (Path run : runs)
+                Files.deleteIfExists(run);
+        }
+    }
+
+    /**
+     * Прочитать из канала столько байт, сколько помещается в буфер
+     *
+     * @param channel канал
+     * @param buffer  буфер
+     * @return количество прочитанных байт (меньше размера буфера только в конце файла);
+     * буфер переводится в режим чтения
+     * @throws IOException ошибка чтения
+     */
+    private static int readFully(@NotNull FileChannel channel, @NotNull ByteBuffer buffer) throws IOException {
+        buffer.clear();
+        while (buffer.hasRemaining())
+            if (channel.read(buffer) < 0)
+                break;
+        buffer.flip();
+        return buffer.remaining();
+    }
+
+    /**
+     * Перебрать строки файла, отображённого в память окнами, которые заканчиваются на границе строки
+     *
+     * @param channel канал файла
+     * @param visitor обработчик строк
+     * @return false, если обработчик прервал перебор
+     * @throws IOException ошибка отображения или слишком длинная строка
+     */
+    private static boolean forEachMappedLine(@NotNull FileChannel channel, @NotNull LineVisitor visitor) throws IOException {
+        long size = channel.size();
+        long pos = 0;
+        while (pos < size) {
+            int length = (int) Math.min(MAPPED_WINDOW_SIZE, size - pos);
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, pos, length);
+            int end = length;
+            if (pos + length < size) {
+                // окно обрезается по последнему переводу строки
+                while (end > 0 && window.get(end - 1) != '\n')
+                    end--;
+                if (end == 0)
+                    throw new IOException("line at offset " + pos + " is longer than " + MAPPED_WINDOW_SIZE + " bytes");
+            }
+            int start = 0;
+            for (int i = 0; i < end; i++) {
+                if (window.get(i) == '\n') {
+                    if (!visitor.visit(slice(window, start, i)))
+                        return false;
+                    start = i + 1;
+                }
+            }
+            if (start < end && !visitor.visit(slice(window, start, end)))
+                return false;
+            pos += end;
+        }
+        return true;
+    }
+
+    /**
+     * Получить срез строки без завершающего '\r'
+     *
+     * @param window окно отображения
+     * @param start  индекс начала строки
+     * @param end    индекс конца строки (перевод строки не включается)
+     * @return срез строки
+     */
+    @NotNull
+    private static ByteBuffer slice(@NotNull ByteBuffer window, int start, int end) {
+        if (end > start && window.get(end - 1) == '\r')
+            end--;
+        ByteBuffer line = window.duplicate();
+        line.limit(end);
+        line.position(start);
+        return line.slice();
+    }
+
+    /**
+     * Разбить файл на отсортированные серии во временных файлах
+     *
+     * @param file    путь к файлу
+     * @param runSize количество строк в одной серии
+     * @param created список, в который добавляются созданные временные файлы
+     * @return серии файла
+     * @throws IOException ошибка чтения или записи
+     */
+    @NotNull
+    private static List<Path> sortRuns(@NotNull Path file, int runSize, @NotNull List<Path> created) throws IOException {
+        List<Path> runs = new ArrayList<>();
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+                if (lines.size() == runSize)
+                    runs.add(writeRun(lines, created));
+            }
+        }
+        if (!lines.isEmpty())
+            runs.add(writeRun(lines, created));
+        return runs;
+    }
+
+    /**
+     * Отсортировать строки и записать их во временный файл
+     *
+     * @param lines   строки (список очищается)
+     * @param created список, в который добавляется созданный временный файл
+     * @return путь к временному файлу
+     * @throws IOException ошибка записи
+     */
+    @NotNull
+    private static Path writeRun(@NotNull List<String> lines, @NotNull List<Path> created) throws IOException {
+        Collections.sort(lines);
+        Path run = Files.createTempFile("jmath-run", ".txt");
+        created.add(run);
+        // строки пишутся через '\n', поэтому readLine() вернёт их без изменений
+        try (BufferedWriter writer = Files.newBufferedWriter(run, StandardCharsets.UTF_8)) {
+            for (String line : lines) {
+                writer.write(line);
+                writer.write('\n');
+            }
+        }
+        lines.clear();
+        return run;
+    }
+
+    /**
+     * Обработчик строк файла, отображённого в память
+     */
+    private interface LineVisitor {
+        /**
+         * Обработать строку
+         *
+         * @param line срез строки
+         * @return false, если перебор нужно прервать
+         */
+        boolean visit(@NotNull ByteBuffer line);
+    }
+
+    /**
+     * Таблица количеств строк
+     */
+    private static final class LineCounter {
+        /**
+         * Количество вхождений каждой строки
+         */
+        private final Map<Object, int[]> counts = new HashMap<>();
+        /**
+         * Количество строк с ненулевым количеством вхождений
+         */
+        private int nonZeroCnt;
+
+        /**
+         * Добавить вхождение строки
+         *
+         * @param line строка
+         */
+        void add(@NotNull Object line) {
+            int[] count = counts.computeIfAbsent(line, k -> new int[1]);
+            if (count[0]++ == 0)
+                nonZeroCnt++;
+        }
+
+        /**
+         * Удалить вхождение строки
+         *
+         * @param line строка
+         * @return false, если вхождений строки не осталось
+         */
+        boolean remove(@NotNull Object line) {
+            int[] count = counts.get(line);
+            if (count == null || count[0] == 0)
+                return false;
+            if (--count[0] == 0)
+                nonZeroCnt--;
+            return true;
+        }
+
+        /**
+         * Проверить, что все вхождения удалены
+         *
+         * @return флаг, удалены ли все вхождения
+         */
+        boolean isEmpty() {
+            return nonZeroCnt == 0;
+        }
+    }
+
+    /**
+     * Слияние отсортированных серий в один отсортированный поток строк
+     */
+    private static final class MergedLines implements Closeable {
+        /**
+         * Серии
+         */
+        private final List<Run> runs = new ArrayList<>();
+        /**
+         * Очередь непустых серий по текущей строке
+         */
+        private final PriorityQueue<Run> queue = new PriorityQueue<>(Comparator.comparing(run -> run.line));
+
+        /**
+         * Конструктор слияния
+         *
+         * @param paths пути к сериям
+         * @throws IOException ошибка чтения
+         */
+        MergedLines(@NotNull List<Path> paths) throws IOException {
+            try {
+                for (Path path : paths) {
+                    Run run = new Run(Files.newBufferedReader(path, StandardCharsets.UTF_8));
+                    runs.add(run);
+                    if (run.advance())
+                        queue.add(run);
+                }
+            } catch (IOException e) {
+                close();
+                throw e;
+            }
+        }
+
+        /**
+         * Получить следующую строку
+         *
+         * @return строка или null, если строки закончились
+         * @throws IOException ошибка чтения
+         */
+        String next() throws IOException {
+            Run run = queue.poll();
+            if (run == null)
+                return null;
+            String line = run.line;
+            if (run.advance())
+                queue.add(run);
+            return line;
+        }
+
+        @Override
+        public void close() throws IOException {
+            for (Run run : runs)
+                run.reader.close();
+        }
+    }
+
+    /**
+     * Отсортированная серия строк
+     */
+    private static final class Run {
+        /**
+         * Читатель серии
+         */
+        final BufferedReader reader;
+        /**
+         * Текущая строка
+         */
+        String line;
+
+        /**
+         * Конструктор серии
+         *
+         * @param reader читатель серии
+         */
+        Run(@NotNull BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * Перейти к следующей строке
+         *
+         * @return false, если строки закончились
+         * @throws IOException ошибка чтения
+         */
+        boolean advance() throws IOException {
+            line = reader.readLine();
+            return line != null;
+        }
+    }
+
+    /**
+     * Конструктор для запрета наследования
+     */
+    private FileComparator() {
+        // Подавление создания конструктора по умолчанию
+        // для достижения неинстанцируемости
+        throw new AssertionError("constructor is disabled");
+    }
+}
@@ -0,0 +1,529 @@
+package jMath.aoklyunin.github.com.io;
+
+import com.sun.istack.NotNull;
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem2d;
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem3d;
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem4d;
+import jMath.aoklyunin.github.com.vector.*;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+
+/**
+ * Облако точек в файле, отображённом в память (FileChannel.map)
+ * <p>
+ * Файл содержит точки из 2, 3 или 4 вещественных компонент, записанные подряд
+ * в формате BinaryCodec (little-endian, float64 или квантованные float32), например
+ * методом BinaryWriter.write(Vector3dArray). Точки читаются напрямую из отображения
+ * без копирования файла в кучу, поэтому файл может быть больше доступной памяти.
+ * Файл отображается сегментами (не больше 2 ГБ каждый), точка никогда не пересекает
+ * границу сегмента
+ * <p>
+ * Объект только читает файл и потокобезопасен. Отображение остаётся действительным
+ * и после close(): оно освобождается сборщиком мусора
+ */
+public class MappedPointCloud implements Closeable {
+    /**
+     * Размер сегмента отображения по умолчанию в байтах
+     */
+    public static final long DEFAULT_SEGMENT_SIZE = 1L << 30;
+    /**
+     * Минимальное количество точек, которое обрабатывается одним потоком при поиске границ
+     */
+    private static final int BOUNDS_THRESHOLD = 1 << 18;
+    /**
+     * Канал файла
+     */
+    private final FileChannel channel;
+    /**
+     * Сегменты отображения
+     */
+    private final ByteBuffer[] segments;
+    /**
+     * Количество компонент точки
+     */
+    private final int componentCnt;
+    /**
+     * Флаг, квантованы ли компоненты до float32
+     */
+    private final boolean quantized;
+    /**
+     * Размер компоненты в байтах
+     */
+    private final int componentSize;
+    /**
+     * Размер точки в байтах
+     */
+    private final int recordSize;
+    /**
+     * Количество точек в полном сегменте
+     */
+    private final int segmentPointCnt;
+    /**
+     * Количество точек
+     */
+    private final long size;
+
+    /**
+     * Конструктор облака точек
+     *
+     * @param path         путь к файлу
+     * @param componentCnt количество компонент точки (2, 3 или 4)
+     * @param quantized    флаг, записаны ли компоненты как float32
+     * @throws IOException ошибка открытия или отображения файла
+     */
+    public MappedPointCloud(@NotNull Path path, int componentCnt, boolean quantized) throws IOException {
+        this(path, componentCnt, quantized, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Конструктор облака точек
+     *
+     * @param path         путь к файлу
+     * @param componentCnt количество компонент точки (2, 3 или 4)
+     * @param quantized    флаг, записаны ли компоненты как float32
+     * @param segmentSize  максимальный размер сегмента отображения в байтах
+     * @throws IOException ошибка открытия или отображения файла
+     */
+    public MappedPointCloud(
+            @NotNull Path path, int componentCnt, boolean quantized, long segmentSize
+    ) throws IOException {
+        if (componentCnt < 2 || componentCnt > 4)
+            throw new IllegalArgumentException("component count must be 2, 3 or 4: " + componentCnt);
+        this.componentCnt = componentCnt;
+        this.quantized = quantized;
+        this.componentSize = BinaryCodec.getRealSize(quantized);
+        this.recordSize = BinaryCodec.getRealRecordSize(componentCnt, quantized);
+        if (segmentSize < recordSize || segmentSize > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("wrong segment size: " + segmentSize);
+        this.segmentPointCnt = (int) (segmentSize / recordSize);
+        this.channel = FileChannel.open(Objects.requireNonNull(path), StandardOpenOption.READ);
+        try {
+            long length = channel.size();
+            if (length % recordSize != 0)
+                throw new IllegalArgumentException(
+                        "file length " + length + " is not a multiple of point size " + recordSize
+                );
+            this.size = length / recordSize;
+            int segmentCnt = (int) ((size + segmentPointCnt - 1) / segmentPointCnt);
+            this.segments = new ByteBuffer[segmentCnt];
+            for (int i = 0; i < segmentCnt; i++) {
+                long from = (long) i * segmentPointCnt;
+                long pointCnt = Math.min(segmentPointCnt, size - from);
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, from * recordSize, pointCnt * recordSize)
+                        .order(ByteOrder.LITTLE_ENDIAN);
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Получить количество точек
+     *
+     * @return количество точек
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Получить количество компонент точки
+     *
+     * @return количество компонент точки
+     */
+    public int getComponentCnt() {
+        return componentCnt;
+    }
+
+    /**
+     * Проверить, квантованы ли компоненты до float32
+     *
+     * @return флаг, квантованы ли компоненты до float32
+     */
+    public boolean isQuantized() {
+        return quantized;
+    }
+
+    /**
+     * Получить компоненту точки
+     *
+     * @param i         индекс точки
+     * @param component индекс компоненты (0 - x, 1 - y, 2 - z, 3 - w)
+     * @return значение компоненты
+     */
+    public double get(long i, int component) {
+        checkIndex(i);
+        if (component < 0 || component >= componentCnt)
+            throw new IndexOutOfBoundsException("component " + component + " of " + componentCnt);
+        return getReal(segments[(int) (i / segmentPointCnt)], offset(i) + component * componentSize);
+    }
+
+    /**
+     * Получить двумерную точку
+     *
+     * @param i    индекс точки
+     * @param dest вектор, в который записывается результат
+     * @return вектор
+     */
+    @NotNull
+    public Vector2d get(long i, @NotNull Vector2d dest) {
+        checkComponentCnt(2);
+        checkIndex(i);
+        ByteBuffer segment = segments[(int) (i / segmentPointCnt)];
+        int offset = offset(i);
+        dest.x = getReal(segment, offset);
+        dest.y = getReal(segment, offset + componentSize);
+        return dest;
+    }
+
+    /**
+     * Получить трёхмерную точку
+     *
+     * @param i    индекс точки
+     * @param dest вектор, в который записывается результат
+     * @return вектор
+     */
+    @NotNull
+    public Vector3d get(long i, @NotNull Vector3d dest) {
+        checkComponentCnt(3);
+        checkIndex(i);
+        ByteBuffer segment = segments[(int) (i / segmentPointCnt)];
+        int offset = offset(i);
+        dest.x = getReal(segment, offset);
+        dest.y = getReal(segment, offset + componentSize);
+        dest.z = getReal(segment, offset + 2 * componentSize);
+        return dest;
+    }
+
+    /**
+     * Получить четырёхмерную точку
+     *
+     * @param i    индекс точки
+     * @param dest вектор, в который записывается результат
+     * @return вектор
+     */
+    @NotNull
+    public Vector4d get(long i, @NotNull Vector4d dest) {
+        checkComponentCnt(4);
+        checkIndex(i);
+        ByteBuffer segment = segments[(int) (i / segmentPointCnt)];
+        int offset = offset(i);
+        dest.x = getReal(segment, offset);
+        dest.y = getReal(segment, offset + componentSize);
+        dest.z = getReal(segment, offset + 2 * componentSize);
+        dest.w = getReal(segment, offset + 3 * componentSize);
+        return dest;
+    }
+
+    /**
+     * Прочитать подряд идущие двумерные точки
+     *
+     * @param from индекс первой точки
+     * @param dest массив, в который записывается результат (читается dest.size() точек)
+     * @return массив точек
+     */
+    @NotNull
+    public Vector2dArray get(long from, @NotNull Vector2dArray dest) {
+        checkComponentCnt(2);
+        read(from, dest.size(), dest.x, dest.y, null, null);
+        return dest;
+    }
+
+    /**
+     * Прочитать подряд идущие трёхмерные точки
+     *
+     * @param from индекс первой точки
+     * @param dest массив, в который записывается результат (читается dest.size() точек)
+     * @return массив точек
+     */
+    @NotNull
+    public Vector3dArray get(long from, @NotNull Vector3dArray dest) {
+        checkComponentCnt(3);
+        read(from, dest.size(), dest.x, dest.y, dest.z, null);
+        return dest;
+    }
+
+    /**
+     * Прочитать подряд идущие четырёхмерные точки
+     *
+     * @param from индекс первой точки
+     * @param dest массив, в который записывается результат (читается dest.size() точек)
+     * @return массив точек
+     */
+    @NotNull
+    public Vector4dArray get(long from, @NotNull Vector4dArray dest) {
+        checkComponentCnt(4);
+        read(from, dest.size(), dest.x, dest.y, dest.z, dest.w);
+        return dest;
+    }
+
+    /**
+     * Перебрать все двумерные точки
+     *
+     * @param consumer обработчик точек (получает один и тот же изменяемый вектор)
+     */
+    public void forEach2d(@NotNull Consumer<? super Vector2d> consumer) {
+        checkComponentCnt(2);
+        Vector2d v = new Vector2d();
+        for (long i = 0; i < size; i++)
+            consumer.accept(get(i, v));
+    }
+
+    /**
+     * Перебрать все трёхмерные точки
+     *
+     * @param consumer обработчик точек (получает один и тот же изменяемый вектор)
+     */
+    public void forEach3d(@NotNull Consumer<? super Vector3d> consumer) {
+        checkComponentCnt(3);
+        Vector3d v = new Vector3d();
+        for (long i = 0; i < size; i++)
+            consumer.accept(get(i, v));
+    }
+
+    /**
+     * Перебрать все четырёхмерные точки
+     *
+     * @param consumer обработчик точек (получает один и тот же изменяемый вектор)
+     */
+    public void forEach4d(@NotNull Consumer<? super Vector4d> consumer) {
+        checkComponentCnt(4);
+        Vector4d v = new Vector4d();
+        for (long i = 0; i < size; i++)
+            consumer.accept(get(i, v));
+    }
+
+    /**
+     * Получить двумерную систему координат, ограничивающую точки по x и y
+     *
+     * @return система координат
+     */
+    @NotNull
+    public CoordinateSystem2d getBounds2d() {
+        double[] bounds = computeBounds();
+        return new CoordinateSystem2d(bounds[0], bounds[componentCnt], bounds[1], bounds[componentCnt + 1]);
+    }
+
+    /**
+     * Получить трёхмерную систему координат, ограничивающую точки по x, y и z
+     * (для двумерных точек диапазон z равен [0, 0])
+     *
+     * @return система координат
+     */
+    @NotNull
+    public CoordinateSystem3d getBounds() {
+        double[] bounds = computeBounds();
+        return new CoordinateSystem3d(
+                bounds[0], bounds[componentCnt], bounds[1], bounds[componentCnt + 1],
+                axisMin(bounds, 2), axisMax(bounds, 2)
+        );
+    }
+
+    /**
+     * Получить четырёхмерную систему координат, ограничивающую точки
+     * (диапазоны отсутствующих компонент равны [0, 0])
+     *
+     * @return система координат
+     */
+    @NotNull
+    public CoordinateSystem4d getBounds4d() {
+        double[] bounds = computeBounds();
+        return new CoordinateSystem4d(
+                bounds[0], bounds[componentCnt], bounds[1], bounds[componentCnt + 1],
+                axisMin(bounds, 2), axisMax(bounds, 2), axisMin(bounds, 3), axisMax(bounds, 3)
+        );
+    }
+
+    /**
+     * Закрыть канал файла
+     *
+     * @throws IOException ошибка закрытия
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Найти минимумы и максимумы компонент всех точек (параллельно в общем пуле fork-join)
+     *
+     * @return массив {min0, ..., minN, max0, ..., maxN}
+     */
+    @NotNull
+    private double[] computeBounds() {
+        if (size == 0)
+            throw new IllegalStateException("point cloud is empty");
+        return ForkJoinPool.commonPool().invoke(new BoundsTask(0, size));
+    }
+
+    /**
+     * Получить минимум компоненты из массива границ
+     *
+     * @param bounds    массив границ
+     * @param component индекс компоненты
+     * @return минимум компоненты или 0, если компоненты нет
+     */
+    private double axisMin(@NotNull double[] bounds, int component) {
+        return component < componentCnt ? bounds[component] : 0;
+    }
+
+    /**
+     * Получить максимум компоненты из массива границ
+     *
+     * @param bounds    массив границ
+     * @param component индекс компоненты
+     * @return максимум компоненты или 0, если компоненты нет
+     */
+    private double axisMax(@NotNull double[] bounds, int component) {
+        return component < componentCnt ? bounds[componentCnt + component] : 0;
+    }
+
+    /**
+     * Прочитать подряд идущие точки в массивы компонент
+     *
+     * @param from  индекс первой точки
+     * @param cnt   количество точек
+     * @param destX массив x - компонент
+     * @param destY массив y - компонент
+     * @param destZ массив z - компонент или null
+     * @param destW массив w - компонент или null
+     */
+    private void read(long from, int cnt, double[] destX, double[] destY, double[] destZ, double[] destW) {
+        if (from < 0 || from + cnt > size)
+            throw new IndexOutOfBoundsException("points " + from + ".." + (from + cnt) + " of " + size);
+        int k = 0;
+        while (k < cnt) {
+            long i = from + k;
+            ByteBuffer segment = segments[(int) (i / segmentPointCnt)];
+            int offset = offset(i);
+            int end = k + (int) Math.min(cnt - k, segmentPointCnt - i % segmentPointCnt);
+            for (; k < end; k++, offset += recordSize) {
+                destX[k] = getReal(segment, offset);
+                destY[k] = getReal(segment, offset + componentSize);
+                if (destZ != null)
+                    destZ[k] = getReal(segment, offset + 2 * componentSize);
+                if (destW != null)
+                    destW[k] = getReal(segment, offset + 3 * componentSize);
+            }
+        }
+    }
+
+    /**
+     * Получить вещественную компоненту из сегмента
+     *
+     * @param segment сегмент
+     * @param offset  смещение компоненты в байтах
+     * @return значение компоненты
+     */
+    private double getReal(@NotNull ByteBuffer segment, int offset) {
+        return quantized ? segment.getFloat(offset) : segment.getDouble(offset);
+    }
+
+    /**
+     * Получить смещение точки в её сегменте
+     *
+     * @param i индекс точки
+     * @return смещение в байтах
+     */
+    private int offset(long i) {
+        return (int) (i % segmentPointCnt) * recordSize;
+    }
+
+    /**
+     * Проверить индекс точки
+     *
+     * @param i индекс точки
+     */
+    private void checkIndex(long i) {
+        if (i < 0 || i >= size)
+            throw new IndexOutOfBoundsException("point " + i + " of " + size);
+    }
+
+    /**
+     * Проверить количество компонент точки
+     *
+     * @param cnt требуемое количество компонент
+     */
+    private void checkComponentCnt(int cnt) {
+        if (componentCnt != cnt)
+            throw new IllegalArgumentException("point cloud has " + componentCnt + " components, not " + cnt);
+    }
+
+    @Override
+    public String toString() {
+        return "MappedPointCloud{" +
+                "size=" + size +
+                ", componentCnt=" + componentCnt +
+                ", quantized=" + quantized +
+                '}';
+    }
+
+    /**
+     * Задача поиска границ участка точек
+     */
+    private final class BoundsTask extends RecursiveTask<double[]> {
+        /**
+         * индекс первой точки
+         */
+        private final long from;
+        /**
+         * индекс точки, следующей за последней
+         */
+        private final long to;
+
+        /**
+         * Конструктор задачи
+         *
+         * @param from индекс первой точки
+         * @param to   индекс точки, следующей за последней
+         */
+        BoundsTask(long from, long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected double[] compute() {
+            if (to - from > BOUNDS_THRESHOLD) {
+                long mid = (from + to) >>> 1;
+                BoundsTask left = new BoundsTask(from, mid);
+                left.fork();
+                double[] bounds = new BoundsTask(mid, to).compute();
+                double[] leftBounds = left.join();
+                for (int c = 0; c < componentCnt; c++) {
+                    bounds[c] = Math.min(bounds[c], leftBounds[c]);
+                    bounds[componentCnt + c] = Math.max(bounds[componentCnt + c], leftBounds[componentCnt + c]);
+                }
+                return bounds;
+            }
+            double[] bounds = new double[2 * componentCnt];
+            Arrays.fill(bounds, 0, componentCnt, Double.POSITIVE_INFINITY);
+            Arrays.fill(bounds, componentCnt, 2 * componentCnt, Double.NEGATIVE_INFINITY);
+            for (long i = from; i < to; i++) {
+                ByteBuffer segment = segments[(int) (i / segmentPointCnt)];
+                int offset = offset(i);
+                for (int c = 0; c < componentCnt; c++, offset += componentSize) {
+                    double v = getReal(segment, offset);
+                    // сравнения не пропускают NaN в границы
+                    if (v < bounds[c])
+                        bounds[c] = v;
+                    if (v > bounds[componentCnt + c])
+                        bounds[componentCnt + c] = v;
+                }
+            }
+            return bounds;
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package jMath.aoklyunin.github.com.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.sun.istack.NotNull;
+import jMath.aoklyunin.github.com.coordinateSystem.*;
+import jMath.aoklyunin.github.com.vector.*;
+
+import java.io.IOException;
+
+/**
+ * Потоковые сериализаторы и десериализаторы Jackson для систем координат
+ * <p>
+ * Система координат записывается массивом из двух векторов [[min], [max]]
+ * (векторы - в компактной форме VectorSerializers). При чтении кроме массива
+ * принимается и объектная форма {"min": ..., "max": ...}, которую Jackson пишет
+ * для систем координат по умолчанию; производные свойства этой формы пропускаются
+ */
+public final class CoordinateSystemSerializers {
+
+    /**
+     * Десериализатор системы координат из массива или объекта граничных векторов
+     *
+     * @param <T> тип системы координат
+     * @param <V> тип граничного вектора
+     */
+    abstract static class BoundsDeserializer<T, V> extends StdDeserializer<T> {
+        /**
+         * Десериализатор граничных векторов
+         */
+        @NotNull
+        private final JsonDeserializer<V> vectorDeserializer;
+
+        /**
+         * Конструктор десериализатора
+         *
+         * @param valueClass         класс системы координат
+         * @param vectorDeserializer десериализатор граничных векторов
+         */
+        BoundsDeserializer(@NotNull Class<T> valueClass, @NotNull JsonDeserializer<V> vectorDeserializer) {
+            super(valueClass);
+            this.vectorDeserializer = vectorDeserializer;
+        }
+
+        /**
+         * Создать систему координат
+         *
+         * @param min минимальные координаты
+         * @param max максимальные координаты
+         * @return система координат
+         */
+        @NotNull
+        protected abstract T create(@NotNull V min, @NotNull V max);
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            V min = null;
+            V max = null;
+            if (p.isExpectedStartArrayToken()) {
+                p.nextToken();
+                min = vectorDeserializer.deserialize(p, ctxt);
+                p.nextToken();
+                max = vectorDeserializer.deserialize(p, ctxt);
+                if (p.nextToken() != JsonToken.END_ARRAY)
+                    ctxt.reportWrongTokenException(this, JsonToken.END_ARRAY, "expected [min, max]");
+                return create(min, max);
+            }
+            if (p.hasToken(JsonToken.START_OBJECT))
+                p.nextToken();
+            else if (!p.hasToken(JsonToken.FIELD_NAME))
+                return (T) ctxt.handleUnexpectedToken(handledType(), p);
+            for (; p.hasToken(JsonToken.FIELD_NAME); p.nextToken()) {
+                String name = p.getCurrentName();
+                p.nextToken();
+                switch (name) {
+                    case "min":
+                        min = vectorDeserializer.deserialize(p, ctxt);
+                        break;
+                    case "max":
+                        max = vectorDeserializer.deserialize(p, ctxt);
+                        break;
+                    // производные свойства, которые пишет сериализация по умолчанию
+                    case "size":
+                    case "convValue":
+                        p.skipChildren();
+                        break;
+                    default:
+                        handleUnknownProperty(p, ctxt, handledType(), name);
+                }
+            }
+            if (min == null || max == null)
+                ctxt.reportInputMismatch(this, "coordinate system must have both min and max");
+            return create(min, max);
+        }
+    }
+
+    /**
+     * Сериализатор двумерной вещественной системы координат
+     */
+    public static final class CoordinateSystem2dSerializer extends StdSerializer<CoordinateSystem2d> {
+        /**
+         * Сериализатор граничных векторов
+         */
+        @NotNull
+        private final VectorSerializers.Vector2dSerializer vectorSerializer = new VectorSerializers.Vector2dSerializer();
+
+        /**
+         * Конструктор сериализатора
+         */
+        public CoordinateSystem2dSerializer() {
+            super(CoordinateSystem2d.class);
+        }
+
+        @Override
+        public void serialize(CoordinateSystem2d value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartArray();
+            vectorSerializer.serialize(value.getMin(), gen, provider);
+            vectorSerializer.serialize(value.getMax(), gen, provider);
+            gen.writeEndArray();
+        }
+    }
+
+    /**
+     * Десериализатор двумерной вещественной системы координат
+     */
+    public static final class CoordinateSystem2dDeserializer extends BoundsDeserializer<CoordinateSystem2d, Vector2d> {
+        /**
+         * Конструктор десериализатора
+         */
+        public CoordinateSystem2dDeserializer() {
+            super(CoordinateSystem2d.class, new VectorSerializers.Vector2dDeserializer());
+        }
+
+        @Override
+        protected CoordinateSystem2d create(Vector2d min, Vector2d max) {
+            return new CoordinateSystem2d(min, max);
+        }
+    }
+
+    /**
+     * Сериализатор трёхмерной вещественной системы координат
+     */
+    public static final class CoordinateSystem3dSerializer extends StdSerializer<CoordinateSystem3d> {
+        /**
+         * Сериализатор граничных векторов
+         */
+        @NotNull
+        private final VectorSerializers.Vector3dSerializer vectorSerializer = new VectorSerializers.Vector3dSerializer();
+
+        /**
+         * Конструктор сериализатора
+         */
+        public CoordinateSystem3dSerializer() {
+            super(CoordinateSystem3d.class);
+        }
+
+        @Override
+        public void serialize(CoordinateSystem3d value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartArray();
+            vectorSerializer.serialize(value.getMin(), gen, provider);
+            vectorSerializer.serialize(value.getMax(), gen, provider);
+            gen.writeEndArray();
+        }
+    }
+
+    /**
+     * Десериализатор трёхмерной вещественной системы координат
+     */
+    public static final class CoordinateSystem3dDeserializer extends BoundsDeserializer<CoordinateSystem3d, Vector3d> {
+        /**
+         * Конструктор десериализатора
+         */
+        public CoordinateSystem3dDeserializer() {
+            super(CoordinateSystem3d.class, new VectorSerializers.Vector3dDeserializer());
+        }
+
+        @Override
+        protected CoordinateSystem3d create(Vector3d min, Vector3d max) {
+            return new CoordinateSystem3d(min, max);
+        }
+    }
+
+    /**
+     * Сериализатор четырёхмерной вещественной системы координат
+     */
+    public static final class CoordinateSystem4dSerializer extends StdSerializer<CoordinateSystem4d> {
+        /**
+         * Сериализатор граничных векторов
+         */
+        @NotNull
+        private final VectorSerializers.Vector4dSerializer vectorSerializer = new VectorSerializers.Vector4dSerializer();
+
+        /**
+         * Конструктор сериализатора
+         */
+        public CoordinateSystem4dSerializer() {
+            super(CoordinateSystem4d.class);
+        }
+
+        @Override
+        public void serialize(CoordinateSystem4d value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartArray();
+            vectorSerializer.serialize(value.getMin(), gen, provider);
+            vectorSerializer.serialize(value.getMax(), gen, provider);
+            gen.writeEndArray();
+        }
+    }
+
+    /**
+     * Десериализатор четырёхмерной вещественной системы координат
+     */
+    public static final class CoordinateSystem4dDeserializer extends BoundsDeserializer<CoordinateSystem4d, Vector4d> {
+        /**
+         * Конструктор десериализатора
+         */
+        public CoordinateSystem4dDeserializer() {
+            super(CoordinateSystem4d.class, new VectorSerializers.Vector4dDeserializer());
+        }
+
+        @Override
+        protected CoordinateSystem4d create(Vector4d min, Vector4d max) {
+            return new CoordinateSystem4d(min, max);
+        }
+    }
+
+    /**
+     * Сериализатор двумерной целочисленной системы координат
+     */
+    public static final class CoordinateSystem2iSerializer extends StdSerializer<CoordinateSystem2i> {
+        /**
+         * Сериализатор граничных векторов
+         */
+        @NotNull
+        private final VectorSerializers.Vector2iSerializer vectorSerializer = new VectorSerializers.Vector2iSerializer();
+
+        /**
+         * Конструктор сериализатора
+         */
+        public CoordinateSystem2iSerializer() {
+            super(CoordinateSystem2i.class);
+        }
+
+        @Override
+        public void serialize(CoordinateSystem2i value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartArray();
+            vectorSerializer.serialize(value.getMin(), gen, provider);
+            vectorSerializer.serialize(value.getMax(), gen, provider);
+            gen.writeEndArray();
+        }
+    }
+
+    /**
+     * Десериализатор двумерной целочисленной системы координат
+     */
+    public static final class CoordinateSystem2iDeserializer extends BoundsDeserializer<CoordinateSystem2i, Vector2i> {
+        /**
+         * Конструктор десериализатора
+         */
+        public CoordinateSystem2iDeserializer() {
+            super(CoordinateSystem2i.class, new VectorSerializers.Vector2iDeserializer());
+        }
+
+        @Override
+        protected CoordinateSystem2i create(Vector2i min, Vector2i max) {
+            return new CoordinateSystem2i(min, max);
+        }
+    }
+
+    /**
+     * Сериализатор трёхмерной целочисленной системы координат
+     */
+    public static final class CoordinateSystem3iSerializer extends StdSerializer<CoordinateSystem3i> {
+        /**
+         * Сериализатор граничных векторов
+         */
+        @NotNull
+        private final VectorSerializers.Vector3iSerializer vectorSerializer = new VectorSerializers.Vector3iSerializer();
+
+        /**
+         * Конструктор сериализатора
+         */
+        public CoordinateSystem3iSerializer() {
+            super(CoordinateSystem3i.class);
+        }
+
+        @Override
+        public void serialize(CoordinateSystem3i value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartArray();
+            vectorSerializer.serialize(value.getMin(), gen, provider);
+            vectorSerializer.serialize(value.getMax(), gen, provider);
+            gen.writeEndArray();
+        }
+    }
+
+    /**
+     * Десериализатор трёхмерной целочисленной системы координат
+     */
+    public static final class CoordinateSystem3iDeserializer extends BoundsDeserializer<CoordinateSystem3i, Vector3i> {
+        /**
+         * Конструктор десериализатора
+         */
+        public CoordinateSystem3iDeserializer() {
+            super(CoordinateSystem3i.class, new VectorSerializers.Vector3iDeserializer());
+        }
+
+        @Override
+        protected CoordinateSystem3i create(Vector3i min, Vector3i max) {
+            return new CoordinateSystem3i(min, max);
+        }
+    }
+
+    /**
+     * Конструктор для запрета наследования
+     */
+    private CoordinateSystemSerializers() {
+        // Подавление создания конструктора по умолчанию
+        // для достижения неинстанцируемости
+        throw new AssertionError("constructor is disabled");
+    }
+}
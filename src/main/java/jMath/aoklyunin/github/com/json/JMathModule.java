@@ -0,0 +1,48 @@
+package jMath.aoklyunin.github.com.json;
+
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import jMath.aoklyunin.github.com.coordinateSystem.*;
+import jMath.aoklyunin.github.com.vector.*;
+
+/**
+ * Модуль Jackson с компактными потоковыми сериализаторами векторов и систем координат
+ * <p>
+ * Подключается к ObjectMapper методом registerModule(new JMathModule()). После этого
+ * векторы пишутся массивами [x, y, z], а системы координат - массивами [[min], [max]];
+ * документы, записанные без модуля (в объектной форме), по-прежнему читаются
+ */
+public class JMathModule extends SimpleModule {
+
+    /**
+     * Конструктор модуля
+     */
+    public JMathModule() {
+        super("jMath", new Version(1, 0, 0, null, "com.github.aoklyunin", "jMath"));
+        addSerializer(Vector2d.class, new VectorSerializers.Vector2dSerializer());
+        addSerializer(Vector3d.class, new VectorSerializers.Vector3dSerializer());
+        addSerializer(Vector4d.class, new VectorSerializers.Vector4dSerializer());
+        addSerializer(Vector2i.class, new VectorSerializers.Vector2iSerializer());
+        addSerializer(Vector3i.class, new VectorSerializers.Vector3iSerializer());
+        addSerializer(Vector4i.class, new VectorSerializers.Vector4iSerializer());
+        addSerializer(Vector3f.class, new VectorSerializers.Vector3fSerializer());
+        addDeserializer(Vector2d.class, new VectorSerializers.Vector2dDeserializer());
+        addDeserializer(Vector3d.class, new VectorSerializers.Vector3dDeserializer());
+        addDeserializer(Vector4d.class, new VectorSerializers.Vector4dDeserializer());
+        addDeserializer(Vector2i.class, new VectorSerializers.Vector2iDeserializer());
+        addDeserializer(Vector3i.class, new VectorSerializers.Vector3iDeserializer());
+        addDeserializer(Vector4i.class, new VectorSerializers.Vector4iDeserializer());
+        addDeserializer(Vector3f.class, new VectorSerializers.Vector3fDeserializer());
+
+        addSerializer(CoordinateSystem2d.class, new CoordinateSystemSerializers.CoordinateSystem2dSerializer());
+        addSerializer(CoordinateSystem3d.class, new CoordinateSystemSerializers.CoordinateSystem3dSerializer());
+        addSerializer(CoordinateSystem4d.class, new CoordinateSystemSerializers.CoordinateSystem4dSerializer());
+        addSerializer(CoordinateSystem2i.class, new CoordinateSystemSerializers.CoordinateSystem2iSerializer());
+        addSerializer(CoordinateSystem3i.class, new CoordinateSystemSerializers.CoordinateSystem3iSerializer());
+        addDeserializer(CoordinateSystem2d.class, new CoordinateSystemSerializers.CoordinateSystem2dDeserializer());
+        addDeserializer(CoordinateSystem3d.class, new CoordinateSystemSerializers.CoordinateSystem3dDeserializer());
+        addDeserializer(CoordinateSystem4d.class, new CoordinateSystemSerializers.CoordinateSystem4dDeserializer());
+        addDeserializer(CoordinateSystem2i.class, new CoordinateSystemSerializers.CoordinateSystem2iDeserializer());
+        addDeserializer(CoordinateSystem3i.class, new CoordinateSystemSerializers.CoordinateSystem3iDeserializer());
+    }
+}
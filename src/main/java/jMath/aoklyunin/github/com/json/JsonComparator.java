@@ -0,0 +1,463 @@
+package jMath.aoklyunin.github.com.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.sun.istack.NotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Структурное сравнение JSON-документов
+ * <p>
+ * У объектов должны совпадать множества ключей и значения по каждому ключу, массивы
+ * сравниваются без учёта порядка элементов как мультимножества, скаляры - по значению
+ * (целые и дробные числа различаются, дробные сравниваются как double). В отличие
+ * от прежнего сравнения из Algorithms.sameJSONContent(), учитывающего только наличие
+ * элементов, кратность одинаковых элементов массива тоже должна совпадать
+ * <p>
+ * Документ читается за один проход потоковым JsonParser, при этом для каждого значения
+ * вычисляется канонический 64-битный хэш, не зависящий от порядка ключей объектов
+ * и элементов массивов. Элементы массивов сопоставляются через таблицу хэшей
+ * (с проверкой полного равенства при совпадении хэша), поэтому сравнение массива
+ * из n элементов занимает O(n), а не O(n^2)
+ */
+public final class JsonComparator {
+    /**
+     * Фабрика парсеров
+     */
+    private static final JsonFactory FACTORY = new JsonFactory();
+    /**
+     * Тип значения null
+     */
+    private static final int TYPE_NULL = 0;
+    /**
+     * Тип логического значения
+     */
+    private static final int TYPE_BOOLEAN = 1;
+    /**
+     * Тип целого числа
+     */
+    private static final int TYPE_INT = 2;
+    /**
+     * Тип дробного числа
+     */
+    private static final int TYPE_FLOAT = 3;
+    /**
+     * Тип строки
+     */
+    private static final int TYPE_STRING = 4;
+    /**
+     * Тип массива
+     */
+    private static final int TYPE_ARRAY = 5;
+    /**
+     * Тип объекта
+     */
+    private static final int TYPE_OBJECT = 6;
+
+    /**
+     * Сравнить JSON-документы в файлах
+     *
+     * @param file1 путь к первому файлу
+     * @param file2 путь ко второму файлу
+     * @return список различий (пустой, если документы совпадают)
+     * @throws IOException ошибка чтения или разбора документа
+     */
+    @NotNull
+    public static List<JsonDifference> compare(@NotNull Path file1, @NotNull Path file2) throws IOException {
+        try (InputStream in1 = Files.newInputStream(file1); InputStream in2 = Files.newInputStream(file2)) {
+            return compare(read(FACTORY.createParser(in1)), read(FACTORY.createParser(in2)));
+        }
+    }
+
+    /**
+     * Сравнить JSON-документы
+     *
+     * @param reader1 источник первого документа
+     * @param reader2 источник второго документа
+     * @return список различий (пустой, если документы совпадают)
+     * @throws IOException ошибка чтения или разбора документа
+     */
+    @NotNull
+    public static List<JsonDifference> compare(@NotNull Reader reader1, @NotNull Reader reader2) throws IOException {
+        return compare(read(FACTORY.createParser(reader1)), read(FACTORY.createParser(reader2)));
+    }
+
+    /**
+     * Сравнить JSON-документы
+     *
+     * @param json1 первый документ
+     * @param json2 второй документ
+     * @return список различий (пустой, если документы совпадают)
+     * @throws IOException ошибка разбора документа
+     */
+    @NotNull
+    public static List<JsonDifference> compare(@NotNull String json1, @NotNull String json2) throws IOException {
+        return compare(read(FACTORY.createParser(json1)), read(FACTORY.createParser(json2)));
+    }
+
+    /**
+     * Проверить, совпадают ли JSON-документы в файлах
+     *
+     * @param file1 путь к первому файлу
+     * @param file2 путь ко второму файлу
+     * @return флаг, совпадают ли документы
+     * @throws IOException ошибка чтения или разбора документа
+     */
+    public static boolean same(@NotNull Path file1, @NotNull Path file2) throws IOException {
+        return compare(file1, file2).isEmpty();
+    }
+
+    /**
+     * Сравнить прочитанные документы
+     *
+     * @param node1 корень первого документа
+     * @param node2 корень второго документа
+     * @return список различий
+     */
+    @NotNull
+    private static List<JsonDifference> compare(@NotNull Node node1, @NotNull Node node2) {
+        List<JsonDifference> differences = new ArrayList<>();
+        compare(node1, node2, "", differences);
+        return differences;
+    }
+
+    /**
+     * Сравнить значения и добавить найденные различия в список
+     *
+     * @param node1       значение из первого документа
+     * @param node2       значение из второго документа
+     * @param path        путь к значениям
+     * @param differences список различий
+     */
+    private static void compare(
+            @NotNull Node node1, @NotNull Node node2, @NotNull String path, @NotNull List<JsonDifference> differences
+    ) {
+        if (node1.hash == node2.hash && equal(node1, node2))
+            return;
+        if (node1.type != node2.type) {
+            differences.add(new JsonDifference(path, "different types", node1.toString(), node2.toString()));
+        } else if (node1.type == TYPE_OBJECT) {
+            for (Map.Entry<String, Node> entry : node1.fields.entrySet()) {
+                String childPath = path + "/" + escape(entry.getKey());
+                Node child2 = node2.fields.get(entry.getKey());
+                if (child2 == null)
+                    differences.add(new JsonDifference(
+                            childPath, "key is missing in second document", entry.getValue().toString(), null
+                    ));
+                else
+                    compare(entry.getValue(), child2, childPath, differences);
+            }
+            for (Map.Entry<String, Node> entry : node2.fields.entrySet())
+                if (!node1.fields.containsKey(entry.getKey()))
+                    differences.add(new JsonDifference(
+                            path + "/" + escape(entry.getKey()), "key is missing in first document",
+                            null, entry.getValue().toString()
+                    ));
+        } else if (node1.type == TYPE_ARRAY) {
+            if (node1.items.size() != node2.items.size())
+                differences.add(new JsonDifference(
+                        path, "arrays have different sizes: " + node1.items.size() + " and " + node2.items.size(),
+                        null, null
+                ));
+            boolean[] matched1 = new boolean[node1.items.size()];
+            boolean[] matched2 = new boolean[node2.items.size()];
+            match(node1.items, node2.items, matched1, matched2);
+            for (int i = 0; i < matched1.length; i++)
+                if (!matched1[i])
+                    differences.add(new JsonDifference(
+                            path + "/" + i, "element is missing in second array", node1.items.get(i).toString(), null
+                    ));
+            for (int i = 0; i < matched2.length; i++)
+                if (!matched2[i])
+                    differences.add(new JsonDifference(
+                            path + "/" + i, "element is missing in first array", null, node2.items.get(i).toString()
+                    ));
+        } else {
+            differences.add(new JsonDifference(path, "different values", node1.toString(), node2.toString()));
+        }
+    }
+
+    /**
+     * Проверить полное равенство значений
+     *
+     * @param node1 первое значение
+     * @param node2 второе значение
+     * @return флаг, равны ли значения
+     */
+    private static boolean equal(@NotNull Node node1, @NotNull Node node2) {
+        if (node1.hash != node2.hash || node1.type != node2.type)
+            return false;
+        if (node1.type == TYPE_OBJECT) {
+            if (node1.fields.size() != node2.fields.size())
+                return false;
+            for (Map.Entry<String, Node> entry : node1.fields.entrySet()) {
+                Node child2 = node2.fields.get(entry.getKey());
+                if (child2 == null || !equal(entry.getValue(), child2))
+                    return false;
+            }
+            return true;
+        }
+        if (node1.type == TYPE_ARRAY) {
+            if (node1.items.size() != node2.items.size())
+                return false;
+            boolean[] matched1 = new boolean[node1.items.size()];
+            return match(node1.items, node2.items, matched1, new boolean[node2.items.size()]) == matched1.length;
+        }
+        return Objects.equals(node1.text, node2.text);
+    }
+
+    /**
+     * Сопоставить элементы массивов без учёта порядка
+     *
+     * @param items1   элементы первого массива
+     * @param items2   элементы второго массива
+     * @param matched1 флаги сопоставленных элементов первого массива
+     * @param matched2 флаги сопоставленных элементов второго массива
+     * @return количество сопоставленных пар
+     */
+    private static int match(
+            @NotNull List<Node> items1, @NotNull List<Node> items2,
+            @NotNull boolean[] matched1, @NotNull boolean[] matched2
+    ) {
+        // индексы ещё не сопоставленных элементов второго массива по хэшу
+        Map<Long, ArrayDeque<Integer>> candidates = new HashMap<>();
+        for (int j = 0; j < items2.size(); j++)
+            candidates.computeIfAbsent(items2.get(j).hash, k -> new ArrayDeque<>(1)).add(j);
+        int cnt = 0;
+        for (int i = 0; i < items1.size(); i++) {
+            ArrayDeque<Integer> sameHash = candidates.get(items1.get(i).hash);
+            if (sameHash == null)
+                continue;
+            // при совпадении хэша проверяется полное равенство, коллизии пропускаются
+            for (Iterator<Integer> it = sameHash.iterator(); it.hasNext(); ) {
+                int j = it.next();
+                if (equal(items1.get(i), items2.get(j))) {
+                    it.remove();
+                    matched1[i] = true;
+                    matched2[j] = true;
+                    cnt++;
+                    break;
+                }
+            }
+        }
+        return cnt;
+    }
+
+    /**
+     * Прочитать документ, состоящий ровно из одного значения
+     *
+     * @param parser парсер документа
+     * @return корень документа
+     * @throws IOException ошибка чтения или разбора документа
+     */
+    @NotNull
+    private static Node read(@NotNull JsonParser parser) throws IOException {
+        try (JsonParser p = parser) {
+            if (p.nextToken() == null)
+                throw new IOException("JSON document is empty");
+            Node root = readValue(p);
+            // после корня документа не должно быть других значений и символов
+            if (p.nextToken() != null)
+                throw new IOException("unexpected content after JSON document: " + p.currentToken());
+            return root;
+        }
+    }
+
+    /**
+     * Прочитать значение, начинающееся с текущего токена
+     *
+     * @param p парсер
+     * @return значение
+     * @throws IOException ошибка чтения или разбора документа
+     */
+    @NotNull
+    private static Node readValue(@NotNull JsonParser p) throws IOException {
+        switch (p.currentToken()) {
+            case START_OBJECT: {
+                Map<String, Node> fields = new LinkedHashMap<>();
+                while (p.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = p.getCurrentName();
+                    p.nextToken();
+                    fields.put(name, readValue(p));
+                }
+                // хэш объекта не зависит от порядка ключей
+                long hash = TYPE_OBJECT;
+                for (Map.Entry<String, Node> entry : fields.entrySet())
+                    hash += mix(hash(entry.getKey()) * 31 + entry.getValue().hash);
+                return new Node(TYPE_OBJECT, mix(hash + fields.size()), null, fields, null);
+            }
+            case START_ARRAY: {
+                List<Node> items = new ArrayList<>();
+                while (p.nextToken() != JsonToken.END_ARRAY)
+                    items.add(readValue(p));
+                // хэш массива не зависит от порядка элементов
+                long hash = TYPE_ARRAY;
+                for (Node item : items)
+                    hash += mix(item.hash);
+                return new Node(TYPE_ARRAY, mix(hash + items.size()), null, null, items);
+            }
+            case VALUE_STRING:
+                return scalar(TYPE_STRING, p.getText());
+            case VALUE_NUMBER_INT:
+                return scalar(TYPE_INT, p.getText());
+            case VALUE_NUMBER_FLOAT:
+                return scalar(TYPE_FLOAT, Double.toString(p.getDoubleValue()));
+            case VALUE_TRUE:
+                return scalar(TYPE_BOOLEAN, "true");
+            case VALUE_FALSE:
+                return scalar(TYPE_BOOLEAN, "false");
+            case VALUE_NULL:
+                return scalar(TYPE_NULL, "null");
+            default:
+                throw new IOException("unexpected token " + p.currentToken() + " at " + p.getCurrentLocation());
+        }
+    }
+
+    /**
+     * Создать скалярное значение
+     *
+     * @param type тип значения
+     * @param text каноническое текстовое представление
+     * @return значение
+     */
+    @NotNull
+    private static Node scalar(int type, @NotNull String text) {
+        return new Node(type, mix(hash(text) * 31 + type), text, null, null);
+    }
+
+    /**
+     * Получить 64-битный хэш строки (FNV-1a)
+     *
+     * @param s строка
+     * @return хэш
+     */
+    private static long hash(@NotNull String s) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < s.length(); i++) {
+            hash ^= s.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * Перемешать биты хэша (финализатор SplitMix64), чтобы суммы хэшей не сокращались
+     *
+     * @param h хэш
+     * @return перемешанный хэш
+     */
+    private static long mix(long h) {
+        h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+        h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+        return h ^ (h >>> 31);
+    }
+
+    /**
+     * Экранировать ключ для JSON Pointer
+     *
+     * @param key ключ объекта
+     * @return экранированный ключ
+     */
+    @NotNull
+    private static String escape(@NotNull String key) {
+        return key.replace("~", "~0").replace("/", "~1");
+    }
+
+    /**
+     * Прочитанное значение документа
+     */
+    private static final class Node {
+        /**
+         * Тип значения
+         */
+        final int type;
+        /**
+         * Канонический хэш значения
+         */
+        final long hash;
+        /**
+         * Каноническое текстовое представление скаляра
+         */
+        final String text;
+        /**
+         * Поля объекта
+         */
+        final Map<String, Node> fields;
+        /**
+         * Элементы массива
+         */
+        final List<Node> items;
+
+        /**
+         * Конструктор значения
+         *
+         * @param type   тип значения
+         * @param hash   канонический хэш значения
+         * @param text   каноническое текстовое представление скаляра
+         * @param fields поля объекта
+         * @param items  элементы массива
+         */
+        Node(int type, long hash, String text, Map<String, Node> fields, List<Node> items) {
+            this.type = type;
+            this.hash = hash;
+            this.text = text;
+            this.fields = fields;
+            this.items = items;
+        }
+
+        /**
+         * Записать значение в JSON
+         *
+         * @param sb построитель строки
+         */
+        private void append(@NotNull StringBuilder sb) {
+            if (type == TYPE_OBJECT) {
+                sb.append('{');
+                String separator = "";
+                for (Map.Entry<String, Node> entry : fields.entrySet()) {
+                    sb.append(separator).append('"').append(JsonStringEncoder.getInstance().quoteAsString(entry.getKey()))
+                            .append("\":");
+                    entry.getValue().append(sb);
+                    separator = ",";
+                }
+                sb.append('}');
+            } else if (type == TYPE_ARRAY) {
+                sb.append('[');
+                for (int i = 0; i < items.size(); i++) {
+                    if (i > 0)
+                        sb.append(',');
+                    items.get(i).append(sb);
+                }
+                sb.append(']');
+            } else if (type == TYPE_STRING) {
+                sb.append('"').append(JsonStringEncoder.getInstance().quoteAsString(text)).append('"');
+            } else {
+                sb.append(text);
+            }
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            append(sb);
+            return sb.toString();
+        }
+    }
+
+    /**
+     * Конструктор для запрета наследования
+     */
+    private JsonComparator() {
+        // Подавление создания конструктора по умолчанию
+        // для достижения неинстанцируемости
+        throw new AssertionError("constructor is disabled");
+    }
+}
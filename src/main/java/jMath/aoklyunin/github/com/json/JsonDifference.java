@@ -0,0 +1,106 @@
+package jMath.aoklyunin.github.com.json;
+
+import com.sun.istack.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Различие двух JSON-документов, найденное JsonComparator
+ */
+public class JsonDifference {
+    /**
+     * Путь к различающемуся значению в формате JSON Pointer (RFC 6901), "" - корень документа
+     */
+    @NotNull
+    private final String path;
+    /**
+     * Описание различия
+     */
+    @NotNull
+    private final String message;
+    /**
+     * Значение из первого документа в JSON или null, если его нет
+     */
+    private final String first;
+    /**
+     * Значение из второго документа в JSON или null, если его нет
+     */
+    private final String second;
+
+    /**
+     * Конструктор различия
+     *
+     * @param path    путь к различающемуся значению в формате JSON Pointer
+     * @param message описание различия
+     * @param first   значение из первого документа в JSON или null, если его нет
+     * @param second  значение из второго документа в JSON или null, если его нет
+     */
+    public JsonDifference(@NotNull String path, @NotNull String message, String first, String second) {
+        this.path = Objects.requireNonNull(path);
+        this.message = Objects.requireNonNull(message);
+        this.first = first;
+        this.second = second;
+    }
+
+    /**
+     * Получить путь к различающемуся значению
+     *
+     * @return путь в формате JSON Pointer, "" - корень документа
+     */
+    @NotNull
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Получить описание различия
+     *
+     * @return описание различия
+     */
+    @NotNull
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Получить значение из первого документа
+     *
+     * @return значение в JSON или null, если его нет
+     */
+    public String getFirst() {
+        return first;
+    }
+
+    /**
+     * Получить значение из второго документа
+     *
+     * @return значение в JSON или null, если его нет
+     */
+    public String getSecond() {
+        return second;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        JsonDifference that = (JsonDifference) o;
+        return path.equals(that.path) && message.equals(that.message) &&
+                Objects.equals(first, that.first) && Objects.equals(second, that.second);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(path, message, first, second);
+    }
+
+    @Override
+    public String toString() {
+        return "JsonDifference{" +
+                "path='" + path + '\'' +
+                ", message='" + message + '\'' +
+                ", first=" + first +
+                ", second=" + second +
+                '}';
+    }
+}
@@ -0,0 +1,514 @@
+package jMath.aoklyunin.github.com.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.sun.istack.NotNull;
+import jMath.aoklyunin.github.com.vector.*;
+
+import java.io.IOException;
+
+/**
+ * Потоковые сериализаторы и десериализаторы Jackson для векторов
+ * <p>
+ * Вектор записывается компактным массивом компонент [x, y, z, w] без имён полей и без
+ * обращения к рефлексии. При чтении кроме массива принимается и объектная форма
+ * {"x": ..., "y": ...}, которую Jackson пишет для векторов по умолчанию
+ */
+public final class VectorSerializers {
+
+    /**
+     * Десериализатор вектора из массива или объекта компонент
+     *
+     * @param <T> тип вектора
+     */
+    abstract static class ComponentDeserializer<T> extends StdDeserializer<T> {
+        /**
+         * Имена компонент в объектной форме
+         */
+        @NotNull
+        private final String[] names;
+
+        /**
+         * Конструктор десериализатора
+         *
+         * @param valueClass класс вектора
+         * @param names      имена компонент в объектной форме
+         */
+        ComponentDeserializer(@NotNull Class<T> valueClass, @NotNull String... names) {
+            super(valueClass);
+            this.names = names;
+        }
+
+        /**
+         * Создать нулевой вектор
+         *
+         * @return нулевой вектор
+         */
+        @NotNull
+        protected abstract T create();
+
+        /**
+         * Прочитать компоненту вектора из текущего токена
+         *
+         * @param p     парсер
+         * @param ctxt  контекст десериализации
+         * @param dest  вектор, в который записывается компонента
+         * @param index индекс компоненты
+         * @throws IOException ошибка чтения
+         */
+        protected abstract void readComponent(
+                @NotNull JsonParser p, @NotNull DeserializationContext ctxt, @NotNull T dest, int index
+        ) throws IOException;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            T value = create();
+            if (p.isExpectedStartArrayToken()) {
+                for (int i = 0; i < names.length; i++) {
+                    if (p.nextToken() == JsonToken.END_ARRAY)
+                        ctxt.reportInputMismatch(this, "expected %d components, got %d", names.length, i);
+                    readComponent(p, ctxt, value, i);
+                }
+                if (p.nextToken() != JsonToken.END_ARRAY)
+                    ctxt.reportWrongTokenException(
+                            this, JsonToken.END_ARRAY, "expected %d components", names.length
+                    );
+                return value;
+            }
+            if (p.hasToken(JsonToken.START_OBJECT))
+                p.nextToken();
+            else if (!p.hasToken(JsonToken.FIELD_NAME))
+                return (T) ctxt.handleUnexpectedToken(handledType(), p);
+            for (; p.hasToken(JsonToken.FIELD_NAME); p.nextToken()) {
+                String name = p.getCurrentName();
+                p.nextToken();
+                int index = indexOf(name);
+                if (index >= 0)
+                    readComponent(p, ctxt, value, index);
+                else
+                    handleUnknownProperty(p, ctxt, value, name);
+            }
+            return value;
+        }
+
+        /**
+         * Получить индекс компоненты по имени
+         *
+         * @param name имя компоненты
+         * @return индекс компоненты или -1, если компоненты с таким именем нет
+         */
+        private int indexOf(@NotNull String name) {
+            for (int i = 0; i < names.length; i++)
+                if (names[i].equals(name))
+                    return i;
+            return -1;
+        }
+    }
+
+    /**
+     * Сериализатор двумерного вещественного вектора
+     */
+    public static final class Vector2dSerializer extends StdSerializer<Vector2d> {
+        /**
+         * Конструктор сериализатора
+         */
+        public Vector2dSerializer() {
+            super(Vector2d.class);
+        }
+
+        @Override
+        public void serialize(Vector2d value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartArray();
+            gen.writeNumber(value.x);
+            gen.writeNumber(value.y);
+            gen.writeEndArray();
+        }
+    }
+
+    /**
+     * Десериализатор двумерного вещественного вектора
+     */
+    public static final class Vector2dDeserializer extends ComponentDeserializer<Vector2d> {
+        /**
+         * Конструктор десериализатора
+         */
+        public Vector2dDeserializer() {
+            super(Vector2d.class, "x", "y");
+        }
+
+        @Override
+        protected Vector2d create() {
+            return new Vector2d();
+        }
+
+        @Override
+        protected void readComponent(
+                JsonParser p, DeserializationContext ctxt, Vector2d dest, int index
+        ) throws IOException {
+            double value = _parseDoublePrimitive(p, ctxt);
+            switch (index) {
+                case 0:
+                    dest.x = value;
+                    break;
+                case 1:
+                    dest.y = value;
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Сериализатор трёхмерного вещественного вектора
+     */
+    public static final class Vector3dSerializer extends StdSerializer<Vector3d> {
+        /**
+         * Конструктор сериализатора
+         */
+        public Vector3dSerializer() {
+            super(Vector3d.class);
+        }
+
+        @Override
+        public void serialize(Vector3d value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartArray();
+            gen.writeNumber(value.x);
+            gen.writeNumber(value.y);
+            gen.writeNumber(value.z);
+            gen.writeEndArray();
+        }
+    }
+
+    /**
+     * Десериализатор трёхмерного вещественного вектора
+     */
+    public static final class Vector3dDeserializer extends ComponentDeserializer<Vector3d> {
+        /**
+         * Конструктор десериализатора
+         */
+        public Vector3dDeserializer() {
+            super(Vector3d.class, "x", "y", "z");
+        }
+
+        @Override
+        protected Vector3d create() {
+            return new Vector3d();
+        }
+
+        @Override
+        protected void readComponent(
+                JsonParser p, DeserializationContext ctxt, Vector3d dest, int index
+        ) throws IOException {
+            double value = _parseDoublePrimitive(p, ctxt);
+            switch (index) {
+                case 0:
+                    dest.x = value;
+                    break;
+                case 1:
+                    dest.y = value;
+                    break;
+                case 2:
+                    dest.z = value;
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Сериализатор четырёхмерного вещественного вектора
+     */
+    public static final class Vector4dSerializer extends StdSerializer<Vector4d> {
+        /**
+         * Конструктор сериализатора
+         */
+        public Vector4dSerializer() {
+            super(Vector4d.class);
+        }
+
+        @Override
+        public void serialize(Vector4d value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartArray();
+            gen.writeNumber(value.x);
+            gen.writeNumber(value.y);
+            gen.writeNumber(value.z);
+            gen.writeNumber(value.w);
+            gen.writeEndArray();
+        }
+    }
+
+    /**
+     * Десериализатор четырёхмерного вещественного вектора
+     */
+    public static final class Vector4dDeserializer extends ComponentDeserializer<Vector4d> {
+        /**
+         * Конструктор десериализатора
+         */
+        public Vector4dDeserializer() {
+            super(Vector4d.class, "x", "y", "z", "w");
+        }
+
+        @Override
+        protected Vector4d create() {
+            return new Vector4d();
+        }
+
+        @Override
+        protected void readComponent(
+                JsonParser p, DeserializationContext ctxt, Vector4d dest, int index
+        ) throws IOException {
+            double value = _parseDoublePrimitive(p, ctxt);
+            switch (index) {
+                case 0:
+                    dest.x = value;
+                    break;
+                case 1:
+                    dest.y = value;
+                    break;
+                case 2:
+                    dest.z = value;
+                    break;
+                case 3:
+                    dest.w = value;
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Сериализатор двумерного целочисленного вектора
+     */
+    public static final class Vector2iSerializer extends StdSerializer<Vector2i> {
+        /**
+         * Конструктор сериализатора
+         */
+        public Vector2iSerializer() {
+            super(Vector2i.class);
+        }
+
+        @Override
+        public void serialize(Vector2i value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartArray();
+            gen.writeNumber(value.x);
+            gen.writeNumber(value.y);
+            gen.writeEndArray();
+        }
+    }
+
+    /**
+     * Десериализатор двумерного целочисленного вектора
+     */
+    public static final class Vector2iDeserializer extends ComponentDeserializer<Vector2i> {
+        /**
+         * Конструктор десериализатора
+         */
+        public Vector2iDeserializer() {
+            super(Vector2i.class, "x", "y");
+        }
+
+        @Override
+        protected Vector2i create() {
+            return new Vector2i();
+        }
+
+        @Override
+        protected void readComponent(
+                JsonParser p, DeserializationContext ctxt, Vector2i dest, int index
+        ) throws IOException {
+            int value = _parseIntPrimitive(p, ctxt);
+            switch (index) {
+                case 0:
+                    dest.x = value;
+                    break;
+                case 1:
+                    dest.y = value;
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Сериализатор трёхмерного целочисленного вектора
+     */
+    public static final class Vector3iSerializer extends StdSerializer<Vector3i> {
+        /**
+         * Конструктор сериализатора
+         */
+        public Vector3iSerializer() {
+            super(Vector3i.class);
+        }
+
+        @Override
+        public void serialize(Vector3i value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartArray();
+            gen.writeNumber(value.x);
+            gen.writeNumber(value.y);
+            gen.writeNumber(value.z);
+            gen.writeEndArray();
+        }
+    }
+
+    /**
+     * Десериализатор трёхмерного целочисленного вектора
+     */
+    public static final class Vector3iDeserializer extends ComponentDeserializer<Vector3i> {
+        /**
+         * Конструктор десериализатора
+         */
+        public Vector3iDeserializer() {
+            super(Vector3i.class, "x", "y", "z");
+        }
+
+        @Override
+        protected Vector3i create() {
+            return new Vector3i();
+        }
+
+        @Override
+        protected void readComponent(
+                JsonParser p, DeserializationContext ctxt, Vector3i dest, int index
+        ) throws IOException {
+            int value = _parseIntPrimitive(p, ctxt);
+            switch (index) {
+                case 0:
+                    dest.x = value;
+                    break;
+                case 1:
+                    dest.y = value;
+                    break;
+                case 2:
+                    dest.z = value;
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Сериализатор четырёхмерного целочисленного вектора
+     */
+    public static final class Vector4iSerializer extends StdSerializer<Vector4i> {
+        /**
+         * Конструктор сериализатора
+         */
+        public Vector4iSerializer() {
+            super(Vector4i.class);
+        }
+
+        @Override
+        public void serialize(Vector4i value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartArray();
+            gen.writeNumber(value.x);
+            gen.writeNumber(value.y);
+            gen.writeNumber(value.z);
+            gen.writeNumber(value.w);
+            gen.writeEndArray();
+        }
+    }
+
+    /**
+     * Десериализатор четырёхмерного целочисленного вектора
+     */
+    public static final class Vector4iDeserializer extends ComponentDeserializer<Vector4i> {
+        /**
+         * Конструктор десериализатора
+         */
+        public Vector4iDeserializer() {
+            super(Vector4i.class, "x", "y", "z", "w");
+        }
+
+        @Override
+        protected Vector4i create() {
+            return new Vector4i();
+        }
+
+        @Override
+        protected void readComponent(
+                JsonParser p, DeserializationContext ctxt, Vector4i dest, int index
+        ) throws IOException {
+            int value = _parseIntPrimitive(p, ctxt);
+            switch (index) {
+                case 0:
+                    dest.x = value;
+                    break;
+                case 1:
+                    dest.y = value;
+                    break;
+                case 2:
+                    dest.z = value;
+                    break;
+                case 3:
+                    dest.w = value;
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Сериализатор трёхмерного вещественного (float) вектора
+     */
+    public static final class Vector3fSerializer extends StdSerializer<Vector3f> {
+        /**
+         * Конструктор сериализатора
+         */
+        public Vector3fSerializer() {
+            super(Vector3f.class);
+        }
+
+        @Override
+        public void serialize(Vector3f value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartArray();
+            gen.writeNumber(value.x);
+            gen.writeNumber(value.y);
+            gen.writeNumber(value.z);
+            gen.writeEndArray();
+        }
+    }
+
+    /**
+     * Десериализатор трёхмерного вещественного (float) вектора
+     */
+    public static final class Vector3fDeserializer extends ComponentDeserializer<Vector3f> {
+        /**
+         * Конструктор десериализатора
+         */
+        public Vector3fDeserializer() {
+            super(Vector3f.class, "x", "y", "z");
+        }
+
+        @Override
+        protected Vector3f create() {
+            return new Vector3f();
+        }
+
+        @Override
+        protected void readComponent(
+                JsonParser p, DeserializationContext ctxt, Vector3f dest, int index
+        ) throws IOException {
+            float value = _parseFloatPrimitive(p, ctxt);
+            switch (index) {
+                case 0:
+                    dest.x = value;
+                    break;
+                case 1:
+                    dest.y = value;
+                    break;
+                case 2:
+                    dest.z = value;
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Конструктор для запрета наследования
+     */
+    private VectorSerializers() {
+        // Подавление создания конструктора по умолчанию
+        // для достижения неинстанцируемости
+        throw new AssertionError("constructor is disabled");
+    }
+}
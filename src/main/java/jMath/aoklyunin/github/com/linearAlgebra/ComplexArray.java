@@ -0,0 +1,438 @@
+package jMath.aoklyunin.github.com.linearAlgebra;
+
+import com.sun.istack.NotNull;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Массив комплексных чисел, хранящий вещественные и мнимые части в параллельных массивах
+ * (structure of arrays)
+ * <p>
+ * В отличие от массива ComplexValue[] элементы не являются отдельными объектами в куче,
+ * поэтому собственные значения и корни многочленов можно получать и обрабатывать
+ * (модули, сопряжение, спектральный радиус) без выделения памяти на каждое число
+ */
+public class ComplexArray implements Serializable {
+    /**
+     * Размер массива, до которого сортировка выполняется вставками
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+    /**
+     * вещественные части чисел
+     */
+    @NotNull
+    public final double[] real;
+    /**
+     * мнимые части чисел
+     */
+    @NotNull
+    public final double[] imag;
+
+    /**
+     * Конструктор массива нулей
+     *
+     * @param size количество чисел
+     */
+    public ComplexArray(int size) {
+        this.real = new double[size];
+        this.imag = new double[size];
+    }
+
+    /**
+     * Конструктор массива по готовым массивам частей (массивы не копируются)
+     *
+     * @param real вещественные части чисел
+     * @param imag мнимые части чисел
+     */
+    public ComplexArray(@NotNull double[] real, @NotNull double[] imag) {
+        if (real.length != imag.length)
+            throw new IllegalArgumentException("parts arrays have different lengths: " + real.length + " " + imag.length);
+        this.real = real;
+        this.imag = imag;
+    }
+
+    /**
+     * Конструктор копии
+     *
+     * @param arr исходный массив чисел
+     */
+    public ComplexArray(@NotNull ComplexArray arr) {
+        this.real = Arrays.copyOf(arr.real, arr.real.length);
+        this.imag = Arrays.copyOf(arr.imag, arr.imag.length);
+    }
+
+    /**
+     * Конструктор массива по массиву комплексных чисел
+     *
+     * @param values комплексные числа
+     */
+    public ComplexArray(@NotNull ComplexValue[] values) {
+        this(values.length);
+        for (int i = 0; i < values.length; i++)
+            set(i, values[i]);
+    }
+
+    /**
+     * Получить количество чисел
+     *
+     * @return количество чисел
+     */
+    public int size() {
+        return real.length;
+    }
+
+    /**
+     * Получить число по индексу
+     *
+     * @param i индекс
+     * @return новое комплексное число
+     */
+    @NotNull
+    public ComplexValue get(int i) {
+        return new ComplexValue(real[i], imag[i]);
+    }
+
+    /**
+     * Задать число по индексу
+     *
+     * @param i индекс
+     * @param v комплексное число
+     */
+    public void set(int i, @NotNull ComplexValue v) {
+        real[i] = v.getReal();
+        imag[i] = v.getImag();
+    }
+
+    /**
+     * Задать части числа по индексу
+     *
+     * @param i       индекс
+     * @param realVal вещественная часть
+     * @param imagVal мнимая часть
+     */
+    public void set(int i, double realVal, double imagVal) {
+        real[i] = realVal;
+        imag[i] = imagVal;
+    }
+
+    /**
+     * Преобразовать к массиву комплексных чисел
+     *
+     * @return массив комплексных чисел
+     */
+    @NotNull
+    public ComplexValue[] toArray() {
+        ComplexValue[] result = new ComplexValue[size()];
+        for (int i = 0; i < result.length; i++)
+            result[i] = get(i);
+        return result;
+    }
+
+    /**
+     * Получить модуль числа
+     *
+     * @param i индекс
+     * @return модуль числа
+     */
+    public double getMagnitude(int i) {
+        return Math.sqrt(real[i] * real[i] + imag[i] * imag[i]);
+    }
+
+    /**
+     * Получить модули чисел
+     *
+     * @return новый массив модулей
+     */
+    @NotNull
+    public double[] getMagnitudes() {
+        return getMagnitudes(new double[size()]);
+    }
+
+    /**
+     * Получить модули чисел
+     *
+     * @param dest массив, в который записываются модули
+     * @return массив dest с модулями
+     */
+    @NotNull
+    public double[] getMagnitudes(@NotNull double[] dest) {
+        checkSize(size(), Objects.requireNonNull(dest).length);
+        for (int i = 0; i < dest.length; i++)
+            dest[i] = Math.sqrt(real[i] * real[i] + imag[i] * imag[i]);
+        return dest;
+    }
+
+    /**
+     * Получить максимальный модуль чисел (для собственных значений - спектральный радиус)
+     *
+     * @return максимальный модуль, 0 для пустого массива
+     */
+    public double getMaxMagnitude() {
+        return getMaxMagnitude(real, imag, 0, size());
+    }
+
+    /**
+     * Получить максимальный модуль чисел участка массива
+     *
+     * @param from индекс первого числа
+     * @param to   индекс числа, следующего за последним
+     * @return максимальный модуль, 0 для пустого участка
+     */
+    public double getMaxMagnitude(int from, int to) {
+        checkRange(from, to, size());
+        return getMaxMagnitude(real, imag, from, to);
+    }
+
+    /**
+     * Получить индекс числа с максимальным модулем
+     *
+     * @return индекс числа с максимальным модулем, -1 для пустого массива
+     */
+    public int getMaxMagnitudeIndex() {
+        int result = -1;
+        double max = -1;
+        for (int i = 0; i < real.length; i++) {
+            double sqr = real[i] * real[i] + imag[i] * imag[i];
+            if (sqr > max) {
+                max = sqr;
+                result = i;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Получить максимальный модуль чисел, заданных массивами частей
+     *
+     * @param real вещественные части чисел
+     * @param imag мнимые части чисел
+     * @param from индекс первого числа
+     * @param to   индекс числа, следующего за последним
+     * @return максимальный модуль, 0 для пустого участка
+     */
+    public static double getMaxMagnitude(@NotNull double[] real, @NotNull double[] imag, int from, int to) {
+        checkRange(from, to, Math.min(real.length, imag.length));
+        // сравниваются квадраты модулей, корень извлекается один раз
+        double max = 0;
+        for (int i = from; i < to; i++)
+            max = Math.max(max, real[i] * real[i] + imag[i] * imag[i]);
+        return Math.sqrt(max);
+    }
+
+    /**
+     * Сопряжённые числа
+     *
+     * @param a    исходный массив
+     * @param dest массив, в который записывается результат (может совпадать с a)
+     * @return массив dest с результатом
+     */
+    @NotNull
+    public static ComplexArray conjugate(@NotNull ComplexArray a, @NotNull ComplexArray dest) {
+        checkSize(a, dest);
+        System.arraycopy(a.real, 0, dest.real, 0, a.size());
+        for (int i = 0; i < a.size(); i++)
+            dest.imag[i] = -a.imag[i];
+        return dest;
+    }
+
+    /**
+     * Заменить числа сопряжёнными
+     */
+    public void conjugate() {
+        conjugate(this, this);
+    }
+
+    /**
+     * Поэлементное произведение массивов чисел
+     *
+     * @param a первый массив
+     * @param b второй массив
+     * @return новый массив с результатом
+     */
+    @NotNull
+    public static ComplexArray mul(@NotNull ComplexArray a, @NotNull ComplexArray b) {
+        return mul(a, b, new ComplexArray(a.size()));
+    }
+
+    /**
+     * Поэлементное произведение массивов чисел с записью результата в заданный массив
+     *
+     * @param a    первый массив
+     * @param b    второй массив
+     * @param dest массив, в который записывается результат (может совпадать с a или b)
+     * @return массив dest с результатом
+     */
+    @NotNull
+    public static ComplexArray mul(@NotNull ComplexArray a, @NotNull ComplexArray b, @NotNull ComplexArray dest) {
+        checkSize(a, b);
+        checkSize(a, dest);
+        for (int i = 0; i < a.size(); i++) {
+            double re = a.real[i] * b.real[i] - a.imag[i] * b.imag[i];
+            double im = a.real[i] * b.imag[i] + a.imag[i] * b.real[i];
+            dest.real[i] = re;
+            dest.imag[i] = im;
+        }
+        return dest;
+    }
+
+    /**
+     * Умножить все числа на вещественное число
+     *
+     * @param c множитель
+     */
+    public void mul(double c) {
+        for (int i = 0; i < real.length; i++) {
+            real[i] *= c;
+            imag[i] *= c;
+        }
+    }
+
+    /**
+     * Умножить все числа на комплексное число
+     *
+     * @param cReal вещественная часть множителя
+     * @param cImag мнимая часть множителя
+     */
+    public void mul(double cReal, double cImag) {
+        for (int i = 0; i < real.length; i++) {
+            double re = real[i] * cReal - imag[i] * cImag;
+            imag[i] = real[i] * cImag + imag[i] * cReal;
+            real[i] = re;
+        }
+    }
+
+    /**
+     * Отсортировать числа по возрастанию модуля на месте
+     * <p>
+     * Небольшие массивы сортируются вставками, большие - пирамидальной сортировкой
+     * по заранее посчитанным квадратам модулей; дополнительная память выделяется
+     * только под массив квадратов модулей. Порядок чисел с равными модулями не определён
+     */
+    public void sortByMagnitude() {
+        int n = size();
+        if (n <= INSERTION_SORT_THRESHOLD) {
+            for (int i = 1; i < n; i++) {
+                double re = real[i];
+                double im = imag[i];
+                double key = re * re + im * im;
+                int j = i - 1;
+                while (j >= 0 && real[j] * real[j] + imag[j] * imag[j] > key) {
+                    real[j + 1] = real[j];
+                    imag[j + 1] = imag[j];
+                    j--;
+                }
+                real[j + 1] = re;
+                imag[j + 1] = im;
+            }
+            return;
+        }
+        double[] keys = new double[n];
+        for (int i = 0; i < n; i++)
+            keys[i] = real[i] * real[i] + imag[i] * imag[i];
+        for (int i = n / 2 - 1; i >= 0; i--)
+            siftDown(keys, i, n);
+        for (int end = n - 1; end > 0; end--) {
+            swap(keys, 0, end);
+            siftDown(keys, 0, end);
+        }
+    }
+
+    /**
+     * Просеять элемент вниз по пирамиде
+     *
+     * @param keys квадраты модулей
+     * @param i    индекс элемента
+     * @param n    размер пирамиды
+     */
+    private void siftDown(@NotNull double[] keys, int i, int n) {
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= n)
+                return;
+            if (child + 1 < n && keys[child + 1] > keys[child])
+                child++;
+            if (keys[i] >= keys[child])
+                return;
+            swap(keys, i, child);
+            i = child;
+        }
+    }
+
+    /**
+     * Поменять местами числа и их ключи сортировки
+     *
+     * @param keys ключи сортировки
+     * @param i    индекс первого числа
+     * @param j    индекс второго числа
+     */
+    private void swap(@NotNull double[] keys, int i, int j) {
+        double tmp = keys[i];
+        keys[i] = keys[j];
+        keys[j] = tmp;
+        tmp = real[i];
+        real[i] = real[j];
+        real[j] = tmp;
+        tmp = imag[i];
+        imag[i] = imag[j];
+        imag[j] = tmp;
+    }
+
+    /**
+     * Проверить, что массивы чисел имеют одинаковый размер
+     *
+     * @param a первый массив чисел
+     * @param b второй массив чисел
+     */
+    private static void checkSize(@NotNull ComplexArray a, @NotNull ComplexArray b) {
+        checkSize(Objects.requireNonNull(a).size(), Objects.requireNonNull(b).size());
+    }
+
+    /**
+     * Проверить, что размеры массивов совпадают
+     *
+     * @param a первый размер
+     * @param b второй размер
+     */
+    private static void checkSize(int a, int b) {
+        if (a != b)
+            throw new IllegalArgumentException("arrays have different sizes: " + a + " " + b);
+    }
+
+    /**
+     * Проверить участок массива
+     *
+     * @param from индекс первого элемента
+     * @param to   индекс элемента, следующего за последним
+     * @param size размер массива
+     */
+    private static void checkRange(int from, int to, int size) {
+        if (from < 0 || to > size || from > to)
+            throw new IllegalArgumentException("range [" + from + ", " + to + ") is out of array of size " + size);
+    }
+
+    @Override
+    public String toString() {
+        return "ComplexArray{" +
+                "size=" + size() +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        ComplexArray that = (ComplexArray) o;
+
+        return Arrays.equals(real, that.real) && Arrays.equals(imag, that.imag);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(real);
+        result = 31 * result + Arrays.hashCode(imag);
+        return result;
+    }
+}
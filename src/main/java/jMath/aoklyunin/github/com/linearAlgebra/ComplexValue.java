@@ -34,6 +34,24 @@ public class ComplexValue {
         this.imag = 0;
     }
 
+    /**
+     * Получить вещественную компоненту
+     *
+     * @return вещественная компонента
+     */
+    public double getReal() {
+        return real;
+    }
+
+    /**
+     * Получить мнимую компоненту
+     *
+     * @return мнимая компонента
+     */
+    public double getImag() {
+        return imag;
+    }
+
     /**
      * Получить модуль вещественного числа
      *
@@ -0,0 +1,225 @@
+package jMath.aoklyunin.github.com.linearAlgebra;
+
+import com.sun.istack.NotNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Массовое вычисление собственных значений множества независимых матриц одного порядка
+ * <p>
+ * Матрицы порядка n лежат подряд в одном массиве double, каждая записана по строкам:
+ * элемент (i, j) матрицы k лежит по индексу k * n * n + i * n + j. Собственные значения
+ * матрицы k записываются в массивы вещественных и мнимых частей начиная с индекса k * n
+ * в том же порядке, что и у SmallEigenSolver.
+ * <p>
+ * Если матриц больше порога распараллеливания, массив делится пополам до тех пор, пока
+ * в каждой части не останется не больше порога матриц, и части обрабатываются в общем
+ * пуле fork-join. Каждый поток использует свой SmallEigenSolver с рабочим массивом,
+ * поэтому на каждую матрицу память не выделяется.
+ * <p>
+ * Ошибка на одной матрице не прерывает обработку остальных: если матрица содержит
+ * бесконечности или NaN или QR-алгоритм для неё не сошёлся, все её собственные значения
+ * записываются как NaN
+ */
+public final class EigenValueKernels {
+    /**
+     * Порог распараллеливания по умолчанию (количество матриц)
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 256;
+    /**
+     * Вычислители собственных значений потоков
+     */
+    @NotNull
+    private static final ThreadLocal<SmallEigenSolver> SOLVERS = ThreadLocal.withInitial(SmallEigenSolver::new);
+
+    /**
+     * Получить собственные значения матриц
+     *
+     * @param matrices матрицы порядка n, записанные по строкам подряд (не изменяются)
+     * @param n        порядок матриц
+     * @param real     массив, в который записываются вещественные части (по n на матрицу)
+     * @param imag     массив, в который записываются мнимые части (по n на матрицу)
+     */
+    public static void getEigenValues(
+            @NotNull double[] matrices, int n, @NotNull double[] real, @NotNull double[] imag
+    ) {
+        getEigenValues(matrices, n, real, imag, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Получить собственные значения матриц
+     *
+     * @param matrices          матрицы порядка n, записанные по строкам подряд (не изменяются)
+     * @param n                 порядок матриц
+     * @param real              массив, в который записываются вещественные части (по n на матрицу)
+     * @param imag              массив, в который записываются мнимые части (по n на матрицу)
+     * @param parallelThreshold максимальное количество матриц, обрабатываемых одним потоком
+     */
+    public static void getEigenValues(
+            @NotNull double[] matrices, int n, @NotNull double[] real, @NotNull double[] imag, int parallelThreshold
+    ) {
+        int matrixCnt = getMatrixCnt(matrices, n);
+        if (Objects.requireNonNull(real).length != matrixCnt * n || Objects.requireNonNull(imag).length != matrixCnt * n)
+            throw new IllegalArgumentException(
+                    "eigenvalue arrays must have length " + matrixCnt * n + ": " + real.length + " " + imag.length
+            );
+        if (parallelThreshold < 1)
+            throw new IllegalArgumentException("parallel threshold must be positive: " + parallelThreshold);
+        if (matrixCnt <= parallelThreshold)
+            getEigenValues(matrices, n, real, imag, 0, matrixCnt);
+        else
+            ForkJoinPool.commonPool().invoke(new EigenTask(matrices, n, real, imag, 0, matrixCnt, parallelThreshold));
+    }
+
+    /**
+     * Получить собственные значения матриц
+     *
+     * @param matrices матрицы порядка n, записанные по строкам подряд (не изменяются)
+     * @param n        порядок матриц
+     * @return массив из двух массивов: вещественных и мнимых частей собственных значений (по n на матрицу)
+     */
+    @NotNull
+    public static double[][] getEigenValues(@NotNull double[] matrices, int n) {
+        int matrixCnt = getMatrixCnt(matrices, n);
+        double[][] result = new double[2][matrixCnt * n];
+        getEigenValues(matrices, n, result[0], result[1], DEFAULT_PARALLEL_THRESHOLD);
+        return result;
+    }
+
+    /**
+     * Получить вычислитель собственных значений текущего потока
+     *
+     * @return вычислитель собственных значений текущего потока
+     */
+    @NotNull
+    static SmallEigenSolver getThreadSolver() {
+        return SOLVERS.get();
+    }
+
+    /**
+     * Получить количество матриц в массиве
+     *
+     * @param matrices матрицы, записанные подряд
+     * @param n        порядок матриц
+     * @return количество матриц
+     */
+    private static int getMatrixCnt(@NotNull double[] matrices, int n) {
+        if (n < 1)
+            throw new IllegalArgumentException("matrix order must be positive: " + n);
+        long size = (long) n * n;
+        if (Objects.requireNonNull(matrices).length % size != 0)
+            throw new IllegalArgumentException(
+                    "array length " + matrices.length + " is not a multiple of matrix size " + size
+            );
+        return (int) (matrices.length / size);
+    }
+
+    /**
+     * Получить собственные значения участка матриц в текущем потоке
+     *
+     * @param matrices матрицы
+     * @param n        порядок матриц
+     * @param real     массив вещественных частей
+     * @param imag     массив мнимых частей
+     * @param from     номер первой матрицы
+     * @param to       номер матрицы, следующей за последней
+     */
+    private static void getEigenValues(
+            @NotNull double[] matrices, int n, @NotNull double[] real, @NotNull double[] imag, int from, int to
+    ) {
+        SmallEigenSolver solver = getThreadSolver();
+        int size = n * n;
+        for (int k = from; k < to; k++) {
+            try {
+                solver.getEigenValues(matrices, k * size, n, real, imag, k * n);
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                // границы массивов проверены заранее, поэтому ошибка относится к самой матрице
+                Arrays.fill(real, k * n, (k + 1) * n, Double.NaN);
+                Arrays.fill(imag, k * n, (k + 1) * n, Double.NaN);
+            }
+        }
+    }
+
+    /**
+     * Задача вычисления собственных значений участка матриц
+     */
+    private static final class EigenTask extends RecursiveAction {
+        /**
+         * матрицы
+         */
+        private final double[] matrices;
+        /**
+         * порядок матриц
+         */
+        private final int n;
+        /**
+         * массив вещественных частей
+         */
+        private final double[] real;
+        /**
+         * массив мнимых частей
+         */
+        private final double[] imag;
+        /**
+         * номер первой матрицы
+         */
+        private final int from;
+        /**
+         * номер матрицы, следующей за последней
+         */
+        private final int to;
+        /**
+         * порог распараллеливания
+         */
+        private final int threshold;
+
+        /**
+         * Конструктор задачи
+         *
+         * @param matrices  матрицы
+         * @param n         порядок матриц
+         * @param real      массив вещественных частей
+         * @param imag      массив мнимых частей
+         * @param from      номер первой матрицы
+         * @param to        номер матрицы, следующей за последней
+         * @param threshold порог распараллеливания
+         */
+        EigenTask(
+                @NotNull double[] matrices, int n, @NotNull double[] real, @NotNull double[] imag,
+                int from, int to, int threshold
+        ) {
+            this.matrices = matrices;
+            this.n = n;
+            this.real = real;
+            this.imag = imag;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                getEigenValues(matrices, n, real, imag, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                    new EigenTask(matrices, n, real, imag, from, mid, threshold),
+                    new EigenTask(matrices, n, real, imag, mid, to, threshold)
+            );
+        }
+    }
+
+    /**
+     * Конструктор для запрета наследования
+     */
+    private EigenValueKernels() {
+        // Подавление создания конструктора по умолчанию
+        // для достижения неинстанцируемости
+        throw new AssertionError("constructor is disabled");
+    }
+}
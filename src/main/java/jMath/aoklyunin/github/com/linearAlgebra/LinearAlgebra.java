@@ -14,6 +14,10 @@ import java.util.concurrent.ThreadLocalRandom;
 public class LinearAlgebra {
     /**
      * Получить собчственные значения матрицы
+     * <p>
+     * Для многократного вычисления собственных значений небольших матриц
+     * используйте SmallEigenSolver: он не создаёт объектов Commons Math и ComplexValue,
+     * а для множества матриц одного порядка - EigenValueKernels
      *
      * @param matrix матрица
      * @return собчственные значения матрицы
@@ -26,6 +30,20 @@ public class LinearAlgebra {
         return getEigenValuesFromDiagonalMatrix(D.getData());
     }
 
+    /**
+     * Получить собственные значения матрицы без объектов Commons Math (через SmallEigenSolver)
+     *
+     * @param matrix матрица
+     * @param dest   массив, в который записываются собственные значения (размер равен порядку матрицы)
+     * @return массив dest с собственными значениями
+     */
+    @NotNull
+    public static ComplexArray getEigenValues(@NotNull double[][] matrix, @NotNull ComplexArray dest) {
+        checkDest(matrix.length, dest);
+        EigenValueKernels.getThreadSolver().getEigenValues(matrix, dest.real, dest.imag);
+        return dest;
+    }
+
     /**
      * Получить собственные значения из диагональной матрицы
      *
@@ -34,19 +52,33 @@ public class LinearAlgebra {
      */
     @NotNull
     public static ComplexValue[] getEigenValuesFromDiagonalMatrix(@NotNull double[][] matrix) {
-        ComplexValue[] result = new ComplexValue[matrix.length];
+        return getEigenValuesFromDiagonalMatrix(matrix, new ComplexArray(matrix.length)).toArray();
+    }
+
+    /**
+     * Получить собственные значения из диагональной матрицы
+     *
+     * @param matrix диагональная матрица
+     * @param dest   массив, в который записываются собственные значения (размер равен порядку матрицы)
+     * @return массив dest с собственными значениями
+     */
+    @NotNull
+    public static ComplexArray getEigenValuesFromDiagonalMatrix(
+            @NotNull double[][] matrix, @NotNull ComplexArray dest
+    ) {
+        checkDest(matrix.length, dest);
         for (int i = 0; i < matrix.length; i++) {
             if (i < matrix.length - 1) {
                 if (Math.abs(matrix[i][i + 1]) > 0.001) {
-                    result[i] = new ComplexValue(matrix[i][i], matrix[i][i + 1]);
-                    result[i + 1] = new ComplexValue(matrix[i][i], -matrix[i][i + 1]);
+                    dest.set(i, matrix[i][i], matrix[i][i + 1]);
+                    dest.set(i + 1, matrix[i][i], -matrix[i][i + 1]);
                     i++;
                     continue;
                 }
             }
-            result[i] = new ComplexValue(matrix[i][i]);
+            dest.set(i, matrix[i][i], 0);
         }
-        return result;
+        return dest;
     }
 
     /**
@@ -58,13 +90,133 @@ public class LinearAlgebra {
      */
     @NotNull
     public static ComplexValue[] getdLambdaFromdA(@NotNull double[][] matrix, @NotNull double[][] deltaMatrix) {
+        return getdLambdaFromdA(matrix, deltaMatrix, new ComplexArray(matrix.length)).toArray();
+    }
+
+    /**
+     * Получить отклонение собственных чисел из отклонения матрицы
+     *
+     * @param matrix      исходная матрица
+     * @param deltaMatrix отклонение
+     * @param dest        массив, в который записывается отклонение (размер равен порядку матрицы)
+     * @return массив dest с отклонением собственных чисел
+     */
+    @NotNull
+    public static ComplexArray getdLambdaFromdA(
+            @NotNull double[][] matrix, @NotNull double[][] deltaMatrix, @NotNull ComplexArray dest
+    ) {
         RealMatrix A = new Array2DRowRealMatrix(matrix);
         EigenDecomposition eigenADecomposition = new EigenDecomposition(A);
         RealMatrix V = eigenADecomposition.getV();
         RealMatrix W = MatrixUtils.inverse(V);
         RealMatrix dA = new Array2DRowRealMatrix(deltaMatrix);
         RealMatrix dLambda = W.multiply(dA.multiply(V));
-        return getEigenValuesFromDiagonalMatrix(dLambda.getData());
+        return getEigenValuesFromDiagonalMatrix(dLambda.getData(), dest);
+    }
+
+    /**
+     * Получить спектральный радиус матрицы (максимальный модуль собственных значений)
+     *
+     * @param matrix квадратная матрица (не изменяется)
+     * @return спектральный радиус
+     */
+    public static double spectralRadius(@NotNull double[][] matrix) {
+        int n = matrix.length;
+        double[] real = new double[n];
+        double[] imag = new double[n];
+        EigenValueKernels.getThreadSolver().getEigenValues(matrix, real, imag);
+        return ComplexArray.getMaxMagnitude(real, imag, 0, n);
+    }
+
+    /**
+     * Получить спектральный радиус матрицы (максимальный модуль собственных значений)
+     *
+     * @param matrix квадратная матрица, записанная по строкам (не изменяется)
+     * @param n      порядок матрицы
+     * @return спектральный радиус
+     */
+    public static double spectralRadius(@NotNull double[] matrix, int n) {
+        checkFlatMatrix(matrix, n);
+        double[] real = new double[n];
+        double[] imag = new double[n];
+        EigenValueKernels.getThreadSolver().getEigenValues(matrix, n, real, imag);
+        return ComplexArray.getMaxMagnitude(real, imag, 0, n);
+    }
+
+    /**
+     * Проверить, что матрица устойчива по Шуру (спектральный радиус строго меньше 1)
+     * <p>
+     * Сначала за O(n^2) без выделения памяти проверяются достаточные условия: если максимальная
+     * сумма модулей элементов строки или столбца меньше 1, то по теореме Гершгорина все
+     * собственные значения лежат внутри единичного круга; если модуль следа не меньше n,
+     * то хотя бы одно собственное значение лежит вне его. Собственные значения вычисляются
+     * только если ни одно из условий не выполнено
+     *
+     * @param matrix квадратная матрица (не изменяется)
+     * @return флаг, устойчива ли матрица по Шуру
+     */
+    public static boolean isSchurStable(@NotNull double[][] matrix) {
+        int n = matrix.length;
+        if (n < 1)
+            throw new IllegalArgumentException("matrix order must be positive: " + n);
+        double maxRowSum = 0;
+        double trace = 0;
+        for (int i = 0; i < n; i++) {
+            if (matrix[i].length != n)
+                throw new IllegalArgumentException("matrix is not square: row " + i + " has length " + matrix[i].length);
+            double rowSum = 0;
+            for (int j = 0; j < n; j++)
+                rowSum += Math.abs(matrix[i][j]);
+            maxRowSum = Math.max(maxRowSum, rowSum);
+            trace += matrix[i][i];
+        }
+        if (maxRowSum < 1)
+            return true;
+        if (Math.abs(trace) >= n)
+            return false;
+        double maxColumnSum = 0;
+        for (int j = 0; j < n; j++) {
+            double columnSum = 0;
+            for (int i = 0; i < n; i++)
+                columnSum += Math.abs(matrix[i][j]);
+            maxColumnSum = Math.max(maxColumnSum, columnSum);
+        }
+        return maxColumnSum < 1 || spectralRadius(matrix) < 1;
+    }
+
+    /**
+     * Проверить, что матрица устойчива по Шуру (спектральный радиус строго меньше 1)
+     * <p>
+     * Перед вычислением собственных значений проверяются те же достаточные условия,
+     * что и для матрицы double[][]
+     *
+     * @param matrix квадратная матрица, записанная по строкам (не изменяется)
+     * @param n      порядок матрицы
+     * @return флаг, устойчива ли матрица по Шуру
+     */
+    public static boolean isSchurStable(@NotNull double[] matrix, int n) {
+        checkFlatMatrix(matrix, n);
+        double maxRowSum = 0;
+        double trace = 0;
+        for (int i = 0; i < n; i++) {
+            double rowSum = 0;
+            for (int j = 0; j < n; j++)
+                rowSum += Math.abs(matrix[i * n + j]);
+            maxRowSum = Math.max(maxRowSum, rowSum);
+            trace += matrix[i * n + i];
+        }
+        if (maxRowSum < 1)
+            return true;
+        if (Math.abs(trace) >= n)
+            return false;
+        double maxColumnSum = 0;
+        for (int j = 0; j < n; j++) {
+            double columnSum = 0;
+            for (int i = 0; i < n; i++)
+                columnSum += Math.abs(matrix[i * n + j]);
+            maxColumnSum = Math.max(maxColumnSum, columnSum);
+        }
+        return maxColumnSum < 1 || spectralRadius(matrix, n) < 1;
     }
 
     /**
@@ -333,6 +485,30 @@ public class LinearAlgebra {
         );
     }
 
+    /**
+     * Проверить, что в массив помещаются собственные значения матрицы
+     *
+     * @param n    порядок матрицы
+     * @param dest массив собственных значений
+     */
+    private static void checkDest(int n, @NotNull ComplexArray dest) {
+        if (dest.size() != n)
+            throw new IllegalArgumentException("eigenvalue array size " + dest.size() + " does not match matrix order " + n);
+    }
+
+    /**
+     * Проверить матрицу, записанную по строкам
+     *
+     * @param matrix матрица
+     * @param n      порядок матрицы
+     */
+    private static void checkFlatMatrix(@NotNull double[] matrix, int n) {
+        if (n < 1)
+            throw new IllegalArgumentException("matrix order must be positive: " + n);
+        if (matrix.length != (long) n * n)
+            throw new IllegalArgumentException("array length " + matrix.length + " does not match matrix order " + n);
+    }
+
     /**
      * Конструктор для запрета наследования
      */
@@ -9,7 +9,6 @@ import java.util.concurrent.ThreadLocalRandom;
 
 import static jMath.aoklyunin.github.com.linearAlgebra.LinearAlgebra.getEigenValues;
 import static java.util.Arrays.asList;
-import static java.util.Arrays.stream;
 
 /**
  * Класс для работы с полиномами
@@ -118,7 +117,6 @@ public class Polinomial {
     public static Double[] generateShurPolynmialEqualRoots(int n, double maxCoefficientValue) {
         double r = 0.1;
         Double[] coeffs = new Double[n + 1];
-        ComplexValue[] roots;
         do {
             System.out.println(r);
             coeffs[0] = 1.0;
@@ -140,14 +138,62 @@ public class Polinomial {
                     }
             }
             r *= 0.1;
-            Double[] coeffsForCheck = coeffs.clone();
-            Collections.reverse(asList(coeffsForCheck));
-            roots = findRoots(coeffsForCheck);
-        } while (stream(roots).anyMatch(root -> root.getMagnitude() > 1));
+        } while (!isSchurStable(toPrimitive(coeffs)));
 
         return coeffs;
     }
 
+    /**
+     * Проверить, что многочлен устойчив по Шуру (все корни лежат строго внутри единичного круга)
+     * <p>
+     * Используется критерий Шура-Кона (Джури): на каждом шаге считается коэффициент отражения
+     * k = a_m / a_0 (отношение свободного члена к старшему коэффициенту), многочлен устойчив,
+     * только если |k| &lt; 1 и устойчив многочлен степени на единицу меньше с коэффициентами
+     * a_i - k * a_(m - i). Проверка занимает O(n^2) без вычисления корней и прекращается
+     * на первом коэффициенте отражения, модуль которого не меньше 1
+     *
+     * @param coefficients коэффициенты многочлена начиная с коэффициента при старшей степени
+     *                     (он не может быть нулевым) и заканчивая свободным членом; порядок обратный
+     *                     порядку в findRoots(double[], ComplexArray)
+     * @return флаг, устойчив ли многочлен по Шуру
+     */
+    public static boolean isSchurStable(@NotNull double[] coefficients) {
+        int n = coefficients.length - 1;
+        if (n < 0)
+            throw new IllegalArgumentException("polynomial must have at least one coefficient");
+        if (coefficients[0] == 0)
+            throw new IllegalArgumentException("leading coefficient must be non-zero");
+        double[] a = coefficients.clone();
+        for (int m = n; m > 0; m--) {
+            double k = a[m] / a[0];
+            if (!(Math.abs(k) < 1))
+                return false;
+            // a_i и a_(m - i) пересчитываются попарно на месте, a_m становится нулём
+            for (int i = 0, j = m; i <= j; i++, j--) {
+                double x = a[i];
+                double y = a[j];
+                a[i] = x - k * y;
+                if (i != j)
+                    a[j] = y - k * x;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Преобразовать массив Double в массив double
+     *
+     * @param arr массив Double
+     * @return массив double
+     */
+    @NotNull
+    private static double[] toPrimitive(@NotNull Double[] arr) {
+        double[] result = new double[arr.length];
+        for (int i = 0; i < arr.length; i++)
+            result[i] = arr[i];
+        return result;
+    }
+
     /**
      * <p>
      * Given a set of polynomial coefficients, compute the roots of the polynomial.  Depending on
@@ -180,6 +226,34 @@ public class Polinomial {
         return eigenValues;
     }
 
+    /**
+     * Найти корни многочлена как собственные значения сопровождающей матрицы без объектов ComplexValue
+     *
+     * @param coefficients коэффициенты многочлена начиная со свободного члена и заканчивая коэффициентом
+     *                     при старшей степени (он не может быть нулевым); порядок обратный порядку
+     *                     в isSchurStable(double[])
+     * @param dest         массив, в который записываются корни (размер равен степени многочлена)
+     * @return массив dest с корнями
+     */
+    @NotNull
+    public static ComplexArray findRoots(@NotNull double[] coefficients, @NotNull ComplexArray dest) {
+        int n = coefficients.length - 1;
+        if (n < 1)
+            throw new IllegalArgumentException("polynomial degree must be positive: " + n);
+        if (coefficients[n] == 0)
+            throw new IllegalArgumentException("leading coefficient must be non-zero");
+        if (dest.size() != n)
+            throw new IllegalArgumentException("roots array size " + dest.size() + " does not match degree " + n);
+        double[] matrix = new double[n * n];
+        double a = coefficients[n];
+        for (int i = 0; i < n; i++)
+            matrix[i * n + n - 1] = -coefficients[i] / a;
+        for (int i = 1; i < n; i++)
+            matrix[i * n + i - 1] = 1;
+        EigenValueKernels.getThreadSolver().getEigenValues(matrix, n, dest.real, dest.imag);
+        return dest;
+    }
+
     /**
      * Сверка корней
      *
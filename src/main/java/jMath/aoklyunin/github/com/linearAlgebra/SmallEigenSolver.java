@@ -0,0 +1,577 @@
+package jMath.aoklyunin.github.com.linearAlgebra;
+
+import com.sun.istack.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Вычисление собственных значений небольших вещественных матриц без объектов Commons Math
+ * <p>
+ * Матрица порядка n хранится в массиве double по строкам: элемент (i, j) лежит
+ * по индексу i * n + j. Собственные значения записываются в переданные массивы
+ * вещественных и мнимых частей, комплексно-сопряжённые пары идут подряд,
+ * первым - значение с положительной мнимой частью.
+ * <p>
+ * Для матриц 2x2 и 3x3 используются явные формулы корней характеристического многочлена
+ * (корни 3x3 уточняются шагами метода Ньютона). Матрицы большего порядка балансируются,
+ * приводятся к форме Хессенберга и решаются QR-алгоритмом Фрэнсиса с двойным сдвигом.
+ * Рабочий массив создаётся один раз и растёт по необходимости, поэтому при повторных
+ * вызовах память не выделяется.
+ * <p>
+ * Матрица не должна содержать бесконечностей и NaN, иначе бросается IllegalArgumentException.
+ * <p>
+ * Объект не потокобезопасен: для каждого потока нужен свой экземпляр
+ */
+public final class SmallEigenSolver {
+    /**
+     * Количество итераций QR-алгоритма на строку матрицы: общий бюджет на матрицу порядка n
+     * равен ITERATIONS_PER_ROW * max(10, n), как в LAPACK (dlahqr)
+     */
+    private static final int ITERATIONS_PER_ROW = 30;
+    /**
+     * Период исключительных сдвигов: через столько итераций без отделения собственного значения
+     */
+    private static final int EXCEPTIONAL_SHIFT_PERIOD = 10;
+    /**
+     * Машинная точность
+     */
+    private static final double EPS = Math.ulp(1.0);
+    /**
+     * Основание масштабирования при балансировке
+     */
+    private static final double RADIX = 2;
+    /**
+     * Количество шагов метода Ньютона при уточнении корней кубического многочлена
+     */
+    private static final int NEWTON_STEPS = 2;
+    /**
+     * Рабочая копия матрицы
+     */
+    @NotNull
+    private double[] work = new double[0];
+
+    /**
+     * Получить собственные значения матрицы
+     *
+     * @param matrix матрица порядка n, записанная по строкам (не изменяется)
+     * @param n      порядок матрицы
+     * @param real   массив, в который записываются вещественные части (не меньше n)
+     * @param imag   массив, в который записываются мнимые части (не меньше n)
+     */
+    public void getEigenValues(@NotNull double[] matrix, int n, @NotNull double[] real, @NotNull double[] imag) {
+        getEigenValues(matrix, 0, n, real, imag, 0);
+    }
+
+    /**
+     * Получить собственные значения матрицы
+     *
+     * @param matrix матрица (не изменяется)
+     * @param real   массив, в который записываются вещественные части (не меньше порядка матрицы)
+     * @param imag   массив, в который записываются мнимые части (не меньше порядка матрицы)
+     */
+    public void getEigenValues(@NotNull double[][] matrix, @NotNull double[] real, @NotNull double[] imag) {
+        int n = matrix.length;
+        if (n < 1)
+            throw new IllegalArgumentException("matrix order must be positive: " + n);
+        ensureCapacity(n);
+        for (int i = 0; i < n; i++) {
+            if (matrix[i].length != n)
+                throw new IllegalArgumentException("matrix is not square: row " + i + " has length " + matrix[i].length);
+            System.arraycopy(matrix[i], 0, work, i * n, n);
+        }
+        checkDest(n, real, imag, 0);
+        solveWork(n, real, imag, 0);
+    }
+
+    /**
+     * Получить собственные значения матрицы
+     *
+     * @param matrices   массив, в котором лежит матрица (не изменяется)
+     * @param offset     индекс первого элемента матрицы в массиве
+     * @param n          порядок матрицы
+     * @param real       массив, в который записываются вещественные части
+     * @param imag       массив, в который записываются мнимые части
+     * @param destOffset индекс, начиная с которого записываются собственные значения
+     */
+    public void getEigenValues(
+            @NotNull double[] matrices, int offset, int n,
+            @NotNull double[] real, @NotNull double[] imag, int destOffset
+    ) {
+        if (n < 1)
+            throw new IllegalArgumentException("matrix order must be positive: " + n);
+        if (offset < 0 || (long) offset + (long) n * n > Objects.requireNonNull(matrices).length)
+            throw new IllegalArgumentException(
+                    "matrix of order " + n + " at offset " + offset + " does not fit array of length " + matrices.length
+            );
+        checkDest(n, real, imag, destOffset);
+        ensureCapacity(n);
+        System.arraycopy(matrices, offset, work, 0, n * n);
+        solveWork(n, real, imag, destOffset);
+    }
+
+    /**
+     * Найти собственные значения матрицы из рабочего массива
+     *
+     * @param n          порядок матрицы
+     * @param real       массив, в который записываются вещественные части
+     * @param imag       массив, в который записываются мнимые части
+     * @param destOffset индекс, начиная с которого записываются собственные значения
+     */
+    private void solveWork(int n, @NotNull double[] real, @NotNull double[] imag, int destOffset) {
+        double[] a = work;
+        for (int i = 0; i < n * n; i++)
+            if (!Double.isFinite(a[i]))
+                throw new IllegalArgumentException(
+                        "matrix element (" + i / n + ", " + i % n + ") is not finite: " + a[i]
+                );
+        switch (n) {
+            case 1:
+                real[destOffset] = a[0];
+                imag[destOffset] = 0;
+                break;
+            case 2:
+                solve2(a[0], a[1], a[2], a[3], real, imag, destOffset);
+                break;
+            case 3:
+                solve3(a, real, imag, destOffset);
+                break;
+            default:
+                balance(a, n);
+                reduceToHessenberg(a, n);
+                hqr(a, n, real, imag, destOffset);
+        }
+    }
+
+    /**
+     * Найти собственные значения матрицы 2x2 {{a, b}, {c, d}}
+     *
+     * @param a          элемент (0, 0)
+     * @param b          элемент (0, 1)
+     * @param c          элемент (1, 0)
+     * @param d          элемент (1, 1)
+     * @param real       массив, в который записываются вещественные части
+     * @param imag       массив, в который записываются мнимые части
+     * @param destOffset индекс, начиная с которого записываются собственные значения
+     */
+    private static void solve2(
+            double a, double b, double c, double d, @NotNull double[] real, @NotNull double[] imag, int destOffset
+    ) {
+        double mean = 0.5 * (a + d);
+        double half = 0.5 * (a - d);
+        // дискриминант без вычитания близких чисел tr^2 / 4 - det
+        double disc = half * half + b * c;
+        if (disc >= 0) {
+            double s = Math.sqrt(disc);
+            // больший по модулю корень считается без сокращения, меньший - через определитель
+            double r1 = mean + Math.copySign(s, mean);
+            double r2 = r1 != 0 ? (a * d - b * c) / r1 : mean - s;
+            real[destOffset] = r1;
+            real[destOffset + 1] = r2;
+            imag[destOffset] = 0;
+            imag[destOffset + 1] = 0;
+        } else {
+            double s = Math.sqrt(-disc);
+            real[destOffset] = mean;
+            real[destOffset + 1] = mean;
+            imag[destOffset] = s;
+            imag[destOffset + 1] = -s;
+        }
+    }
+
+    /**
+     * Найти собственные значения матрицы 3x3 как корни характеристического многочлена
+     *
+     * @param a          матрица 3x3, записанная по строкам
+     * @param real       массив, в который записываются вещественные части
+     * @param imag       массив, в который записываются мнимые части
+     * @param destOffset индекс, начиная с которого записываются собственные значения
+     */
+    private static void solve3(@NotNull double[] a, @NotNull double[] real, @NotNull double[] imag, int destOffset) {
+        // характеристический многочлен x^3 + b x^2 + c x + d
+        double b = -(a[0] + a[4] + a[8]);
+        double c = a[0] * a[4] - a[1] * a[3] + a[0] * a[8] - a[2] * a[6] + a[4] * a[8] - a[5] * a[7];
+        double d = -(a[0] * (a[4] * a[8] - a[5] * a[7])
+                - a[1] * (a[3] * a[8] - a[5] * a[6])
+                + a[2] * (a[3] * a[7] - a[4] * a[6]));
+        // приведённый многочлен t^3 + p t + q, x = t - b / 3
+        double shift = b / 3;
+        double p = c - b * shift;
+        double q = (2 * shift * shift - c) * shift + d;
+        double halfQ = 0.5 * q;
+        double thirdP = p / 3;
+        double disc = halfQ * halfQ + thirdP * thirdP * thirdP;
+        if (disc > 0) {
+            // один вещественный корень (формула Кардано) и комплексно-сопряжённая пара
+            double u = -Math.copySign(Math.cbrt(Math.abs(halfQ) + Math.sqrt(disc)), q);
+            double v = u != 0 ? -thirdP / u : 0;
+            double r = polishCubicRoot(u + v - shift, b, c, d);
+            // деление на (x - r): x^2 + e x + g
+            double e = b + r;
+            double g = c + r * e;
+            double halfE = 0.5 * e;
+            double quadDisc = halfE * halfE - g;
+            real[destOffset] = r;
+            imag[destOffset] = 0;
+            if (quadDisc < 0) {
+                double s = Math.sqrt(-quadDisc);
+                real[destOffset + 1] = -halfE;
+                real[destOffset + 2] = -halfE;
+                imag[destOffset + 1] = s;
+                imag[destOffset + 2] = -s;
+            } else {
+                double s = Math.sqrt(quadDisc);
+                double r1 = -halfE - Math.copySign(s, halfE);
+                real[destOffset + 1] = r1;
+                real[destOffset + 2] = r1 != 0 ? g / r1 : -halfE + s;
+                imag[destOffset + 1] = 0;
+                imag[destOffset + 2] = 0;
+            }
+        } else {
+            // три вещественных корня (тригонометрическая формула)
+            double r0, r1, r2;
+            if (thirdP == 0) {
+                r0 = r1 = r2 = -shift;
+            } else {
+                double m = 2 * Math.sqrt(-thirdP);
+                double cos = Math.max(-1, Math.min(1, 3 * q / (p * m)));
+                double phi = Math.acos(cos) / 3;
+                r0 = m * Math.cos(phi) - shift;
+                r1 = m * Math.cos(phi - 2 * Math.PI / 3) - shift;
+                r2 = m * Math.cos(phi - 4 * Math.PI / 3) - shift;
+            }
+            real[destOffset] = polishCubicRoot(r0, b, c, d);
+            real[destOffset + 1] = polishCubicRoot(r1, b, c, d);
+            real[destOffset + 2] = polishCubicRoot(r2, b, c, d);
+            imag[destOffset] = 0;
+            imag[destOffset + 1] = 0;
+            imag[destOffset + 2] = 0;
+        }
+    }
+
+    /**
+     * Уточнить вещественный корень многочлена x^3 + b x^2 + c x + d методом Ньютона
+     *
+     * @param x начальное приближение
+     * @param b коэффициент при x^2
+     * @param c коэффициент при x
+     * @param d свободный член
+     * @return уточнённый корень (шаг не делается, если он не уменьшает невязку)
+     */
+    private static double polishCubicRoot(double x, double b, double c, double d) {
+        double f = ((x + b) * x + c) * x + d;
+        for (int i = 0; i < NEWTON_STEPS && f != 0; i++) {
+            double df = (3 * x + 2 * b) * x + c;
+            if (df == 0)
+                break;
+            double next = x - f / df;
+            double nextF = ((next + b) * next + c) * next + d;
+            if (!(Math.abs(nextF) < Math.abs(f)))
+                break;
+            x = next;
+            f = nextF;
+        }
+        return x;
+    }
+
+    /**
+     * Сбалансировать матрицу подобными преобразованиями, выравнивающими нормы строк и столбцов
+     *
+     * @param a матрица, записанная по строкам
+     * @param n порядок матрицы
+     */
+    private static void balance(@NotNull double[] a, int n) {
+        double sqrRadix = RADIX * RADIX;
+        boolean done = false;
+        while (!done) {
+            done = true;
+            for (int i = 0; i < n; i++) {
+                double r = 0;
+                double c = 0;
+                for (int j = 0; j < n; j++)
+                    if (j != i) {
+                        c += Math.abs(a[j * n + i]);
+                        r += Math.abs(a[i * n + j]);
+                    }
+                if (c == 0 || r == 0)
+                    continue;
+                double g = r / RADIX;
+                double f = 1;
+                double s = c + r;
+                while (c < g) {
+                    f *= RADIX;
+                    c *= sqrRadix;
+                }
+                g = r * RADIX;
+                while (c > g) {
+                    f /= RADIX;
+                    c /= sqrRadix;
+                }
+                if ((c + r) / f < 0.95 * s) {
+                    done = false;
+                    g = 1 / f;
+                    for (int j = 0; j < n; j++)
+                        a[i * n + j] *= g;
+                    for (int j = 0; j < n; j++)
+                        a[j * n + i] *= f;
+                }
+            }
+        }
+    }
+
+    /**
+     * Привести матрицу к верхней форме Хессенберга исключением Гаусса с выбором ведущего элемента
+     *
+     * @param a матрица, записанная по строкам
+     * @param n порядок матрицы
+     */
+    private static void reduceToHessenberg(@NotNull double[] a, int n) {
+        for (int m = 1; m < n - 1; m++) {
+            double x = 0;
+            int pivot = m;
+            for (int j = m; j < n; j++)
+                if (Math.abs(a[j * n + m - 1]) > Math.abs(x)) {
+                    x = a[j * n + m - 1];
+                    pivot = j;
+                }
+            if (pivot != m) {
+                for (int j = m - 1; j < n; j++)
+                    swap(a, pivot * n + j, m * n + j);
+                for (int j = 0; j < n; j++)
+                    swap(a, j * n + pivot, j * n + m);
+            }
+            if (x == 0)
+                continue;
+            for (int i = m + 1; i < n; i++) {
+                double y = a[i * n + m - 1];
+                if (y == 0)
+                    continue;
+                y /= x;
+                a[i * n + m - 1] = 0;
+                for (int j = m; j < n; j++)
+                    a[i * n + j] -= y * a[m * n + j];
+                for (int j = 0; j < n; j++)
+                    a[j * n + m] += y * a[j * n + i];
+            }
+        }
+    }
+
+    /**
+     * Найти собственные значения верхней матрицы Хессенберга QR-алгоритмом с двойным сдвигом
+     *
+     * @param a          матрица Хессенберга, записанная по строкам (разрушается)
+     * @param n          порядок матрицы
+     * @param real       массив, в который записываются вещественные части
+     * @param imag       массив, в который записываются мнимые части
+     * @param destOffset индекс, начиная с которого записываются собственные значения
+     */
+    private static void hqr(@NotNull double[] a, int n, @NotNull double[] real, @NotNull double[] imag, int destOffset) {
+        double norm = 0;
+        for (int i = 0; i < n; i++)
+            for (int j = Math.max(i - 1, 0); j < n; j++)
+                norm += Math.abs(a[i * n + j]);
+        int nn = n - 1;
+        // накопленный исключительный сдвиг
+        double t = 0;
+        // оставшийся бюджет итераций на всю матрицу
+        int budget = ITERATIONS_PER_ROW * Math.max(10, n);
+        while (nn >= 0) {
+            int its = 0;
+            int l;
+            do {
+                // поиск пренебрежимо малого поддиагонального элемента
+                for (l = nn; l > 0; l--) {
+                    double s = Math.abs(a[(l - 1) * n + l - 1]) + Math.abs(a[l * n + l]);
+                    if (s == 0)
+                        s = norm;
+                    if (Math.abs(a[l * n + l - 1]) <= EPS * s) {
+                        a[l * n + l - 1] = 0;
+                        break;
+                    }
+                }
+                double x = a[nn * n + nn];
+                if (l == nn) {
+                    // отделился блок 1x1
+                    real[destOffset + nn] = x + t;
+                    imag[destOffset + nn] = 0;
+                    nn--;
+                } else {
+                    double y = a[(nn - 1) * n + nn - 1];
+                    double w = a[nn * n + nn - 1] * a[(nn - 1) * n + nn];
+                    if (l == nn - 1) {
+                        // отделился блок 2x2
+                        double p = 0.5 * (y - x);
+                        double q = p * p + w;
+                        double z = Math.sqrt(Math.abs(q));
+                        x += t;
+                        if (q >= 0) {
+                            z = p + Math.copySign(z, p);
+                            real[destOffset + nn - 1] = x + z;
+                            real[destOffset + nn] = z != 0 ? x - w / z : x + z;
+                            imag[destOffset + nn - 1] = 0;
+                            imag[destOffset + nn] = 0;
+                        } else {
+                            real[destOffset + nn - 1] = x + p;
+                            real[destOffset + nn] = x + p;
+                            imag[destOffset + nn - 1] = z;
+                            imag[destOffset + nn] = -z;
+                        }
+                        nn -= 2;
+                    } else {
+                        if (budget == 0)
+                            throw new IllegalStateException("QR iteration did not converge");
+                        if (its > 0 && its % EXCEPTIONAL_SHIFT_PERIOD == 0) {
+                            // исключительный сдвиг
+                            t += x;
+                            for (int i = 0; i <= nn; i++)
+                                a[i * n + i] -= x;
+                            double s = Math.abs(a[nn * n + nn - 1]) + Math.abs(a[(nn - 1) * n + nn - 2]);
+                            x = 0.75 * s;
+                            y = x;
+                            w = -0.4375 * s * s;
+                        }
+                        its++;
+                        budget--;
+                        qrStep(a, n, l, nn, x, y, w);
+                    }
+                }
+            } while (l + 1 < nn);
+        }
+    }
+
+    /**
+     * Выполнить шаг QR-алгоритма с двойным сдвигом над активным блоком l..nn
+     *
+     * @param a  матрица Хессенберга, записанная по строкам
+     * @param n  порядок матрицы
+     * @param l  первая строка активного блока
+     * @param nn последняя строка активного блока
+     * @param x  нижний диагональный элемент блока
+     * @param y  предпоследний диагональный элемент блока
+     * @param w  произведение внедиагональных элементов нижнего блока 2x2
+     */
+    private static void qrStep(@NotNull double[] a, int n, int l, int nn, double x, double y, double w) {
+        double p = 0, q = 0, r = 0, z;
+        // поиск двух соседних малых поддиагональных элементов
+        int m;
+        for (m = nn - 2; m >= l; m--) {
+            z = a[m * n + m];
+            r = x - z;
+            double s = y - z;
+            p = (r * s - w) / a[(m + 1) * n + m] + a[m * n + m + 1];
+            q = a[(m + 1) * n + m + 1] - z - r - s;
+            r = a[(m + 2) * n + m + 1];
+            s = Math.abs(p) + Math.abs(q) + Math.abs(r);
+            p /= s;
+            q /= s;
+            r /= s;
+            if (m == l)
+                break;
+            double u = Math.abs(a[m * n + m - 1]) * (Math.abs(q) + Math.abs(r));
+            double v = Math.abs(p) * (Math.abs(a[(m - 1) * n + m - 1]) + Math.abs(z) + Math.abs(a[(m + 1) * n + m + 1]));
+            if (u <= EPS * v)
+                break;
+        }
+        for (int i = m; i < nn - 1; i++) {
+            a[(i + 2) * n + i] = 0;
+            if (i != m)
+                a[(i + 2) * n + i - 1] = 0;
+        }
+        // отражения Хаусхолдера, прогоняющие выпуклость вниз по диагонали
+        for (int k = m; k < nn; k++) {
+            if (k != m) {
+                p = a[k * n + k - 1];
+                q = a[(k + 1) * n + k - 1];
+                r = k + 1 != nn ? a[(k + 2) * n + k - 1] : 0;
+                x = Math.abs(p) + Math.abs(q) + Math.abs(r);
+                if (x != 0) {
+                    p /= x;
+                    q /= x;
+                    r /= x;
+                }
+            }
+            double s = Math.copySign(Math.sqrt(p * p + q * q + r * r), p);
+            if (s == 0)
+                continue;
+            if (k == m) {
+                if (l != m)
+                    a[k * n + k - 1] = -a[k * n + k - 1];
+            } else {
+                a[k * n + k - 1] = -s * x;
+            }
+            p += s;
+            x = p / s;
+            y = q / s;
+            z = r / s;
+            q /= p;
+            r /= p;
+            for (int j = k; j <= nn; j++) {
+                p = a[k * n + j] + q * a[(k + 1) * n + j];
+                if (k + 1 != nn) {
+                    p += r * a[(k + 2) * n + j];
+                    a[(k + 2) * n + j] -= p * z;
+                }
+                a[(k + 1) * n + j] -= p * y;
+                a[k * n + j] -= p * x;
+            }
+            int mmin = Math.min(nn, k + 3);
+            for (int i = l; i <= mmin; i++) {
+                p = x * a[i * n + k] + y * a[i * n + k + 1];
+                if (k + 1 != nn) {
+                    p += z * a[i * n + k + 2];
+                    a[i * n + k + 2] -= p * r;
+                }
+                a[i * n + k + 1] -= p * q;
+                a[i * n + k] -= p;
+            }
+        }
+    }
+
+    /**
+     * Поменять местами элементы массива
+     *
+     * @param a массив
+     * @param i индекс первого элемента
+     * @param j индекс второго элемента
+     */
+    private static void swap(@NotNull double[] a, int i, int j) {
+        double tmp = a[i];
+        a[i] = a[j];
+        a[j] = tmp;
+    }
+
+    /**
+     * Проверить массивы собственных значений
+     *
+     * @param n          порядок матрицы
+     * @param real       массив вещественных частей
+     * @param imag       массив мнимых частей
+     * @param destOffset индекс, начиная с которого записываются собственные значения
+     */
+    private static void checkDest(int n, @NotNull double[] real, @NotNull double[] imag, int destOffset) {
+        if (destOffset < 0 || destOffset + n > Objects.requireNonNull(real).length
+                || destOffset + n > Objects.requireNonNull(imag).length)
+            throw new IllegalArgumentException(
+                    n + " eigenvalues at offset " + destOffset + " do not fit arrays of length "
+                            + real.length + " and " + imag.length
+            );
+    }
+
+    /**
+     * Увеличить рабочий массив, если он меньше матрицы
+     *
+     * @param n порядок матрицы
+     */
+    private void ensureCapacity(int n) {
+        if ((long) n * n > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("matrix order is too large: " + n);
+        if (work.length < n * n)
+            work = new double[n * n];
+    }
+
+    @Override
+    public String toString() {
+        return "SmallEigenSolver{" +
+                "capacity=" + work.length +
+                '}';
+    }
+}
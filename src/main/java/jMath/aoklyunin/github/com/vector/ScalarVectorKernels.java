@@ -0,0 +1,333 @@
+package jMath.aoklyunin.github.com.vector;
+
+import com.sun.istack.NotNull;
+
+/**
+ * Скалярная реализация ядер массовых операций над векторами
+ * <p>
+ * Статические методы обрабатывают элементы начиная с индекса from до конца массива
+ * результата и используются реализацией на Vector API для обработки хвостов массивов
+ */
+final class ScalarVectorKernels extends VectorKernels {
+
+    @NotNull
+    @Override
+    public String getName() {
+        return "scalar";
+    }
+
+    @Override
+    public void add(@NotNull double[] a, @NotNull double[] b, @NotNull double[] dest) {
+        add(a, b, dest, 0);
+    }
+
+    @Override
+    public void subtract(@NotNull double[] a, @NotNull double[] b, @NotNull double[] dest) {
+        subtract(a, b, dest, 0);
+    }
+
+    @Override
+    public void mul(@NotNull double[] a, @NotNull double[] b, @NotNull double[] dest) {
+        mul(a, b, dest, 0);
+    }
+
+    @Override
+    public void mul(@NotNull double[] a, double c, @NotNull double[] dest) {
+        mul(a, c, dest, 0);
+    }
+
+    @Override
+    public void dot(
+            @NotNull double[] ax, @NotNull double[] ay, @NotNull double[] bx, @NotNull double[] by,
+            @NotNull double[] dest
+    ) {
+        dot(ax, ay, bx, by, dest, 0);
+    }
+
+    @Override
+    public void dot(
+            @NotNull double[] ax, @NotNull double[] ay, @NotNull double[] az,
+            @NotNull double[] bx, @NotNull double[] by, @NotNull double[] bz,
+            @NotNull double[] dest
+    ) {
+        dot(ax, ay, az, bx, by, bz, dest, 0);
+    }
+
+    @Override
+    public void dot(
+            @NotNull double[] ax, @NotNull double[] ay, @NotNull double[] az, @NotNull double[] aw,
+            @NotNull double[] bx, @NotNull double[] by, @NotNull double[] bz, @NotNull double[] bw,
+            @NotNull double[] dest
+    ) {
+        dot(ax, ay, az, aw, bx, by, bz, bw, dest, 0);
+    }
+
+    @Override
+    public void length(@NotNull double[] x, @NotNull double[] y, @NotNull double[] dest) {
+        length(x, y, dest, 0);
+    }
+
+    @Override
+    public void length(@NotNull double[] x, @NotNull double[] y, @NotNull double[] z, @NotNull double[] dest) {
+        length(x, y, z, dest, 0);
+    }
+
+    @Override
+    public void length(
+            @NotNull double[] x, @NotNull double[] y, @NotNull double[] z, @NotNull double[] w,
+            @NotNull double[] dest
+    ) {
+        length(x, y, z, w, dest, 0);
+    }
+
+    @Override
+    public void normalize(
+            @NotNull double[] x, @NotNull double[] y, @NotNull double[] destX, @NotNull double[] destY
+    ) {
+        normalize(x, y, destX, destY, 0);
+    }
+
+    @Override
+    public void normalize(
+            @NotNull double[] x, @NotNull double[] y, @NotNull double[] z,
+            @NotNull double[] destX, @NotNull double[] destY, @NotNull double[] destZ
+    ) {
+        normalize(x, y, z, destX, destY, destZ, 0);
+    }
+
+    @Override
+    public void normalize(
+            @NotNull double[] x, @NotNull double[] y, @NotNull double[] z, @NotNull double[] w,
+            @NotNull double[] destX, @NotNull double[] destY, @NotNull double[] destZ, @NotNull double[] destW
+    ) {
+        normalize(x, y, z, w, destX, destY, destZ, destW, 0);
+    }
+
+    /**
+     * Поэлементно сложить массивы начиная с заданного индекса
+     *
+     * @param a    первый массив
+     * @param b    второй массив
+     * @param dest массив, в который записывается результат
+     * @param from индекс первого обрабатываемого элемента
+     */
+    static void add(@NotNull double[] a, @NotNull double[] b, @NotNull double[] dest, int from) {
+        for (int i = from; i < dest.length; i++)
+            dest[i] = a[i] + b[i];
+    }
+
+    /**
+     * Поэлементно вычесть массивы начиная с заданного индекса
+     *
+     * @param a    первый массив
+     * @param b    второй массив
+     * @param dest массив, в который записывается результат
+     * @param from индекс первого обрабатываемого элемента
+     */
+    static void subtract(@NotNull double[] a, @NotNull double[] b, @NotNull double[] dest, int from) {
+        for (int i = from; i < dest.length; i++)
+            dest[i] = a[i] - b[i];
+    }
+
+    /**
+     * Поэлементно перемножить массивы начиная с заданного индекса
+     *
+     * @param a    первый массив
+     * @param b    второй массив
+     * @param dest массив, в который записывается результат
+     * @param from индекс первого обрабатываемого элемента
+     */
+    static void mul(@NotNull double[] a, @NotNull double[] b, @NotNull double[] dest, int from) {
+        for (int i = from; i < dest.length; i++)
+            dest[i] = a[i] * b[i];
+    }
+
+    /**
+     * Умножить массив на число начиная с заданного индекса
+     *
+     * @param a    массив
+     * @param c    число
+     * @param dest массив, в который записывается результат
+     * @param from индекс первого обрабатываемого элемента
+     */
+    static void mul(@NotNull double[] a, double c, @NotNull double[] dest, int from) {
+        for (int i = from; i < dest.length; i++)
+            dest[i] = a[i] * c;
+    }
+
+    /**
+     * Скалярные произведения двумерных векторов начиная с заданного индекса
+     *
+     * @param ax   x - координаты первых векторов
+     * @param ay   y - координаты первых векторов
+     * @param bx   x - координаты вторых векторов
+     * @param by   y - координаты вторых векторов
+     * @param dest массив, в который записывается результат
+     * @param from индекс первого обрабатываемого элемента
+     */
+    static void dot(
+            @NotNull double[] ax, @NotNull double[] ay, @NotNull double[] bx, @NotNull double[] by,
+            @NotNull double[] dest, int from
+    ) {
+        for (int i = from; i < dest.length; i++)
+            dest[i] = ax[i] * bx[i] + ay[i] * by[i];
+    }
+
+    /**
+     * Скалярные произведения трёхмерных векторов начиная с заданного индекса
+     *
+     * @param ax   x - координаты первых векторов
+     * @param ay   y - координаты первых векторов
+     * @param az   z - координаты первых векторов
+     * @param bx   x - координаты вторых векторов
+     * @param by   y - координаты вторых векторов
+     * @param bz   z - координаты вторых векторов
+     * @param dest массив, в который записывается результат
+     * @param from индекс первого обрабатываемого элемента
+     */
+    static void dot(
+            @NotNull double[] ax, @NotNull double[] ay, @NotNull double[] az,
+            @NotNull double[] bx, @NotNull double[] by, @NotNull double[] bz,
+            @NotNull double[] dest, int from
+    ) {
+        for (int i = from; i < dest.length; i++)
+            dest[i] = ax[i] * bx[i] + ay[i] * by[i] + az[i] * bz[i];
+    }
+
+    /**
+     * Скалярные произведения четырёхмерных векторов начиная с заданного индекса
+     *
+     * @param ax   x - координаты первых векторов
+     * @param ay   y - координаты первых векторов
+     * @param az   z - координаты первых векторов
+     * @param aw   w - координаты первых векторов
+     * @param bx   x - координаты вторых векторов
+     * @param by   y - координаты вторых векторов
+     * @param bz   z - координаты вторых векторов
+     * @param bw   w - координаты вторых векторов
+     * @param dest массив, в который записывается результат
+     * @param from индекс первого обрабатываемого элемента
+     */
+    static void dot(
+            @NotNull double[] ax, @NotNull double[] ay, @NotNull double[] az, @NotNull double[] aw,
+            @NotNull double[] bx, @NotNull double[] by, @NotNull double[] bz, @NotNull double[] bw,
+            @NotNull double[] dest, int from
+    ) {
+        for (int i = from; i < dest.length; i++)
+            dest[i] = ax[i] * bx[i] + ay[i] * by[i] + az[i] * bz[i] + aw[i] * bw[i];
+    }
+
+    /**
+     * Длины двумерных векторов начиная с заданного индекса
+     *
+     * @param x    x - координаты векторов
+     * @param y    y - координаты векторов
+     * @param dest массив, в который записывается результат
+     * @param from индекс первого обрабатываемого элемента
+     */
+    static void length(@NotNull double[] x, @NotNull double[] y, @NotNull double[] dest, int from) {
+        for (int i = from; i < dest.length; i++)
+            dest[i] = Math.sqrt(x[i] * x[i] + y[i] * y[i]);
+    }
+
+    /**
+     * Длины трёхмерных векторов начиная с заданного индекса
+     *
+     * @param x    x - координаты векторов
+     * @param y    y - координаты векторов
+     * @param z    z - координаты векторов
+     * @param dest массив, в который записывается результат
+     * @param from индекс первого обрабатываемого элемента
+     */
+    static void length(@NotNull double[] x, @NotNull double[] y, @NotNull double[] z, @NotNull double[] dest, int from) {
+        for (int i = from; i < dest.length; i++)
+            dest[i] = Math.sqrt(x[i] * x[i] + y[i] * y[i] + z[i] * z[i]);
+    }
+
+    /**
+     * Длины четырёхмерных векторов начиная с заданного индекса
+     *
+     * @param x    x - координаты векторов
+     * @param y    y - координаты векторов
+     * @param z    z - координаты векторов
+     * @param w    w - координаты векторов
+     * @param dest массив, в который записывается результат
+     * @param from индекс первого обрабатываемого элемента
+     */
+    static void length(
+            @NotNull double[] x, @NotNull double[] y, @NotNull double[] z, @NotNull double[] w,
+            @NotNull double[] dest, int from
+    ) {
+        for (int i = from; i < dest.length; i++)
+            dest[i] = Math.sqrt(x[i] * x[i] + y[i] * y[i] + z[i] * z[i] + w[i] * w[i]);
+    }
+
+    /**
+     * Нормализовать двумерные векторы начиная с заданного индекса
+     *
+     * @param x     x - координаты векторов
+     * @param y     y - координаты векторов
+     * @param destX массив, в который записываются x - координаты результата
+     * @param destY массив, в который записываются y - координаты результата
+     * @param from  индекс первого обрабатываемого элемента
+     */
+    static void normalize(
+            @NotNull double[] x, @NotNull double[] y, @NotNull double[] destX, @NotNull double[] destY, int from
+    ) {
+        for (int i = from; i < destX.length; i++) {
+            double k = 1 / Math.sqrt(x[i] * x[i] + y[i] * y[i]);
+            destX[i] = x[i] * k;
+            destY[i] = y[i] * k;
+        }
+    }
+
+    /**
+     * Нормализовать трёхмерные векторы начиная с заданного индекса
+     *
+     * @param x     x - координаты векторов
+     * @param y     y - координаты векторов
+     * @param z     z - координаты векторов
+     * @param destX массив, в который записываются x - координаты результата
+     * @param destY массив, в который записываются y - координаты результата
+     * @param destZ массив, в который записываются z - координаты результата
+     * @param from  индекс первого обрабатываемого элемента
+     */
+    static void normalize(
+            @NotNull double[] x, @NotNull double[] y, @NotNull double[] z,
+            @NotNull double[] destX, @NotNull double[] destY, @NotNull double[] destZ, int from
+    ) {
+        for (int i = from; i < destX.length; i++) {
+            double k = 1 / Math.sqrt(x[i] * x[i] + y[i] * y[i] + z[i] * z[i]);
+            destX[i] = x[i] * k;
+            destY[i] = y[i] * k;
+            destZ[i] = z[i] * k;
+        }
+    }
+
+    /**
+     * Нормализовать четырёхмерные векторы начиная с заданного индекса
+     *
+     * @param x     x - координаты векторов
+     * @param y     y - координаты векторов
+     * @param z     z - координаты векторов
+     * @param w     w - координаты векторов
+     * @param destX массив, в который записываются x - координаты результата
+     * @param destY массив, в который записываются y - координаты результата
+     * @param destZ массив, в который записываются z - координаты результата
+     * @param destW массив, в который записываются w - координаты результата
+     * @param from  индекс первого обрабатываемого элемента
+     */
+    static void normalize(
+            @NotNull double[] x, @NotNull double[] y, @NotNull double[] z, @NotNull double[] w,
+            @NotNull double[] destX, @NotNull double[] destY, @NotNull double[] destZ, @NotNull double[] destW,
+            int from
+    ) {
+        for (int i = from; i < destX.length; i++) {
+            double k = 1 / Math.sqrt(x[i] * x[i] + y[i] * y[i] + z[i] * z[i] + w[i] * w[i]);
+            destX[i] = x[i] * k;
+            destY[i] = y[i] * k;
+            destZ[i] = z[i] * k;
+            destW[i] = w[i] * k;
+        }
+    }
+}
@@ -81,10 +81,22 @@ public class Vector2d implements Serializable {
      */
     @NotNull
     public static Vector2d min(@NotNull Vector2d a, @NotNull Vector2d b) {
-        return new Vector2d(
-                Math.min(a.x, b.x),
-                Math.min(a.y, b.y)
-        );
+        return min(a, b, new Vector2d());
+    }
+
+    /**
+     * Получить вектор с минимальными координатами из двух переданных векторов и записать его в заданный вектор
+     *
+     * @param a    первый вектор
+     * @param b    второй вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с минимальными координатами из двух переданных векторов
+     */
+    @NotNull
+    public static Vector2d min(@NotNull Vector2d a, @NotNull Vector2d b, @NotNull Vector2d dest) {
+        dest.x = Math.min(a.x, b.x);
+        dest.y = Math.min(a.y, b.y);
+        return dest;
     }
 
     /**
@@ -96,10 +108,22 @@ public class Vector2d implements Serializable {
      */
     @NotNull
     public static Vector2d max(@NotNull Vector2d a, @NotNull Vector2d b) {
-        return new Vector2d(
-                Math.max(a.x, b.x),
-                Math.max(a.y, b.y)
-        );
+        return max(a, b, new Vector2d());
+    }
+
+    /**
+     * Получить вектор с максимальными координатами из двух переданных векторов и записать его в заданный вектор
+     *
+     * @param a    первый вектор
+     * @param b    второй вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с максимальными координатами из двух переданных векторов
+     */
+    @NotNull
+    public static Vector2d max(@NotNull Vector2d a, @NotNull Vector2d b, @NotNull Vector2d dest) {
+        dest.x = Math.max(a.x, b.x);
+        dest.y = Math.max(a.y, b.y);
+        return dest;
     }
 
     /**
@@ -111,7 +135,22 @@ public class Vector2d implements Serializable {
      */
     @NotNull
     public static Vector2d sum(@NotNull Vector2d a, @NotNull Vector2d b) {
-        return new Vector2d(a.x + b.x, a.y + b.y);
+        return sum(a, b, new Vector2d());
+    }
+
+    /**
+     * Сложить два вектора и записать результат в заданный вектор
+     *
+     * @param a    первый вектор
+     * @param b    второй вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с суммой двух векторов
+     */
+    @NotNull
+    public static Vector2d sum(@NotNull Vector2d a, @NotNull Vector2d b, @NotNull Vector2d dest) {
+        dest.x = a.x + b.x;
+        dest.y = a.y + b.y;
+        return dest;
     }
 
     /**
@@ -139,7 +178,22 @@ public class Vector2d implements Serializable {
      */
     public static @NotNull
     Vector2d subtract(@NotNull Vector2d a, @NotNull Vector2d b) {
-        return new Vector2d(a.x - b.x, a.y - b.y);
+        return subtract(a, b, new Vector2d());
+    }
+
+    /**
+     * Вычесть второй вектор из первого и записать результат в заданный вектор
+     *
+     * @param a    первый вектор
+     * @param b    второй вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с разностью двух векторов
+     */
+    @NotNull
+    public static Vector2d subtract(@NotNull Vector2d a, @NotNull Vector2d b, @NotNull Vector2d dest) {
+        dest.x = a.x - b.x;
+        dest.y = a.y - b.y;
+        return dest;
     }
 
     /**
@@ -150,7 +204,9 @@ public class Vector2d implements Serializable {
      * @return расстояние между векторами
      */
     public static double getDistance(@NotNull Vector2d a, @NotNull Vector2d b) {
-        return subtract(a, b).length();
+        double dx = a.x - b.x;
+        double dy = a.y - b.y;
+        return Math.sqrt(dx * dx + dy * dy);
     }
 
     /**
@@ -162,7 +218,22 @@ public class Vector2d implements Serializable {
      */
     @NotNull
     public static Vector2d mul(@NotNull Vector2d v, double a) {
-        return new Vector2d(v.x * a, v.y * a);
+        return mul(v, a, new Vector2d());
+    }
+
+    /**
+     * Умножение вектора на число с записью результата в заданный вектор
+     *
+     * @param v    вектор
+     * @param a    число
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с результатом умножения вектора на число
+     */
+    @NotNull
+    public static Vector2d mul(@NotNull Vector2d v, double a, @NotNull Vector2d dest) {
+        dest.x = v.x * a;
+        dest.y = v.y * a;
+        return dest;
     }
 
     /**
@@ -174,7 +245,22 @@ public class Vector2d implements Serializable {
      */
     @NotNull
     public static Vector2d mul(@NotNull Vector2d v1, @NotNull Vector2d v2) {
-        return new Vector2d(v1.x * v2.x, v1.y * v2.y);
+        return mul(v1, v2, new Vector2d());
+    }
+
+    /**
+     * Поэлементное умножение векторов с записью результата в заданный вектор
+     *
+     * @param v1   первый вектор
+     * @param v2   второй вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с поэлементным умножением векторов
+     */
+    @NotNull
+    public static Vector2d mul(@NotNull Vector2d v1, @NotNull Vector2d v2, @NotNull Vector2d dest) {
+        dest.x = v1.x * v2.x;
+        dest.y = v1.y * v2.y;
+        return dest;
     }
 
     /**
@@ -196,7 +282,19 @@ public class Vector2d implements Serializable {
      */
     @NotNull
     public static Vector2d norm(@NotNull Vector2d v) {
-        return mul(v, 1 / v.length());
+        return norm(v, new Vector2d());
+    }
+
+    /**
+     * Нормализовать исходный вектор и записать результат в заданный вектор
+     *
+     * @param v    исходный вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с нормализованным исходным вектором
+     */
+    @NotNull
+    public static Vector2d norm(@NotNull Vector2d v, @NotNull Vector2d dest) {
+        return mul(v, 1 / v.length(), dest);
     }
 
     /**
@@ -208,7 +306,20 @@ public class Vector2d implements Serializable {
      */
     @NotNull
     public static Vector2d norm(@NotNull Vector2d v, double a) {
-        return mul(v, 1 / v.length() * a);
+        return norm(v, a, new Vector2d());
+    }
+
+    /**
+     * Нормализовать исходный вектор и записать результат в заданный вектор
+     *
+     * @param v    исходный вектор
+     * @param a    длина нового вектора
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с нормализованным исходным вектором
+     */
+    @NotNull
+    public static Vector2d norm(@NotNull Vector2d v, double a, @NotNull Vector2d dest) {
+        return mul(v, 1 / v.length() * a, dest);
     }
 
     /**
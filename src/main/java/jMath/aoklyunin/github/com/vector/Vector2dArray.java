@@ -0,0 +1,567 @@
+package jMath.aoklyunin.github.com.vector;
+
+import com.sun.istack.NotNull;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Массив двумерных векторов double, хранящий координаты в параллельных массивах
+ * (structure of arrays)
+ * <p>
+ * В отличие от списка объектов Vector2d элементы не являются отдельными объектами в куче,
+ * поэтому массовые операции выполняются простыми циклами по примитивным массивам
+ */
+public class Vector2dArray implements Serializable {
+    /**
+     * x - координаты векторов
+     */
+    @NotNull
+    public final double[] x;
+    /**
+     * y - координаты векторов
+     */
+    @NotNull
+    public final double[] y;
+
+    /**
+     * Конструктор массива нулевых векторов
+     *
+     * @param size количество векторов
+     */
+    public Vector2dArray(int size) {
+        this.x = new double[size];
+        this.y = new double[size];
+    }
+
+    /**
+     * Конструктор массива по готовым массивам координат (массивы не копируются)
+     *
+     * @param x x - координаты векторов
+     * @param y y - координаты векторов
+     */
+    public Vector2dArray(@NotNull double[] x, @NotNull double[] y) {
+        if (x.length != y.length)
+            throw new IllegalArgumentException("coords arrays have different lengths: " + x.length + " " + y.length);
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Конструктор копии
+     *
+     * @param arr исходный массив векторов
+     */
+    public Vector2dArray(@NotNull Vector2dArray arr) {
+        this.x = Arrays.copyOf(arr.x, arr.x.length);
+        this.y = Arrays.copyOf(arr.y, arr.y.length);
+    }
+
+    /**
+     * Конструктор массива по списку векторов
+     *
+     * @param list список векторов
+     */
+    public Vector2dArray(@NotNull List<Vector2d> list) {
+        this(list.size());
+        int i = 0;
+        for (Vector2d v : list)
+            set(i++, v);
+    }
+
+    /**
+     * Получить количество векторов
+     *
+     * @return количество векторов
+     */
+    public int size() {
+        return x.length;
+    }
+
+    /**
+     * Получить вектор по индексу
+     *
+     * @param i индекс
+     * @return новый вектор с координатами i-го элемента
+     */
+    @NotNull
+    public Vector2d get(int i) {
+        return new Vector2d(x[i], y[i]);
+    }
+
+    /**
+     * Получить вектор по индексу и записать его в заданный вектор
+     *
+     * @param i    индекс
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с координатами i-го элемента
+     */
+    @NotNull
+    public Vector2d get(int i, @NotNull Vector2d dest) {
+        dest.x = x[i];
+        dest.y = y[i];
+        return dest;
+    }
+
+    /**
+     * Задать вектор по индексу
+     *
+     * @param i индекс
+     * @param v вектор
+     */
+    public void set(int i, @NotNull Vector2d v) {
+        x[i] = v.x;
+        y[i] = v.y;
+    }
+
+    /**
+     * Задать координаты вектора по индексу
+     *
+     * @param i индекс
+     * @param xVal x - координата вектора
+     * @param yVal y - координата вектора
+     */
+    public void set(int i, double xVal, double yVal) {
+        x[i] = xVal;
+        y[i] = yVal;
+    }
+
+    /**
+     * Заполнить массив одинаковыми векторами
+     *
+     * @param v вектор
+     */
+    public void fill(@NotNull Vector2d v) {
+        Arrays.fill(x, v.x);
+        Arrays.fill(y, v.y);
+    }
+
+    /**
+     * Преобразовать к списку векторов
+     *
+     * @return список векторов
+     */
+    @NotNull
+    public List<Vector2d> toList() {
+        List<Vector2d> list = new ArrayList<>(size());
+        for (int i = 0; i < size(); i++)
+            list.add(get(i));
+        return list;
+    }
+
+    /**
+     * Поэлементная сумма массивов векторов
+     *
+     * @param a первый массив векторов
+     * @param b второй массив векторов
+     * @return новый массив с результатом
+     */
+    @NotNull
+    public static Vector2dArray sum(@NotNull Vector2dArray a, @NotNull Vector2dArray b) {
+        return sum(a, b, new Vector2dArray(a.size()));
+    }
+
+    /**
+     * Поэлементная сумма массивов векторов с записью результата в заданный массив
+     *
+     * @param a    первый массив векторов
+     * @param b    второй массив векторов
+     * @param dest массив, в который записывается результат (может совпадать с a или b)
+     * @return массив dest с результатом
+     */
+    @NotNull
+    public static Vector2dArray sum(@NotNull Vector2dArray a, @NotNull Vector2dArray b, @NotNull Vector2dArray dest) {
+        checkSize(a, b);
+        checkSize(a, dest);
+        VectorKernels.getDefault().add(a.x, b.x, dest.x);
+        VectorKernels.getDefault().add(a.y, b.y, dest.y);
+        return dest;
+    }
+
+    /**
+     * Поэлементная разность массивов векторов
+     *
+     * @param a первый массив векторов
+     * @param b второй массив векторов
+     * @return новый массив с результатом
+     */
+    @NotNull
+    public static Vector2dArray subtract(@NotNull Vector2dArray a, @NotNull Vector2dArray b) {
+        return subtract(a, b, new Vector2dArray(a.size()));
+    }
+
+    /**
+     * Поэлементная разность массивов векторов с записью результата в заданный массив
+     *
+     * @param a    первый массив векторов
+     * @param b    второй массив векторов
+     * @param dest массив, в который записывается результат (может совпадать с a или b)
+     * @return массив dest с результатом
+     */
+    @NotNull
+    public static Vector2dArray subtract(@NotNull Vector2dArray a, @NotNull Vector2dArray b, @NotNull Vector2dArray dest) {
+        checkSize(a, b);
+        checkSize(a, dest);
+        VectorKernels.getDefault().subtract(a.x, b.x, dest.x);
+        VectorKernels.getDefault().subtract(a.y, b.y, dest.y);
+        return dest;
+    }
+
+    /**
+     * Покоординатное умножение векторов двух массивов
+     *
+     * @param a первый массив векторов
+     * @param b второй массив векторов
+     * @return новый массив с результатом
+     */
+    @NotNull
+    public static Vector2dArray mul(@NotNull Vector2dArray a, @NotNull Vector2dArray b) {
+        return mul(a, b, new Vector2dArray(a.size()));
+    }
+
+    /**
+     * Покоординатное умножение векторов двух массивов с записью результата в заданный массив
+     *
+     * @param a    первый массив векторов
+     * @param b    второй массив векторов
+     * @param dest массив, в который записывается результат (может совпадать с a или b)
+     * @return массив dest с результатом
+     */
+    @NotNull
+    public static Vector2dArray mul(@NotNull Vector2dArray a, @NotNull Vector2dArray b, @NotNull Vector2dArray dest) {
+        checkSize(a, b);
+        checkSize(a, dest);
+        VectorKernels.getDefault().mul(a.x, b.x, dest.x);
+        VectorKernels.getDefault().mul(a.y, b.y, dest.y);
+        return dest;
+    }
+
+    /**
+     * Умножение всех векторов массива на число
+     *
+     * @param v массив векторов
+     * @param c число
+     * @return новый массив с результатом
+     */
+    @NotNull
+    public static Vector2dArray mul(@NotNull Vector2dArray v, double c) {
+        return mul(v, c, new Vector2dArray(v.size()));
+    }
+
+    /**
+     * Умножение всех векторов массива на число с записью результата в заданный массив
+     *
+     * @param v    массив векторов
+     * @param c    число
+     * @param dest массив, в который записывается результат (может совпадать с v)
+     * @return массив dest с результатом
+     */
+    @NotNull
+    public static Vector2dArray mul(@NotNull Vector2dArray v, double c, @NotNull Vector2dArray dest) {
+        checkSize(v, dest);
+        VectorKernels.getDefault().mul(v.x, c, dest.x);
+        VectorKernels.getDefault().mul(v.y, c, dest.y);
+        return dest;
+    }
+
+    /**
+     * Поэлементное скалярное произведение векторов двух массивов
+     *
+     * @param a первый массив векторов
+     * @param b второй массив векторов
+     * @return массив скалярных произведений
+     */
+    @NotNull
+    public static double[] dot(@NotNull Vector2dArray a, @NotNull Vector2dArray b) {
+        return dot(a, b, new double[a.size()]);
+    }
+
+    /**
+     * Поэлементное скалярное произведение векторов двух массивов с записью результата в заданный массив
+     *
+     * @param a    первый массив векторов
+     * @param b    второй массив векторов
+     * @param dest массив, в который записывается результат
+     * @return массив dest со скалярными произведениями
+     */
+    @NotNull
+    public static double[] dot(@NotNull Vector2dArray a, @NotNull Vector2dArray b, @NotNull double[] dest) {
+        checkSize(a, b);
+        checkSize(a.size(), dest.length);
+        VectorKernels.getDefault().dot(a.x, a.y, b.x, b.y, dest);
+        return dest;
+    }
+
+    /**
+     * Получить длины всех векторов массива
+     *
+     * @param v    массив векторов
+     * @param dest массив, в который записывается результат
+     * @return массив dest с длинами векторов
+     */
+    @NotNull
+    public static double[] length(@NotNull Vector2dArray v, @NotNull double[] dest) {
+        checkSize(v.size(), dest.length);
+        VectorKernels.getDefault().length(v.x, v.y, dest);
+        return dest;
+    }
+
+    /**
+     * Нормализовать все векторы массива
+     *
+     * @param v массив векторов
+     * @return новый массив нормализованных векторов
+     */
+    @NotNull
+    public static Vector2dArray norm(@NotNull Vector2dArray v) {
+        return norm(v, new Vector2dArray(v.size()));
+    }
+
+    /**
+     * Нормализовать все векторы массива и записать результат в заданный массив
+     *
+     * @param v    массив векторов
+     * @param dest массив, в который записывается результат (может совпадать с v)
+     * @return массив dest с нормализованными векторами
+     */
+    @NotNull
+    public static Vector2dArray norm(@NotNull Vector2dArray v, @NotNull Vector2dArray dest) {
+        checkSize(v, dest);
+        VectorKernels.getDefault().normalize(v.x, v.y, dest.x, dest.y);
+        return dest;
+    }
+
+    /**
+     * Получить расстояния между соответствующими векторами двух массивов
+     *
+     * @param a    первый массив векторов
+     * @param b    второй массив векторов
+     * @param dest массив, в который записывается результат
+     * @return массив dest с расстояниями
+     */
+    @NotNull
+    public static double[] getDistance(@NotNull Vector2dArray a, @NotNull Vector2dArray b, @NotNull double[] dest) {
+        checkSize(a, b);
+        checkSize(a.size(), dest.length);
+        for (int i = 0; i < dest.length; i++) {
+            double dx = a.x[i] - b.x[i];
+            double dy = a.y[i] - b.y[i];
+            dest[i] = Math.sqrt(dx * dx + dy * dy);
+        }
+        return dest;
+    }
+
+    /**
+     * Получить расстояния от векторов массива до заданной точки
+     *
+     * @param a    массив векторов
+     * @param p    точка
+     * @param dest массив, в который записывается результат
+     * @return массив dest с расстояниями
+     */
+    @NotNull
+    public static double[] getDistance(@NotNull Vector2dArray a, @NotNull Vector2d p, @NotNull double[] dest) {
+        checkSize(a.size(), dest.length);
+        double pX = p.x;
+        double pY = p.y;
+        for (int i = 0; i < dest.length; i++) {
+            double dx = a.x[i] - pX;
+            double dy = a.y[i] - pY;
+            dest[i] = Math.sqrt(dx * dx + dy * dy);
+        }
+        return dest;
+    }
+
+    /**
+     * Получить вектор из минимальных координат векторов массива
+     *
+     * @param v массив векторов
+     * @return вектор из минимальных координат
+     */
+    @NotNull
+    public static Vector2d min(@NotNull Vector2dArray v) {
+        return min(v, new Vector2d());
+    }
+
+    /**
+     * Получить вектор из минимальных координат векторов массива и записать его в заданный вектор
+     *
+     * @param v    массив векторов
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest из минимальных координат
+     */
+    @NotNull
+    public static Vector2d min(@NotNull Vector2dArray v, @NotNull Vector2d dest) {
+        if (v.size() == 0)
+            throw new IllegalArgumentException("array is empty");
+        dest.x = min(v.x);
+        dest.y = min(v.y);
+        return dest;
+    }
+
+    /**
+     * Получить вектор из максимальных координат векторов массива
+     *
+     * @param v массив векторов
+     * @return вектор из максимальных координат
+     */
+    @NotNull
+    public static Vector2d max(@NotNull Vector2dArray v) {
+        return max(v, new Vector2d());
+    }
+
+    /**
+     * Получить вектор из максимальных координат векторов массива и записать его в заданный вектор
+     *
+     * @param v    массив векторов
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest из максимальных координат
+     */
+    @NotNull
+    public static Vector2d max(@NotNull Vector2dArray v, @NotNull Vector2d dest) {
+        if (v.size() == 0)
+            throw new IllegalArgumentException("array is empty");
+        dest.x = max(v.x);
+        dest.y = max(v.y);
+        return dest;
+    }
+
+    /**
+     * Прибавить к векторам массива векторы другого массива
+     *
+     * @param v массив векторов
+     */
+    public void add(@NotNull Vector2dArray v) {
+        sum(this, v, this);
+    }
+
+    /**
+     * Прибавить ко всем векторам массива вектор
+     *
+     * @param v вектор
+     */
+    public void add(@NotNull Vector2d v) {
+        add(x, v.x);
+        add(y, v.y);
+    }
+
+    /**
+     * Вычесть из векторов массива векторы другого массива
+     *
+     * @param v массив векторов
+     */
+    public void subtract(@NotNull Vector2dArray v) {
+        subtract(this, v, this);
+    }
+
+    /**
+     * Умножить все векторы массива на число
+     *
+     * @param c число
+     */
+    public void mul(double c) {
+        mul(this, c, this);
+    }
+
+    /**
+     * Покоординатно умножить все векторы массива на вектор
+     *
+     * @param v вектор
+     */
+    public void mul(@NotNull Vector2d v) {
+        VectorKernels.getDefault().mul(x, v.x, x);
+        VectorKernels.getDefault().mul(y, v.y, y);
+    }
+
+    /**
+     * Нормализовать все векторы массива
+     */
+    public void normalize() {
+        norm(this, this);
+    }
+
+    /**
+     * Получить минимальный элемент массива
+     *
+     * @param arr массив
+     * @return минимальный элемент
+     */
+    private static double min(@NotNull double[] arr) {
+        double res = arr[0];
+        for (int i = 1; i < arr.length; i++)
+            res = Math.min(res, arr[i]);
+        return res;
+    }
+
+    /**
+     * Получить максимальный элемент массива
+     *
+     * @param arr массив
+     * @return максимальный элемент
+     */
+    private static double max(@NotNull double[] arr) {
+        double res = arr[0];
+        for (int i = 1; i < arr.length; i++)
+            res = Math.max(res, arr[i]);
+        return res;
+    }
+
+    /**
+     * Прибавить число ко всем элементам массива координат
+     *
+     * @param a массив
+     * @param c число
+     */
+    private static void add(@NotNull double[] a, double c) {
+        for (int i = 0; i < a.length; i++)
+            a[i] += c;
+    }
+
+    /**
+     * Проверить, что массивы векторов имеют одинаковый размер
+     *
+     * @param a первый массив векторов
+     * @param b второй массив векторов
+     */
+    private static void checkSize(@NotNull Vector2dArray a, @NotNull Vector2dArray b) {
+        checkSize(Objects.requireNonNull(a).size(), Objects.requireNonNull(b).size());
+    }
+
+    /**
+     * Проверить, что размеры массивов совпадают
+     *
+     * @param a первый размер
+     * @param b второй размер
+     */
+    private static void checkSize(int a, int b) {
+        if (a != b)
+            throw new IllegalArgumentException("arrays have different sizes: " + a + " " + b);
+    }
+
+    @Override
+    public String toString() {
+        return "Vector2dArray{" +
+                "size=" + size() +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        Vector2dArray that = (Vector2dArray) o;
+
+        return Arrays.equals(x, that.x) && Arrays.equals(y, that.y);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(x);
+        result = 31 * result + Arrays.hashCode(y);
+        return result;
+    }
+}
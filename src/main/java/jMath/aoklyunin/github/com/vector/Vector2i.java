@@ -77,10 +77,22 @@ public class Vector2i implements Serializable {
      */
     @NotNull
     public static Vector2i min(@NotNull Vector2i a, @NotNull Vector2i b) {
-        return new Vector2i(
-                Math.min(a.x, b.x),
-                Math.min(a.y, b.y)
-        );
+        return min(a, b, new Vector2i());
+    }
+
+    /**
+     * Получить вектор с минимальными координатами из двух переданных векторов и записать его в заданный вектор
+     *
+     * @param a    первый вектор
+     * @param b    второй вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с минимальными координатами из двух переданных векторов
+     */
+    @NotNull
+    public static Vector2i min(@NotNull Vector2i a, @NotNull Vector2i b, @NotNull Vector2i dest) {
+        dest.x = Math.min(a.x, b.x);
+        dest.y = Math.min(a.y, b.y);
+        return dest;
     }
 
     /**
@@ -92,10 +104,22 @@ public class Vector2i implements Serializable {
      */
     @NotNull
     public static Vector2i max(@NotNull Vector2i a, @NotNull Vector2i b) {
-        return new Vector2i(
-                Math.max(a.x, b.x),
-                Math.max(a.y, b.y)
-        );
+        return max(a, b, new Vector2i());
+    }
+
+    /**
+     * Получить вектор с максимальными координатами из двух переданных векторов и записать его в заданный вектор
+     *
+     * @param a    первый вектор
+     * @param b    второй вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с максимальными координатами из двух переданных векторов
+     */
+    @NotNull
+    public static Vector2i max(@NotNull Vector2i a, @NotNull Vector2i b, @NotNull Vector2i dest) {
+        dest.x = Math.max(a.x, b.x);
+        dest.y = Math.max(a.y, b.y);
+        return dest;
     }
 
     /**
@@ -107,7 +131,22 @@ public class Vector2i implements Serializable {
      */
     @NotNull
     public static Vector2i sum(@NotNull Vector2i a, @NotNull Vector2i b) {
-        return new Vector2i(a.x + b.x, a.y + b.y);
+        return sum(a, b, new Vector2i());
+    }
+
+    /**
+     * Сложить два вектора и записать результат в заданный вектор
+     *
+     * @param a    первый вектор
+     * @param b    второй вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с суммой двух векторов
+     */
+    @NotNull
+    public static Vector2i sum(@NotNull Vector2i a, @NotNull Vector2i b, @NotNull Vector2i dest) {
+        dest.x = a.x + b.x;
+        dest.y = a.y + b.y;
+        return dest;
     }
 
     /**
@@ -135,7 +174,22 @@ public class Vector2i implements Serializable {
      */
     @NotNull
     public static Vector2i subtract(@NotNull Vector2i a, @NotNull Vector2i b) {
-        return new Vector2i(a.x - b.x, a.y - b.y);
+        return subtract(a, b, new Vector2i());
+    }
+
+    /**
+     * Вычесть второй вектор из первого и записать результат в заданный вектор
+     *
+     * @param a    первый вектор
+     * @param b    второй вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с разностью двух векторов
+     */
+    @NotNull
+    public static Vector2i subtract(@NotNull Vector2i a, @NotNull Vector2i b, @NotNull Vector2i dest) {
+        dest.x = a.x - b.x;
+        dest.y = a.y - b.y;
+        return dest;
     }
 
     /**
@@ -146,7 +200,21 @@ public class Vector2i implements Serializable {
      */
     @NotNull
     public static Vector2i inc(@NotNull Vector2i a) {
-        return sum(a, ones());
+        return inc(a, new Vector2i());
+    }
+
+    /**
+     * Прибавить к вектору единичный и записать результат в заданный вектор
+     *
+     * @param a    вектор, к которому прибавляем
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с суммой единичного вектора и переданного в параметрах
+     */
+    @NotNull
+    public static Vector2i inc(@NotNull Vector2i a, @NotNull Vector2i dest) {
+        dest.x = a.x + 1;
+        dest.y = a.y + 1;
+        return dest;
     }
 
     /**
@@ -157,7 +225,21 @@ public class Vector2i implements Serializable {
      */
     @NotNull
     public static Vector2i dec(@NotNull Vector2i a) {
-        return subtract(a, ones());
+        return dec(a, new Vector2i());
+    }
+
+    /**
+     * Вычесть из вектора единичный и записать результат в заданный вектор
+     *
+     * @param a    вектор, из которого вычетаем
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с разностью переданного в параметрах вектора и единичного
+     */
+    @NotNull
+    public static Vector2i dec(@NotNull Vector2i a, @NotNull Vector2i dest) {
+        dest.x = a.x - 1;
+        dest.y = a.y - 1;
+        return dest;
     }
 
 
@@ -169,7 +251,9 @@ public class Vector2i implements Serializable {
      * @return расстояние между векторами
      */
     public static double getDistance(@NotNull Vector2i a, @NotNull Vector2i b) {
-        return subtract(a, b).length();
+        int dx = a.x - b.x;
+        int dy = a.y - b.y;
+        return Math.sqrt(dx * dx + dy * dy);
     }
 
     /**
@@ -181,7 +265,22 @@ public class Vector2i implements Serializable {
      */
     @NotNull
     public static Vector2i mul(@NotNull Vector2i v, int a) {
-        return new Vector2i(v.x * a, v.y * a);
+        return mul(v, a, new Vector2i());
+    }
+
+    /**
+     * Умножение вектора на число с записью результата в заданный вектор
+     *
+     * @param v    вектор
+     * @param a    число
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с результатом умножения вектора на число
+     */
+    @NotNull
+    public static Vector2i mul(@NotNull Vector2i v, int a, @NotNull Vector2i dest) {
+        dest.x = v.x * a;
+        dest.y = v.y * a;
+        return dest;
     }
 
     /**
@@ -193,7 +292,22 @@ public class Vector2i implements Serializable {
      */
     @NotNull
     public static Vector2i mul(@NotNull Vector2i v1, @NotNull Vector2i v2) {
-        return new Vector2i(v1.x * v2.x, v1.y * v2.y);
+        return mul(v1, v2, new Vector2i());
+    }
+
+    /**
+     * Поэлементное умножение векторов с записью результата в заданный вектор
+     *
+     * @param v1   первый вектор
+     * @param v2   второй вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с поэлементным умножением векторов
+     */
+    @NotNull
+    public static Vector2i mul(@NotNull Vector2i v1, @NotNull Vector2i v2, @NotNull Vector2i dest) {
+        dest.x = v1.x * v2.x;
+        dest.y = v1.y * v2.y;
+        return dest;
     }
 
     /**
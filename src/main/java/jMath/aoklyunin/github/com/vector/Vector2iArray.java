@@ -0,0 +1,585 @@
+package jMath.aoklyunin.github.com.vector;
+
+import com.sun.istack.NotNull;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Массив двумерных векторов int, хранящий координаты в параллельных массивах
+ * (structure of arrays)
+ * <p>
+ * В отличие от списка объектов Vector2i элементы не являются отдельными объектами в куче,
+ * поэтому массовые операции выполняются простыми циклами по примитивным массивам
+ */
+public class Vector2iArray implements Serializable {
+    /**
+     * x - координаты векторов
+     */
+    @NotNull
+    public final int[] x;
+    /**
+     * y - координаты векторов
+     */
+    @NotNull
+    public final int[] y;
+
+    /**
+     * Конструктор массива нулевых векторов
+     *
+     * @param size количество векторов
+     */
+    public Vector2iArray(int size) {
+        this.x = new int[size];
+        this.y = new int[size];
+    }
+
+    /**
+     * Конструктор массива по готовым массивам координат (массивы не копируются)
+     *
+     * @param x x - координаты векторов
+     * @param y y - координаты векторов
+     */
+    public Vector2iArray(@NotNull int[] x, @NotNull int[] y) {
+        if (x.length != y.length)
+            throw new IllegalArgumentException("coords arrays have different lengths: " + x.length + " " + y.length);
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Конструктор копии
+     *
+     * @param arr исходный массив векторов
+     */
+    public Vector2iArray(@NotNull Vector2iArray arr) {
+        this.x = Arrays.copyOf(arr.x, arr.x.length);
+        this.y = Arrays.copyOf(arr.y, arr.y.length);
+    }
+
+    /**
+     * Конструктор массива по списку векторов
+     *
+     * @param list список векторов
+     */
+    public Vector2iArray(@NotNull List<Vector2i> list) {
+        this(list.size());
+        int i = 0;
+        for (Vector2i v : list)
+            set(i++, v);
+    }
+
+    /**
+     * Получить количество векторов
+     *
+     * @return количество векторов
+     */
+    public int size() {
+        return x.length;
+    }
+
+    /**
+     * Получить вектор по индексу
+     *
+     * @param i индекс
+     * @return новый вектор с координатами i-го элемента
+     */
+    @NotNull
+    public Vector2i get(int i) {
+        return new Vector2i(x[i], y[i]);
+    }
+
+    /**
+     * Получить вектор по индексу и записать его в заданный вектор
+     *
+     * @param i    индекс
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с координатами i-го элемента
+     */
+    @NotNull
+    public Vector2i get(int i, @NotNull Vector2i dest) {
+        dest.x = x[i];
+        dest.y = y[i];
+        return dest;
+    }
+
+    /**
+     * Задать вектор по индексу
+     *
+     * @param i индекс
+     * @param v вектор
+     */
+    public void set(int i, @NotNull Vector2i v) {
+        x[i] = v.x;
+        y[i] = v.y;
+    }
+
+    /**
+     * Задать координаты вектора по индексу
+     *
+     * @param i индекс
+     * @param xVal x - координата вектора
+     * @param yVal y - координата вектора
+     */
+    public void set(int i, int xVal, int yVal) {
+        x[i] = xVal;
+        y[i] = yVal;
+    }
+
+    /**
+     * Заполнить массив одинаковыми векторами
+     *
+     * @param v вектор
+     */
+    public void fill(@NotNull Vector2i v) {
+        Arrays.fill(x, v.x);
+        Arrays.fill(y, v.y);
+    }
+
+    /**
+     * Преобразовать к списку векторов
+     *
+     * @return список векторов
+     */
+    @NotNull
+    public List<Vector2i> toList() {
+        List<Vector2i> list = new ArrayList<>(size());
+        for (int i = 0; i < size(); i++)
+            list.add(get(i));
+        return list;
+    }
+
+    /**
+     * Поэлементная сумма массивов векторов
+     *
+     * @param a первый массив векторов
+     * @param b второй массив векторов
+     * @return новый массив с результатом
+     */
+    @NotNull
+    public static Vector2iArray sum(@NotNull Vector2iArray a, @NotNull Vector2iArray b) {
+        return sum(a, b, new Vector2iArray(a.size()));
+    }
+
+    /**
+     * Поэлементная сумма массивов векторов с записью результата в заданный массив
+     *
+     * @param a    первый массив векторов
+     * @param b    второй массив векторов
+     * @param dest массив, в который записывается результат (может совпадать с a или b)
+     * @return массив dest с результатом
+     */
+    @NotNull
+    public static Vector2iArray sum(@NotNull Vector2iArray a, @NotNull Vector2iArray b, @NotNull Vector2iArray dest) {
+        checkSize(a, b);
+        checkSize(a, dest);
+        sum(a.x, b.x, dest.x);
+        sum(a.y, b.y, dest.y);
+        return dest;
+    }
+
+    /**
+     * Поэлементная разность массивов векторов
+     *
+     * @param a первый массив векторов
+     * @param b второй массив векторов
+     * @return новый массив с результатом
+     */
+    @NotNull
+    public static Vector2iArray subtract(@NotNull Vector2iArray a, @NotNull Vector2iArray b) {
+        return subtract(a, b, new Vector2iArray(a.size()));
+    }
+
+    /**
+     * Поэлементная разность массивов векторов с записью результата в заданный массив
+     *
+     * @param a    первый массив векторов
+     * @param b    второй массив векторов
+     * @param dest массив, в который записывается результат (может совпадать с a или b)
+     * @return массив dest с результатом
+     */
+    @NotNull
+    public static Vector2iArray subtract(@NotNull Vector2iArray a, @NotNull Vector2iArray b, @NotNull Vector2iArray dest) {
+        checkSize(a, b);
+        checkSize(a, dest);
+        subtract(a.x, b.x, dest.x);
+        subtract(a.y, b.y, dest.y);
+        return dest;
+    }
+
+    /**
+     * Покоординатное умножение векторов двух массивов
+     *
+     * @param a первый массив векторов
+     * @param b второй массив векторов
+     * @return новый массив с результатом
+     */
+    @NotNull
+    public static Vector2iArray mul(@NotNull Vector2iArray a, @NotNull Vector2iArray b) {
+        return mul(a, b, new Vector2iArray(a.size()));
+    }
+
+    /**
+     * Покоординатное умножение векторов двух массивов с записью результата в заданный массив
+     *
+     * @param a    первый массив векторов
+     * @param b    второй массив векторов
+     * @param dest массив, в который записывается результат (может совпадать с a или b)
+     * @return массив dest с результатом
+     */
+    @NotNull
+    public static Vector2iArray mul(@NotNull Vector2iArray a, @NotNull Vector2iArray b, @NotNull Vector2iArray dest) {
+        checkSize(a, b);
+        checkSize(a, dest);
+        mul(a.x, b.x, dest.x);
+        mul(a.y, b.y, dest.y);
+        return dest;
+    }
+
+    /**
+     * Умножение всех векторов массива на число
+     *
+     * @param v массив векторов
+     * @param c число
+     * @return новый массив с результатом
+     */
+    @NotNull
+    public static Vector2iArray mul(@NotNull Vector2iArray v, int c) {
+        return mul(v, c, new Vector2iArray(v.size()));
+    }
+
+    /**
+     * Умножение всех векторов массива на число с записью результата в заданный массив
+     *
+     * @param v    массив векторов
+     * @param c    число
+     * @param dest массив, в который записывается результат (может совпадать с v)
+     * @return массив dest с результатом
+     */
+    @NotNull
+    public static Vector2iArray mul(@NotNull Vector2iArray v, int c, @NotNull Vector2iArray dest) {
+        checkSize(v, dest);
+        mul(v.x, c, dest.x);
+        mul(v.y, c, dest.y);
+        return dest;
+    }
+
+    /**
+     * Поэлементное скалярное произведение векторов двух массивов
+     *
+     * @param a первый массив векторов
+     * @param b второй массив векторов
+     * @return массив скалярных произведений
+     */
+    @NotNull
+    public static int[] dot(@NotNull Vector2iArray a, @NotNull Vector2iArray b) {
+        return dot(a, b, new int[a.size()]);
+    }
+
+    /**
+     * Поэлементное скалярное произведение векторов двух массивов с записью результата в заданный массив
+     *
+     * @param a    первый массив векторов
+     * @param b    второй массив векторов
+     * @param dest массив, в который записывается результат
+     * @return массив dest со скалярными произведениями
+     */
+    @NotNull
+    public static int[] dot(@NotNull Vector2iArray a, @NotNull Vector2iArray b, @NotNull int[] dest) {
+        checkSize(a, b);
+        checkSize(a.size(), dest.length);
+        for (int i = 0; i < dest.length; i++)
+            dest[i] = a.x[i] * b.x[i] + a.y[i] * b.y[i];
+        return dest;
+    }
+
+    /**
+     * Получить длины всех векторов массива
+     *
+     * @param v    массив векторов
+     * @param dest массив, в который записывается результат
+     * @return массив dest с длинами векторов
+     */
+    @NotNull
+    public static double[] length(@NotNull Vector2iArray v, @NotNull double[] dest) {
+        checkSize(v.size(), dest.length);
+        for (int i = 0; i < dest.length; i++)
+            dest[i] = Math.sqrt(v.x[i] * v.x[i] + v.y[i] * v.y[i]);
+        return dest;
+    }
+
+    /**
+     * Получить расстояния между соответствующими векторами двух массивов
+     *
+     * @param a    первый массив векторов
+     * @param b    второй массив векторов
+     * @param dest массив, в который записывается результат
+     * @return массив dest с расстояниями
+     */
+    @NotNull
+    public static double[] getDistance(@NotNull Vector2iArray a, @NotNull Vector2iArray b, @NotNull double[] dest) {
+        checkSize(a, b);
+        checkSize(a.size(), dest.length);
+        for (int i = 0; i < dest.length; i++) {
+            double dx = a.x[i] - b.x[i];
+            double dy = a.y[i] - b.y[i];
+            dest[i] = Math.sqrt(dx * dx + dy * dy);
+        }
+        return dest;
+    }
+
+    /**
+     * Получить расстояния от векторов массива до заданной точки
+     *
+     * @param a    массив векторов
+     * @param p    точка
+     * @param dest массив, в который записывается результат
+     * @return массив dest с расстояниями
+     */
+    @NotNull
+    public static double[] getDistance(@NotNull Vector2iArray a, @NotNull Vector2i p, @NotNull double[] dest) {
+        checkSize(a.size(), dest.length);
+        int pX = p.x;
+        int pY = p.y;
+        for (int i = 0; i < dest.length; i++) {
+            double dx = a.x[i] - pX;
+            double dy = a.y[i] - pY;
+            dest[i] = Math.sqrt(dx * dx + dy * dy);
+        }
+        return dest;
+    }
+
+    /**
+     * Получить вектор из минимальных координат векторов массива
+     *
+     * @param v массив векторов
+     * @return вектор из минимальных координат
+     */
+    @NotNull
+    public static Vector2i min(@NotNull Vector2iArray v) {
+        return min(v, new Vector2i());
+    }
+
+    /**
+     * Получить вектор из минимальных координат векторов массива и записать его в заданный вектор
+     *
+     * @param v    массив векторов
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest из минимальных координат
+     */
+    @NotNull
+    public static Vector2i min(@NotNull Vector2iArray v, @NotNull Vector2i dest) {
+        if (v.size() == 0)
+            throw new IllegalArgumentException("array is empty");
+        dest.x = min(v.x);
+        dest.y = min(v.y);
+        return dest;
+    }
+
+    /**
+     * Получить вектор из максимальных координат векторов массива
+     *
+     * @param v массив векторов
+     * @return вектор из максимальных координат
+     */
+    @NotNull
+    public static Vector2i max(@NotNull Vector2iArray v) {
+        return max(v, new Vector2i());
+    }
+
+    /**
+     * Получить вектор из максимальных координат векторов массива и записать его в заданный вектор
+     *
+     * @param v    массив векторов
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest из максимальных координат
+     */
+    @NotNull
+    public static Vector2i max(@NotNull Vector2iArray v, @NotNull Vector2i dest) {
+        if (v.size() == 0)
+            throw new IllegalArgumentException("array is empty");
+        dest.x = max(v.x);
+        dest.y = max(v.y);
+        return dest;
+    }
+
+    /**
+     * Прибавить к векторам массива векторы другого массива
+     *
+     * @param v массив векторов
+     */
+    public void add(@NotNull Vector2iArray v) {
+        sum(this, v, this);
+    }
+
+    /**
+     * Прибавить ко всем векторам массива вектор
+     *
+     * @param v вектор
+     */
+    public void add(@NotNull Vector2i v) {
+        add(x, v.x);
+        add(y, v.y);
+    }
+
+    /**
+     * Вычесть из векторов массива векторы другого массива
+     *
+     * @param v массив векторов
+     */
+    public void subtract(@NotNull Vector2iArray v) {
+        subtract(this, v, this);
+    }
+
+    /**
+     * Умножить все векторы массива на число
+     *
+     * @param c число
+     */
+    public void mul(int c) {
+        mul(this, c, this);
+    }
+
+    /**
+     * Покоординатно умножить все векторы массива на вектор
+     *
+     * @param v вектор
+     */
+    public void mul(@NotNull Vector2i v) {
+        mul(x, v.x, x);
+        mul(y, v.y, y);
+    }
+
+    /**
+     * Получить минимальный элемент массива
+     *
+     * @param arr массив
+     * @return минимальный элемент
+     */
+    private static int min(@NotNull int[] arr) {
+        int res = arr[0];
+        for (int i = 1; i < arr.length; i++)
+            res = Math.min(res, arr[i]);
+        return res;
+    }
+
+    /**
+     * Получить максимальный элемент массива
+     *
+     * @param arr массив
+     * @return максимальный элемент
+     */
+    private static int max(@NotNull int[] arr) {
+        int res = arr[0];
+        for (int i = 1; i < arr.length; i++)
+            res = Math.max(res, arr[i]);
+        return res;
+    }
+
+    /**
+     * Поэлементно сложить массивы координат
+     *
+     * @param a    первый массив
+     * @param b    второй массив
+     * @param dest массив, в который записывается результат
+     */
+    private static void sum(@NotNull int[] a, @NotNull int[] b, @NotNull int[] dest) {
+        for (int i = 0; i < dest.length; i++)
+            dest[i] = a[i] + b[i];
+    }
+
+    /**
+     * Поэлементно вычесть массивы координат
+     *
+     * @param a    первый массив
+     * @param b    второй массив
+     * @param dest массив, в который записывается результат
+     */
+    private static void subtract(@NotNull int[] a, @NotNull int[] b, @NotNull int[] dest) {
+        for (int i = 0; i < dest.length; i++)
+            dest[i] = a[i] - b[i];
+    }
+
+    /**
+     * Поэлементно перемножить массивы координат
+     *
+     * @param a    первый массив
+     * @param b    второй массив
+     * @param dest массив, в который записывается результат
+     */
+    private static void mul(@NotNull int[] a, @NotNull int[] b, @NotNull int[] dest) {
+        for (int i = 0; i < dest.length; i++)
+            dest[i] = a[i] * b[i];
+    }
+
+    /**
+     * Прибавить число ко всем элементам массива координат
+     *
+     * @param a массив
+     * @param c число
+     */
+    private static void add(@NotNull int[] a, int c) {
+        for (int i = 0; i < a.length; i++)
+            a[i] += c;
+    }
+
+    /**
+     * Умножить массив координат на число
+     *
+     * @param a    массив
+     * @param c    число
+     * @param dest массив, в который записывается результат
+     */
+    private static void mul(@NotNull int[] a, int c, @NotNull int[] dest) {
+        for (int i = 0; i < dest.length; i++)
+            dest[i] = a[i] * c;
+    }
+
+    /**
+     * Проверить, что массивы векторов имеют одинаковый размер
+     *
+     * @param a первый массив векторов
+     * @param b второй массив векторов
+     */
+    private static void checkSize(@NotNull Vector2iArray a, @NotNull Vector2iArray b) {
+        checkSize(Objects.requireNonNull(a).size(), Objects.requireNonNull(b).size());
+    }
+
+    /**
+     * Проверить, что размеры массивов совпадают
+     *
+     * @param a первый размер
+     * @param b второй размер
+     */
+    private static void checkSize(int a, int b) {
+        if (a != b)
+            throw new IllegalArgumentException("arrays have different sizes: " + a + " " + b);
+    }
+
+    @Override
+    public String toString() {
+        return "Vector2iArray{" +
+                "size=" + size() +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        Vector2iArray that = (Vector2iArray) o;
+
+        return Arrays.equals(x, that.x) && Arrays.equals(y, that.y);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(x);
+        result = 31 * result + Arrays.hashCode(y);
+        return result;
+    }
+}
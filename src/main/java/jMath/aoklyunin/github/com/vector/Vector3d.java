@@ -91,11 +91,23 @@ public class Vector3d implements Serializable {
      */
     @NotNull
     public static Vector3d min(@NotNull Vector3d a, @NotNull Vector3d b) {
-        return new Vector3d(
-                Math.min(a.x, b.x),
-                Math.min(a.y, b.y),
-                Math.min(a.z, b.z)
-        );
+        return min(a, b, new Vector3d());
+    }
+
+    /**
+     * Получить вектор с минимальными координатами из двух переданных векторов и записать его в заданный вектор
+     *
+     * @param a    первый вектор
+     * @param b    второй вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с минимальными координатами из двух переданных векторов
+     */
+    @NotNull
+    public static Vector3d min(@NotNull Vector3d a, @NotNull Vector3d b, @NotNull Vector3d dest) {
+        dest.x = Math.min(a.x, b.x);
+        dest.y = Math.min(a.y, b.y);
+        dest.z = Math.min(a.z, b.z);
+        return dest;
     }
 
     /**
@@ -107,11 +119,23 @@ public class Vector3d implements Serializable {
      */
     @NotNull
     public static Vector3d max(@NotNull Vector3d a, @NotNull Vector3d b) {
-        return new Vector3d(
-                Math.max(a.x, b.x),
-                Math.max(a.y, b.y),
-                Math.max(a.z, b.z)
-        );
+        return max(a, b, new Vector3d());
+    }
+
+    /**
+     * Получить вектор с максимальными координатами из двух переданных векторов и записать его в заданный вектор
+     *
+     * @param a    первый вектор
+     * @param b    второй вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с максимальными координатами из двух переданных векторов
+     */
+    @NotNull
+    public static Vector3d max(@NotNull Vector3d a, @NotNull Vector3d b, @NotNull Vector3d dest) {
+        dest.x = Math.max(a.x, b.x);
+        dest.y = Math.max(a.y, b.y);
+        dest.z = Math.max(a.z, b.z);
+        return dest;
     }
 
     /**
@@ -123,7 +147,23 @@ public class Vector3d implements Serializable {
      */
     @NotNull
     public static Vector3d sum(@NotNull Vector3d a, @NotNull Vector3d b) {
-        return new Vector3d(a.x + b.x, a.y + b.y, a.z + b.z);
+        return sum(a, b, new Vector3d());
+    }
+
+    /**
+     * Сложить два вектора и записать результат в заданный вектор
+     *
+     * @param a    первый вектор
+     * @param b    второй вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с суммой двух векторов
+     */
+    @NotNull
+    public static Vector3d sum(@NotNull Vector3d a, @NotNull Vector3d b, @NotNull Vector3d dest) {
+        dest.x = a.x + b.x;
+        dest.y = a.y + b.y;
+        dest.z = a.z + b.z;
+        return dest;
     }
 
     /**
@@ -151,7 +191,23 @@ public class Vector3d implements Serializable {
      */
     @NotNull
     public static Vector3d subtract(@NotNull Vector3d a, @NotNull Vector3d b) {
-        return new Vector3d(a.x - b.x, a.y - b.y, a.z - b.z);
+        return subtract(a, b, new Vector3d());
+    }
+
+    /**
+     * Вычесть второй вектор из первого и записать результат в заданный вектор
+     *
+     * @param a    первый вектор
+     * @param b    второй вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с разностью двух векторов
+     */
+    @NotNull
+    public static Vector3d subtract(@NotNull Vector3d a, @NotNull Vector3d b, @NotNull Vector3d dest) {
+        dest.x = a.x - b.x;
+        dest.y = a.y - b.y;
+        dest.z = a.z - b.z;
+        return dest;
     }
 
     /**
@@ -162,7 +218,10 @@ public class Vector3d implements Serializable {
      * @return расстояние между векторами
      */
     public static double getDistance(@NotNull Vector3d a, @NotNull Vector3d b) {
-        return subtract(a, b).length();
+        double dx = a.x - b.x;
+        double dy = a.y - b.y;
+        double dz = a.z - b.z;
+        return Math.sqrt(dx * dx + dy * dy + dz * dz);
     }
 
     /**
@@ -174,7 +233,23 @@ public class Vector3d implements Serializable {
      */
     @NotNull
     public static Vector3d mul(@NotNull Vector3d v, double a) {
-        return new Vector3d(v.x * a, v.y * a, v.z * a);
+        return mul(v, a, new Vector3d());
+    }
+
+    /**
+     * Умножение вектора на число с записью результата в заданный вектор
+     *
+     * @param v    вектор
+     * @param a    число
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с результатом умножения вектора на число
+     */
+    @NotNull
+    public static Vector3d mul(@NotNull Vector3d v, double a, @NotNull Vector3d dest) {
+        dest.x = v.x * a;
+        dest.y = v.y * a;
+        dest.z = v.z * a;
+        return dest;
     }
 
     /**
@@ -186,7 +261,23 @@ public class Vector3d implements Serializable {
      */
     @NotNull
     public static Vector3d mul(@NotNull Vector3d v1, @NotNull Vector3d v2) {
-        return new Vector3d(v1.x * v2.x, v1.y * v2.y, v1.z * v2.z);
+        return mul(v1, v2, new Vector3d());
+    }
+
+    /**
+     * Поэлементное умножение векторов с записью результата в заданный вектор
+     *
+     * @param v1   первый вектор
+     * @param v2   второй вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с поэлементным умножением векторов
+     */
+    @NotNull
+    public static Vector3d mul(@NotNull Vector3d v1, @NotNull Vector3d v2, @NotNull Vector3d dest) {
+        dest.x = v1.x * v2.x;
+        dest.y = v1.y * v2.y;
+        dest.z = v1.z * v2.z;
+        return dest;
     }
 
     /**
@@ -208,7 +299,19 @@ public class Vector3d implements Serializable {
      */
     @NotNull
     public static Vector3d norm(@NotNull Vector3d v) {
-        return mul(v, 1 / v.length());
+        return norm(v, new Vector3d());
+    }
+
+    /**
+     * Нормализовать исходный вектор и записать результат в заданный вектор
+     *
+     * @param v    исходный вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с нормализованным исходным вектором
+     */
+    @NotNull
+    public static Vector3d norm(@NotNull Vector3d v, @NotNull Vector3d dest) {
+        return mul(v, 1 / v.length(), dest);
     }
 
     /**
@@ -220,7 +323,20 @@ public class Vector3d implements Serializable {
      */
     @NotNull
     public static Vector3d norm(@NotNull Vector3d v, double a) {
-        return mul(v, 1 / v.length() * a);
+        return norm(v, a, new Vector3d());
+    }
+
+    /**
+     * Нормализовать исходный вектор и записать результат в заданный вектор
+     *
+     * @param v    исходный вектор
+     * @param a    длина нового вектора
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с нормализованным исходным вектором
+     */
+    @NotNull
+    public static Vector3d norm(@NotNull Vector3d v, double a, @NotNull Vector3d dest) {
+        return mul(v, 1 / v.length() * a, dest);
     }
 
     /**
@@ -232,11 +348,25 @@ public class Vector3d implements Serializable {
      */
     @NotNull
     public static Vector3d cross(@NotNull Vector3d v, @NotNull Vector3d v2) {
-        return new Vector3d(
-                v.y * v2.z - v.z * v2.y,
-                v.z * v2.x - v.x * v2.z,
-                v.x * v2.y - v.y * v2.x
-        );
+        return cross(v, v2, new Vector3d());
+    }
+
+    /**
+     * Векторное умножение векторов с записью результата в заданный вектор
+     *
+     * @param v    первый вектор
+     * @param v2   второй вектор
+     * @param dest вектор, в который записывается результат, может совпадать с v или v2
+     * @return вектор dest с векторным умножением векторов
+     */
+    @NotNull
+    public static Vector3d cross(@NotNull Vector3d v, @NotNull Vector3d v2, @NotNull Vector3d dest) {
+        double x = v.y * v2.z - v.z * v2.y;
+        double y = v.z * v2.x - v.x * v2.z;
+        dest.z = v.x * v2.y - v.y * v2.x;
+        dest.x = x;
+        dest.y = y;
+        return dest;
     }
 
     /**
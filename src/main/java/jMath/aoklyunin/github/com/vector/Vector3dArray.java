@@ -0,0 +1,630 @@
+package jMath.aoklyunin.github.com.vector;
+
+import com.sun.istack.NotNull;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Массив трёхмерных векторов double, хранящий координаты в параллельных массивах
+ * (structure of arrays)
+ * <p>
+ * В отличие от списка объектов Vector3d элементы не являются отдельными объектами в куче,
+ * поэтому массовые операции выполняются простыми циклами по примитивным массивам
+ */
+public class Vector3dArray implements Serializable {
+    /**
+     * x - координаты векторов
+     */
+    @NotNull
+    public final double[] x;
+    /**
+     * y - координаты векторов
+     */
+    @NotNull
+    public final double[] y;
+    /**
+     * z - координаты векторов
+     */
+    @NotNull
+    public final double[] z;
+
+    /**
+     * Конструктор массива нулевых векторов
+     *
+     * @param size количество векторов
+     */
+    public Vector3dArray(int size) {
+        this.x = new double[size];
+        this.y = new double[size];
+        this.z = new double[size];
+    }
+
+    /**
+     * Конструктор массива по готовым массивам координат (массивы не копируются)
+     *
+     * @param x x - координаты векторов
+     * @param y y - координаты векторов
+     * @param z z - координаты векторов
+     */
+    public Vector3dArray(@NotNull double[] x, @NotNull double[] y, @NotNull double[] z) {
+        if (x.length != y.length)
+            throw new IllegalArgumentException("coords arrays have different lengths: " + x.length + " " + y.length);
+        if (x.length != z.length)
+            throw new IllegalArgumentException("coords arrays have different lengths: " + x.length + " " + z.length);
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    /**
+     * Конструктор копии
+     *
+     * @param arr исходный массив векторов
+     */
+    public Vector3dArray(@NotNull Vector3dArray arr) {
+        this.x = Arrays.copyOf(arr.x, arr.x.length);
+        this.y = Arrays.copyOf(arr.y, arr.y.length);
+        this.z = Arrays.copyOf(arr.z, arr.z.length);
+    }
+
+    /**
+     * Конструктор массива по списку векторов
+     *
+     * @param list список векторов
+     */
+    public Vector3dArray(@NotNull List<Vector3d> list) {
+        this(list.size());
+        int i = 0;
+        for (Vector3d v : list)
+            set(i++, v);
+    }
+
+    /**
+     * Получить количество векторов
+     *
+     * @return количество векторов
+     */
+    public int size() {
+        return x.length;
+    }
+
+    /**
+     * Получить вектор по индексу
+     *
+     * @param i индекс
+     * @return новый вектор с координатами i-го элемента
+     */
+    @NotNull
+    public Vector3d get(int i) {
+        return new Vector3d(x[i], y[i], z[i]);
+    }
+
+    /**
+     * Получить вектор по индексу и записать его в заданный вектор
+     *
+     * @param i    индекс
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с координатами i-го элемента
+     */
+    @NotNull
+    public Vector3d get(int i, @NotNull Vector3d dest) {
+        dest.x = x[i];
+        dest.y = y[i];
+        dest.z = z[i];
+        return dest;
+    }
+
+    /**
+     * Задать вектор по индексу
+     *
+     * @param i индекс
+     * @param v вектор
+     */
+    public void set(int i, @NotNull Vector3d v) {
+        x[i] = v.x;
+        y[i] = v.y;
+        z[i] = v.z;
+    }
+
+    /**
+     * Задать координаты вектора по индексу
+     *
+     * @param i индекс
+     * @param xVal x - координата вектора
+     * @param yVal y - координата вектора
+     * @param zVal z - координата вектора
+     */
+    public void set(int i, double xVal, double yVal, double zVal) {
+        x[i] = xVal;
+        y[i] = yVal;
+        z[i] = zVal;
+    }
+
+    /**
+     * Заполнить массив одинаковыми векторами
+     *
+     * @param v вектор
+     */
+    public void fill(@NotNull Vector3d v) {
+        Arrays.fill(x, v.x);
+        Arrays.fill(y, v.y);
+        Arrays.fill(z, v.z);
+    }
+
+    /**
+     * Преобразовать к списку векторов
+     *
+     * @return список векторов
+     */
+    @NotNull
+    public List<Vector3d> toList() {
+        List<Vector3d> list = new ArrayList<>(size());
+        for (int i = 0; i < size(); i++)
+            list.add(get(i));
+        return list;
+    }
+
+    /**
+     * Поэлементная сумма массивов векторов
+     *
+     * @param a первый массив векторов
+     * @param b второй массив векторов
+     * @return новый массив с результатом
+     */
+    @NotNull
+    public static Vector3dArray sum(@NotNull Vector3dArray a, @NotNull Vector3dArray b) {
+        return sum(a, b, new Vector3dArray(a.size()));
+    }
+
+    /**
+     * Поэлементная сумма массивов векторов с записью результата в заданный массив
+     *
+     * @param a    первый массив векторов
+     * @param b    второй массив векторов
+     * @param dest массив, в который записывается результат (может совпадать с a или b)
+     * @return массив dest с результатом
+     */
+    @NotNull
+    public static Vector3dArray sum(@NotNull Vector3dArray a, @NotNull Vector3dArray b, @NotNull Vector3dArray dest) {
+        checkSize(a, b);
+        checkSize(a, dest);
+        VectorKernels.getDefault().add(a.x, b.x, dest.x);
+        VectorKernels.getDefault().add(a.y, b.y, dest.y);
+        VectorKernels.getDefault().add(a.z, b.z, dest.z);
+        return dest;
+    }
+
+    /**
+     * Поэлементная разность массивов векторов
+     *
+     * @param a первый массив векторов
+     * @param b второй массив векторов
+     * @return новый массив с результатом
+     */
+    @NotNull
+    public static Vector3dArray subtract(@NotNull Vector3dArray a, @NotNull Vector3dArray b) {
+        return subtract(a, b, new Vector3dArray(a.size()));
+    }
+
+    /**
+     * Поэлементная разность массивов векторов с записью результата в заданный массив
+     *
+     * @param a    первый массив векторов
+     * @param b    второй массив векторов
+     * @param dest массив, в который записывается результат (может совпадать с a или b)
+     * @return массив dest с результатом
+     */
+    @NotNull
+    public static Vector3dArray subtract(@NotNull Vector3dArray a, @NotNull Vector3dArray b, @NotNull Vector3dArray dest) {
+        checkSize(a, b);
+        checkSize(a, dest);
+        VectorKernels.getDefault().subtract(a.x, b.x, dest.x);
+        VectorKernels.getDefault().subtract(a.y, b.y, dest.y);
+        VectorKernels.getDefault().subtract(a.z, b.z, dest.z);
+        return dest;
+    }
+
+    /**
+     * Покоординатное умножение векторов двух массивов
+     *
+     * @param a первый массив векторов
+     * @param b второй массив векторов
+     * @return новый массив с результатом
+     */
+    @NotNull
+    public static Vector3dArray mul(@NotNull Vector3dArray a, @NotNull Vector3dArray b) {
+        return mul(a, b, new Vector3dArray(a.size()));
+    }
+
+    /**
+     * Покоординатное умножение векторов двух массивов с записью результата в заданный массив
+     *
+     * @param a    первый массив векторов
+     * @param b    второй массив векторов
+     * @param dest массив, в который записывается результат (может совпадать с a или b)
+     * @return массив dest с результатом
+     */
+    @NotNull
+    public static Vector3dArray mul(@NotNull Vector3dArray a, @NotNull Vector3dArray b, @NotNull Vector3dArray dest) {
+        checkSize(a, b);
+        checkSize(a, dest);
+        VectorKernels.getDefault().mul(a.x, b.x, dest.x);
+        VectorKernels.getDefault().mul(a.y, b.y, dest.y);
+        VectorKernels.getDefault().mul(a.z, b.z, dest.z);
+        return dest;
+    }
+
+    /**
+     * Умножение всех векторов массива на число
+     *
+     * @param v массив векторов
+     * @param c число
+     * @return новый массив с результатом
+     */
+    @NotNull
+    public static Vector3dArray mul(@NotNull Vector3dArray v, double c) {
+        return mul(v, c, new Vector3dArray(v.size()));
+    }
+
+    /**
+     * Умножение всех векторов массива на число с записью результата в заданный массив
+     *
+     * @param v    массив векторов
+     * @param c    число
+     * @param dest массив, в который записывается результат (может совпадать с v)
+     * @return массив dest с результатом
+     */
+    @NotNull
+    public static Vector3dArray mul(@NotNull Vector3dArray v, double c, @NotNull Vector3dArray dest) {
+        checkSize(v, dest);
+        VectorKernels.getDefault().mul(v.x, c, dest.x);
+        VectorKernels.getDefault().mul(v.y, c, dest.y);
+        VectorKernels.getDefault().mul(v.z, c, dest.z);
+        return dest;
+    }
+
+    /**
+     * Поэлементное скалярное произведение векторов двух массивов
+     *
+     * @param a первый массив векторов
+     * @param b второй массив векторов
+     * @return массив скалярных произведений
+     */
+    @NotNull
+    public static double[] dot(@NotNull Vector3dArray a, @NotNull Vector3dArray b) {
+        return dot(a, b, new double[a.size()]);
+    }
+
+    /**
+     * Поэлементное скалярное произведение векторов двух массивов с записью результата в заданный массив
+     *
+     * @param a    первый массив векторов
+     * @param b    второй массив векторов
+     * @param dest массив, в который записывается результат
+     * @return массив dest со скалярными произведениями
+     */
+    @NotNull
+    public static double[] dot(@NotNull Vector3dArray a, @NotNull Vector3dArray b, @NotNull double[] dest) {
+        checkSize(a, b);
+        checkSize(a.size(), dest.length);
+        VectorKernels.getDefault().dot(a.x, a.y, a.z, b.x, b.y, b.z, dest);
+        return dest;
+    }
+
+    /**
+     * Поэлементное векторное произведение векторов двух массивов
+     *
+     * @param a первый массив векторов
+     * @param b второй массив векторов
+     * @return новый массив с результатом
+     */
+    @NotNull
+    public static Vector3dArray cross(@NotNull Vector3dArray a, @NotNull Vector3dArray b) {
+        return cross(a, b, new Vector3dArray(a.size()));
+    }
+
+    /**
+     * Поэлементное векторное произведение векторов двух массивов с записью результата в заданный массив
+     *
+     * @param a    первый массив векторов
+     * @param b    второй массив векторов
+     * @param dest массив, в который записывается результат (может совпадать с a или b)
+     * @return массив dest с результатом
+     */
+    @NotNull
+    public static Vector3dArray cross(@NotNull Vector3dArray a, @NotNull Vector3dArray b, @NotNull Vector3dArray dest) {
+        checkSize(a, b);
+        checkSize(a, dest);
+        for (int i = 0; i < dest.x.length; i++) {
+            double cx = a.y[i] * b.z[i] - a.z[i] * b.y[i];
+            double cy = a.z[i] * b.x[i] - a.x[i] * b.z[i];
+            double cz = a.x[i] * b.y[i] - a.y[i] * b.x[i];
+            dest.x[i] = cx;
+            dest.y[i] = cy;
+            dest.z[i] = cz;
+        }
+        return dest;
+    }
+
+    /**
+     * Получить длины всех векторов массива
+     *
+     * @param v    массив векторов
+     * @param dest массив, в который записывается результат
+     * @return массив dest с длинами векторов
+     */
+    @NotNull
+    public static double[] length(@NotNull Vector3dArray v, @NotNull double[] dest) {
+        checkSize(v.size(), dest.length);
+        VectorKernels.getDefault().length(v.x, v.y, v.z, dest);
+        return dest;
+    }
+
+    /**
+     * Нормализовать все векторы массива
+     *
+     * @param v массив векторов
+     * @return новый массив нормализованных векторов
+     */
+    @NotNull
+    public static Vector3dArray norm(@NotNull Vector3dArray v) {
+        return norm(v, new Vector3dArray(v.size()));
+    }
+
+    /**
+     * Нормализовать все векторы массива и записать результат в заданный массив
+     *
+     * @param v    массив векторов
+     * @param dest массив, в который записывается результат (может совпадать с v)
+     * @return массив dest с нормализованными векторами
+     */
+    @NotNull
+    public static Vector3dArray norm(@NotNull Vector3dArray v, @NotNull Vector3dArray dest) {
+        checkSize(v, dest);
+        VectorKernels.getDefault().normalize(v.x, v.y, v.z, dest.x, dest.y, dest.z);
+        return dest;
+    }
+
+    /**
+     * Получить расстояния между соответствующими векторами двух массивов
+     *
+     * @param a    первый массив векторов
+     * @param b    второй массив векторов
+     * @param dest массив, в который записывается результат
+     * @return массив dest с расстояниями
+     */
+    @NotNull
+    public static double[] getDistance(@NotNull Vector3dArray a, @NotNull Vector3dArray b, @NotNull double[] dest) {
+        checkSize(a, b);
+        checkSize(a.size(), dest.length);
+        for (int i = 0; i < dest.length; i++) {
+            double dx = a.x[i] - b.x[i];
+            double dy = a.y[i] - b.y[i];
+            double dz = a.z[i] - b.z[i];
+            dest[i] = Math.sqrt(dx * dx + dy * dy + dz * dz);
+        }
+        return dest;
+    }
+
+    /**
+     * Получить расстояния от векторов массива до заданной точки
+     *
+     * @param a    массив векторов
+     * @param p    точка
+     * @param dest массив, в который записывается результат
+     * @return массив dest с расстояниями
+     */
+    @NotNull
+    public static double[] getDistance(@NotNull Vector3dArray a, @NotNull Vector3d p, @NotNull double[] dest) {
+        checkSize(a.size(), dest.length);
+        double pX = p.x;
+        double pY = p.y;
+        double pZ = p.z;
+        for (int i = 0; i < dest.length; i++) {
+            double dx = a.x[i] - pX;
+            double dy = a.y[i] - pY;
+            double dz = a.z[i] - pZ;
+            dest[i] = Math.sqrt(dx * dx + dy * dy + dz * dz);
+        }
+        return dest;
+    }
+
+    /**
+     * Получить вектор из минимальных координат векторов массива
+     *
+     * @param v массив векторов
+     * @return вектор из минимальных координат
+     */
+    @NotNull
+    public static Vector3d min(@NotNull Vector3dArray v) {
+        return min(v, new Vector3d());
+    }
+
+    /**
+     * Получить вектор из минимальных координат векторов массива и записать его в заданный вектор
+     *
+     * @param v    массив векторов
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest из минимальных координат
+     */
+    @NotNull
+    public static Vector3d min(@NotNull Vector3dArray v, @NotNull Vector3d dest) {
+        if (v.size() == 0)
+            throw new IllegalArgumentException("array is empty");
+        dest.x = min(v.x);
+        dest.y = min(v.y);
+        dest.z = min(v.z);
+        return dest;
+    }
+
+    /**
+     * Получить вектор из максимальных координат векторов массива
+     *
+     * @param v массив векторов
+     * @return вектор из максимальных координат
+     */
+    @NotNull
+    public static Vector3d max(@NotNull Vector3dArray v) {
+        return max(v, new Vector3d());
+    }
+
+    /**
+     * Получить вектор из максимальных координат векторов массива и записать его в заданный вектор
+     *
+     * @param v    массив векторов
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest из максимальных координат
+     */
+    @NotNull
+    public static Vector3d max(@NotNull Vector3dArray v, @NotNull Vector3d dest) {
+        if (v.size() == 0)
+            throw new IllegalArgumentException("array is empty");
+        dest.x = max(v.x);
+        dest.y = max(v.y);
+        dest.z = max(v.z);
+        return dest;
+    }
+
+    /**
+     * Прибавить к векторам массива векторы другого массива
+     *
+     * @param v массив векторов
+     */
+    public void add(@NotNull Vector3dArray v) {
+        sum(this, v, this);
+    }
+
+    /**
+     * Прибавить ко всем векторам массива вектор
+     *
+     * @param v вектор
+     */
+    public void add(@NotNull Vector3d v) {
+        add(x, v.x);
+        add(y, v.y);
+        add(z, v.z);
+    }
+
+    /**
+     * Вычесть из векторов массива векторы другого массива
+     *
+     * @param v массив векторов
+     */
+    public void subtract(@NotNull Vector3dArray v) {
+        subtract(this, v, this);
+    }
+
+    /**
+     * Умножить все векторы массива на число
+     *
+     * @param c число
+     */
+    public void mul(double c) {
+        mul(this, c, this);
+    }
+
+    /**
+     * Покоординатно умножить все векторы массива на вектор
+     *
+     * @param v вектор
+     */
+    public void mul(@NotNull Vector3d v) {
+        VectorKernels.getDefault().mul(x, v.x, x);
+        VectorKernels.getDefault().mul(y, v.y, y);
+        VectorKernels.getDefault().mul(z, v.z, z);
+    }
+
+    /**
+     * Нормализовать все векторы массива
+     */
+    public void normalize() {
+        norm(this, this);
+    }
+
+    /**
+     * Получить минимальный элемент массива
+     *
+     * @param arr массив
+     * @return минимальный элемент
+     */
+    private static double min(@NotNull double[] arr) {
+        double res = arr[0];
+        for (int i = 1; i < arr.length; i++)
+            res = Math.min(res, arr[i]);
+        return res;
+    }
+
+    /**
+     * Получить максимальный элемент массива
+     *
+     * @param arr массив
+     * @return максимальный элемент
+     */
+    private static double max(@NotNull double[] arr) {
+        double res = arr[0];
+        for (int i = 1; i < arr.length; i++)
+            res = Math.max(res, arr[i]);
+        return res;
+    }
+
+    /**
+     * Прибавить число ко всем элементам массива координат
+     *
+     * @param a массив
+     * @param c число
+     */
+    private static void add(@NotNull double[] a, double c) {
+        for (int i = 0; i < a.length; i++)
+            a[i] += c;
+    }
+
+    /**
+     * Проверить, что массивы векторов имеют одинаковый размер
+     *
+     * @param a первый массив векторов
+     * @param b второй массив векторов
+     */
+    private static void checkSize(@NotNull Vector3dArray a, @NotNull Vector3dArray b) {
+        checkSize(Objects.requireNonNull(a).size(), Objects.requireNonNull(b).size());
+    }
+
+    /**
+     * Проверить, что размеры массивов совпадают
+     *
+     * @param a первый размер
+     * @param b второй размер
+     */
+    private static void checkSize(int a, int b) {
+        if (a != b)
+            throw new IllegalArgumentException("arrays have different sizes: " + a + " " + b);
+    }
+
+    @Override
+    public String toString() {
+        return "Vector3dArray{" +
+                "size=" + size() +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        Vector3dArray that = (Vector3dArray) o;
+
+        return Arrays.equals(x, that.x) && Arrays.equals(y, that.y) && Arrays.equals(z, that.z);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(x);
+        result = 31 * result + Arrays.hashCode(y);
+        result = 31 * result + Arrays.hashCode(z);
+        return result;
+    }
+}
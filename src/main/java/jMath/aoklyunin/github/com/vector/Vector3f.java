@@ -90,11 +90,23 @@ public class Vector3f implements Serializable {
      */
     @NotNull
     public static Vector3f min(@NotNull Vector3f a, @NotNull Vector3f b) {
-        return new Vector3f(
-                Math.min(a.x, b.x),
-                Math.min(a.y, b.y),
-                Math.min(a.z, b.z)
-        );
+        return min(a, b, new Vector3f());
+    }
+
+    /**
+     * Получить вектор с минимальными координатами из двух переданных векторов и записать его в заданный вектор
+     *
+     * @param a    первый вектор
+     * @param b    второй вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с минимальными координатами из двух переданных векторов
+     */
+    @NotNull
+    public static Vector3f min(@NotNull Vector3f a, @NotNull Vector3f b, @NotNull Vector3f dest) {
+        dest.x = Math.min(a.x, b.x);
+        dest.y = Math.min(a.y, b.y);
+        dest.z = Math.min(a.z, b.z);
+        return dest;
     }
 
     /**
@@ -106,11 +118,23 @@ public class Vector3f implements Serializable {
      */
     @NotNull
     public static Vector3f max(@NotNull Vector3f a, @NotNull Vector3f b) {
-        return new Vector3f(
-                Math.max(a.x, b.x),
-                Math.max(a.y, b.y),
-                Math.max(a.z, b.z)
-        );
+        return max(a, b, new Vector3f());
+    }
+
+    /**
+     * Получить вектор с максимальными координатами из двух переданных векторов и записать его в заданный вектор
+     *
+     * @param a    первый вектор
+     * @param b    второй вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с максимальными координатами из двух переданных векторов
+     */
+    @NotNull
+    public static Vector3f max(@NotNull Vector3f a, @NotNull Vector3f b, @NotNull Vector3f dest) {
+        dest.x = Math.max(a.x, b.x);
+        dest.y = Math.max(a.y, b.y);
+        dest.z = Math.max(a.z, b.z);
+        return dest;
     }
 
     /**
@@ -122,7 +146,23 @@ public class Vector3f implements Serializable {
      */
     @NotNull
     public static Vector3f sum(@NotNull Vector3f a, @NotNull Vector3f b) {
-        return new Vector3f(a.x + b.x, a.y + b.y, a.z + b.z);
+        return sum(a, b, new Vector3f());
+    }
+
+    /**
+     * Сложить два вектора и записать результат в заданный вектор
+     *
+     * @param a    первый вектор
+     * @param b    второй вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с суммой двух векторов
+     */
+    @NotNull
+    public static Vector3f sum(@NotNull Vector3f a, @NotNull Vector3f b, @NotNull Vector3f dest) {
+        dest.x = a.x + b.x;
+        dest.y = a.y + b.y;
+        dest.z = a.z + b.z;
+        return dest;
     }
 
     /**
@@ -150,7 +190,23 @@ public class Vector3f implements Serializable {
      */
     @NotNull
     public static Vector3f subtract(@NotNull Vector3f a, @NotNull Vector3f b) {
-        return new Vector3f(a.x - b.x, a.y - b.y, a.z - b.z);
+        return subtract(a, b, new Vector3f());
+    }
+
+    /**
+     * Вычесть второй вектор из первого и записать результат в заданный вектор
+     *
+     * @param a    первый вектор
+     * @param b    второй вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с разностью двух векторов
+     */
+    @NotNull
+    public static Vector3f subtract(@NotNull Vector3f a, @NotNull Vector3f b, @NotNull Vector3f dest) {
+        dest.x = a.x - b.x;
+        dest.y = a.y - b.y;
+        dest.z = a.z - b.z;
+        return dest;
     }
 
     /**
@@ -161,7 +217,10 @@ public class Vector3f implements Serializable {
      * @return расстояние между векторами
      */
     public static double getDistance(@NotNull Vector3f a, @NotNull Vector3f b) {
-        return subtract(a, b).length();
+        float dx = a.x - b.x;
+        float dy = a.y - b.y;
+        float dz = a.z - b.z;
+        return Math.sqrt(dx * dx + dy * dy + dz * dz);
     }
 
     /**
@@ -173,7 +232,23 @@ public class Vector3f implements Serializable {
      */
     @NotNull
     public static Vector3f mul(@NotNull Vector3f v, int a) {
-        return new Vector3f(v.x * a, v.y * a, v.z * a);
+        return mul(v, a, new Vector3f());
+    }
+
+    /**
+     * Умножение вектора на число с записью результата в заданный вектор
+     *
+     * @param v    вектор
+     * @param a    число
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с результатом умножения вектора на число
+     */
+    @NotNull
+    public static Vector3f mul(@NotNull Vector3f v, int a, @NotNull Vector3f dest) {
+        dest.x = v.x * a;
+        dest.y = v.y * a;
+        dest.z = v.z * a;
+        return dest;
     }
 
     /**
@@ -185,7 +260,23 @@ public class Vector3f implements Serializable {
      */
     @NotNull
     public static Vector3f mul(@NotNull Vector3f v, float a) {
-        return new Vector3f(v.x * a, v.y * a, v.z * a);
+        return mul(v, a, new Vector3f());
+    }
+
+    /**
+     * Умножение вектора на число с записью результата в заданный вектор
+     *
+     * @param v    вектор
+     * @param a    число
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с результатом умножения вектора на число
+     */
+    @NotNull
+    public static Vector3f mul(@NotNull Vector3f v, float a, @NotNull Vector3f dest) {
+        dest.x = v.x * a;
+        dest.y = v.y * a;
+        dest.z = v.z * a;
+        return dest;
     }
 
     /**
@@ -197,7 +288,23 @@ public class Vector3f implements Serializable {
      */
     @NotNull
     public static Vector3f mul(@NotNull Vector3f v1, @NotNull Vector3f v2) {
-        return new Vector3f(v1.x * v2.x, v1.y * v2.y, v1.z * v2.z);
+        return mul(v1, v2, new Vector3f());
+    }
+
+    /**
+     * Поэлементное умножение векторов с записью результата в заданный вектор
+     *
+     * @param v1   первый вектор
+     * @param v2   второй вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с поэлементным умножением векторов
+     */
+    @NotNull
+    public static Vector3f mul(@NotNull Vector3f v1, @NotNull Vector3f v2, @NotNull Vector3f dest) {
+        dest.x = v1.x * v2.x;
+        dest.y = v1.y * v2.y;
+        dest.z = v1.z * v2.z;
+        return dest;
     }
 
     /**
@@ -219,7 +326,19 @@ public class Vector3f implements Serializable {
      */
     @NotNull
     public static Vector3f norm(@NotNull Vector3f v) {
-        return mul(v, 1 / (float) v.length());
+        return norm(v, new Vector3f());
+    }
+
+    /**
+     * Нормализовать исходный вектор и записать результат в заданный вектор
+     *
+     * @param v    исходный вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с нормализованным исходным вектором
+     */
+    @NotNull
+    public static Vector3f norm(@NotNull Vector3f v, @NotNull Vector3f dest) {
+        return mul(v, 1 / (float) v.length(), dest);
     }
 
     /**
@@ -231,7 +350,20 @@ public class Vector3f implements Serializable {
      */
     @NotNull
     public static Vector3f norm(@NotNull Vector3f v, float a) {
-        return mul(v, 1 / (float) v.length() * a);
+        return norm(v, a, new Vector3f());
+    }
+
+    /**
+     * Нормализовать исходный вектор и записать результат в заданный вектор
+     *
+     * @param v    исходный вектор
+     * @param a    длина нового вектора
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с нормализованным исходным вектором
+     */
+    @NotNull
+    public static Vector3f norm(@NotNull Vector3f v, float a, @NotNull Vector3f dest) {
+        return mul(v, 1 / (float) v.length() * a, dest);
     }
 
     /**
@@ -243,11 +375,25 @@ public class Vector3f implements Serializable {
      */
     @NotNull
     public static Vector3f cross(@NotNull Vector3f v, @NotNull Vector3f v2) {
-        return new Vector3f(
-                v.y * v2.z - v.z * v2.y,
-                v.z * v2.x - v.x * v2.z,
-                v.x * v2.y - v.y * v2.x
-        );
+        return cross(v, v2, new Vector3f());
+    }
+
+    /**
+     * Векторное умножение векторов с записью результата в заданный вектор
+     *
+     * @param v    первый вектор
+     * @param v2   второй вектор
+     * @param dest вектор, в который записывается результат, может совпадать с v или v2
+     * @return вектор dest с векторным умножением векторов
+     */
+    @NotNull
+    public static Vector3f cross(@NotNull Vector3f v, @NotNull Vector3f v2, @NotNull Vector3f dest) {
+        float x = v.y * v2.z - v.z * v2.y;
+        float y = v.z * v2.x - v.x * v2.z;
+        dest.z = v.x * v2.y - v.y * v2.x;
+        dest.x = x;
+        dest.y = y;
+        return dest;
     }
 
     /**
@@ -86,11 +86,23 @@ public class Vector3i implements Serializable {
      */
     @NotNull
     public static Vector3i min(@NotNull Vector3i a, @NotNull Vector3i b) {
-        return new Vector3i(
-                Math.min(a.x, b.x),
-                Math.min(a.y, b.y),
-                Math.min(a.z, b.z)
-        );
+        return min(a, b, new Vector3i());
+    }
+
+    /**
+     * Получить вектор с минимальными координатами из двух переданных векторов и записать его в заданный вектор
+     *
+     * @param a    первый вектор
+     * @param b    второй вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с минимальными координатами из двух переданных векторов
+     */
+    @NotNull
+    public static Vector3i min(@NotNull Vector3i a, @NotNull Vector3i b, @NotNull Vector3i dest) {
+        dest.x = Math.min(a.x, b.x);
+        dest.y = Math.min(a.y, b.y);
+        dest.z = Math.min(a.z, b.z);
+        return dest;
     }
 
     /**
@@ -102,11 +114,23 @@ public class Vector3i implements Serializable {
      */
     @NotNull
     public static Vector3i max(@NotNull Vector3i a, @NotNull Vector3i b) {
-        return new Vector3i(
-                Math.max(a.x, b.x),
-                Math.max(a.y, b.y),
-                Math.max(a.z, b.z)
-        );
+        return max(a, b, new Vector3i());
+    }
+
+    /**
+     * Получить вектор с максимальными координатами из двух переданных векторов и записать его в заданный вектор
+     *
+     * @param a    первый вектор
+     * @param b    второй вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с максимальными координатами из двух переданных векторов
+     */
+    @NotNull
+    public static Vector3i max(@NotNull Vector3i a, @NotNull Vector3i b, @NotNull Vector3i dest) {
+        dest.x = Math.max(a.x, b.x);
+        dest.y = Math.max(a.y, b.y);
+        dest.z = Math.max(a.z, b.z);
+        return dest;
     }
 
 
@@ -119,7 +143,23 @@ public class Vector3i implements Serializable {
      */
     @NotNull
     public static Vector3i sum(@NotNull Vector3i a, @NotNull Vector3i b) {
-        return new Vector3i(a.x + b.x, a.y + b.y, a.z + b.z);
+        return sum(a, b, new Vector3i());
+    }
+
+    /**
+     * Сложить два вектора и записать результат в заданный вектор
+     *
+     * @param a    первый вектор
+     * @param b    второй вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с суммой двух векторов
+     */
+    @NotNull
+    public static Vector3i sum(@NotNull Vector3i a, @NotNull Vector3i b, @NotNull Vector3i dest) {
+        dest.x = a.x + b.x;
+        dest.y = a.y + b.y;
+        dest.z = a.z + b.z;
+        return dest;
     }
 
     /**
@@ -147,7 +187,23 @@ public class Vector3i implements Serializable {
      */
     @NotNull
     public static Vector3i subtract(@NotNull Vector3i a, @NotNull Vector3i b) {
-        return new Vector3i(a.x - b.x, a.y - b.y, a.z - b.z);
+        return subtract(a, b, new Vector3i());
+    }
+
+    /**
+     * Вычесть второй вектор из первого и записать результат в заданный вектор
+     *
+     * @param a    первый вектор
+     * @param b    второй вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с разностью двух векторов
+     */
+    @NotNull
+    public static Vector3i subtract(@NotNull Vector3i a, @NotNull Vector3i b, @NotNull Vector3i dest) {
+        dest.x = a.x - b.x;
+        dest.y = a.y - b.y;
+        dest.z = a.z - b.z;
+        return dest;
     }
 
 
@@ -159,7 +215,22 @@ public class Vector3i implements Serializable {
      */
     @NotNull
     public static Vector3i inc(@NotNull Vector3i a) {
-        return sum(a, ones());
+        return inc(a, new Vector3i());
+    }
+
+    /**
+     * Прибавить к вектору единичный и записать результат в заданный вектор
+     *
+     * @param a    вектор, к которому прибавляем
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с суммой единичного вектора и переданного в параметрах
+     */
+    @NotNull
+    public static Vector3i inc(@NotNull Vector3i a, @NotNull Vector3i dest) {
+        dest.x = a.x + 1;
+        dest.y = a.y + 1;
+        dest.z = a.z + 1;
+        return dest;
     }
 
     /**
@@ -170,7 +241,22 @@ public class Vector3i implements Serializable {
      */
     @NotNull
     public static Vector3i dec(@NotNull Vector3i a) {
-        return subtract(a, ones());
+        return dec(a, new Vector3i());
+    }
+
+    /**
+     * Вычесть из вектора единичный и записать результат в заданный вектор
+     *
+     * @param a    вектор, из которого вычетаем
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с разностью переданного в параметрах вектора и единичного
+     */
+    @NotNull
+    public static Vector3i dec(@NotNull Vector3i a, @NotNull Vector3i dest) {
+        dest.x = a.x - 1;
+        dest.y = a.y - 1;
+        dest.z = a.z - 1;
+        return dest;
     }
 
     /**
@@ -181,7 +267,10 @@ public class Vector3i implements Serializable {
      * @return расстояние между векторами
      */
     public static double getDistance(@NotNull Vector3i a, @NotNull Vector3i b) {
-        return subtract(a, b).length();
+        int dx = a.x - b.x;
+        int dy = a.y - b.y;
+        int dz = a.z - b.z;
+        return Math.sqrt(dx * dx + dy * dy + dz * dz);
     }
 
     /**
@@ -193,7 +282,23 @@ public class Vector3i implements Serializable {
      */
     @NotNull
     public static Vector3i mul(@NotNull Vector3i v, int a) {
-        return new Vector3i(v.x * a, v.y * a, v.z * a);
+        return mul(v, a, new Vector3i());
+    }
+
+    /**
+     * Умножение вектора на число с записью результата в заданный вектор
+     *
+     * @param v    вектор
+     * @param a    число
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с результатом умножения вектора на число
+     */
+    @NotNull
+    public static Vector3i mul(@NotNull Vector3i v, int a, @NotNull Vector3i dest) {
+        dest.x = v.x * a;
+        dest.y = v.y * a;
+        dest.z = v.z * a;
+        return dest;
     }
 
     /**
@@ -205,7 +310,23 @@ public class Vector3i implements Serializable {
      */
     @NotNull
     public static Vector3i mul(@NotNull Vector3i v1, @NotNull Vector3i v2) {
-        return new Vector3i(v1.x * v2.x, v1.y * v2.y, v1.z * v2.z);
+        return mul(v1, v2, new Vector3i());
+    }
+
+    /**
+     * Поэлементное умножение векторов с записью результата в заданный вектор
+     *
+     * @param v1   первый вектор
+     * @param v2   второй вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с поэлементным умножением векторов
+     */
+    @NotNull
+    public static Vector3i mul(@NotNull Vector3i v1, @NotNull Vector3i v2, @NotNull Vector3i dest) {
+        dest.x = v1.x * v2.x;
+        dest.y = v1.y * v2.y;
+        dest.z = v1.z * v2.z;
+        return dest;
     }
 
     /**
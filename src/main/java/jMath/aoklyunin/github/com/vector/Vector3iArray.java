@@ -0,0 +1,613 @@
+package jMath.aoklyunin.github.com.vector;
+
+import com.sun.istack.NotNull;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Массив трёхмерных векторов int, хранящий координаты в параллельных массивах
+ * (structure of arrays)
+ * <p>
+ * В отличие от списка объектов Vector3i элементы не являются отдельными объектами в куче,
+ * поэтому массовые операции выполняются простыми циклами по примитивным массивам
+ */
+public class Vector3iArray implements Serializable {
+    /**
+     * x - координаты векторов
+     */
+    @NotNull
+    public final int[] x;
+    /**
+     * y - координаты векторов
+     */
+    @NotNull
+    public final int[] y;
+    /**
+     * z - координаты векторов
+     */
+    @NotNull
+    public final int[] z;
+
+    /**
+     * Конструктор массива нулевых векторов
+     *
+     * @param size количество векторов
+     */
+    public Vector3iArray(int size) {
+        this.x = new int[size];
+        this.y = new int[size];
+        this.z = new int[size];
+    }
+
+    /**
+     * Конструктор массива по готовым массивам координат (массивы не копируются)
+     *
+     * @param x x - координаты векторов
+     * @param y y - координаты векторов
+     * @param z z - координаты векторов
+     */
+    public Vector3iArray(@NotNull int[] x, @NotNull int[] y, @NotNull int[] z) {
+        if (x.length != y.length)
+            throw new IllegalArgumentException("coords arrays have different lengths: " + x.length + " " + y.length);
+        if (x.length != z.length)
+            throw new IllegalArgumentException("coords arrays have different lengths: " + x.length + " " + z.length);
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    /**
+     * Конструктор копии
+     *
+     * @param arr исходный массив векторов
+     */
+    public Vector3iArray(@NotNull Vector3iArray arr) {
+        this.x = Arrays.copyOf(arr.x, arr.x.length);
+        this.y = Arrays.copyOf(arr.y, arr.y.length);
+        this.z = Arrays.copyOf(arr.z, arr.z.length);
+    }
+
+    /**
+     * Конструктор массива по списку векторов
+     *
+     * @param list список векторов
+     */
+    public Vector3iArray(@NotNull List<Vector3i> list) {
+        this(list.size());
+        int i = 0;
+        for (Vector3i v : list)
+            set(i++, v);
+    }
+
+    /**
+     * Получить количество векторов
+     *
+     * @return количество векторов
+     */
+    public int size() {
+        return x.length;
+    }
+
+    /**
+     * Получить вектор по индексу
+     *
+     * @param i индекс
+     * @return новый вектор с координатами i-го элемента
+     */
+    @NotNull
+    public Vector3i get(int i) {
+        return new Vector3i(x[i], y[i], z[i]);
+    }
+
+    /**
+     * Получить вектор по индексу и записать его в заданный вектор
+     *
+     * @param i    индекс
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с координатами i-го элемента
+     */
+    @NotNull
+    public Vector3i get(int i, @NotNull Vector3i dest) {
+        dest.x = x[i];
+        dest.y = y[i];
+        dest.z = z[i];
+        return dest;
+    }
+
+    /**
+     * Задать вектор по индексу
+     *
+     * @param i индекс
+     * @param v вектор
+     */
+    public void set(int i, @NotNull Vector3i v) {
+        x[i] = v.x;
+        y[i] = v.y;
+        z[i] = v.z;
+    }
+
+    /**
+     * Задать координаты вектора по индексу
+     *
+     * @param i индекс
+     * @param xVal x - координата вектора
+     * @param yVal y - координата вектора
+     * @param zVal z - координата вектора
+     */
+    public void set(int i, int xVal, int yVal, int zVal) {
+        x[i] = xVal;
+        y[i] = yVal;
+        z[i] = zVal;
+    }
+
+    /**
+     * Заполнить массив одинаковыми векторами
+     *
+     * @param v вектор
+     */
+    public void fill(@NotNull Vector3i v) {
+        Arrays.fill(x, v.x);
+        Arrays.fill(y, v.y);
+        Arrays.fill(z, v.z);
+    }
+
+    /**
+     * Преобразовать к списку векторов
+     *
+     * @return список векторов
+     */
+    @NotNull
+    public List<Vector3i> toList() {
+        List<Vector3i> list = new ArrayList<>(size());
+        for (int i = 0; i < size(); i++)
+            list.add(get(i));
+        return list;
+    }
+
+    /**
+     * Поэлементная сумма массивов векторов
+     *
+     * @param a первый массив векторов
+     * @param b второй массив векторов
+     * @return новый массив с результатом
+     */
+    @NotNull
+    public static Vector3iArray sum(@NotNull Vector3iArray a, @NotNull Vector3iArray b) {
+        return sum(a, b, new Vector3iArray(a.size()));
+    }
+
+    /**
+     * Поэлементная сумма массивов векторов с записью результата в заданный массив
+     *
+     * @param a    первый массив векторов
+     * @param b    второй массив векторов
+     * @param dest массив, в который записывается результат (может совпадать с a или b)
+     * @return массив dest с результатом
+     */
+    @NotNull
+    public static Vector3iArray sum(@NotNull Vector3iArray a, @NotNull Vector3iArray b, @NotNull Vector3iArray dest) {
+        checkSize(a, b);
+        checkSize(a, dest);
+        sum(a.x, b.x, dest.x);
+        sum(a.y, b.y, dest.y);
+        sum(a.z, b.z, dest.z);
+        return dest;
+    }
+
+    /**
+     * Поэлементная разность массивов векторов
+     *
+     * @param a первый массив векторов
+     * @param b второй массив векторов
+     * @return новый массив с результатом
+     */
+    @NotNull
+    public static Vector3iArray subtract(@NotNull Vector3iArray a, @NotNull Vector3iArray b) {
+        return subtract(a, b, new Vector3iArray(a.size()));
+    }
+
+    /**
+     * Поэлементная разность массивов векторов с записью результата в заданный массив
+     *
+     * @param a    первый массив векторов
+     * @param b    второй массив векторов
+     * @param dest массив, в который записывается результат (может совпадать с a или b)
+     * @return массив dest с результатом
+     */
+    @NotNull
+    public static Vector3iArray subtract(@NotNull Vector3iArray a, @NotNull Vector3iArray b, @NotNull Vector3iArray dest) {
+        checkSize(a, b);
+        checkSize(a, dest);
+        subtract(a.x, b.x, dest.x);
+        subtract(a.y, b.y, dest.y);
+        subtract(a.z, b.z, dest.z);
+        return dest;
+    }
+
+    /**
+     * Покоординатное умножение векторов двух массивов
+     *
+     * @param a первый массив векторов
+     * @param b второй массив векторов
+     * @return новый массив с результатом
+     */
+    @NotNull
+    public static Vector3iArray mul(@NotNull Vector3iArray a, @NotNull Vector3iArray b) {
+        return mul(a, b, new Vector3iArray(a.size()));
+    }
+
+    /**
+     * Покоординатное умножение векторов двух массивов с записью результата в заданный массив
+     *
+     * @param a    первый массив векторов
+     * @param b    второй массив векторов
+     * @param dest массив, в который записывается результат (может совпадать с a или b)
+     * @return массив dest с результатом
+     */
+    @NotNull
+    public static Vector3iArray mul(@NotNull Vector3iArray a, @NotNull Vector3iArray b, @NotNull Vector3iArray dest) {
+        checkSize(a, b);
+        checkSize(a, dest);
+        mul(a.x, b.x, dest.x);
+        mul(a.y, b.y, dest.y);
+        mul(a.z, b.z, dest.z);
+        return dest;
+    }
+
+    /**
+     * Умножение всех векторов массива на число
+     *
+     * @param v массив векторов
+     * @param c число
+     * @return новый массив с результатом
+     */
+    @NotNull
+    public static Vector3iArray mul(@NotNull Vector3iArray v, int c) {
+        return mul(v, c, new Vector3iArray(v.size()));
+    }
+
+    /**
+     * Умножение всех векторов массива на число с записью результата в заданный массив
+     *
+     * @param v    массив векторов
+     * @param c    число
+     * @param dest массив, в который записывается результат (может совпадать с v)
+     * @return массив dest с результатом
+     */
+    @NotNull
+    public static Vector3iArray mul(@NotNull Vector3iArray v, int c, @NotNull Vector3iArray dest) {
+        checkSize(v, dest);
+        mul(v.x, c, dest.x);
+        mul(v.y, c, dest.y);
+        mul(v.z, c, dest.z);
+        return dest;
+    }
+
+    /**
+     * Поэлементное скалярное произведение векторов двух массивов
+     *
+     * @param a первый массив векторов
+     * @param b второй массив векторов
+     * @return массив скалярных произведений
+     */
+    @NotNull
+    public static int[] dot(@NotNull Vector3iArray a, @NotNull Vector3iArray b) {
+        return dot(a, b, new int[a.size()]);
+    }
+
+    /**
+     * Поэлементное скалярное произведение векторов двух массивов с записью результата в заданный массив
+     *
+     * @param a    первый массив векторов
+     * @param b    второй массив векторов
+     * @param dest массив, в который записывается результат
+     * @return массив dest со скалярными произведениями
+     */
+    @NotNull
+    public static int[] dot(@NotNull Vector3iArray a, @NotNull Vector3iArray b, @NotNull int[] dest) {
+        checkSize(a, b);
+        checkSize(a.size(), dest.length);
+        for (int i = 0; i < dest.length; i++)
+            dest[i] = a.x[i] * b.x[i] + a.y[i] * b.y[i] + a.z[i] * b.z[i];
+        return dest;
+    }
+
+    /**
+     * Получить длины всех векторов массива
+     *
+     * @param v    массив векторов
+     * @param dest массив, в который записывается результат
+     * @return массив dest с длинами векторов
+     */
+    @NotNull
+    public static double[] length(@NotNull Vector3iArray v, @NotNull double[] dest) {
+        checkSize(v.size(), dest.length);
+        for (int i = 0; i < dest.length; i++)
+            dest[i] = Math.sqrt(v.x[i] * v.x[i] + v.y[i] * v.y[i] + v.z[i] * v.z[i]);
+        return dest;
+    }
+
+    /**
+     * Получить расстояния между соответствующими векторами двух массивов
+     *
+     * @param a    первый массив векторов
+     * @param b    второй массив векторов
+     * @param dest массив, в который записывается результат
+     * @return массив dest с расстояниями
+     */
+    @NotNull
+    public static double[] getDistance(@NotNull Vector3iArray a, @NotNull Vector3iArray b, @NotNull double[] dest) {
+        checkSize(a, b);
+        checkSize(a.size(), dest.length);
+        for (int i = 0; i < dest.length; i++) {
+            double dx = a.x[i] - b.x[i];
+            double dy = a.y[i] - b.y[i];
+            double dz = a.z[i] - b.z[i];
+            dest[i] = Math.sqrt(dx * dx + dy * dy + dz * dz);
+        }
+        return dest;
+    }
+
+    /**
+     * Получить расстояния от векторов массива до заданной точки
+     *
+     * @param a    массив векторов
+     * @param p    точка
+     * @param dest массив, в который записывается результат
+     * @return массив dest с расстояниями
+     */
+    @NotNull
+    public static double[] getDistance(@NotNull Vector3iArray a, @NotNull Vector3i p, @NotNull double[] dest) {
+        checkSize(a.size(), dest.length);
+        int pX = p.x;
+        int pY = p.y;
+        int pZ = p.z;
+        for (int i = 0; i < dest.length; i++) {
+            double dx = a.x[i] - pX;
+            double dy = a.y[i] - pY;
+            double dz = a.z[i] - pZ;
+            dest[i] = Math.sqrt(dx * dx + dy * dy + dz * dz);
+        }
+        return dest;
+    }
+
+    /**
+     * Получить вектор из минимальных координат векторов массива
+     *
+     * @param v массив векторов
+     * @return вектор из минимальных координат
+     */
+    @NotNull
+    public static Vector3i min(@NotNull Vector3iArray v) {
+        return min(v, new Vector3i());
+    }
+
+    /**
+     * Получить вектор из минимальных координат векторов массива и записать его в заданный вектор
+     *
+     * @param v    массив векторов
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest из минимальных координат
+     */
+    @NotNull
+    public static Vector3i min(@NotNull Vector3iArray v, @NotNull Vector3i dest) {
+        if (v.size() == 0)
+            throw new IllegalArgumentException("array is empty");
+        dest.x = min(v.x);
+        dest.y = min(v.y);
+        dest.z = min(v.z);
+        return dest;
+    }
+
+    /**
+     * Получить вектор из максимальных координат векторов массива
+     *
+     * @param v массив векторов
+     * @return вектор из максимальных координат
+     */
+    @NotNull
+    public static Vector3i max(@NotNull Vector3iArray v) {
+        return max(v, new Vector3i());
+    }
+
+    /**
+     * Получить вектор из максимальных координат векторов массива и записать его в заданный вектор
+     *
+     * @param v    массив векторов
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest из максимальных координат
+     */
+    @NotNull
+    public static Vector3i max(@NotNull Vector3iArray v, @NotNull Vector3i dest) {
+        if (v.size() == 0)
+            throw new IllegalArgumentException("array is empty");
+        dest.x = max(v.x);
+        dest.y = max(v.y);
+        dest.z = max(v.z);
+        return dest;
+    }
+
+    /**
+     * Прибавить к векторам массива векторы другого массива
+     *
+     * @param v массив векторов
+     */
+    public void add(@NotNull Vector3iArray v) {
+        sum(this, v, this);
+    }
+
+    /**
+     * Прибавить ко всем векторам массива вектор
+     *
+     * @param v вектор
+     */
+    public void add(@NotNull Vector3i v) {
+        add(x, v.x);
+        add(y, v.y);
+        add(z, v.z);
+    }
+
+    /**
+     * Вычесть из векторов массива векторы другого массива
+     *
+     * @param v массив векторов
+     */
+    public void subtract(@NotNull Vector3iArray v) {
+        subtract(this, v, this);
+    }
+
+    /**
+     * Умножить все векторы массива на число
+     *
+     * @param c число
+     */
+    public void mul(int c) {
+        mul(this, c, this);
+    }
+
+    /**
+     * Покоординатно умножить все векторы массива на вектор
+     *
+     * @param v вектор
+     */
+    public void mul(@NotNull Vector3i v) {
+        mul(x, v.x, x);
+        mul(y, v.y, y);
+        mul(z, v.z, z);
+    }
+
+    /**
+     * Получить минимальный элемент массива
+     *
+     * @param arr массив
+     * @return минимальный элемент
+     */
+    private static int min(@NotNull int[] arr) {
+        int res = arr[0];
+        for (int i = 1; i < arr.length; i++)
+            res = Math.min(res, arr[i]);
+        return res;
+    }
+
+    /**
+     * Получить максимальный элемент массива
+     *
+     * @param arr массив
+     * @return максимальный элемент
+     */
+    private static int max(@NotNull int[] arr) {
+        int res = arr[0];
+        for (int i = 1; i < arr.length; i++)
+            res = Math.max(res, arr[i]);
+        return res;
+    }
+
+    /**
+     * Поэлементно сложить массивы координат
+     *
+     * @param a    первый массив
+     * @param b    второй массив
+     * @param dest массив, в который записывается результат
+     */
+    private static void sum(@NotNull int[] a, @NotNull int[] b, @NotNull int[] dest) {
+        for (int i = 0; i < dest.length; i++)
+            dest[i] = a[i] + b[i];
+    }
+
+    /**
+     * Поэлементно вычесть массивы координат
+     *
+     * @param a    первый массив
+     * @param b    второй массив
+     * @param dest массив, в который записывается результат
+     */
+    private static void subtract(@NotNull int[] a, @NotNull int[] b, @NotNull int[] dest) {
+        for (int i = 0; i < dest.length; i++)
+            dest[i] = a[i] - b[i];
+    }
+
+    /**
+     * Поэлементно перемножить массивы координат
+     *
+     * @param a    первый массив
+     * @param b    второй массив
+     * @param dest массив, в который записывается результат
+     */
+    private static void mul(@NotNull int[] a, @NotNull int[] b, @NotNull int[] dest) {
+        for (int i = 0; i < dest.length; i++)
+            dest[i] = a[i] * b[i];
+    }
+
+    /**
+     * Прибавить число ко всем элементам массива координат
+     *
+     * @param a массив
+     * @param c число
+     */
+    private static void add(@NotNull int[] a, int c) {
+        for (int i = 0; i < a.length; i++)
+            a[i] += c;
+    }
+
+    /**
+     * Умножить массив координат на число
+     *
+     * @param a    массив
+     * @param c    число
+     * @param dest массив, в который записывается результат
+     */
+    private static void mul(@NotNull int[] a, int c, @NotNull int[] dest) {
+        for (int i = 0; i < dest.length; i++)
+            dest[i] = a[i] * c;
+    }
+
+    /**
+     * Проверить, что массивы векторов имеют одинаковый размер
+     *
+     * @param a первый массив векторов
+     * @param b второй массив векторов
+     */
+    private static void checkSize(@NotNull Vector3iArray a, @NotNull Vector3iArray b) {
+        checkSize(Objects.requireNonNull(a).size(), Objects.requireNonNull(b).size());
+    }
+
+    /**
+     * Проверить, что размеры массивов совпадают
+     *
+     * @param a первый размер
+     * @param b второй размер
+     */
+    private static void checkSize(int a, int b) {
+        if (a != b)
+            throw new IllegalArgumentException("arrays have different sizes: " + a + " " + b);
+    }
+
+    @Override
+    public String toString() {
+        return "Vector3iArray{" +
+                "size=" + size() +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        Vector3iArray that = (Vector3iArray) o;
+
+        return Arrays.equals(x, that.x) && Arrays.equals(y, that.y) && Arrays.equals(z, that.z);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(x);
+        result = 31 * result + Arrays.hashCode(y);
+        result = 31 * result + Arrays.hashCode(z);
+        return result;
+    }
+}
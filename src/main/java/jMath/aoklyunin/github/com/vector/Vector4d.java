@@ -98,12 +98,24 @@ public class Vector4d implements Serializable {
      */
     @NotNull
     public static Vector4d min(@NotNull Vector4d a, @NotNull Vector4d b) {
-        return new Vector4d(
-                Math.min(a.x, b.x),
-                Math.min(a.y, b.y),
-                Math.min(a.z, b.z),
-                Math.min(a.w, b.w)
-        );
+        return min(a, b, new Vector4d());
+    }
+
+    /**
+     * Получить вектор с минимальными координатами из двух переданных векторов и записать его в заданный вектор
+     *
+     * @param a    первый вектор
+     * @param b    второй вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с минимальными координатами из двух переданных векторов
+     */
+    @NotNull
+    public static Vector4d min(@NotNull Vector4d a, @NotNull Vector4d b, @NotNull Vector4d dest) {
+        dest.x = Math.min(a.x, b.x);
+        dest.y = Math.min(a.y, b.y);
+        dest.z = Math.min(a.z, b.z);
+        dest.w = Math.min(a.w, b.w);
+        return dest;
     }
 
     /**
@@ -115,12 +127,24 @@ public class Vector4d implements Serializable {
      */
     @NotNull
     public static Vector4d max(@NotNull Vector4d a, @NotNull Vector4d b) {
-        return new Vector4d(
-                Math.max(a.x, b.x),
-                Math.max(a.y, b.y),
-                Math.max(a.z, b.z),
-                Math.max(a.w, b.w)
-        );
+        return max(a, b, new Vector4d());
+    }
+
+    /**
+     * Получить вектор с максимальными координатами из двух переданных векторов и записать его в заданный вектор
+     *
+     * @param a    первый вектор
+     * @param b    второй вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с максимальными координатами из двух переданных векторов
+     */
+    @NotNull
+    public static Vector4d max(@NotNull Vector4d a, @NotNull Vector4d b, @NotNull Vector4d dest) {
+        dest.x = Math.max(a.x, b.x);
+        dest.y = Math.max(a.y, b.y);
+        dest.z = Math.max(a.z, b.z);
+        dest.w = Math.max(a.w, b.w);
+        return dest;
     }
 
     /**
@@ -132,7 +156,24 @@ public class Vector4d implements Serializable {
      */
     @NotNull
     public static Vector4d sum(@NotNull Vector4d a, @NotNull Vector4d b) {
-        return new Vector4d(a.x + b.x, a.y + b.y, a.z + b.z, a.w + b.w);
+        return sum(a, b, new Vector4d());
+    }
+
+    /**
+     * Сложить два вектора и записать результат в заданный вектор
+     *
+     * @param a    первый вектор
+     * @param b    второй вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с суммой двух векторов
+     */
+    @NotNull
+    public static Vector4d sum(@NotNull Vector4d a, @NotNull Vector4d b, @NotNull Vector4d dest) {
+        dest.x = a.x + b.x;
+        dest.y = a.y + b.y;
+        dest.z = a.z + b.z;
+        dest.w = a.w + b.w;
+        return dest;
     }
 
     /**
@@ -160,7 +201,24 @@ public class Vector4d implements Serializable {
      */
     @NotNull
     public static Vector4d subtract(@NotNull Vector4d a, @NotNull Vector4d b) {
-        return new Vector4d(a.x - b.x, a.y - b.y, a.z - b.z, a.w - b.w);
+        return subtract(a, b, new Vector4d());
+    }
+
+    /**
+     * Вычесть второй вектор из первого и записать результат в заданный вектор
+     *
+     * @param a    первый вектор
+     * @param b    второй вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с разностью двух векторов
+     */
+    @NotNull
+    public static Vector4d subtract(@NotNull Vector4d a, @NotNull Vector4d b, @NotNull Vector4d dest) {
+        dest.x = a.x - b.x;
+        dest.y = a.y - b.y;
+        dest.z = a.z - b.z;
+        dest.w = a.w - b.w;
+        return dest;
     }
 
     /**
@@ -171,7 +229,11 @@ public class Vector4d implements Serializable {
      * @return расстояние между векторами
      */
     public static double getDistance(@NotNull Vector4d a, @NotNull Vector4d b) {
-        return subtract(a, b).length();
+        double dx = a.x - b.x;
+        double dy = a.y - b.y;
+        double dz = a.z - b.z;
+        double dw = a.w - b.w;
+        return Math.sqrt(dx * dx + dy * dy + dz * dz + dw * dw);
     }
 
     /**
@@ -183,7 +245,24 @@ public class Vector4d implements Serializable {
      */
     @NotNull
     public static Vector4d mul(@NotNull Vector4d v, double a) {
-        return new Vector4d(v.x * a, v.y * a, v.z * a, v.w * a);
+        return mul(v, a, new Vector4d());
+    }
+
+    /**
+     * Умножение вектора на число с записью результата в заданный вектор
+     *
+     * @param v    вектор
+     * @param a    число
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с результатом умножения вектора на число
+     */
+    @NotNull
+    public static Vector4d mul(@NotNull Vector4d v, double a, @NotNull Vector4d dest) {
+        dest.x = v.x * a;
+        dest.y = v.y * a;
+        dest.z = v.z * a;
+        dest.w = v.w * a;
+        return dest;
     }
 
     /**
@@ -195,7 +274,24 @@ public class Vector4d implements Serializable {
      */
     @NotNull
     public static Vector4d mul(@NotNull Vector4d v1, @NotNull Vector4d v2) {
-        return new Vector4d(v1.x * v2.x, v1.y * v2.y, v1.z * v2.z, v1.w * v2.w);
+        return mul(v1, v2, new Vector4d());
+    }
+
+    /**
+     * Поэлементное умножение векторов с записью результата в заданный вектор
+     *
+     * @param v1   первый вектор
+     * @param v2   второй вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с поэлементным умножением векторов
+     */
+    @NotNull
+    public static Vector4d mul(@NotNull Vector4d v1, @NotNull Vector4d v2, @NotNull Vector4d dest) {
+        dest.x = v1.x * v2.x;
+        dest.y = v1.y * v2.y;
+        dest.z = v1.z * v2.z;
+        dest.w = v1.w * v2.w;
+        return dest;
     }
 
     /**
@@ -217,7 +313,19 @@ public class Vector4d implements Serializable {
      */
     @NotNull
     public static Vector4d norm(@NotNull Vector4d v) {
-        return mul(v, 1 / v.length());
+        return norm(v, new Vector4d());
+    }
+
+    /**
+     * Нормализовать исходный вектор и записать результат в заданный вектор
+     *
+     * @param v    исходный вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с нормализованным исходным вектором
+     */
+    @NotNull
+    public static Vector4d norm(@NotNull Vector4d v, @NotNull Vector4d dest) {
+        return mul(v, 1 / v.length(), dest);
     }
 
     /**
@@ -229,7 +337,20 @@ public class Vector4d implements Serializable {
      */
     @NotNull
     public static Vector4d norm(@NotNull Vector4d v, double a) {
-        return mul(v, 1 / v.length() * a);
+        return norm(v, a, new Vector4d());
+    }
+
+    /**
+     * Нормализовать исходный вектор и записать результат в заданный вектор
+     *
+     * @param v    исходный вектор
+     * @param a    длина нового вектора
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с нормализованным исходным вектором
+     */
+    @NotNull
+    public static Vector4d norm(@NotNull Vector4d v, double a, @NotNull Vector4d dest) {
+        return mul(v, 1 / v.length() * a, dest);
     }
 
     /**
@@ -0,0 +1,623 @@
+package jMath.aoklyunin.github.com.vector;
+
+import com.sun.istack.NotNull;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Массив четырёхмерных векторов double, хранящий координаты в параллельных массивах
+ * (structure of arrays)
+ * <p>
+ * В отличие от списка объектов Vector4d элементы не являются отдельными объектами в куче,
+ * поэтому массовые операции выполняются простыми циклами по примитивным массивам
+ */
+public class Vector4dArray implements Serializable {
+    /**
+     * x - координаты векторов
+     */
+    @NotNull
+    public final double[] x;
+    /**
+     * y - координаты векторов
+     */
+    @NotNull
+    public final double[] y;
+    /**
+     * z - координаты векторов
+     */
+    @NotNull
+    public final double[] z;
+    /**
+     * w - координаты векторов
+     */
+    @NotNull
+    public final double[] w;
+
+    /**
+     * Конструктор массива нулевых векторов
+     *
+     * @param size количество векторов
+     */
+    public Vector4dArray(int size) {
+        this.x = new double[size];
+        this.y = new double[size];
+        this.z = new double[size];
+        this.w = new double[size];
+    }
+
+    /**
+     * Конструктор массива по готовым массивам координат (массивы не копируются)
+     *
+     * @param x x - координаты векторов
+     * @param y y - координаты векторов
+     * @param z z - координаты векторов
+     * @param w w - координаты векторов
+     */
+    public Vector4dArray(@NotNull double[] x, @NotNull double[] y, @NotNull double[] z, @NotNull double[] w) {
+        if (x.length != y.length)
+            throw new IllegalArgumentException("coords arrays have different lengths: " + x.length + " " + y.length);
+        if (x.length != z.length)
+            throw new IllegalArgumentException("coords arrays have different lengths: " + x.length + " " + z.length);
+        if (x.length != w.length)
+            throw new IllegalArgumentException("coords arrays have different lengths: " + x.length + " " + w.length);
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+    }
+
+    /**
+     * Конструктор копии
+     *
+     * @param arr исходный массив векторов
+     */
+    public Vector4dArray(@NotNull Vector4dArray arr) {
+        this.x = Arrays.copyOf(arr.x, arr.x.length);
+        this.y = Arrays.copyOf(arr.y, arr.y.length);
+        this.z = Arrays.copyOf(arr.z, arr.z.length);
+        this.w = Arrays.copyOf(arr.w, arr.w.length);
+    }
+
+    /**
+     * Конструктор массива по списку векторов
+     *
+     * @param list список векторов
+     */
+    public Vector4dArray(@NotNull List<Vector4d> list) {
+        this(list.size());
+        int i = 0;
+        for (Vector4d v : list)
+            set(i++, v);
+    }
+
+    /**
+     * Получить количество векторов
+     *
+     * @return количество векторов
+     */
+    public int size() {
+        return x.length;
+    }
+
+    /**
+     * Получить вектор по индексу
+     *
+     * @param i индекс
+     * @return новый вектор с координатами i-го элемента
+     */
+    @NotNull
+    public Vector4d get(int i) {
+        return new Vector4d(x[i], y[i], z[i], w[i]);
+    }
+
+    /**
+     * Получить вектор по индексу и записать его в заданный вектор
+     *
+     * @param i    индекс
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с координатами i-го элемента
+     */
+    @NotNull
+    public Vector4d get(int i, @NotNull Vector4d dest) {
+        dest.x = x[i];
+        dest.y = y[i];
+        dest.z = z[i];
+        dest.w = w[i];
+        return dest;
+    }
+
+    /**
+     * Задать вектор по индексу
+     *
+     * @param i индекс
+     * @param v вектор
+     */
+    public void set(int i, @NotNull Vector4d v) {
+        x[i] = v.x;
+        y[i] = v.y;
+        z[i] = v.z;
+        w[i] = v.w;
+    }
+
+    /**
+     * Задать координаты вектора по индексу
+     *
+     * @param i индекс
+     * @param xVal x - координата вектора
+     * @param yVal y - координата вектора
+     * @param zVal z - координата вектора
+     * @param wVal w - координата вектора
+     */
+    public void set(int i, double xVal, double yVal, double zVal, double wVal) {
+        x[i] = xVal;
+        y[i] = yVal;
+        z[i] = zVal;
+        w[i] = wVal;
+    }
+
+    /**
+     * Заполнить массив одинаковыми векторами
+     *
+     * @param v вектор
+     */
+    public void fill(@NotNull Vector4d v) {
+        Arrays.fill(x, v.x);
+        Arrays.fill(y, v.y);
+        Arrays.fill(z, v.z);
+        Arrays.fill(w, v.w);
+    }
+
+    /**
+     * Преобразовать к списку векторов
+     *
+     * @return список векторов
+     */
+    @NotNull
+    public List<Vector4d> toList() {
+        List<Vector4d> list = new ArrayList<>(size());
+        for (int i = 0; i < size(); i++)
+            list.add(get(i));
+        return list;
+    }
+
+    /**
+     * Поэлементная сумма массивов векторов
+     *
+     * @param a первый массив векторов
+     * @param b второй массив векторов
+     * @return новый массив с результатом
+     */
+    @NotNull
+    public static Vector4dArray sum(@NotNull Vector4dArray a, @NotNull Vector4dArray b) {
+        return sum(a, b, new Vector4dArray(a.size()));
+    }
+
+    /**
+     * Поэлементная сумма массивов векторов с записью результата в заданный массив
+     *
+     * @param a    первый массив векторов
+     * @param b    второй массив векторов
+     * @param dest массив, в который записывается результат (может совпадать с a или b)
+     * @return массив dest с результатом
+     */
+    @NotNull
+    public static Vector4dArray sum(@NotNull Vector4dArray a, @NotNull Vector4dArray b, @NotNull Vector4dArray dest) {
+        checkSize(a, b);
+        checkSize(a, dest);
+        VectorKernels.getDefault().add(a.x, b.x, dest.x);
+        VectorKernels.getDefault().add(a.y, b.y, dest.y);
+        VectorKernels.getDefault().add(a.z, b.z, dest.z);
+        VectorKernels.getDefault().add(a.w, b.w, dest.w);
+        return dest;
+    }
+
+    /**
+     * Поэлементная разность массивов векторов
+     *
+     * @param a первый массив векторов
+     * @param b второй массив векторов
+     * @return новый массив с результатом
+     */
+    @NotNull
+    public static Vector4dArray subtract(@NotNull Vector4dArray a, @NotNull Vector4dArray b) {
+        return subtract(a, b, new Vector4dArray(a.size()));
+    }
+
+    /**
+     * Поэлементная разность массивов векторов с записью результата в заданный массив
+     *
+     * @param a    первый массив векторов
+     * @param b    второй массив векторов
+     * @param dest массив, в который записывается результат (может совпадать с a или b)
+     * @return массив dest с результатом
+     */
+    @NotNull
+    public static Vector4dArray subtract(@NotNull Vector4dArray a, @NotNull Vector4dArray b, @NotNull Vector4dArray dest) {
+        checkSize(a, b);
+        checkSize(a, dest);
+        VectorKernels.getDefault().subtract(a.x, b.x, dest.x);
+        VectorKernels.getDefault().subtract(a.y, b.y, dest.y);
+        VectorKernels.getDefault().subtract(a.z, b.z, dest.z);
+        VectorKernels.getDefault().subtract(a.w, b.w, dest.w);
+        return dest;
+    }
+
+    /**
+     * Покоординатное умножение векторов двух массивов
+     *
+     * @param a первый массив векторов
+     * @param b второй массив векторов
+     * @return новый массив с результатом
+     */
+    @NotNull
+    public static Vector4dArray mul(@NotNull Vector4dArray a, @NotNull Vector4dArray b) {
+        return mul(a, b, new Vector4dArray(a.size()));
+    }
+
+    /**
+     * Покоординатное умножение векторов двух массивов с записью результата в заданный массив
+     *
+     * @param a    первый массив векторов
+     * @param b    второй массив векторов
+     * @param dest массив, в который записывается результат (может совпадать с a или b)
+     * @return массив dest с результатом
+     */
+    @NotNull
+    public static Vector4dArray mul(@NotNull Vector4dArray a, @NotNull Vector4dArray b, @NotNull Vector4dArray dest) {
+        checkSize(a, b);
+        checkSize(a, dest);
+        VectorKernels.getDefault().mul(a.x, b.x, dest.x);
+        VectorKernels.getDefault().mul(a.y, b.y, dest.y);
+        VectorKernels.getDefault().mul(a.z, b.z, dest.z);
+        VectorKernels.getDefault().mul(a.w, b.w, dest.w);
+        return dest;
+    }
+
+    /**
+     * Умножение всех векторов массива на число
+     *
+     * @param v массив векторов
+     * @param c число
+     * @return новый массив с результатом
+     */
+    @NotNull
+    public static Vector4dArray mul(@NotNull Vector4dArray v, double c) {
+        return mul(v, c, new Vector4dArray(v.size()));
+    }
+
+    /**
+     * Умножение всех векторов массива на число с записью результата в заданный массив
+     *
+     * @param v    массив векторов
+     * @param c    число
+     * @param dest массив, в который записывается результат (может совпадать с v)
+     * @return массив dest с результатом
+     */
+    @NotNull
+    public static Vector4dArray mul(@NotNull Vector4dArray v, double c, @NotNull Vector4dArray dest) {
+        checkSize(v, dest);
+        VectorKernels.getDefault().mul(v.x, c, dest.x);
+        VectorKernels.getDefault().mul(v.y, c, dest.y);
+        VectorKernels.getDefault().mul(v.z, c, dest.z);
+        VectorKernels.getDefault().mul(v.w, c, dest.w);
+        return dest;
+    }
+
+    /**
+     * Поэлементное скалярное произведение векторов двух массивов
+     *
+     * @param a первый массив векторов
+     * @param b второй массив векторов
+     * @return массив скалярных произведений
+     */
+    @NotNull
+    public static double[] dot(@NotNull Vector4dArray a, @NotNull Vector4dArray b) {
+        return dot(a, b, new double[a.size()]);
+    }
+
+    /**
+     * Поэлементное скалярное произведение векторов двух массивов с записью результата в заданный массив
+     *
+     * @param a    первый массив векторов
+     * @param b    второй массив векторов
+     * @param dest массив, в который записывается результат
+     * @return массив dest со скалярными произведениями
+     */
+    @NotNull
+    public static double[] dot(@NotNull Vector4dArray a, @NotNull Vector4dArray b, @NotNull double[] dest) {
+        checkSize(a, b);
+        checkSize(a.size(), dest.length);
+        VectorKernels.getDefault().dot(a.x, a.y, a.z, a.w, b.x, b.y, b.z, b.w, dest);
+        return dest;
+    }
+
+    /**
+     * Получить длины всех векторов массива
+     *
+     * @param v    массив векторов
+     * @param dest массив, в который записывается результат
+     * @return массив dest с длинами векторов
+     */
+    @NotNull
+    public static double[] length(@NotNull Vector4dArray v, @NotNull double[] dest) {
+        checkSize(v.size(), dest.length);
+        VectorKernels.getDefault().length(v.x, v.y, v.z, v.w, dest);
+        return dest;
+    }
+
+    /**
+     * Нормализовать все векторы массива
+     *
+     * @param v массив векторов
+     * @return новый массив нормализованных векторов
+     */
+    @NotNull
+    public static Vector4dArray norm(@NotNull Vector4dArray v) {
+        return norm(v, new Vector4dArray(v.size()));
+    }
+
+    /**
+     * Нормализовать все векторы массива и записать результат в заданный массив
+     *
+     * @param v    массив векторов
+     * @param dest массив, в который записывается результат (может совпадать с v)
+     * @return массив dest с нормализованными векторами
+     */
+    @NotNull
+    public static Vector4dArray norm(@NotNull Vector4dArray v, @NotNull Vector4dArray dest) {
+        checkSize(v, dest);
+        VectorKernels.getDefault().normalize(v.x, v.y, v.z, v.w, dest.x, dest.y, dest.z, dest.w);
+        return dest;
+    }
+
+    /**
+     * Получить расстояния между соответствующими векторами двух массивов
+     *
+     * @param a    первый массив векторов
+     * @param b    второй массив векторов
+     * @param dest массив, в который записывается результат
+     * @return массив dest с расстояниями
+     */
+    @NotNull
+    public static double[] getDistance(@NotNull Vector4dArray a, @NotNull Vector4dArray b, @NotNull double[] dest) {
+        checkSize(a, b);
+        checkSize(a.size(), dest.length);
+        for (int i = 0; i < dest.length; i++) {
+            double dx = a.x[i] - b.x[i];
+            double dy = a.y[i] - b.y[i];
+            double dz = a.z[i] - b.z[i];
+            double dw = a.w[i] - b.w[i];
+            dest[i] = Math.sqrt(dx * dx + dy * dy + dz * dz + dw * dw);
+        }
+        return dest;
+    }
+
+    /**
+     * Получить расстояния от векторов массива до заданной точки
+     *
+     * @param a    массив векторов
+     * @param p    точка
+     * @param dest массив, в который записывается результат
+     * @return массив dest с расстояниями
+     */
+    @NotNull
+    public static double[] getDistance(@NotNull Vector4dArray a, @NotNull Vector4d p, @NotNull double[] dest) {
+        checkSize(a.size(), dest.length);
+        double pX = p.x;
+        double pY = p.y;
+        double pZ = p.z;
+        double pW = p.w;
+        for (int i = 0; i < dest.length; i++) {
+            double dx = a.x[i] - pX;
+            double dy = a.y[i] - pY;
+            double dz = a.z[i] - pZ;
+            double dw = a.w[i] - pW;
+            dest[i] = Math.sqrt(dx * dx + dy * dy + dz * dz + dw * dw);
+        }
+        return dest;
+    }
+
+    /**
+     * Получить вектор из минимальных координат векторов массива
+     *
+     * @param v массив векторов
+     * @return вектор из минимальных координат
+     */
+    @NotNull
+    public static Vector4d min(@NotNull Vector4dArray v) {
+        return min(v, new Vector4d());
+    }
+
+    /**
+     * Получить вектор из минимальных координат векторов массива и записать его в заданный вектор
+     *
+     * @param v    массив векторов
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest из минимальных координат
+     */
+    @NotNull
+    public static Vector4d min(@NotNull Vector4dArray v, @NotNull Vector4d dest) {
+        if (v.size() == 0)
+            throw new IllegalArgumentException("array is empty");
+        dest.x = min(v.x);
+        dest.y = min(v.y);
+        dest.z = min(v.z);
+        dest.w = min(v.w);
+        return dest;
+    }
+
+    /**
+     * Получить вектор из максимальных координат векторов массива
+     *
+     * @param v массив векторов
+     * @return вектор из максимальных координат
+     */
+    @NotNull
+    public static Vector4d max(@NotNull Vector4dArray v) {
+        return max(v, new Vector4d());
+    }
+
+    /**
+     * Получить вектор из максимальных координат векторов массива и записать его в заданный вектор
+     *
+     * @param v    массив векторов
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest из максимальных координат
+     */
+    @NotNull
+    public static Vector4d max(@NotNull Vector4dArray v, @NotNull Vector4d dest) {
+        if (v.size() == 0)
+            throw new IllegalArgumentException("array is empty");
+        dest.x = max(v.x);
+        dest.y = max(v.y);
+        dest.z = max(v.z);
+        dest.w = max(v.w);
+        return dest;
+    }
+
+    /**
+     * Прибавить к векторам массива векторы другого массива
+     *
+     * @param v массив векторов
+     */
+    public void add(@NotNull Vector4dArray v) {
+        sum(this, v, this);
+    }
+
+    /**
+     * Прибавить ко всем векторам массива вектор
+     *
+     * @param v вектор
+     */
+    public void add(@NotNull Vector4d v) {
+        add(x, v.x);
+        add(y, v.y);
+        add(z, v.z);
+        add(w, v.w);
+    }
+
+    /**
+     * Вычесть из векторов массива векторы другого массива
+     *
+     * @param v массив векторов
+     */
+    public void subtract(@NotNull Vector4dArray v) {
+        subtract(this, v, this);
+    }
+
+    /**
+     * Умножить все векторы массива на число
+     *
+     * @param c число
+     */
+    public void mul(double c) {
+        mul(this, c, this);
+    }
+
+    /**
+     * Покоординатно умножить все векторы массива на вектор
+     *
+     * @param v вектор
+     */
+    public void mul(@NotNull Vector4d v) {
+        VectorKernels.getDefault().mul(x, v.x, x);
+        VectorKernels.getDefault().mul(y, v.y, y);
+        VectorKernels.getDefault().mul(z, v.z, z);
+        VectorKernels.getDefault().mul(w, v.w, w);
+    }
+
+    /**
+     * Нормализовать все векторы массива
+     */
+    public void normalize() {
+        norm(this, this);
+    }
+
+    /**
+     * Получить минимальный элемент массива
+     *
+     * @param arr массив
+     * @return минимальный элемент
+     */
+    private static double min(@NotNull double[] arr) {
+        double res = arr[0];
+        for (int i = 1; i < arr.length; i++)
+            res = Math.min(res, arr[i]);
+        return res;
+    }
+
+    /**
+     * Получить максимальный элемент массива
+     *
+     * @param arr массив
+     * @return максимальный элемент
+     */
+    private static double max(@NotNull double[] arr) {
+        double res = arr[0];
+        for (int i = 1; i < arr.length; i++)
+            res = Math.max(res, arr[i]);
+        return res;
+    }
+
+    /**
+     * Прибавить число ко всем элементам массива координат
+     *
+     * @param a массив
+     * @param c число
+     */
+    private static void add(@NotNull double[] a, double c) {
+        for (int i = 0; i < a.length; i++)
+            a[i] += c;
+    }
+
+    /**
+     * Проверить, что массивы векторов имеют одинаковый размер
+     *
+     * @param a первый массив векторов
+     * @param b второй массив векторов
+     */
+    private static void checkSize(@NotNull Vector4dArray a, @NotNull Vector4dArray b) {
+        checkSize(Objects.requireNonNull(a).size(), Objects.requireNonNull(b).size());
+    }
+
+    /**
+     * Проверить, что размеры массивов совпадают
+     *
+     * @param a первый размер
+     * @param b второй размер
+     */
+    private static void checkSize(int a, int b) {
+        if (a != b)
+            throw new IllegalArgumentException("arrays have different sizes: " + a + " " + b);
+    }
+
+    @Override
+    public String toString() {
+        return "Vector4dArray{" +
+                "size=" + size() +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        Vector4dArray that = (Vector4dArray) o;
+
+        return Arrays.equals(x, that.x) && Arrays.equals(y, that.y) && Arrays.equals(z, that.z) && Arrays.equals(w, that.w);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(x);
+        result = 31 * result + Arrays.hashCode(y);
+        result = 31 * result + Arrays.hashCode(z);
+        result = 31 * result + Arrays.hashCode(w);
+        return result;
+    }
+}
@@ -94,12 +94,24 @@ public class Vector4i implements Serializable {
      */
     @NotNull
     public static Vector4i min(@NotNull Vector4i a, @NotNull Vector4i b) {
-        return new Vector4i(
-                Math.min(a.x, b.x),
-                Math.min(a.y, b.y),
-                Math.min(a.z, b.z),
-                Math.min(a.w, b.w)
-        );
+        return min(a, b, new Vector4i());
+    }
+
+    /**
+     * Получить вектор с минимальными координатами из двух переданных векторов и записать его в заданный вектор
+     *
+     * @param a    первый вектор
+     * @param b    второй вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с минимальными координатами из двух переданных векторов
+     */
+    @NotNull
+    public static Vector4i min(@NotNull Vector4i a, @NotNull Vector4i b, @NotNull Vector4i dest) {
+        dest.x = Math.min(a.x, b.x);
+        dest.y = Math.min(a.y, b.y);
+        dest.z = Math.min(a.z, b.z);
+        dest.w = Math.min(a.w, b.w);
+        return dest;
     }
 
     /**
@@ -111,12 +123,24 @@ public class Vector4i implements Serializable {
      */
     @NotNull
     public static Vector4i max(@NotNull Vector4i a, @NotNull Vector4i b) {
-        return new Vector4i(
-                Math.max(a.x, b.x),
-                Math.max(a.y, b.y),
-                Math.max(a.z, b.z),
-                Math.max(a.w, b.w)
-        );
+        return max(a, b, new Vector4i());
+    }
+
+    /**
+     * Получить вектор с максимальными координатами из двух переданных векторов и записать его в заданный вектор
+     *
+     * @param a    первый вектор
+     * @param b    второй вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с максимальными координатами из двух переданных векторов
+     */
+    @NotNull
+    public static Vector4i max(@NotNull Vector4i a, @NotNull Vector4i b, @NotNull Vector4i dest) {
+        dest.x = Math.max(a.x, b.x);
+        dest.y = Math.max(a.y, b.y);
+        dest.z = Math.max(a.z, b.z);
+        dest.w = Math.max(a.w, b.w);
+        return dest;
     }
 
     /**
@@ -128,7 +152,24 @@ public class Vector4i implements Serializable {
      */
     @NotNull
     public static Vector4i sum(@NotNull Vector4i a, @NotNull Vector4i b) {
-        return new Vector4i(a.x + b.x, a.y + b.y, a.z + b.z, a.w + b.w);
+        return sum(a, b, new Vector4i());
+    }
+
+    /**
+     * Сложить два вектора и записать результат в заданный вектор
+     *
+     * @param a    первый вектор
+     * @param b    второй вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с суммой двух векторов
+     */
+    @NotNull
+    public static Vector4i sum(@NotNull Vector4i a, @NotNull Vector4i b, @NotNull Vector4i dest) {
+        dest.x = a.x + b.x;
+        dest.y = a.y + b.y;
+        dest.z = a.z + b.z;
+        dest.w = a.w + b.w;
+        return dest;
     }
 
     /**
@@ -156,7 +197,24 @@ public class Vector4i implements Serializable {
      */
     @NotNull
     public static Vector4i subtract(@NotNull Vector4i a, @NotNull Vector4i b) {
-        return new Vector4i(a.x - b.x, a.y - b.y, a.z - b.z, a.w - b.w);
+        return subtract(a, b, new Vector4i());
+    }
+
+    /**
+     * Вычесть второй вектор из первого и записать результат в заданный вектор
+     *
+     * @param a    первый вектор
+     * @param b    второй вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с разностью двух векторов
+     */
+    @NotNull
+    public static Vector4i subtract(@NotNull Vector4i a, @NotNull Vector4i b, @NotNull Vector4i dest) {
+        dest.x = a.x - b.x;
+        dest.y = a.y - b.y;
+        dest.z = a.z - b.z;
+        dest.w = a.w - b.w;
+        return dest;
     }
 
 
@@ -168,7 +226,23 @@ public class Vector4i implements Serializable {
      */
     @NotNull
     public static Vector4i inc(@NotNull Vector4i a) {
-        return sum(a, ones());
+        return inc(a, new Vector4i());
+    }
+
+    /**
+     * Прибавить к вектору единичный и записать результат в заданный вектор
+     *
+     * @param a    вектор, к которому прибавляем
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с суммой единичного вектора и переданного в параметрах
+     */
+    @NotNull
+    public static Vector4i inc(@NotNull Vector4i a, @NotNull Vector4i dest) {
+        dest.x = a.x + 1;
+        dest.y = a.y + 1;
+        dest.z = a.z + 1;
+        dest.w = a.w + 1;
+        return dest;
     }
 
     /**
@@ -179,7 +253,23 @@ public class Vector4i implements Serializable {
      */
     @NotNull
     public static Vector4i dec(@NotNull Vector4i a) {
-        return subtract(a, ones());
+        return dec(a, new Vector4i());
+    }
+
+    /**
+     * Вычесть из вектора единичный и записать результат в заданный вектор
+     *
+     * @param a    вектор, из которого вычетаем
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с разностью переданного в параметрах вектора и единичного
+     */
+    @NotNull
+    public static Vector4i dec(@NotNull Vector4i a, @NotNull Vector4i dest) {
+        dest.x = a.x - 1;
+        dest.y = a.y - 1;
+        dest.z = a.z - 1;
+        dest.w = a.w - 1;
+        return dest;
     }
 
     /**
@@ -190,7 +280,11 @@ public class Vector4i implements Serializable {
      * @return расстояние между векторами
      */
     public static double getDistance(@NotNull Vector4i a, @NotNull Vector4i b) {
-        return subtract(a, b).length();
+        int dx = a.x - b.x;
+        int dy = a.y - b.y;
+        int dz = a.z - b.z;
+        int dw = a.w - b.w;
+        return Math.sqrt(dx * dx + dy * dy + dz * dz + dw * dw);
     }
 
     /**
@@ -202,7 +296,24 @@ public class Vector4i implements Serializable {
      */
     @NotNull
     public static Vector4i mul(@NotNull Vector4i v, int a) {
-        return new Vector4i(v.x * a, v.y * a, v.z * a, v.w * a);
+        return mul(v, a, new Vector4i());
+    }
+
+    /**
+     * Умножение вектора на число с записью результата в заданный вектор
+     *
+     * @param v    вектор
+     * @param a    число
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с результатом умножения вектора на число
+     */
+    @NotNull
+    public static Vector4i mul(@NotNull Vector4i v, int a, @NotNull Vector4i dest) {
+        dest.x = v.x * a;
+        dest.y = v.y * a;
+        dest.z = v.z * a;
+        dest.w = v.w * a;
+        return dest;
     }
 
     /**
@@ -214,7 +325,24 @@ public class Vector4i implements Serializable {
      */
     @NotNull
     public static Vector4i mul(@NotNull Vector4i v1, @NotNull Vector4i v2) {
-        return new Vector4i(v1.x * v2.x, v1.y * v2.y, v1.z * v2.z, v1.w * v2.w);
+        return mul(v1, v2, new Vector4i());
+    }
+
+    /**
+     * Поэлементное умножение векторов с записью результата в заданный вектор
+     *
+     * @param v1   первый вектор
+     * @param v2   второй вектор
+     * @param dest вектор, в который записывается результат
+     * @return вектор dest с поэлементным умножением векторов
+     */
+    @NotNull
+    public static Vector4i mul(@NotNull Vector4i v1, @NotNull Vector4i v2, @NotNull Vector4i dest) {
+        dest.x = v1.x * v2.x;
+        dest.y = v1.y * v2.y;
+        dest.z = v1.z * v2.z;
+        dest.w = v1.w * v2.w;
+        return dest;
     }
 
     /**
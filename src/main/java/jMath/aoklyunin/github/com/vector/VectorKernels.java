@@ -0,0 +1,263 @@
+package jMath.aoklyunin.github.com.vector;
+
+import com.sun.istack.NotNull;
+
+/**
+ * Ядра массовых операций над векторами, координаты которых хранятся
+ * в параллельных массивах double (по массиву на каждую координату)
+ * <p>
+ * Реализация по умолчанию выбирается один раз при загрузке класса: если jar запущен
+ * на Java 17+ с модулем jdk.incubator.vector (--add-modules jdk.incubator.vector),
+ * используется реализация на Vector API из multi-release части jar, иначе - скалярная.
+ * Скалярную реализацию можно выбрать принудительно свойством -Djmath.vector.simd=false
+ * <p>
+ * Обе реализации выполняют одни и те же операции в одном и том же порядке,
+ * поэтому их результаты совпадают побитово
+ * <p>
+ * Во всех методах длина обрабатываемого участка равна длине массива результата,
+ * исходные массивы должны быть не короче него; массив результата может совпадать с исходным
+ */
+public abstract class VectorKernels {
+    /**
+     * Имя класса реализации на Vector API
+     */
+    private static final String SIMD_CLASS_NAME = "jMath.aoklyunin.github.com.vector.SimdVectorKernels";
+    /**
+     * Скалярная реализация
+     */
+    private static final VectorKernels SCALAR = new ScalarVectorKernels();
+    /**
+     * Реализация по умолчанию
+     */
+    private static final VectorKernels DEFAULT = load();
+
+    /**
+     * Конструктор ядер (наследники должны находиться в этом пакете)
+     */
+    VectorKernels() {
+    }
+
+    /**
+     * Получить реализацию по умолчанию
+     *
+     * @return реализация по умолчанию
+     */
+    @NotNull
+    public static VectorKernels getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Получить скалярную реализацию
+     *
+     * @return скалярная реализация
+     */
+    @NotNull
+    public static VectorKernels getScalar() {
+        return SCALAR;
+    }
+
+    /**
+     * Проверить, используется ли по умолчанию реализация на Vector API
+     *
+     * @return флаг, используется ли по умолчанию реализация на Vector API
+     */
+    public static boolean isSimdAvailable() {
+        return DEFAULT != SCALAR;
+    }
+
+    /**
+     * Загрузить реализацию по умолчанию
+     *
+     * @return реализация на Vector API, если она доступна, иначе скалярная реализация
+     */
+    @NotNull
+    private static VectorKernels load() {
+        if (!Boolean.parseBoolean(System.getProperty("jmath.vector.simd", "true")))
+            return SCALAR;
+        try {
+            return (VectorKernels) Class.forName(SIMD_CLASS_NAME).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | ClassCastException e) {
+            // нет multi-release части jar, Java младше 17 или не подключён модуль jdk.incubator.vector
+            return SCALAR;
+        }
+    }
+
+    /**
+     * Получить название реализации
+     *
+     * @return название реализации
+     */
+    @NotNull
+    public abstract String getName();
+
+    /**
+     * Поэлементно сложить массивы
+     *
+     * @param a    первый массив
+     * @param b    второй массив
+     * @param dest массив, в который записывается результат
+     */
+    public abstract void add(@NotNull double[] a, @NotNull double[] b, @NotNull double[] dest);
+
+    /**
+     * Поэлементно вычесть массивы
+     *
+     * @param a    первый массив
+     * @param b    второй массив
+     * @param dest массив, в который записывается результат
+     */
+    public abstract void subtract(@NotNull double[] a, @NotNull double[] b, @NotNull double[] dest);
+
+    /**
+     * Поэлементно перемножить массивы
+     *
+     * @param a    первый массив
+     * @param b    второй массив
+     * @param dest массив, в который записывается результат
+     */
+    public abstract void mul(@NotNull double[] a, @NotNull double[] b, @NotNull double[] dest);
+
+    /**
+     * Умножить массив на число
+     *
+     * @param a    массив
+     * @param c    число
+     * @param dest массив, в который записывается результат
+     */
+    public abstract void mul(@NotNull double[] a, double c, @NotNull double[] dest);
+
+    /**
+     * Скалярные произведения двумерных векторов
+     *
+     * @param ax   x - координаты первых векторов
+     * @param ay   y - координаты первых векторов
+     * @param bx   x - координаты вторых векторов
+     * @param by   y - координаты вторых векторов
+     * @param dest массив, в который записывается результат
+     */
+    public abstract void dot(
+            @NotNull double[] ax, @NotNull double[] ay, @NotNull double[] bx, @NotNull double[] by,
+            @NotNull double[] dest
+    );
+
+    /**
+     * Скалярные произведения трёхмерных векторов
+     *
+     * @param ax   x - координаты первых векторов
+     * @param ay   y - координаты первых векторов
+     * @param az   z - координаты первых векторов
+     * @param bx   x - координаты вторых векторов
+     * @param by   y - координаты вторых векторов
+     * @param bz   z - координаты вторых векторов
+     * @param dest массив, в который записывается результат
+     */
+    public abstract void dot(
+            @NotNull double[] ax, @NotNull double[] ay, @NotNull double[] az,
+            @NotNull double[] bx, @NotNull double[] by, @NotNull double[] bz,
+            @NotNull double[] dest
+    );
+
+    /**
+     * Скалярные произведения четырёхмерных векторов
+     *
+     * @param ax   x - координаты первых векторов
+     * @param ay   y - координаты первых векторов
+     * @param az   z - координаты первых векторов
+     * @param aw   w - координаты первых векторов
+     * @param bx   x - координаты вторых векторов
+     * @param by   y - координаты вторых векторов
+     * @param bz   z - координаты вторых векторов
+     * @param bw   w - координаты вторых векторов
+     * @param dest массив, в который записывается результат
+     */
+    public abstract void dot(
+            @NotNull double[] ax, @NotNull double[] ay, @NotNull double[] az, @NotNull double[] aw,
+            @NotNull double[] bx, @NotNull double[] by, @NotNull double[] bz, @NotNull double[] bw,
+            @NotNull double[] dest
+    );
+
+    /**
+     * Длины двумерных векторов
+     *
+     * @param x    x - координаты векторов
+     * @param y    y - координаты векторов
+     * @param dest массив, в который записывается результат
+     */
+    public abstract void length(@NotNull double[] x, @NotNull double[] y, @NotNull double[] dest);
+
+    /**
+     * Длины трёхмерных векторов
+     *
+     * @param x    x - координаты векторов
+     * @param y    y - координаты векторов
+     * @param z    z - координаты векторов
+     * @param dest массив, в который записывается результат
+     */
+    public abstract void length(@NotNull double[] x, @NotNull double[] y, @NotNull double[] z, @NotNull double[] dest);
+
+    /**
+     * Длины четырёхмерных векторов
+     *
+     * @param x    x - координаты векторов
+     * @param y    y - координаты векторов
+     * @param z    z - координаты векторов
+     * @param w    w - координаты векторов
+     * @param dest массив, в который записывается результат
+     */
+    public abstract void length(
+            @NotNull double[] x, @NotNull double[] y, @NotNull double[] z, @NotNull double[] w,
+            @NotNull double[] dest
+    );
+
+    /**
+     * Нормализовать двумерные векторы
+     *
+     * @param x     x - координаты векторов
+     * @param y     y - координаты векторов
+     * @param destX массив, в который записываются x - координаты результата
+     * @param destY массив, в который записываются y - координаты результата
+     */
+    public abstract void normalize(
+            @NotNull double[] x, @NotNull double[] y, @NotNull double[] destX, @NotNull double[] destY
+    );
+
+    /**
+     * Нормализовать трёхмерные векторы
+     *
+     * @param x     x - координаты векторов
+     * @param y     y - координаты векторов
+     * @param z     z - координаты векторов
+     * @param destX массив, в который записываются x - координаты результата
+     * @param destY массив, в который записываются y - координаты результата
+     * @param destZ массив, в который записываются z - координаты результата
+     */
+    public abstract void normalize(
+            @NotNull double[] x, @NotNull double[] y, @NotNull double[] z,
+            @NotNull double[] destX, @NotNull double[] destY, @NotNull double[] destZ
+    );
+
+    /**
+     * Нормализовать четырёхмерные векторы
+     *
+     * @param x     x - координаты векторов
+     * @param y     y - координаты векторов
+     * @param z     z - координаты векторов
+     * @param w     w - координаты векторов
+     * @param destX массив, в который записываются x - координаты результата
+     * @param destY массив, в который записываются y - координаты результата
+     * @param destZ массив, в который записываются z - координаты результата
+     * @param destW массив, в который записываются w - координаты результата
+     */
+    public abstract void normalize(
+            @NotNull double[] x, @NotNull double[] y, @NotNull double[] z, @NotNull double[] w,
+            @NotNull double[] destX, @NotNull double[] destY, @NotNull double[] destZ, @NotNull double[] destW
+    );
+
+    @Override
+    public String toString() {
+        return "VectorKernels{" +
+                "name='" + getName() + '\'' +
+                '}';
+    }
+}
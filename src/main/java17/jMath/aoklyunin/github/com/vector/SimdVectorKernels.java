@@ -0,0 +1,219 @@
+package jMath.aoklyunin.github.com.vector;
+
+import com.sun.istack.NotNull;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Реализация ядер массовых операций над векторами на Vector API (jdk.incubator.vector)
+ * <p>
+ * Класс входит в multi-release часть jar (META-INF/versions/17) и загружается
+ * классом VectorKernels через рефлексию. Основная часть массива обрабатывается
+ * векторами предпочтительной для процессора ширины, хвост - скалярными ядрами
+ */
+final class SimdVectorKernels extends VectorKernels {
+    /**
+     * Предпочтительная ширина вектора
+     */
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * Конструктор ядер
+     * <p>
+     * Обращается к Vector API, чтобы при отсутствии модуля jdk.incubator.vector
+     * ошибка возникла при создании, а не при первом вычислении
+     */
+    SimdVectorKernels() {
+        if (SPECIES.length() < 2)
+            throw new UnsupportedOperationException("SIMD is not supported");
+    }
+
+    @NotNull
+    @Override
+    public String getName() {
+        return "simd" + SPECIES.vectorBitSize();
+    }
+
+    @Override
+    public void add(@NotNull double[] a, @NotNull double[] b, @NotNull double[] dest) {
+        int i = 0;
+        for (int upper = SPECIES.loopBound(dest.length); i < upper; i += SPECIES.length()) {
+            DoubleVector va = DoubleVector.fromArray(SPECIES, a, i);
+            DoubleVector vb = DoubleVector.fromArray(SPECIES, b, i);
+            va.add(vb).intoArray(dest, i);
+        }
+        ScalarVectorKernels.add(a, b, dest, i);
+    }
+
+    @Override
+    public void subtract(@NotNull double[] a, @NotNull double[] b, @NotNull double[] dest) {
+        int i = 0;
+        for (int upper = SPECIES.loopBound(dest.length); i < upper; i += SPECIES.length()) {
+            DoubleVector va = DoubleVector.fromArray(SPECIES, a, i);
+            DoubleVector vb = DoubleVector.fromArray(SPECIES, b, i);
+            va.sub(vb).intoArray(dest, i);
+        }
+        ScalarVectorKernels.subtract(a, b, dest, i);
+    }
+
+    @Override
+    public void mul(@NotNull double[] a, @NotNull double[] b, @NotNull double[] dest) {
+        int i = 0;
+        for (int upper = SPECIES.loopBound(dest.length); i < upper; i += SPECIES.length()) {
+            DoubleVector va = DoubleVector.fromArray(SPECIES, a, i);
+            DoubleVector vb = DoubleVector.fromArray(SPECIES, b, i);
+            va.mul(vb).intoArray(dest, i);
+        }
+        ScalarVectorKernels.mul(a, b, dest, i);
+    }
+
+    @Override
+    public void mul(@NotNull double[] a, double c, @NotNull double[] dest) {
+        int i = 0;
+        for (int upper = SPECIES.loopBound(dest.length); i < upper; i += SPECIES.length())
+            DoubleVector.fromArray(SPECIES, a, i).mul(c).intoArray(dest, i);
+        ScalarVectorKernels.mul(a, c, dest, i);
+    }
+
+    @Override
+    public void dot(
+            @NotNull double[] ax, @NotNull double[] ay, @NotNull double[] bx, @NotNull double[] by,
+            @NotNull double[] dest
+    ) {
+        int i = 0;
+        for (int upper = SPECIES.loopBound(dest.length); i < upper; i += SPECIES.length()) {
+            DoubleVector x = DoubleVector.fromArray(SPECIES, ax, i).mul(DoubleVector.fromArray(SPECIES, bx, i));
+            DoubleVector y = DoubleVector.fromArray(SPECIES, ay, i).mul(DoubleVector.fromArray(SPECIES, by, i));
+            x.add(y).intoArray(dest, i);
+        }
+        ScalarVectorKernels.dot(ax, ay, bx, by, dest, i);
+    }
+
+    @Override
+    public void dot(
+            @NotNull double[] ax, @NotNull double[] ay, @NotNull double[] az,
+            @NotNull double[] bx, @NotNull double[] by, @NotNull double[] bz,
+            @NotNull double[] dest
+    ) {
+        int i = 0;
+        for (int upper = SPECIES.loopBound(dest.length); i < upper; i += SPECIES.length()) {
+            DoubleVector x = DoubleVector.fromArray(SPECIES, ax, i).mul(DoubleVector.fromArray(SPECIES, bx, i));
+            DoubleVector y = DoubleVector.fromArray(SPECIES, ay, i).mul(DoubleVector.fromArray(SPECIES, by, i));
+            DoubleVector z = DoubleVector.fromArray(SPECIES, az, i).mul(DoubleVector.fromArray(SPECIES, bz, i));
+            x.add(y).add(z).intoArray(dest, i);
+        }
+        ScalarVectorKernels.dot(ax, ay, az, bx, by, bz, dest, i);
+    }
+
+    @Override
+    public void dot(
+            @NotNull double[] ax, @NotNull double[] ay, @NotNull double[] az, @NotNull double[] aw,
+            @NotNull double[] bx, @NotNull double[] by, @NotNull double[] bz, @NotNull double[] bw,
+            @NotNull double[] dest
+    ) {
+        int i = 0;
+        for (int upper = SPECIES.loopBound(dest.length); i < upper; i += SPECIES.length()) {
+            DoubleVector x = DoubleVector.fromArray(SPECIES, ax, i).mul(DoubleVector.fromArray(SPECIES, bx, i));
+            DoubleVector y = DoubleVector.fromArray(SPECIES, ay, i).mul(DoubleVector.fromArray(SPECIES, by, i));
+            DoubleVector z = DoubleVector.fromArray(SPECIES, az, i).mul(DoubleVector.fromArray(SPECIES, bz, i));
+            DoubleVector w = DoubleVector.fromArray(SPECIES, aw, i).mul(DoubleVector.fromArray(SPECIES, bw, i));
+            x.add(y).add(z).add(w).intoArray(dest, i);
+        }
+        ScalarVectorKernels.dot(ax, ay, az, aw, bx, by, bz, bw, dest, i);
+    }
+
+    @Override
+    public void length(@NotNull double[] x, @NotNull double[] y, @NotNull double[] dest) {
+        int i = 0;
+        for (int upper = SPECIES.loopBound(dest.length); i < upper; i += SPECIES.length()) {
+            DoubleVector vx = DoubleVector.fromArray(SPECIES, x, i);
+            DoubleVector vy = DoubleVector.fromArray(SPECIES, y, i);
+            vx.mul(vx).add(vy.mul(vy)).sqrt().intoArray(dest, i);
+        }
+        ScalarVectorKernels.length(x, y, dest, i);
+    }
+
+    @Override
+    public void length(@NotNull double[] x, @NotNull double[] y, @NotNull double[] z, @NotNull double[] dest) {
+        int i = 0;
+        for (int upper = SPECIES.loopBound(dest.length); i < upper; i += SPECIES.length()) {
+            DoubleVector vx = DoubleVector.fromArray(SPECIES, x, i);
+            DoubleVector vy = DoubleVector.fromArray(SPECIES, y, i);
+            DoubleVector vz = DoubleVector.fromArray(SPECIES, z, i);
+            vx.mul(vx).add(vy.mul(vy)).add(vz.mul(vz)).sqrt().intoArray(dest, i);
+        }
+        ScalarVectorKernels.length(x, y, z, dest, i);
+    }
+
+    @Override
+    public void length(
+            @NotNull double[] x, @NotNull double[] y, @NotNull double[] z, @NotNull double[] w,
+            @NotNull double[] dest
+    ) {
+        int i = 0;
+        for (int upper = SPECIES.loopBound(dest.length); i < upper; i += SPECIES.length()) {
+            DoubleVector vx = DoubleVector.fromArray(SPECIES, x, i);
+            DoubleVector vy = DoubleVector.fromArray(SPECIES, y, i);
+            DoubleVector vz = DoubleVector.fromArray(SPECIES, z, i);
+            DoubleVector vw = DoubleVector.fromArray(SPECIES, w, i);
+            vx.mul(vx).add(vy.mul(vy)).add(vz.mul(vz)).add(vw.mul(vw)).sqrt().intoArray(dest, i);
+        }
+        ScalarVectorKernels.length(x, y, z, w, dest, i);
+    }
+
+    @Override
+    public void normalize(
+            @NotNull double[] x, @NotNull double[] y, @NotNull double[] destX, @NotNull double[] destY
+    ) {
+        DoubleVector one = DoubleVector.broadcast(SPECIES, 1);
+        int i = 0;
+        for (int upper = SPECIES.loopBound(destX.length); i < upper; i += SPECIES.length()) {
+            DoubleVector vx = DoubleVector.fromArray(SPECIES, x, i);
+            DoubleVector vy = DoubleVector.fromArray(SPECIES, y, i);
+            DoubleVector k = one.div(vx.mul(vx).add(vy.mul(vy)).sqrt());
+            vx.mul(k).intoArray(destX, i);
+            vy.mul(k).intoArray(destY, i);
+        }
+        ScalarVectorKernels.normalize(x, y, destX, destY, i);
+    }
+
+    @Override
+    public void normalize(
+            @NotNull double[] x, @NotNull double[] y, @NotNull double[] z,
+            @NotNull double[] destX, @NotNull double[] destY, @NotNull double[] destZ
+    ) {
+        DoubleVector one = DoubleVector.broadcast(SPECIES, 1);
+        int i = 0;
+        for (int upper = SPECIES.loopBound(destX.length); i < upper; i += SPECIES.length()) {
+            DoubleVector vx = DoubleVector.fromArray(SPECIES, x, i);
+            DoubleVector vy = DoubleVector.fromArray(SPECIES, y, i);
+            DoubleVector vz = DoubleVector.fromArray(SPECIES, z, i);
+            DoubleVector k = one.div(vx.mul(vx).add(vy.mul(vy)).add(vz.mul(vz)).sqrt());
+            vx.mul(k).intoArray(destX, i);
+            vy.mul(k).intoArray(destY, i);
+            vz.mul(k).intoArray(destZ, i);
+        }
+        ScalarVectorKernels.normalize(x, y, z, destX, destY, destZ, i);
+    }
+
+    @Override
+    public void normalize(
+            @NotNull double[] x, @NotNull double[] y, @NotNull double[] z, @NotNull double[] w,
+            @NotNull double[] destX, @NotNull double[] destY, @NotNull double[] destZ, @NotNull double[] destW
+    ) {
+        DoubleVector one = DoubleVector.broadcast(SPECIES, 1);
+        int i = 0;
+        for (int upper = SPECIES.loopBound(destX.length); i < upper; i += SPECIES.length()) {
+            DoubleVector vx = DoubleVector.fromArray(SPECIES, x, i);
+            DoubleVector vy = DoubleVector.fromArray(SPECIES, y, i);
+            DoubleVector vz = DoubleVector.fromArray(SPECIES, z, i);
+            DoubleVector vw = DoubleVector.fromArray(SPECIES, w, i);
+            DoubleVector k = one.div(vx.mul(vx).add(vy.mul(vy)).add(vz.mul(vz)).add(vw.mul(vw)).sqrt());
+            vx.mul(k).intoArray(destX, i);
+            vy.mul(k).intoArray(destY, i);
+            vz.mul(k).intoArray(destZ, i);
+            vw.mul(k).intoArray(destW, i);
+        }
+        ScalarVectorKernels.normalize(x, y, z, w, destX, destY, destZ, destW, i);
+    }
+}
@@ -1,7 +1,8 @@
 import jMath.aoklyunin.github.com.Algorithms;
+import jMath.aoklyunin.github.com.UniqueIntSampler;
 import org.junit.Test;
 
-import java.util.Arrays;
+import java.util.*;
 
 public class TestAlgorithms {
 
@@ -92,4 +93,91 @@ public class TestAlgorithms {
 
 
     }
+
+    /**
+     * Проверить, что массив состоит из уникальных чисел заданного диапазона
+     *
+     * @param arr      массив
+     * @param minValue минимальное значение
+     * @param maxValue максимальное значение (включительно)
+     */
+    private static void checkUnique(int[] arr, int minValue, int maxValue) {
+        Set<Integer> set = new HashSet<>();
+        for (int value : arr) {
+            assert value >= minValue && value <= maxValue : value;
+            assert set.add(value) : value;
+        }
+    }
+
+    @Test
+    public void testUniqueIntegers() {
+        UniqueIntSampler sampler = new UniqueIntSampler(42);
+        int[][] cases = {{0, 9, 10}, {0, 9, 0}, {-5, 5, 3}, {0, 1_000_000, 1000}, {10, 109, 90},
+                {Integer.MIN_VALUE, Integer.MAX_VALUE, 100}, {Integer.MAX_VALUE - 3, Integer.MAX_VALUE, 4}};
+        for (int[] c : cases) {
+            int[] arr = sampler.sample(c[0], c[1], c[2]);
+            assert arr.length == c[2];
+            checkUnique(arr, c[0], c[1]);
+
+            int[] ordered = sampler.sampleOrdered(c[0], c[1], c[2]);
+            assert ordered.length == c[2];
+            checkUnique(ordered, c[0], c[1]);
+            for (int i = 1; i < ordered.length; i++)
+                assert ordered[i - 1] < ordered[i];
+        }
+
+        // выборка воспроизводится по начальному значению генератора
+        assert Arrays.equals(
+                Algorithms.getUniqueIntegers(0, 1000, 50, new SplittableRandom(7)),
+                Algorithms.getUniqueIntegers(0, 1000, 50, new SplittableRandom(7))
+        );
+        assert Arrays.equals(
+                Algorithms.getUniqueOrderedIntegers(0, 100, 60, new SplittableRandom(7)),
+                Algorithms.getUniqueOrderedIntegers(0, 100, 60, new SplittableRandom(7))
+        );
+
+        try {
+            sampler.sample(0, 9, 11);
+            assert false;
+        } catch (IllegalArgumentException ignored) {
+        }
+
+        Set<Integer> set = Algorithms.getUniqueOrderedIntegerSet(0, 9, 10);
+        assert set.size() == 10 && set.contains(9);
+        List<Integer> list = Algorithms.getUniqueUnorderedIntegerList(0, 99, 70);
+        assert new HashSet<>(list).size() == 70;
+    }
+
+    @Test
+    public void testUniqueIntegersDistribution() {
+        // каждое значение должно выбираться с вероятностью cnt / range,
+        // а на каждой позиции неупорядоченной выборки - встречаться равновероятно
+        int[][] cases = {{20, 3}, {20, 15}};
+        int iterations = 200_000;
+        for (int[] c : cases) {
+            int range = c[0];
+            int cnt = c[1];
+            UniqueIntSampler sampler = new UniqueIntSampler(1);
+            int[] dest = new int[cnt];
+            int[] hits = new int[range];
+            int[] firstHits = new int[range];
+            int[] orderedHits = new int[range];
+            for (int i = 0; i < iterations; i++) {
+                sampler.sample(0, range - 1, dest);
+                for (int value : dest)
+                    hits[value]++;
+                firstHits[dest[0]]++;
+                sampler.sampleOrdered(0, range - 1, dest);
+                for (int value : dest)
+                    orderedHits[value]++;
+            }
+            double expected = (double) iterations * cnt / range;
+            double expectedFirst = (double) iterations / range;
+            for (int v = 0; v < range; v++) {
+                assert Math.abs(hits[v] - expected) < expected * 0.05 : v + " " + hits[v];
+                assert Math.abs(orderedHits[v] - expected) < expected * 0.05 : v + " " + orderedHits[v];
+                assert Math.abs(firstHits[v] - expectedFirst) < expectedFirst * 0.1 : v + " " + firstHits[v];
+            }
+        }
+    }
 }
@@ -0,0 +1,181 @@
+import jMath.aoklyunin.github.com.Transform3d;
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem2d;
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem2i;
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem3d;
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem3i;
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem4d;
+import jMath.aoklyunin.github.com.io.BinaryCodec;
+import jMath.aoklyunin.github.com.io.BinaryReader;
+import jMath.aoklyunin.github.com.io.BinaryWriter;
+import jMath.aoklyunin.github.com.vector.*;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TestBinaryCodec {
+
+    @Test
+    public void testRoundTrip() {
+        ByteBuffer buffer = BinaryCodec.allocate(4096);
+        Vector2d v2d = new Vector2d(Math.PI, -1e-300);
+        Vector3d v3d = new Vector3d(1.0 / 3, Double.MAX_VALUE, -0.0);
+        Vector4d v4d = new Vector4d(1, 2, 3, Double.NaN);
+        Vector2i v2i = new Vector2i(Integer.MIN_VALUE, 7);
+        Vector3i v3i = new Vector3i(1, -2, Integer.MAX_VALUE);
+        Vector4i v4i = new Vector4i(4, 3, 2, 1);
+        Vector3f v3f = new Vector3f(0.1f, 0.2f, 0.3f);
+        Transform3d transform = new Transform3d(1.1, 2.2, 3.3, 30, 45, 60, 1, 2, 0.5);
+        CoordinateSystem2d cs2d = new CoordinateSystem2d(-10, 10.5, -5, 5);
+        CoordinateSystem3d cs3d = new CoordinateSystem3d(-1, 1, -2, 2, -3, 3.25);
+        CoordinateSystem4d cs4d = new CoordinateSystem4d(-1, 1, -2, 2, -3, 3, -4, 4.5);
+        CoordinateSystem2i cs2i = new CoordinateSystem2i(-3, 1919, 7, 1079);
+        CoordinateSystem3i cs3i = new CoordinateSystem3i(0, 17, -4, 4, 0, 31);
+
+        BinaryCodec.put(buffer, v2d);
+        BinaryCodec.put(buffer, v3d);
+        BinaryCodec.put(buffer, v4d);
+        BinaryCodec.put(buffer, v2i);
+        BinaryCodec.put(buffer, v3i);
+        BinaryCodec.put(buffer, v4i);
+        BinaryCodec.put(buffer, v3f);
+        BinaryCodec.put(buffer, transform);
+        BinaryCodec.put(buffer, cs2d);
+        BinaryCodec.put(buffer, cs3d);
+        BinaryCodec.put(buffer, cs4d);
+        BinaryCodec.put(buffer, cs2i);
+        BinaryCodec.put(buffer, cs3i);
+        assert buffer.position() == 8 * (2 + 3 + 4) + 4 * (2 + 3 + 4 + 3) + 8 * 9 + 8 * (4 + 6 + 8) + 4 * (4 + 6);
+        buffer.flip();
+
+        assert BinaryCodec.getVector2d(buffer).equals(v2d);
+        assert BinaryCodec.getVector3d(buffer).equals(v3d);
+        assert BinaryCodec.getVector4d(buffer).equals(v4d);
+        assert BinaryCodec.getVector2i(buffer).equals(v2i);
+        assert BinaryCodec.getVector3i(buffer).equals(v3i);
+        assert BinaryCodec.getVector4i(buffer).equals(v4i);
+        assert BinaryCodec.getVector3f(buffer).equals(v3f);
+        assert BinaryCodec.getTransform3d(buffer).equals(transform);
+        assert BinaryCodec.getCoordinateSystem2d(buffer).equals(cs2d);
+        assert BinaryCodec.getCoordinateSystem3d(buffer).equals(cs3d);
+        assert BinaryCodec.getCoordinateSystem4d(buffer).equals(cs4d);
+        assert BinaryCodec.getCoordinateSystem2i(buffer).equals(cs2i);
+        assert BinaryCodec.getCoordinateSystem3i(buffer).equals(cs3i);
+        assert !buffer.hasRemaining();
+    }
+
+    @Test
+    public void testLittleEndian() {
+        ByteBuffer buffer = BinaryCodec.allocate(8);
+        BinaryCodec.put(buffer, new Vector2i(1, 0x01020304));
+        assert buffer.get(0) == 1 && buffer.get(1) == 0;
+        assert buffer.get(4) == 4 && buffer.get(7) == 1;
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBigEndianBuffer() {
+        BinaryCodec.put(ByteBuffer.allocate(16).order(ByteOrder.BIG_ENDIAN), new Vector2d(1, 2));
+    }
+
+    @Test
+    public void testQuantized() {
+        ByteBuffer buffer = BinaryCodec.allocate(256);
+        Vector3d v = new Vector3d(Math.PI, Math.E, -1.0 / 3);
+        Transform3d transform = new Transform3d(1.1, 2.2, 3.3, 30, 45, 60, 1, 2, 0.5);
+        BinaryCodec.put(buffer, v, true);
+        BinaryCodec.put(buffer, transform, true);
+        assert buffer.position() == 4 * 3 + 4 * 9;
+        buffer.flip();
+        Vector3d decoded = BinaryCodec.getVector3d(buffer, true);
+        assert decoded.x == (float) v.x && decoded.y == (float) v.y && decoded.z == (float) v.z;
+        Transform3d decodedTransform = BinaryCodec.getTransform3d(buffer, true);
+        assert Math.abs(decodedTransform.getPosition().y - 2.2) < 1e-6;
+        assert decodedTransform.getScale().equals(transform.getScale());
+    }
+
+    @Test
+    public void testArrays() {
+        Vector3dArray arr3d = new Vector3dArray(100);
+        Vector2iArray arr2i = new Vector2iArray(100);
+        for (int i = 0; i < 100; i++) {
+            arr3d.set(i, Vector3d.rand(10));
+            arr2i.set(i, i, -i);
+        }
+        ByteBuffer buffer = BinaryCodec.allocate(100 * (24 + 8));
+        BinaryCodec.put(buffer, arr3d);
+        BinaryCodec.put(buffer, arr2i);
+        buffer.flip();
+        assert BinaryCodec.getVector3dArray(buffer, new Vector3dArray(100)).equals(arr3d);
+        assert BinaryCodec.getVector2iArray(buffer, new Vector2iArray(100)).equals(arr2i);
+    }
+
+    @Test
+    public void testStreaming() throws IOException {
+        Path file = Files.createTempFile("jmath", ".bin");
+        try {
+            int cnt = 100_000;
+            Vector3dArray points = new Vector3dArray(cnt);
+            for (int i = 0; i < cnt; i++)
+                points.set(i, Vector3d.rand(100));
+            List<Transform3d> transforms = new ArrayList<>();
+            for (int i = 0; i < 1000; i++)
+                transforms.add(new Transform3d(i, i / 3.0, -i, i % 360, 0, 90, 1, 1, 1));
+            CoordinateSystem3d cs = new CoordinateSystem3d(-100, 100, -100, 100, -100, 100);
+
+            try (BinaryWriter writer = new BinaryWriter(file, false)) {
+                writer.write(cs);
+                writer.write(points);
+                writer.write(transforms);
+            }
+            assert Files.size(file) == 6 * 8 + cnt * 24L + 1000 * 72L;
+
+            try (BinaryReader reader = new BinaryReader(file, false)) {
+                assert reader.readCoordinateSystem3d().equals(cs);
+                assert reader.read(new Vector3dArray(cnt)).equals(points);
+                assert reader.readTransform3dList(1000).equals(transforms);
+                assert !reader.hasRemaining();
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testStreamingQuantizedRecords() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Vector3d dest = new Vector3d();
+        try (BinaryWriter writer = new BinaryWriter(out, true)) {
+            for (int i = 0; i < 10_000; i++)
+                writer.write(new Vector3d(i, i + 0.5, -i));
+        }
+        assert out.size() == 10_000 * 12;
+        try (BinaryReader reader = new BinaryReader(new ByteArrayInputStream(out.toByteArray()), true)) {
+            int i = 0;
+            while (reader.hasRemaining()) {
+                assert reader.readVector3d(dest).equals(new Vector3d(i, i + 0.5, -i));
+                i++;
+            }
+            assert i == 10_000;
+        }
+    }
+
+    @Test(expected = EOFException.class)
+    public void testTruncated() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (BinaryWriter writer = new BinaryWriter(out, false)) {
+            writer.write(new Vector4d(1, 2, 3, 4));
+        }
+        byte[] bytes = out.toByteArray();
+        byte[] truncated = new byte[bytes.length - 1];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+        new BinaryReader(new ByteArrayInputStream(truncated), false).readVector4d();
+    }
+}
@@ -0,0 +1,96 @@
+import jMath.aoklyunin.github.com.Algorithms;
+import jMath.aoklyunin.github.com.CellSampler;
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem2i;
+import jMath.aoklyunin.github.com.vector.Vector2i;
+import jMath.aoklyunin.github.com.vector.Vector2iArray;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class TestCellSampler {
+
+    @Test
+    public void testSample() {
+        CoordinateSystem2i cs = new CoordinateSystem2i(-3, 96, 5, 74);
+        CellSampler sampler = new CellSampler(42);
+        // подходят ячейки с чётной суммой координат
+        CellSampler.CellPredicate even = (x, y) -> ((x + y) & 1) == 0;
+        int validCnt = CellSampler.getCellCnt(cs) / 2;
+        for (double density : new double[]{0, 0.01, 0.3, 0.7, 1}) {
+            int[] indices = sampler.sample(cs, density, even);
+            assert indices.length == (int) (density * validCnt);
+            for (int i = 1; i < indices.length; i++)
+                assert indices[i - 1] < indices[i];
+            Vector2iArray coords = CellSampler.toCoords(cs, indices, new Vector2iArray(indices.length));
+            for (int i = 0; i < indices.length; i++) {
+                assert even.test(coords.x[i], coords.y[i]);
+                assert cs.conv(new Vector2i(coords.x[i], coords.y[i])) == indices[i];
+            }
+        }
+
+        Set<Vector2i> set = Algorithms.getUniqueVector2iSet(cs, 0.5, v -> v.x > 0);
+        assert set.size() == 96 * 70 / 2;
+        for (Vector2i v : set)
+            assert v.x > 0 && cs.checkCoords(v);
+    }
+
+    @Test
+    public void testUniqueVector2iSetOwnVectors() {
+        CoordinateSystem2i cs = new CoordinateSystem2i(0, 3, 0, 3);
+        List<Vector2i> seen = new ArrayList<>();
+        Set<Vector2i> set = Algorithms.getUniqueVector2iSet(cs, 1, seen::add);
+        assert set.size() == 16;
+        // каждый вызов предиката получает свой вектор
+        assert new HashSet<>(seen).size() == 16;
+        for (Vector2i v : seen)
+            assert cs.checkCoords(v);
+    }
+
+    @Test
+    public void testSampleDistribution() {
+        CoordinateSystem2i cs = new CoordinateSystem2i(0, 9, 0, 9);
+        CellSampler sampler = new CellSampler(1);
+        int[] hits = new int[100];
+        int[] reservoirHits = new int[100];
+        int iterations = 100_000;
+        for (int i = 0; i < iterations; i++) {
+            for (int index : sampler.sample(cs, 0.2, (x, y) -> x != 0))
+                hits[index]++;
+            for (int index : sampler.sampleReservoir(cs, 18, (x, y) -> x != 0))
+                reservoirHits[index]++;
+        }
+        double expected = iterations * 0.2;
+        for (int index = 0; index < 100; index++) {
+            if (index % 10 == 0) {
+                assert hits[index] == 0 && reservoirHits[index] == 0;
+            } else {
+                assert Math.abs(hits[index] - expected) < expected * 0.05 : index + " " + hits[index];
+                assert Math.abs(reservoirHits[index] - expected) < expected * 0.05 : index + " " + reservoirHits[index];
+            }
+        }
+    }
+
+    @Test
+    public void testReservoir() {
+        CoordinateSystem2i cs = new CoordinateSystem2i(0, 99, 0, 99);
+        CellSampler sampler = new CellSampler(7);
+        int[] indices = sampler.sampleReservoir(cs, 500, v -> v.y < 50);
+        assert indices.length == 500;
+        Set<Integer> unique = new HashSet<>();
+        for (int index : indices) {
+            assert unique.add(index);
+            assert cs.deconv(index).y < 50;
+        }
+        // подходящих ячеек меньше, чем нужно выбрать
+        assert sampler.sampleReservoir(cs, 500, (x, y) -> x == 0).length == 100;
+
+        try {
+            sampler.sample(cs, 1.5, (x, y) -> true);
+            assert false;
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+}
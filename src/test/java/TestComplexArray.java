@@ -0,0 +1,120 @@
+import jMath.aoklyunin.github.com.linearAlgebra.ComplexArray;
+import jMath.aoklyunin.github.com.linearAlgebra.ComplexValue;
+import jMath.aoklyunin.github.com.linearAlgebra.LinearAlgebra;
+import jMath.aoklyunin.github.com.linearAlgebra.Polinomial;
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+public class TestComplexArray {
+    /**
+     * Получить случайный массив комплексных чисел
+     *
+     * @param size   размер
+     * @param random генератор случайных чисел
+     * @return массив чисел
+     */
+    private static ComplexArray randomArray(int size, SplittableRandom random) {
+        ComplexArray arr = new ComplexArray(size);
+        for (int i = 0; i < size; i++)
+            arr.set(i, random.nextDouble() * 10 - 5, random.nextDouble() * 10 - 5);
+        return arr;
+    }
+
+    @Test
+    public void testBulkOps() {
+        SplittableRandom random = new SplittableRandom(42);
+        ComplexArray a = randomArray(100, random);
+        ComplexArray b = randomArray(100, random);
+
+        ComplexArray product = ComplexArray.mul(a, b);
+        ComplexArray conj = ComplexArray.conjugate(a, new ComplexArray(a.size()));
+        double[] magnitudes = a.getMagnitudes();
+        double max = 0;
+        int maxIndex = -1;
+        for (int i = 0; i < a.size(); i++) {
+            assert Math.abs(product.real[i] - (a.real[i] * b.real[i] - a.imag[i] * b.imag[i])) < 1e-12;
+            assert Math.abs(product.imag[i] - (a.real[i] * b.imag[i] + a.imag[i] * b.real[i])) < 1e-12;
+            assert conj.real[i] == a.real[i] && conj.imag[i] == -a.imag[i];
+            assert Math.abs(magnitudes[i] - a.get(i).getMagnitude()) < 1e-12;
+            if (magnitudes[i] > max) {
+                max = magnitudes[i];
+                maxIndex = i;
+            }
+        }
+        assert Math.abs(a.getMaxMagnitude() - max) < 1e-12;
+        assert a.getMaxMagnitudeIndex() == maxIndex;
+        assert a.getMaxMagnitude(0, 0) == 0;
+
+        // произведение числа на сопряжённое - квадрат модуля
+        ComplexArray sqr = ComplexArray.mul(a, conj);
+        for (int i = 0; i < a.size(); i++)
+            assert Math.abs(sqr.real[i] - magnitudes[i] * magnitudes[i]) < 1e-9 && Math.abs(sqr.imag[i]) < 1e-9;
+
+        // результат можно записывать в исходный массив
+        ComplexArray copy = new ComplexArray(a);
+        ComplexArray.mul(copy, b, copy);
+        assert copy.equals(product);
+        copy.conjugate();
+        copy.conjugate();
+        assert copy.equals(product);
+        copy.mul(0, 1);
+        for (int i = 0; i < a.size(); i++)
+            assert copy.real[i] == -product.imag[i] && copy.imag[i] == product.real[i];
+
+        assert new ComplexArray(a.toArray()).equals(a);
+    }
+
+    @Test
+    public void testSortByMagnitude() {
+        SplittableRandom random = new SplittableRandom(7);
+        for (int size : new int[]{0, 1, 5, 32, 33, 1000}) {
+            ComplexArray arr = randomArray(size, random);
+            double sum = 0;
+            for (double m : arr.getMagnitudes())
+                sum += m;
+            arr.sortByMagnitude();
+            double sortedSum = 0;
+            for (int i = 0; i < size; i++) {
+                sortedSum += arr.getMagnitude(i);
+                if (i > 0)
+                    assert arr.getMagnitude(i - 1) <= arr.getMagnitude(i) : size + " " + i;
+            }
+            assert Math.abs(sum - sortedSum) < 1e-9;
+        }
+    }
+
+    @Test
+    public void testEigenValuesAndRoots() {
+        double[][] matrix = {{0, -2, 0}, {2, 0, 0}, {0, 0, 0.5}};
+        ComplexArray values = LinearAlgebra.getEigenValues(matrix, new ComplexArray(3));
+        assert Math.abs(values.getMaxMagnitude() - 2) < 1e-12;
+        ComplexValue[] expected = LinearAlgebra.getEigenValues(matrix);
+        ComplexArray expectedArray = new ComplexArray(expected);
+        expectedArray.sortByMagnitude();
+        values.sortByMagnitude();
+        for (int i = 0; i < 3; i++)
+            assert Math.abs(values.getMagnitude(i) - expectedArray.getMagnitude(i)) < 1e-9;
+
+        ComplexArray diagonal = LinearAlgebra.getEigenValuesFromDiagonalMatrix(
+                new double[][]{{1, 2, 0}, {-2, 1, 0}, {0, 0, 3}}, new ComplexArray(3)
+        );
+        assert diagonal.equals(new ComplexArray(new double[]{1, 1, 3}, new double[]{2, -2, 0}));
+
+        ComplexArray dLambda = LinearAlgebra.getdLambdaFromdA(
+                new double[][]{{1, 0}, {0, 2}}, new double[][]{{0.1, 0}, {0, 0.2}}, new ComplexArray(2)
+        );
+        assert Math.abs(dLambda.getMaxMagnitude() - 0.2) < 1e-9;
+
+        // (x - 0.5)(x^2 + 0.25) = x^3 - 0.5 x^2 + 0.25 x - 0.125
+        ComplexArray roots = Polinomial.findRoots(new double[]{-0.125, 0.25, -0.5, 1}, new ComplexArray(3));
+        for (int i = 0; i < 3; i++)
+            assert Math.abs(roots.getMagnitude(i) - 0.5) < 1e-9;
+
+        try {
+            LinearAlgebra.getEigenValues(matrix, new ComplexArray(2));
+            assert false;
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+}
@@ -0,0 +1,128 @@
+import jMath.aoklyunin.github.com.linearAlgebra.EigenValueKernels;
+import jMath.aoklyunin.github.com.linearAlgebra.LinearAlgebra;
+import jMath.aoklyunin.github.com.linearAlgebra.SmallEigenSolver;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+public class TestEigenValueKernels {
+    /**
+     * Получить случайные матрицы, записанные подряд
+     *
+     * @param cnt    количество матриц
+     * @param n      порядок матриц
+     * @param random генератор случайных чисел
+     * @return массив матриц
+     */
+    private static double[] randomMatrices(int cnt, int n, SplittableRandom random) {
+        double[] matrices = new double[cnt * n * n];
+        for (int i = 0; i < matrices.length; i++)
+            matrices[i] = random.nextDouble() * 4 - 2;
+        return matrices;
+    }
+
+    @Test
+    public void testBatch() {
+        SplittableRandom random = new SplittableRandom(42);
+        SmallEigenSolver solver = new SmallEigenSolver();
+        for (int n = 1; n <= 6; n++) {
+            int cnt = 3000;
+            double[] matrices = randomMatrices(cnt, n, random);
+            double[] copy = matrices.clone();
+            double[] real = new double[cnt * n];
+            double[] imag = new double[cnt * n];
+            // каждая матрица обрабатывается отдельной задачей
+            EigenValueKernels.getEigenValues(matrices, n, real, imag, 1);
+            assert Arrays.equals(matrices, copy);
+
+            double[] expectedReal = new double[n];
+            double[] expectedImag = new double[n];
+            for (int k = 0; k < cnt; k++) {
+                solver.getEigenValues(matrices, k * n * n, n, expectedReal, expectedImag, 0);
+                for (int i = 0; i < n; i++) {
+                    assert real[k * n + i] == expectedReal[i] : k + " " + i;
+                    assert imag[k * n + i] == expectedImag[i] : k + " " + i;
+                }
+            }
+
+            double[][] result = EigenValueKernels.getEigenValues(matrices, n);
+            assert Arrays.equals(result[0], real) && Arrays.equals(result[1], imag);
+        }
+    }
+
+    @Test
+    public void testAgainstCommonsMath() {
+        int n = 4;
+        int cnt = 50;
+        double[] matrices = randomMatrices(cnt, n, new SplittableRandom(7));
+        double[][] result = EigenValueKernels.getEigenValues(matrices, n);
+        for (int k = 0; k < cnt; k++) {
+            double[][] matrix = new double[n][n];
+            for (int i = 0; i < n; i++)
+                System.arraycopy(matrices, k * n * n + i * n, matrix[i], 0, n);
+            // сумма собственных значений равна следу, сумма модулей совпадает с Commons Math
+            double trace = 0;
+            double sum = 0;
+            double magnitude = 0;
+            for (int i = 0; i < n; i++) {
+                trace += matrix[i][i];
+                sum += result[0][k * n + i];
+                magnitude += Math.hypot(result[0][k * n + i], result[1][k * n + i]);
+            }
+            double expectedMagnitude = Arrays.stream(LinearAlgebra.getEigenValues(matrix))
+                    .mapToDouble(v -> v.getMagnitude()).sum();
+            assert Math.abs(sum - trace) < 1e-9;
+            assert Math.abs(magnitude - expectedMagnitude) < 1e-6;
+        }
+    }
+
+    @Test
+    public void testLargeBatch() {
+        int n = 6;
+        int cnt = 200000;
+        Random random = new Random(11);
+        double[] matrices = new double[cnt * n * n];
+        for (int i = 0; i < matrices.length; i++)
+            matrices[i] = random.nextGaussian();
+        // матрицы с бесконечностью и NaN не прерывают обработку остальных
+        int infinite = 1234;
+        int nan = 150000;
+        matrices[infinite * n * n + 1] = Double.POSITIVE_INFINITY;
+        matrices[nan * n * n + 7] = Double.NaN;
+        double[][] result = EigenValueKernels.getEigenValues(matrices, n);
+        for (int k = 0; k < cnt; k++) {
+            if (k == infinite || k == nan) {
+                for (int i = 0; i < n; i++)
+                    assert Double.isNaN(result[0][k * n + i]) && Double.isNaN(result[1][k * n + i]);
+                continue;
+            }
+            double trace = 0;
+            double sum = 0;
+            for (int i = 0; i < n; i++) {
+                trace += matrices[k * n * n + i * n + i];
+                sum += result[0][k * n + i];
+            }
+            assert Math.abs(sum - trace) < 1e-8 : k;
+        }
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        double[] matrices = new double[3 * 9];
+        for (Runnable call : new Runnable[]{
+                () -> EigenValueKernels.getEigenValues(new double[10], 3),
+                () -> EigenValueKernels.getEigenValues(matrices, 0),
+                () -> EigenValueKernels.getEigenValues(matrices, 3, new double[8], new double[9]),
+                () -> EigenValueKernels.getEigenValues(matrices, 3, new double[9], new double[9], 0)
+        }) {
+            try {
+                call.run();
+                assert false;
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+        assert EigenValueKernels.getEigenValues(new double[0], 5)[0].length == 0;
+    }
+}
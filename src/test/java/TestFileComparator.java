@@ -0,0 +1,104 @@
+import jMath.aoklyunin.github.com.Algorithms;
+import jMath.aoklyunin.github.com.io.FileComparator;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public class TestFileComparator {
+
+    /**
+     * Проверить все варианты сравнения без учёта порядка строк
+     *
+     * @param file1 путь к первому файлу
+     * @param file2 путь ко второму файлу
+     * @return флаг, совпадают ли файлы (все варианты должны дать одинаковый ответ)
+     * @throws IOException ошибка чтения
+     */
+    private static boolean sameLines(Path file1, Path file2) throws IOException {
+        boolean same = FileComparator.sameLines(file1, file2);
+        assert FileComparator.sameLinesMapped(file1, file2) == same;
+        assert FileComparator.sameLinesExternal(file1, file2, 3) == same;
+        assert FileComparator.sameLinesExternal(file1, file2) == same;
+        assert Algorithms.areFilesEqual(file1.toString(), file2.toString()) == same;
+        return same;
+    }
+
+    @Test
+    public void testSameLines() throws IOException {
+        Path file1 = Files.createTempFile("lines", ".txt");
+        Path file2 = Files.createTempFile("lines", ".txt");
+        try {
+            Files.write(file1, Arrays.asList("a", "b", "a", "", "c"), StandardCharsets.UTF_8);
+            Files.write(file2, Arrays.asList("c", "a", "", "b", "a"), StandardCharsets.UTF_8);
+            assert sameLines(file1, file2);
+            assert !FileComparator.sameContent(file1, file2);
+
+            // количество повторов учитывается
+            Files.write(file2, Arrays.asList("c", "a", "", "b", "b"), StandardCharsets.UTF_8);
+            assert !sameLines(file1, file2);
+            Files.write(file2, Arrays.asList("c", "a", "", "b", "a", "a"), StandardCharsets.UTF_8);
+            assert !sameLines(file1, file2);
+
+            // переводы строк \r\n и отсутствие перевода строки в конце файла
+            Files.write(file2, "c\r\na\r\n\r\nb\r\na".getBytes(StandardCharsets.UTF_8));
+            assert sameLines(file1, file2);
+        } finally {
+            Files.delete(file1);
+            Files.delete(file2);
+        }
+    }
+
+    @Test
+    public void testSameContent() throws IOException {
+        Path file1 = Files.createTempFile("bytes", ".bin");
+        Path file2 = Files.createTempFile("bytes", ".bin");
+        try {
+            byte[] data = new byte[3_000_000];
+            new Random(42).nextBytes(data);
+            Files.write(file1, data);
+            Files.write(file2, data);
+            assert FileComparator.sameContent(file1, file2);
+            assert FileComparator.sameContent(file1, file2, 4096);
+
+            data[data.length - 1]++;
+            Files.write(file2, data);
+            assert !FileComparator.sameContent(file1, file2);
+            assert !FileComparator.sameContent(file1, file2, 7);
+
+            Files.write(file2, Arrays.copyOf(data, data.length - 1));
+            assert !FileComparator.sameContent(file1, file2);
+        } finally {
+            Files.delete(file1);
+            Files.delete(file2);
+        }
+    }
+
+    @Test
+    public void testLargeFiles() throws IOException {
+        Random random = new Random(42);
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 300_000; i++)
+            lines.add("line " + random.nextInt(100_000));
+        Path file1 = Files.createTempFile("lines", ".txt");
+        Path file2 = Files.createTempFile("lines", ".txt");
+        try {
+            Files.write(file1, lines, StandardCharsets.UTF_8);
+            Collections.shuffle(lines, random);
+            Files.write(file2, lines, StandardCharsets.UTF_8);
+            assert FileComparator.sameLines(file1, file2);
+            assert FileComparator.sameLinesMapped(file1, file2);
+            assert FileComparator.sameLinesExternal(file1, file2, 50_000);
+        } finally {
+            Files.delete(file1);
+            Files.delete(file2);
+        }
+    }
+}
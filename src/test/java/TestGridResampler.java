@@ -0,0 +1,130 @@
+import jMath.aoklyunin.github.com.Algorithms;
+import jMath.aoklyunin.github.com.GridResampler;
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem2i;
+import jMath.aoklyunin.github.com.vector.Vector2d;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+public class TestGridResampler {
+    /**
+     * Получить случайный растр
+     *
+     * @param cs     система координат
+     * @param random генератор случайных чисел
+     * @return растр
+     */
+    private static double[] randomRaster(CoordinateSystem2i cs, SplittableRandom random) {
+        double[] raster = new double[cs.getSize().x * cs.getSize().y];
+        for (int i = 0; i < raster.length; i++)
+            raster[i] = random.nextDouble() * 100 - 50;
+        return raster;
+    }
+
+    @Test
+    public void testBilinear() {
+        CoordinateSystem2i srcCS = new CoordinateSystem2i(-5, 14, 3, 15);
+        CoordinateSystem2i dstCS = new CoordinateSystem2i(0, 36, 0, 7);
+        double[] src = randomRaster(srcCS, new SplittableRandom(42));
+        double[] dest = new GridResampler(srcCS, dstCS).resample(src);
+
+        int srcX = srcCS.getSize().x, srcY = srcCS.getSize().y;
+        int dstX = dstCS.getSize().x, dstY = dstCS.getSize().y;
+        for (int j = 0; j < dstY; j++)
+            for (int i = 0; i < dstX; i++) {
+                // эталон: интерполяция по одной точке в координатах ячеек исходного растра
+                Vector2d p = new Vector2d((double) i * (srcX - 1) / (dstX - 1), (double) j * (srcY - 1) / (dstY - 1));
+                int x1 = Math.min((int) p.x, srcX - 2);
+                int y1 = Math.min((int) p.y, srcY - 2);
+                double expected = Algorithms.bilinearInterpolation(
+                        x1, y1, x1 + 1, y1 + 1,
+                        src[x1 + y1 * srcX], src[x1 + 1 + y1 * srcX],
+                        src[x1 + 1 + (y1 + 1) * srcX], src[x1 + (y1 + 1) * srcX],
+                        p
+                );
+                assert Math.abs(dest[i + j * dstX] - expected) < 1e-9 : i + " " + j;
+            }
+    }
+
+    @Test
+    public void testIdentityAndCorners() {
+        CoordinateSystem2i cs = new CoordinateSystem2i(10, 30, -4, 5);
+        double[] src = randomRaster(cs, new SplittableRandom(1));
+        for (boolean bicubic : new boolean[]{false, true}) {
+            double[] dest = GridResampler.resample(src, cs, new CoordinateSystem2i(0, 20, 0, 9), bicubic);
+            for (int i = 0; i < src.length; i++)
+                assert Math.abs(dest[i] - src[i]) < 1e-9 : i;
+
+            // крайние ячейки целевого растра совпадают с крайними ячейками исходного
+            double[] small = GridResampler.resample(src, cs, new CoordinateSystem2i(0, 4, 0, 2), bicubic);
+            assert Math.abs(small[0] - src[0]) < 1e-9;
+            assert Math.abs(small[4] - src[20]) < 1e-9;
+            assert Math.abs(small[10] - src[9 * 21]) < 1e-9;
+            assert Math.abs(small[14] - src[src.length - 1]) < 1e-9;
+        }
+    }
+
+    @Test
+    public void testBicubic() {
+        CoordinateSystem2i srcCS = new CoordinateSystem2i(0, 20, 0, 20);
+        CoordinateSystem2i dstCS = new CoordinateSystem2i(0, 80, 0, 80);
+        // квадратичная функция восстанавливается ядром Катмулла-Рома точно, если соседние ячейки не за краем,
+        // а линейная функция - вплоть до соседних ячеек
+        double[] quadratic = new double[21 * 21];
+        double[] linear = new double[21 * 21];
+        for (int y = 0; y < 21; y++)
+            for (int x = 0; x < 21; x++) {
+                quadratic[x + 21 * y] = x * x - 3 * y;
+                linear[x + 21 * y] = 2 * x - 3 * y + 7;
+            }
+        GridResampler resampler = new GridResampler(srcCS, dstCS, true);
+        assert resampler.isBicubic();
+        double[] quadraticDest = resampler.resample(quadratic);
+        double[] linearDest = resampler.resample(linear);
+        for (int j = 0; j < 81; j++)
+            for (int i = 0; i < 81; i++) {
+                double x = i / 4.0;
+                double y = j / 4.0;
+                if (x >= 1 && x <= 19 && y >= 1 && y <= 19) {
+                    assert Math.abs(quadraticDest[i + 81 * j] - (x * x - 3 * y)) < 1e-9 : i + " " + j;
+                    assert Math.abs(linearDest[i + 81 * j] - (2 * x - 3 * y + 7)) < 1e-9 : i + " " + j;
+                }
+            }
+    }
+
+    @Test
+    public void testParallel() {
+        CoordinateSystem2i srcCS = new CoordinateSystem2i(0, 199, 0, 149);
+        CoordinateSystem2i dstCS = new CoordinateSystem2i(0, 317, 0, 251);
+        double[] src = randomRaster(srcCS, new SplittableRandom(7));
+        for (boolean bicubic : new boolean[]{false, true}) {
+            GridResampler resampler = new GridResampler(srcCS, dstCS, bicubic);
+            double[] sequential = resampler.resample(src, new double[318 * 252], Integer.MAX_VALUE);
+            double[] parallel = resampler.resample(src, new double[318 * 252], 1);
+            assert Arrays.equals(sequential, parallel);
+        }
+
+        GridResampler resampler = new GridResampler(srcCS, dstCS);
+        for (double[][] invalid : new double[][][]{{new double[10], new double[318 * 252]}, {src, new double[10]}}) {
+            try {
+                resampler.resample(invalid[0], invalid[1]);
+                assert false;
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+    }
+
+    @Test
+    public void testDegenerate() {
+        // растры из одной строки и одного столбца
+        CoordinateSystem2i srcCS = new CoordinateSystem2i(0, 0, 0, 4);
+        double[] src = {1, 2, 3, 4, 5};
+        double[] dest = GridResampler.resample(src, srcCS, new CoordinateSystem2i(0, 2, 0, 8), false);
+        for (int j = 0; j < 9; j++)
+            for (int i = 0; i < 3; i++)
+                assert Math.abs(dest[i + 3 * j] - (1 + j * 0.5)) < 1e-12;
+        dest = GridResampler.resample(src, srcCS, new CoordinateSystem2i(0, 0, 0, 0), true);
+        assert dest.length == 1 && dest[0] == 1;
+    }
+}
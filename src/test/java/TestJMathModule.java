@@ -0,0 +1,92 @@
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.type.TypeReference;
+import jMath.aoklyunin.github.com.coordinateSystem.*;
+import jMath.aoklyunin.github.com.json.JMathModule;
+import jMath.aoklyunin.github.com.vector.*;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TestJMathModule {
+    /**
+     * Преобразователь с модулем jMath
+     */
+    private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new JMathModule());
+    /**
+     * Преобразователь по умолчанию
+     */
+    private static final ObjectMapper DEFAULT_MAPPER = new ObjectMapper();
+
+    @Test
+    public void testCompactForm() throws IOException {
+        assert MAPPER.writeValueAsString(new Vector2d(1.5, -2)).equals("[1.5,-2.0]");
+        assert MAPPER.writeValueAsString(new Vector3d(1, 2, 3)).equals("[1.0,2.0,3.0]");
+        assert MAPPER.writeValueAsString(new Vector4i(1, 2, 3, 4)).equals("[1,2,3,4]");
+        assert MAPPER.writeValueAsString(new CoordinateSystem2i(0, 10, -5, 5)).equals("[[0,-5],[10,5]]");
+        assert MAPPER.writeValueAsString(new CoordinateSystem3d(0, 1, 0, 2, 0, 3))
+                .equals("[[0.0,0.0,0.0],[1.0,2.0,3.0]]");
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        Object[] values = {
+                new Vector2d(Math.PI, -1e-300), new Vector3d(1.0 / 3, Double.NaN, -0.0),
+                new Vector4d(1, 2, 3, Double.POSITIVE_INFINITY), new Vector2i(Integer.MIN_VALUE, 7),
+                new Vector3i(1, -2, Integer.MAX_VALUE), new Vector4i(4, 3, 2, 1), new Vector3f(0.1f, 0.2f, 0.3f),
+                new CoordinateSystem2d(-10, 10.5, -5, 5), new CoordinateSystem3d(-1, 1, -2, 2, -3, 3.25),
+                new CoordinateSystem4d(-1, 1, -2, 2, -3, 3, -4, 4.5), new CoordinateSystem2i(-3, 1919, 7, 1079),
+                new CoordinateSystem3i(0, 17, -4, 4, 0, 31)
+        };
+        for (Object value : values) {
+            String json = MAPPER.writeValueAsString(value);
+            assert MAPPER.readValue(json, value.getClass()).equals(value) : json;
+        }
+
+        List<Vector3d> list = new ArrayList<>();
+        for (int i = 0; i < 100; i++)
+            list.add(Vector3d.rand(100));
+        String json = MAPPER.writeValueAsString(list);
+        assert MAPPER.readValue(json, new TypeReference<List<Vector3d>>() {
+        }).equals(list);
+    }
+
+    @Test
+    public void testObjectFormCompatibility() throws IOException {
+        Object[] values = {
+                new Vector2d(1, 2), new Vector3d(1, 2, 3), new Vector4d(1, 2, 3, 4), new Vector2i(1, 2),
+                new Vector3i(1, 2, 3), new Vector4i(1, 2, 3, 4), new Vector3f(1, 2, 3),
+                new CoordinateSystem2d(0, 1, 0, 2), new CoordinateSystem3d(0, 1, 0, 2, 0, 3),
+                new CoordinateSystem4d(0, 1, 0, 2, 0, 3, 0, 4), new CoordinateSystem2i(0, 1, 0, 2),
+                new CoordinateSystem3i(0, 1, 0, 2, 0, 3)
+        };
+        for (Object value : values) {
+            String json = DEFAULT_MAPPER.writeValueAsString(value);
+            assert MAPPER.readValue(json, value.getClass()).equals(value) : json;
+        }
+        // компоненты в произвольном порядке, пропущенные компоненты равны нулю
+        assert MAPPER.readValue("{\"z\":3,\"x\":1}", Vector3d.class).equals(new Vector3d(1, 0, 3));
+        // вложенная объектная форма внутри компактной
+        assert MAPPER.readValue("[{\"x\":1,\"y\":2},[3,4]]", CoordinateSystem2i.class)
+                .equals(new CoordinateSystem2i(1, 3, 2, 4));
+    }
+
+    @Test
+    public void testErrors() throws IOException {
+        String[] wrong = {"[1,2]", "[1,2,3,4]", "{\"x\":1,\"q\":2}", "\"abc\"", "[1,\"abc\",3]"};
+        for (String json : wrong) {
+            try {
+                MAPPER.readValue(json, Vector3d.class);
+                assert false : json;
+            } catch (JsonMappingException ignored) {
+            }
+        }
+        try {
+            MAPPER.readValue("{\"min\":[0,0]}", CoordinateSystem2d.class);
+            assert false;
+        } catch (JsonMappingException ignored) {
+        }
+    }
+}
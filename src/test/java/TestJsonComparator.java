@@ -0,0 +1,113 @@
+import jMath.aoklyunin.github.com.Algorithms;
+import jMath.aoklyunin.github.com.json.JsonComparator;
+import jMath.aoklyunin.github.com.json.JsonDifference;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public class TestJsonComparator {
+
+    @Test
+    public void testSame() throws IOException {
+        assert JsonComparator.compare(
+                "{\"a\":1,\"b\":[1,2,{\"c\":\"x\",\"d\":null}],\"e\":true}",
+                "{\"e\":true,\"b\":[{\"d\":null,\"c\":\"x\"},2,1],\"a\":1}"
+        ).isEmpty();
+        assert JsonComparator.compare("[[1,2],[3,4]]", "[[4,3],[2,1]]").isEmpty();
+        assert JsonComparator.compare("1.50", "1.5").isEmpty();
+    }
+
+    @Test
+    public void testDifferences() throws IOException {
+        List<JsonDifference> differences = JsonComparator.compare(
+                "{\"a\":1,\"b\":{\"c\":\"x\"},\"k/1\":0}",
+                "{\"a\":2,\"b\":{\"c\":\"x\",\"d\":[]},\"k/1\":\"0\"}"
+        );
+        assert differences.size() == 3 : differences;
+        assert differences.get(0).equals(new JsonDifference("/a", "different values", "1", "2"));
+        assert differences.get(1).equals(new JsonDifference("/b/d", "key is missing in first document", null, "[]"));
+        assert differences.get(2).equals(new JsonDifference("/k~11", "different types", "0", "\"0\""));
+
+        // целые и дробные числа различаются, как в json-simple
+        assert JsonComparator.compare("1", "1.0").size() == 1;
+    }
+
+    @Test
+    public void testArrayMultiset() throws IOException {
+        List<JsonDifference> differences = JsonComparator.compare("[1,1,2]", "[1,2,2]");
+        assert differences.size() == 2 : differences;
+        assert differences.get(0).equals(new JsonDifference("/1", "element is missing in second array", "1", null));
+        assert differences.get(1).equals(new JsonDifference("/2", "element is missing in first array", null, "2"));
+
+        differences = JsonComparator.compare("[{\"a\":1},{\"a\":2}]", "[{\"a\":2}]");
+        assert differences.size() == 2 : differences;
+        assert differences.get(0).getMessage().startsWith("arrays have different sizes");
+        assert differences.get(1).getFirst().equals("{\"a\":1}");
+    }
+
+    @Test
+    public void testTrailingContent() {
+        for (String json : new String[]{"{\"a\":1} {\"b\":2}", "{\"a\":1}]", "{\"a\":1} 2", "{\"a\":1} trailing"}) {
+            try {
+                JsonComparator.compare("{\"a\":1}", json);
+                assert false : json;
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    @Test
+    public void testSameJSONContentDuplicates() throws IOException {
+        Path file1 = Files.createTempFile("json", ".json");
+        Path file2 = Files.createTempFile("json", ".json");
+        try {
+            Files.write(file1, "{\"a\":[1,1,2]}".getBytes(StandardCharsets.UTF_8));
+            Files.write(file2, "{\"a\":[2,1,1]}".getBytes(StandardCharsets.UTF_8));
+            assert Algorithms.sameJSONContent(file1.toString(), file2.toString());
+            // кратность элементов учитывается
+            Files.write(file2, "{\"a\":[1,2,2]}".getBytes(StandardCharsets.UTF_8));
+            assert !Algorithms.sameJSONContent(file1.toString(), file2.toString());
+            Files.write(file2, "{\"a\":".getBytes(StandardCharsets.UTF_8));
+            assert !Algorithms.sameJSONContent(file1.toString(), file2.toString());
+            // лишнее содержимое после документа
+            Files.write(file2, "{\"a\":[1,1,2]} trailing".getBytes(StandardCharsets.UTF_8));
+            assert !Algorithms.sameJSONContent(file1.toString(), file2.toString());
+        } finally {
+            Files.delete(file1);
+            Files.delete(file2);
+        }
+    }
+
+    @Test
+    public void testLargeFiles() throws IOException {
+        Random random = new Random(42);
+        List<String> elements = new ArrayList<>();
+        for (int i = 0; i < 200_000; i++)
+            elements.add("{\"id\":" + i + ",\"v\":[" + random.nextDouble() + "," + random.nextInt(100) + "]}");
+        Path file1 = Files.createTempFile("json", ".json");
+        Path file2 = Files.createTempFile("json", ".json");
+        try {
+            Files.write(file1, ("{\"items\":[" + String.join(",", elements) + "]}").getBytes(StandardCharsets.UTF_8));
+            Collections.shuffle(elements, random);
+            Files.write(file2, ("{\"items\":[" + String.join(",", elements) + "]}").getBytes(StandardCharsets.UTF_8));
+            assert JsonComparator.same(file1, file2);
+            assert Algorithms.sameJSONContent(file1.toString(), file2.toString());
+
+            elements.set(0, "{\"id\":-1}");
+            Files.write(file2, ("{\"items\":[" + String.join(",", elements) + "]}").getBytes(StandardCharsets.UTF_8));
+            List<JsonDifference> differences = JsonComparator.compare(file1, file2);
+            assert differences.size() == 2 : differences;
+            assert differences.get(1).getSecond().equals("{\"id\":-1}");
+        } finally {
+            Files.delete(file1);
+            Files.delete(file2);
+        }
+    }
+}
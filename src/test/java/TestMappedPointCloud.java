@@ -0,0 +1,130 @@
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem2d;
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem3d;
+import jMath.aoklyunin.github.com.io.BinaryWriter;
+import jMath.aoklyunin.github.com.io.MappedPointCloud;
+import jMath.aoklyunin.github.com.vector.*;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+public class TestMappedPointCloud {
+
+    /**
+     * Записать случайные трёхмерные точки в файл
+     *
+     * @param path      путь к файлу
+     * @param size      количество точек
+     * @param quantized флаг квантования
+     * @return записанные точки
+     * @throws IOException ошибка записи
+     */
+    private static Vector3dArray write3d(Path path, int size, boolean quantized) throws IOException {
+        Random random = new Random(42);
+        Vector3dArray points = new Vector3dArray(size);
+        for (int i = 0; i < size; i++) {
+            points.x[i] = random.nextDouble() * 200 - 100;
+            points.y[i] = random.nextDouble() * 10;
+            points.z[i] = -random.nextDouble();
+        }
+        try (BinaryWriter writer = new BinaryWriter(path, quantized)) {
+            writer.write(points);
+        }
+        return points;
+    }
+
+    @Test
+    public void testRandomAccess() throws IOException {
+        Path path = Files.createTempFile("cloud", ".bin");
+        try {
+            Vector3dArray points = write3d(path, 1000, false);
+            // маленькие сегменты, чтобы точки читались из разных отображений
+            try (MappedPointCloud cloud = new MappedPointCloud(path, 3, false, 24 * 37 + 5)) {
+                assert cloud.size() == 1000;
+                Vector3d v = new Vector3d();
+                for (int i = 0; i < 1000; i++) {
+                    cloud.get(i, v);
+                    assert v.x == points.x[i] && v.y == points.y[i] && v.z == points.z[i];
+                    assert cloud.get(i, 2) == points.z[i];
+                }
+
+                Vector3dArray part = cloud.get(30, new Vector3dArray(500));
+                for (int i = 0; i < 500; i++)
+                    assert part.x[i] == points.x[30 + i] && part.z[i] == points.z[30 + i];
+
+                long[] cnt = {0};
+                cloud.forEach3d(p -> {
+                    assert p.x == points.x[(int) cnt[0]];
+                    cnt[0]++;
+                });
+                assert cnt[0] == 1000;
+
+                try {
+                    cloud.get(1000, v);
+                    assert false;
+                } catch (IndexOutOfBoundsException ignored) {
+                }
+                try {
+                    cloud.get(0, new Vector2d());
+                    assert false;
+                } catch (IllegalArgumentException ignored) {
+                }
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testBounds() throws IOException {
+        Path path = Files.createTempFile("cloud", ".bin");
+        try {
+            int size = 1 << 20;
+            Vector3dArray points = write3d(path, size, true);
+            double minX = Double.POSITIVE_INFINITY, maxX = Double.NEGATIVE_INFINITY;
+            double minZ = Double.POSITIVE_INFINITY, maxZ = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < size; i++) {
+                minX = Math.min(minX, (float) points.x[i]);
+                maxX = Math.max(maxX, (float) points.x[i]);
+                minZ = Math.min(minZ, (float) points.z[i]);
+                maxZ = Math.max(maxZ, (float) points.z[i]);
+            }
+            try (MappedPointCloud cloud = new MappedPointCloud(path, 3, true, 1 << 16)) {
+                assert cloud.isQuantized();
+                CoordinateSystem3d bounds = cloud.getBounds();
+                assert bounds.getMin().x == minX && bounds.getMax().x == maxX;
+                assert bounds.getMin().z == minZ && bounds.getMax().z == maxZ;
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testBounds2d() throws IOException {
+        Path path = Files.createTempFile("cloud", ".bin");
+        try {
+            try (BinaryWriter writer = new BinaryWriter(path, false)) {
+                writer.write(new Vector2d(1, -2));
+                writer.write(new Vector2d(Double.NaN, 5));
+                writer.write(new Vector2d(-3, 4));
+            }
+            try (MappedPointCloud cloud = new MappedPointCloud(path, 2, false)) {
+                CoordinateSystem2d bounds = cloud.getBounds2d();
+                assert bounds.getMin().equals(new Vector2d(-3, -2));
+                assert bounds.getMax().equals(new Vector2d(1, 5));
+                CoordinateSystem3d bounds3d = cloud.getBounds();
+                assert bounds3d.getMin().z == 0 && bounds3d.getMax().z == 0;
+            }
+            try {
+                new MappedPointCloud(path, 4, false).close();
+                assert false;
+            } catch (IllegalArgumentException ignored) {
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+import jMath.aoklyunin.github.com.Algorithms;
+import jMath.aoklyunin.github.com.RandomStringGenerator;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+public class TestRandomStringGenerator {
+    /**
+     * Проверить количество символов каждого класса
+     *
+     * @param s       строка
+     * @param lower   количество символов-букв нижнего регистра
+     * @param upper   количество символов-букв верхнего регистра
+     * @param digit   количество символов-цифр
+     * @param special количество специальных символов
+     */
+    private static void checkCounts(String s, int lower, int upper, int digit, int special) {
+        int[] counts = new int[4];
+        for (char c : s.toCharArray()) {
+            if (RandomStringGenerator.LOWER_CASE_CHARACTERS.indexOf(c) >= 0)
+                counts[0]++;
+            else if (RandomStringGenerator.UPPER_CASE_CHARACTERS.indexOf(c) >= 0)
+                counts[1]++;
+            else if (RandomStringGenerator.DIGIT_CHARACTERS.indexOf(c) >= 0)
+                counts[2]++;
+            else if (RandomStringGenerator.SPECIAL_CHARACTERS.indexOf(c) >= 0)
+                counts[3]++;
+            else
+                assert false : s;
+        }
+        assert counts[0] == lower && counts[1] == upper && counts[2] == digit && counts[3] == special : s;
+    }
+
+    @Test
+    public void testCounts() {
+        RandomStringGenerator generator = new RandomStringGenerator(3, 4, 5, 2);
+        assert generator.getLength() == 14;
+        SplittableRandom random = new SplittableRandom(42);
+        for (String s : generator.generate(1000))
+            checkCounts(s, 3, 4, 5, 2);
+        for (String s : generator.generate(1000, random))
+            checkCounts(s, 3, 4, 5, 2);
+        for (int i = 0; i < 100; i++) {
+            checkCounts(Algorithms.generateRandomString(), 5, 5, 5, 0);
+            checkCounts(Algorithms.generateRandomString(2), 2, 2, 2, 0);
+            checkCounts(Algorithms.generateRandomString(1, 0, 3, 4), 1, 0, 3, 4);
+        }
+        assert new RandomStringGenerator(0, 0, 0, 0).generate().isEmpty();
+
+        try {
+            new RandomStringGenerator(1, -1, 0, 0);
+            assert false;
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
+    @Test
+    public void testRandomness() {
+        RandomStringGenerator generator = new RandomStringGenerator(1, 1, 1, 1);
+        SplittableRandom random = new SplittableRandom(7);
+        int iterations = 40_000;
+        // каждый класс символов одинаково часто стоит на каждой позиции
+        int[] digitPositions = new int[4];
+        Set<String> unique = new HashSet<>();
+        for (String s : generator.generate(iterations, random)) {
+            for (int i = 0; i < 4; i++)
+                if (Character.isDigit(s.charAt(i)))
+                    digitPositions[i]++;
+            unique.add(s);
+        }
+        for (int hits : digitPositions)
+            assert Math.abs(hits - iterations / 4) < iterations / 40 : hits;
+        // всего 26 * 26 * 10 * 12 * 24 различных строк
+        assert unique.size() > iterations * 0.9;
+
+        // одинаковое начальное значение генератора даёт одинаковые строки
+        String[] a = generator.generate(10, new SplittableRandom(1));
+        String[] b = generator.generate(new String[10], new SplittableRandom(1));
+        for (int i = 0; i < 10; i++)
+            assert a[i].equals(b[i]);
+    }
+}
@@ -0,0 +1,152 @@
+import jMath.aoklyunin.github.com.linearAlgebra.ComplexArray;
+import jMath.aoklyunin.github.com.linearAlgebra.ComplexValue;
+import jMath.aoklyunin.github.com.linearAlgebra.LinearAlgebra;
+import jMath.aoklyunin.github.com.linearAlgebra.Polinomial;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+public class TestSchurStability {
+    /**
+     * Получить максимальный модуль корней многочлена через сопровождающую матрицу
+     *
+     * @param coeffs коэффициенты начиная с коэффициента при старшей степени
+     * @return максимальный модуль корней
+     */
+    private static double maxRootMagnitude(double[] coeffs) {
+        Double[] reversed = new Double[coeffs.length];
+        for (int i = 0; i < coeffs.length; i++)
+            reversed[i] = coeffs[coeffs.length - 1 - i];
+        return Arrays.stream(Polinomial.findRoots(reversed)).mapToDouble(ComplexValue::getMagnitude).max().orElse(0);
+    }
+
+    @Test
+    public void testPolynomialAgainstRoots() {
+        SplittableRandom random = new SplittableRandom(42);
+        int checked = 0;
+        int stable = 0;
+        for (int n = 1; n <= 8; n++)
+            for (int k = 0; k < 500; k++) {
+                double[] coeffs = new double[n + 1];
+                coeffs[0] = 1;
+                for (int i = 1; i <= n; i++)
+                    coeffs[i] = (random.nextDouble() * 2 - 1) * 1.5 / i;
+                double magnitude = maxRootMagnitude(coeffs);
+                // корни рядом с единичной окружностью численно неразличимы
+                if (Math.abs(magnitude - 1) < 1e-6)
+                    continue;
+                assert Polinomial.isSchurStable(coeffs) == magnitude < 1 : Arrays.toString(coeffs) + " " + magnitude;
+                checked++;
+                if (magnitude < 1)
+                    stable++;
+            }
+        // проверены и устойчивые, и неустойчивые многочлены
+        assert checked > 3000 && stable > 300 && checked - stable > 300 : checked + " " + stable;
+    }
+
+    @Test
+    public void testCoefficientOrder() {
+        // 2 (x - 0.5)(x - 3): isSchurStable ждёт старший коэффициент первым, findRoots - свободный член
+        double[] highestFirst = {2, -7, 3};
+        double[] constantFirst = {3, -7, 2};
+        ComplexArray roots = Polinomial.findRoots(constantFirst, new ComplexArray(2));
+        double[] real = roots.real.clone();
+        Arrays.sort(real);
+        assert Math.abs(real[0] - 0.5) < 1e-12 && Math.abs(real[1] - 3) < 1e-12;
+        assert !Polinomial.isSchurStable(highestFirst);
+
+        // (x - 0.5)(x - 0.25): устойчив, а многочлен с обратным порядком коэффициентов (корни 2 и 4) - нет
+        assert Polinomial.isSchurStable(new double[]{1, -0.75, 0.125});
+        assert !Polinomial.isSchurStable(new double[]{0.125, -0.75, 1});
+        roots = Polinomial.findRoots(new double[]{0.125, -0.75, 1}, new ComplexArray(2));
+        assert roots.getMaxMagnitude() < 1;
+    }
+
+    @Test
+    public void testPolynomialSpecialCases() {
+        assert Polinomial.isSchurStable(new double[]{3});
+        assert Polinomial.isSchurStable(new double[]{1, -0.5});
+        assert !Polinomial.isSchurStable(new double[]{1, -1});
+        assert !Polinomial.isSchurStable(new double[]{1, 0, 1});
+        // (z - 0.5)(z + 0.9), старший коэффициент не обязательно равен 1
+        assert Polinomial.isSchurStable(new double[]{2, 0.8, -0.9});
+        // (z - 0.5)(z - 2)
+        assert !Polinomial.isSchurStable(new double[]{1, -2.5, 1});
+        // (z - 0.9)^5
+        assert Polinomial.isSchurStable(new double[]{1, -4.5, 8.1, -7.29, 3.2805, -0.59049});
+        double[] coeffs = {1, -0.3, 0.2};
+        Polinomial.isSchurStable(coeffs);
+        assert Arrays.equals(coeffs, new double[]{1, -0.3, 0.2});
+
+        for (int i = 0; i < 100; i++) {
+            Double[] generated = Polinomial.generateRandomShurPolynomial(6, 100);
+            double[] primitive = new double[generated.length];
+            for (int j = 0; j < generated.length; j++)
+                primitive[j] = generated[j];
+            assert Polinomial.isSchurStable(primitive) == maxRootMagnitude(primitive) < 1;
+        }
+
+        for (double[] invalid : new double[][]{{}, {0, 1, 2}}) {
+            try {
+                Polinomial.isSchurStable(invalid);
+                assert false;
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+    }
+
+    @Test
+    public void testMatrixAgainstEigenValues() {
+        SplittableRandom random = new SplittableRandom(7);
+        int stable = 0;
+        for (int n = 1; n <= 6; n++)
+            for (int k = 0; k < 500; k++) {
+                double range = 0.2 + random.nextDouble() * 1.5;
+                double[][] matrix = new double[n][n];
+                double[] flat = new double[n * n];
+                for (int i = 0; i < n; i++)
+                    for (int j = 0; j < n; j++) {
+                        matrix[i][j] = (random.nextDouble() * 2 - 1) * range;
+                        flat[i * n + j] = matrix[i][j];
+                    }
+                double expected = Arrays.stream(LinearAlgebra.getEigenValues(matrix))
+                        .mapToDouble(ComplexValue::getMagnitude).max().orElse(0);
+                double radius = LinearAlgebra.spectralRadius(matrix);
+                assert Math.abs(radius - expected) < 1e-6 : radius + " " + expected;
+                assert LinearAlgebra.spectralRadius(flat, n) == radius;
+                if (Math.abs(expected - 1) < 1e-6)
+                    continue;
+                assert LinearAlgebra.isSchurStable(matrix) == expected < 1 : Arrays.deepToString(matrix);
+                assert LinearAlgebra.isSchurStable(flat, n) == expected < 1 : Arrays.deepToString(matrix);
+                if (expected < 1)
+                    stable++;
+            }
+        assert stable > 300 : stable;
+    }
+
+    @Test
+    public void testMatrixSpecialCases() {
+        // нормы строк и столбцов больше 1, но матрица нильпотентна
+        assert LinearAlgebra.isSchurStable(new double[][]{{0, 5}, {0, 0}});
+        // след равен 2, спектральный радиус равен 1
+        assert !LinearAlgebra.isSchurStable(new double[][]{{1, 0}, {0, 1}});
+        // поворот на 90 градусов
+        assert !LinearAlgebra.isSchurStable(new double[]{0, -1, 1, 0}, 2);
+        assert LinearAlgebra.isSchurStable(new double[]{0, -0.99, 0.99, 0}, 2);
+        assert Math.abs(LinearAlgebra.spectralRadius(new double[]{0, -2, 2, 0}, 2) - 2) < 1e-12;
+
+        for (Runnable call : new Runnable[]{
+                () -> LinearAlgebra.isSchurStable(new double[0][0]),
+                () -> LinearAlgebra.isSchurStable(new double[][]{{1, 2}, {3}}),
+                () -> LinearAlgebra.isSchurStable(new double[5], 2),
+                () -> LinearAlgebra.spectralRadius(new double[4], 0)
+        }) {
+            try {
+                call.run();
+                assert false;
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+    }
+}
@@ -0,0 +1,219 @@
+import jMath.aoklyunin.github.com.linearAlgebra.ComplexArray;
+import jMath.aoklyunin.github.com.linearAlgebra.ComplexValue;
+import jMath.aoklyunin.github.com.linearAlgebra.LinearAlgebra;
+import jMath.aoklyunin.github.com.linearAlgebra.Polinomial;
+import jMath.aoklyunin.github.com.linearAlgebra.SmallEigenSolver;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class TestSmallEigenSolver {
+    /**
+     * Проверить, что собственные значения совпадают с найденными через Commons Math
+     *
+     * @param matrix матрица
+     * @param real   вещественные части
+     * @param imag   мнимые части
+     * @param eps    точность
+     */
+    private static void checkEigenValues(double[][] matrix, double[] real, double[] imag, double eps) {
+        ComplexValue[] expected = LinearAlgebra.getEigenValues(matrix);
+        boolean[] used = new boolean[expected.length];
+        for (int i = 0; i < matrix.length; i++) {
+            int found = -1;
+            for (int j = 0; j < expected.length; j++)
+                if (!used[j] && Math.abs(expected[j].getReal() - real[i]) < eps
+                        && Math.abs(Math.abs(expected[j].getImag()) - Math.abs(imag[i])) < eps) {
+                    found = j;
+                    break;
+                }
+            assert found >= 0 : Arrays.deepToString(matrix) + " " + real[i] + " " + imag[i];
+            used[found] = true;
+        }
+        // комплексно-сопряжённые пары идут подряд, первой - с положительной мнимой частью
+        for (int i = 0; i < matrix.length; i++)
+            if (imag[i] != 0) {
+                assert imag[i] > 0 && imag[i + 1] == -imag[i] && real[i + 1] == real[i];
+                i++;
+            }
+    }
+
+    /**
+     * Записать матрицу по строкам
+     *
+     * @param matrix матрица
+     * @return массив элементов
+     */
+    private static double[] flatten(double[][] matrix) {
+        int n = matrix.length;
+        double[] result = new double[n * n];
+        for (int i = 0; i < n; i++)
+            System.arraycopy(matrix[i], 0, result, i * n, n);
+        return result;
+    }
+
+    @Test
+    public void testRandomMatrices() {
+        SmallEigenSolver solver = new SmallEigenSolver();
+        for (int n = 1; n <= 8; n++) {
+            double[] real = new double[n];
+            double[] imag = new double[n];
+            for (int k = 0; k < 300; k++) {
+                double[][] matrix = LinearAlgebra.getRandomMatrix(n, 4.0);
+                double[] flat = flatten(matrix);
+                solver.getEigenValues(flat, n, real, imag);
+                checkEigenValues(matrix, real, imag, 1e-6);
+                // исходная матрица не изменяется
+                assert Arrays.equals(flat, flatten(matrix));
+                solver.getEigenValues(matrix, real, imag);
+                checkEigenValues(matrix, real, imag, 1e-6);
+            }
+        }
+    }
+
+    @Test
+    public void testSpecialMatrices() {
+        SmallEigenSolver solver = new SmallEigenSolver();
+        double[] real = new double[6];
+        double[] imag = new double[6];
+
+        // поворот на 90 градусов
+        solver.getEigenValues(new double[]{0, -1, 1, 0}, 2, real, imag);
+        assert real[0] == 0 && imag[0] == 1 && real[1] == 0 && imag[1] == -1;
+
+        // кратные корни
+        solver.getEigenValues(new double[]{2, 0, 0, 0, 2, 0, 0, 0, 2}, 3, real, imag);
+        for (int i = 0; i < 3; i++)
+            assert Math.abs(real[i] - 2) < 1e-12 && imag[i] == 0;
+        solver.getEigenValues(new double[]{0, 0, 0, 0, 0, 0, 0, 0, 0}, 3, real, imag);
+        for (int i = 0; i < 3; i++)
+            assert real[i] == 0 && imag[i] == 0;
+
+        // вращение вокруг оси z с растяжением вдоль неё
+        double c = Math.cos(0.3), s = Math.sin(0.3);
+        solver.getEigenValues(new double[]{c, -s, 0, s, c, 0, 0, 0, 3}, 3, real, imag);
+        double[] sorted = real.clone();
+        Arrays.sort(sorted, 0, 3);
+        assert Math.abs(sorted[2] - 3) < 1e-12;
+        assert Math.abs(sorted[0] - c) < 1e-12 && Math.abs(sorted[1] - c) < 1e-12;
+
+        // сопровождающая матрица многочлена (x - 1)(x - 2)(x - 3)(x - 4)(x^2 + 1)
+        double[] coeffs = {24, -50, 59, -60, 36, -10};
+        double[] companion = new double[36];
+        for (int i = 0; i < 6; i++) {
+            companion[i * 6 + 5] = -coeffs[i];
+            if (i > 0)
+                companion[i * 6 + i - 1] = 1;
+        }
+        solver.getEigenValues(companion, 6, real, imag);
+        int complexCnt = 0;
+        boolean[] found = new boolean[5];
+        for (int i = 0; i < 6; i++) {
+            if (Math.abs(imag[i]) > 1e-6) {
+                assert Math.abs(real[i]) < 1e-8 && Math.abs(Math.abs(imag[i]) - 1) < 1e-8;
+                complexCnt++;
+            } else {
+                int root = (int) Math.round(real[i]);
+                assert Math.abs(real[i] - root) < 1e-8 && root >= 1 && root <= 4;
+                found[root] = true;
+            }
+        }
+        assert complexCnt == 2 && found[1] && found[2] && found[3] && found[4];
+    }
+
+    @Test
+    public void testOffsets() {
+        SmallEigenSolver solver = new SmallEigenSolver();
+        int n = 4;
+        double[][][] matrices = new double[3][][];
+        double[] packed = new double[3 * n * n + 5];
+        for (int k = 0; k < 3; k++) {
+            matrices[k] = LinearAlgebra.getRandomMatrix(n, 2.0);
+            System.arraycopy(flatten(matrices[k]), 0, packed, 5 + k * n * n, n * n);
+        }
+        double[] real = new double[3 * n + 1];
+        double[] imag = new double[3 * n + 1];
+        for (int k = 0; k < 3; k++)
+            solver.getEigenValues(packed, 5 + k * n * n, n, real, imag, 1 + k * n);
+        for (int k = 0; k < 3; k++)
+            checkEigenValues(
+                    matrices[k],
+                    Arrays.copyOfRange(real, 1 + k * n, 1 + (k + 1) * n),
+                    Arrays.copyOfRange(imag, 1 + k * n, 1 + (k + 1) * n),
+                    1e-6
+            );
+
+        try {
+            solver.getEigenValues(packed, packed.length - 10, n, real, imag, 0);
+            assert false;
+        } catch (IllegalArgumentException ignored) {
+        }
+        try {
+            solver.getEigenValues(packed, 0, n, new double[3], new double[3], 0);
+            assert false;
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
+    @Test
+    public void testConvergence() {
+        // на этих наборах прежнее ограничение в 30 итераций на собственное значение не срабатывало
+        SmallEigenSolver solver = new SmallEigenSolver();
+        Random random = new Random(1);
+        for (int n = 5; n <= 6; n++) {
+            double[] matrix = new double[n * n];
+            double[] real = new double[n];
+            double[] imag = new double[n];
+            for (int k = 0; k < 200000; k++) {
+                double trace = 0;
+                for (int i = 0; i < matrix.length; i++)
+                    matrix[i] = random.nextGaussian();
+                for (int i = 0; i < n; i++)
+                    trace += matrix[i * n + i];
+                solver.getEigenValues(matrix, n, real, imag);
+                double sum = 0;
+                for (int i = 0; i < n; i++)
+                    sum += real[i];
+                assert Math.abs(sum - trace) < 1e-8 : k + " " + Arrays.toString(matrix);
+            }
+        }
+        // сопровождающие матрицы многочленов со случайными коэффициентами
+        for (int n = 5; n <= 8; n++) {
+            double[] coeffs = new double[n + 1];
+            ComplexArray roots = new ComplexArray(n);
+            for (int k = 0; k < 50000; k++) {
+                for (int i = 0; i <= n; i++)
+                    coeffs[i] = random.nextGaussian();
+                Polinomial.findRoots(coeffs, roots);
+                // сумма корней равна -a_(n-1) / a_n
+                double sum = 0;
+                for (int i = 0; i < n; i++)
+                    sum += roots.real[i];
+                assert Math.abs(sum + coeffs[n - 1] / coeffs[n]) < 1e-6 * (1 + Math.abs(coeffs[n - 1] / coeffs[n]))
+                        : k + " " + Arrays.toString(coeffs);
+            }
+        }
+    }
+
+    @Test
+    public void testNonFiniteElements() {
+        SmallEigenSolver solver = new SmallEigenSolver();
+        for (int n = 1; n <= 6; n++)
+            for (double value : new double[]{Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN}) {
+                double[] matrix = new double[n * n];
+                Arrays.fill(matrix, 1);
+                matrix[n * n - 1 - (n > 1 ? 1 : 0)] = value;
+                try {
+                    solver.getEigenValues(matrix, n, new double[n], new double[n]);
+                    assert false;
+                } catch (IllegalArgumentException ignored) {
+                }
+                try {
+                    LinearAlgebra.spectralRadius(matrix, n);
+                    assert false;
+                } catch (IllegalArgumentException ignored) {
+                }
+            }
+    }
+}
@@ -0,0 +1,173 @@
+import jMath.aoklyunin.github.com.Transform3d;
+import jMath.aoklyunin.github.com.Transform3dBuffer;
+import jMath.aoklyunin.github.com.Transform3dKernels;
+import jMath.aoklyunin.github.com.vector.Vector3d;
+import jMath.aoklyunin.github.com.vector.Vector3dArray;
+import org.joml.Matrix4d;
+import org.junit.Test;
+
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class TestTransform3d {
+
+    private static final double EPSILON = 1e-9;
+
+    private static Vector3dArray randArray(int size) {
+        Vector3dArray arr = new Vector3dArray(size);
+        for (int i = 0; i < size; i++)
+            arr.set(i, Vector3d.rand(new Vector3d(-100, -100, -100), new Vector3d(100, 100, 100)));
+        return arr;
+    }
+
+    private static boolean isClose(double a, double b) {
+        return Math.abs(a - b) < EPSILON;
+    }
+
+    @Test
+    public void testTransformArray() {
+        Transform3d transform = new Transform3d(1, 2, 3, 30, 45, 60, 1, 2, 0.5);
+        Matrix4d matrix = transform.getTransformMatrix();
+        Vector3dArray src = randArray(1000);
+        Vector3dArray dest = transform.transform(src, new Vector3dArray(src.size()));
+        for (int i = 0; i < src.size(); i++) {
+            org.joml.Vector3d expected = matrix.transformPosition(src.get(i).getJOML());
+            assert isClose(dest.x[i], expected.x);
+            assert isClose(dest.y[i], expected.y);
+            assert isClose(dest.z[i], expected.z);
+        }
+    }
+
+    @Test
+    public void testTransformParallel() {
+        Matrix4d matrix = new Transform3d(-5, 0, 7, 10, 20, 30, 3, 1, 2).getTransformMatrix();
+        Vector3dArray src = randArray(10_007);
+        Vector3dArray sequential = Transform3dKernels.transform(
+                matrix, src, new Vector3dArray(src.size()), Integer.MAX_VALUE
+        );
+        Vector3dArray parallel = Transform3dKernels.transform(matrix, src, new Vector3dArray(src.size()), 100);
+        assert parallel.equals(sequential);
+
+        double[] buffer = new double[src.size() * 3];
+        for (int i = 0; i < src.size(); i++) {
+            buffer[3 * i] = src.x[i];
+            buffer[3 * i + 1] = src.y[i];
+            buffer[3 * i + 2] = src.z[i];
+        }
+        Transform3dKernels.transform(matrix, buffer, buffer, 100);
+        for (int i = 0; i < src.size(); i++) {
+            assert buffer[3 * i] == sequential.x[i];
+            assert buffer[3 * i + 1] == sequential.y[i];
+            assert buffer[3 * i + 2] == sequential.z[i];
+        }
+    }
+
+    @Test
+    public void testTransformInPlace() {
+        Transform3d transform = new Transform3d(1, 2, 3, 30, 45, 60, 1, 2, 0.5);
+        Vector3dArray src = randArray(500);
+        Vector3dArray expected = transform.transform(src, new Vector3dArray(src.size()));
+        assert transform.transform(src) == src;
+        assert src.equals(expected);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrongBufferLength() {
+        new Transform3d(1, 2, 3, 30, 45, 60, 1, 2, 0.5).transform(new double[4]);
+    }
+
+    private static Matrix4d compose(Transform3d transform) {
+        return new Matrix4d().translate(transform.getPosition().getJOML())
+                .rotateX(transform.getRotation().x / 180 * Math.PI)
+                .rotateY(transform.getRotation().y / 180 * Math.PI)
+                .rotateZ(transform.getRotation().z / 180 * Math.PI)
+                .scale(transform.getScale().getJOML());
+    }
+
+    @Test
+    public void testCachedMatrix() {
+        Transform3d transform = new Transform3d(1, 2, 3, 30, 45, 60, 1, 2, 0.5);
+        assert transform.getTransformMatrix().equals(compose(transform));
+        assert transform.getTransformMatrixView() == transform.getTransformMatrixView();
+        Matrix4d copy = transform.getTransformMatrix();
+        copy.translate(1, 1, 1);
+        assert transform.getTransformMatrix().equals(compose(transform));
+
+        transform.setPosition(new Vector3d(-4, 5, 6));
+        assert transform.getTransformMatrixView().equals(compose(transform));
+        transform.setRotation(new Vector3d(90, 0, 15));
+        assert transform.getTransformMatrix(new Matrix4d()).equals(compose(transform));
+        transform.setScale(new Vector3d(3, 3, 3));
+        assert transform.getTransformMatrix().equals(compose(transform));
+    }
+
+    @Test
+    public void testCachedBuffer() {
+        Transform3d transform = new Transform3d(1, 2, 3, 30, 45, 60, 1, 2, 0.5);
+        DoubleBuffer buffer = transform.getDoubleBufferTransform();
+        assert buffer == transform.getDoubleBufferTransform();
+        assert new Matrix4d(buffer).equals(compose(transform));
+        transform.setPosition(new Vector3d(7, 8, 9));
+        assert transform.getDoubleBufferTransform() == buffer;
+        assert new Matrix4d(buffer).equals(compose(transform));
+        assert new Matrix4d(new Transform3d(transform).getDoubleBufferTransform()).equals(compose(transform));
+    }
+
+    @Test
+    public void testConcurrentReads() throws Exception {
+        int threadCnt = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCnt);
+        try {
+            for (int i = 0; i < 2000; i++) {
+                // свежий объект: матрица и буфер ещё не составлены
+                Transform3d transform = new Transform3d(i, -i, 2 * i, i * 3, i * 5, i * 7, 1, 2, 0.5);
+                Matrix4d expected = compose(transform);
+                CyclicBarrier barrier = new CyclicBarrier(threadCnt);
+                List<Future<Boolean>> results = new ArrayList<>();
+                for (int t = 0; t < threadCnt; t++) {
+                    boolean readBuffer = t % 2 == 0;
+                    results.add(executor.submit(() -> {
+                        barrier.await();
+                        if (readBuffer)
+                            return new Matrix4d(transform.getDoubleBufferTransform()).equals(expected);
+                        return transform.getTransformMatrix().equals(expected);
+                    }));
+                }
+                for (Future<Boolean> result : results)
+                    assert result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testTransform3dBuffer() {
+        List<Transform3d> transforms = new ArrayList<>();
+        for (int i = 0; i < 40; i++)
+            transforms.add(new Transform3d(i, -i, 2 * i, i * 3, i * 5, i * 7, 1, 2, 0.5));
+        Transform3dBuffer packer = new Transform3dBuffer(4);
+        DoubleBuffer doubles = packer.getDoubleBuffer(transforms);
+        FloatBuffer floats = packer.getFloatBuffer(transforms);
+        assert doubles.position() == 0 && doubles.limit() == 16 * transforms.size();
+        assert floats.position() == 0 && floats.limit() == 16 * transforms.size();
+        for (int i = 0; i < transforms.size(); i++) {
+            double[] expected = transforms.get(i).getTransformMatrix().get(new double[16]);
+            for (int j = 0; j < 16; j++) {
+                assert doubles.get(16 * i + j) == expected[j];
+                assert floats.get(16 * i + j) == (float) expected[j];
+            }
+        }
+        // буфер переиспользуется, если матриц стало меньше
+        assert packer.getDoubleBuffer(transforms.subList(0, 10)) == doubles;
+        assert doubles.limit() == 160;
+        assert packer.getFloatBuffer(transforms.get(3).getTransformMatrixView()) == floats;
+        assert floats.limit() == 16;
+    }
+}
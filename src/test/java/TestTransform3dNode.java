@@ -0,0 +1,128 @@
+import jMath.aoklyunin.github.com.Transform3d;
+import jMath.aoklyunin.github.com.Transform3dNode;
+import jMath.aoklyunin.github.com.vector.Vector3d;
+import org.joml.Matrix4d;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TestTransform3dNode {
+
+    private static final double EPSILON = 1e-9;
+
+    private static Transform3dNode randNode() {
+        return new Transform3dNode(
+                Vector3d.rand(new Vector3d(-10, -10, -10), new Vector3d(10, 10, 10)),
+                Vector3d.rand(new Vector3d(-180, -180, -180), new Vector3d(180, 180, 180)),
+                Vector3d.rand(new Vector3d(0.5, 0.5, 0.5), new Vector3d(2, 2, 2))
+        );
+    }
+
+    private static Matrix4d naiveWorld(Transform3dNode node) {
+        Matrix4d m = node.getTransformMatrix();
+        for (Transform3d p = node.getParent(); p != null; p = ((Transform3dNode) p).getParent())
+            m = p.getTransformMatrix().mul(m);
+        return m;
+    }
+
+    private static List<Transform3dNode> buildTree(Transform3dNode root, int depth, int width) {
+        List<Transform3dNode> nodes = new ArrayList<>();
+        nodes.add(root);
+        for (int i = 0; i < nodes.size(); i++) {
+            Transform3dNode node = nodes.get(i);
+            int level = 0;
+            for (Transform3dNode p = node.getParent(); p != null; p = p.getParent())
+                level++;
+            if (level < depth)
+                for (int j = 0; j < width; j++) {
+                    Transform3dNode child = randNode();
+                    node.addChild(child);
+                    nodes.add(child);
+                }
+        }
+        return nodes;
+    }
+
+    @Test
+    public void testWorldMatrix() {
+        Transform3dNode root = randNode();
+        List<Transform3dNode> nodes = buildTree(root, 3, 3);
+        root.update();
+        for (Transform3dNode node : nodes) {
+            assert node.isWorldValid();
+            assert node.getWorldMatrixView().equals(naiveWorld(node), EPSILON);
+        }
+    }
+
+    @Test
+    public void testIncrementalUpdate() {
+        Transform3dNode root = randNode();
+        Transform3dNode a = randNode();
+        Transform3dNode b = randNode();
+        Transform3dNode a1 = randNode();
+        Transform3dNode a2 = randNode();
+        root.addChild(a).addChild(b);
+        a.addChild(a1).addChild(a2);
+        root.update();
+
+        a.setRotation(new Vector3d(10, 20, 30));
+        assert root.isWorldValid();
+        assert b.isWorldValid();
+        assert !a.isWorldValid() && !a1.isWorldValid() && !a2.isWorldValid();
+        Matrix4d bWorld = b.getWorldMatrix();
+
+        root.update();
+        assert a.isWorldValid() && a1.isWorldValid() && a2.isWorldValid();
+        assert a2.getWorldMatrixView().equals(naiveWorld(a2), EPSILON);
+        assert b.getWorldMatrixView().equals(bWorld);
+
+        // ленивый пересчёт без update()
+        root.setPosition(new Vector3d(5, 5, 5));
+        assert a1.getWorldMatrixView().equals(naiveWorld(a1), EPSILON);
+        assert !b.isWorldValid();
+        root.update();
+        assert b.getWorldMatrixView().equals(naiveWorld(b), EPSILON);
+    }
+
+    @Test
+    public void testParallelUpdate() {
+        Transform3dNode root = randNode();
+        List<Transform3dNode> nodes = buildTree(root, 2, 40);
+        root.update(8);
+        for (Transform3dNode node : nodes)
+            assert node.getWorldMatrixView().equals(naiveWorld(node), EPSILON);
+        nodes.get(5).setScale(new Vector3d(3, 1, 2));
+        root.update(8);
+        for (Transform3dNode node : nodes) {
+            assert node.isWorldValid();
+            assert node.getWorldMatrixView().equals(naiveWorld(node), EPSILON);
+        }
+    }
+
+    @Test
+    public void testReparent() {
+        Transform3dNode a = randNode();
+        Transform3dNode b = randNode();
+        Transform3dNode child = randNode();
+        a.addChild(child);
+        a.update();
+        b.addChild(child);
+        assert a.getChildren().isEmpty();
+        assert child.getParent() == b;
+        assert child.getRoot() == b;
+        assert child.getWorldMatrixView().equals(naiveWorld(child), EPSILON);
+        assert b.removeChild(child);
+        assert child.getParent() == null;
+        assert child.getWorldMatrixView().equals(child.getTransformMatrix(), EPSILON);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCycle() {
+        Transform3dNode a = randNode();
+        Transform3dNode b = randNode();
+        a.addChild(b);
+        b.addChild(a);
+    }
+
+}
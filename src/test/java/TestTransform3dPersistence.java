@@ -0,0 +1,72 @@
+import jMath.aoklyunin.github.com.Transform3d;
+import jMath.aoklyunin.github.com.Transform3dPersistence;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class TestTransform3dPersistence {
+
+    private static final int TRANSFORM_CNT = 100_000;
+
+    private static EntityManagerFactory factory;
+
+    @BeforeClass
+    public static void setUp() {
+        factory = Persistence.createEntityManagerFactory(
+                "jmath-h2", Transform3dPersistence.getBatchProperties(Transform3dPersistence.DEFAULT_BATCH_SIZE)
+        );
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        factory.close();
+    }
+
+    @Test
+    public void testPersistAndStream() {
+        List<Transform3d> transforms = new ArrayList<>(TRANSFORM_CNT);
+        for (int i = 0; i < TRANSFORM_CNT; i++)
+            transforms.add(new Transform3d(i, -i, 0.5 * i, i % 360, 45, 90, 1, 2, 3));
+
+        EntityManager entityManager = factory.createEntityManager();
+        long start = System.nanoTime();
+        entityManager.getTransaction().begin();
+        assert Transform3dPersistence.persistAll(entityManager, transforms) == TRANSFORM_CNT;
+        entityManager.getTransaction().commit();
+        long persistTime = System.nanoTime() - start;
+        entityManager.close();
+
+        Set<Integer> ids = new HashSet<>();
+        for (Transform3d transform : transforms)
+            ids.add(transform.getId());
+        assert ids.size() == TRANSFORM_CNT;
+
+        entityManager = factory.createEntityManager();
+        start = System.nanoTime();
+        double[] positionSum = new double[1];
+        long cnt = Transform3dPersistence.streamAll(entityManager, transform -> {
+            assert ids.contains(transform.getId());
+            positionSum[0] += transform.getPosition().x;
+            assert transform.getTransformMatrix().equals(
+                    transforms.get((int) transform.getPosition().x).getTransformMatrix()
+            );
+        });
+        long streamTime = System.nanoTime() - start;
+        entityManager.close();
+
+        assert cnt == TRANSFORM_CNT;
+        assert positionSum[0] == (double) TRANSFORM_CNT * (TRANSFORM_CNT - 1) / 2;
+        System.out.printf(
+                "Transform3d H2: persist %.0f rows/s, stream %.0f rows/s%n",
+                TRANSFORM_CNT / (persistTime / 1e9), TRANSFORM_CNT / (streamTime / 1e9)
+        );
+    }
+}
@@ -0,0 +1,88 @@
+import jMath.aoklyunin.github.com.vector.Vector2i;
+import jMath.aoklyunin.github.com.vector.Vector2iArray;
+import jMath.aoklyunin.github.com.vector.Vector3d;
+import jMath.aoklyunin.github.com.vector.Vector3dArray;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TestVectorArray {
+
+    private static List<Vector3d> randList(int size) {
+        List<Vector3d> list = new ArrayList<>();
+        for (int i = 0; i < size; i++)
+            list.add(Vector3d.rand(new Vector3d(-10, -10, -10), new Vector3d(10, 10, 10)));
+        return list;
+    }
+
+    @Test
+    public void testVector3dArrayGetSet() {
+        List<Vector3d> list = randList(50);
+        Vector3dArray arr = new Vector3dArray(list);
+        assert arr.size() == list.size();
+        assert arr.toList().equals(list);
+        Vector3d dest = new Vector3d();
+        for (int i = 0; i < arr.size(); i++) {
+            assert arr.get(i, dest) == dest;
+            assert dest.equals(list.get(i));
+        }
+        arr.set(3, 1, 2, 3);
+        assert arr.get(3).equals(new Vector3d(1, 2, 3));
+        assert new Vector3dArray(arr).equals(arr);
+    }
+
+    @Test
+    public void testVector3dArrayKernels() {
+        List<Vector3d> a = randList(100);
+        List<Vector3d> b = randList(100);
+        Vector3dArray arrA = new Vector3dArray(a);
+        Vector3dArray arrB = new Vector3dArray(b);
+
+        Vector3dArray sum = Vector3dArray.sum(arrA, arrB);
+        Vector3dArray cross = Vector3dArray.cross(arrA, arrB);
+        Vector3dArray norm = Vector3dArray.norm(arrA);
+        Vector3dArray mul = Vector3dArray.mul(arrA, 2.5);
+        double[] dot = Vector3dArray.dot(arrA, arrB);
+        double[] dist = Vector3dArray.getDistance(arrA, arrB, new double[a.size()]);
+        for (int i = 0; i < a.size(); i++) {
+            assert sum.get(i).equals(Vector3d.sum(a.get(i), b.get(i)));
+            assert cross.get(i).equals(Vector3d.cross(a.get(i), b.get(i)));
+            assert Vector3d.getDistance(norm.get(i), Vector3d.norm(a.get(i))) < Vector3d.VECTOR_3D_OPACITY;
+            assert mul.get(i).equals(Vector3d.mul(a.get(i), 2.5));
+            assert dot[i] == Vector3d.dot(a.get(i), b.get(i));
+            assert dist[i] == Vector3d.getDistance(a.get(i), b.get(i));
+        }
+
+        Vector3d min = a.get(0);
+        Vector3d max = a.get(0);
+        for (Vector3d v : a) {
+            min = Vector3d.min(min, v);
+            max = Vector3d.max(max, v);
+        }
+        assert Vector3dArray.min(arrA).equals(min);
+        assert Vector3dArray.max(arrA).equals(max);
+
+        // результат на месте совпадает с результатом в новом массиве
+        Vector3dArray.cross(arrA, arrB, arrA);
+        assert arrA.equals(cross);
+    }
+
+    @Test
+    public void testVector2iArrayKernels() {
+        Vector2iArray a = new Vector2iArray(new int[]{1, 2, 3}, new int[]{4, 5, 6});
+        Vector2iArray b = new Vector2iArray(new int[]{-1, 0, 1}, new int[]{2, 2, 2});
+        assert Vector2iArray.sum(a, b).get(2).equals(new Vector2i(4, 8));
+        assert Vector2iArray.dot(a, b)[1] == 10;
+        assert Vector2iArray.min(a).equals(new Vector2i(1, 4));
+        a.add(new Vector2i(1, 1));
+        assert a.get(0).equals(new Vector2i(2, 5));
+        a.mul(2);
+        assert a.get(0).equals(new Vector2i(4, 10));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testVectorArrayDifferentSizes() {
+        Vector3dArray.sum(new Vector3dArray(2), new Vector3dArray(3));
+    }
+}
@@ -0,0 +1,90 @@
+import jMath.aoklyunin.github.com.vector.Vector4d;
+import jMath.aoklyunin.github.com.vector.Vector4dArray;
+import jMath.aoklyunin.github.com.vector.VectorKernels;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+public class TestVectorKernels {
+
+    private static Vector4dArray randArray(int size) {
+        Vector4dArray arr = new Vector4dArray(size);
+        for (int i = 0; i < size; i++)
+            arr.set(i, Vector4d.rand(new Vector4d(-10, -10, -10, -10), new Vector4d(10, 10, 10, 10)));
+        return arr;
+    }
+
+    @Test
+    public void testScalarKernels() {
+        Vector4dArray a = randArray(37);
+        Vector4dArray b = randArray(37);
+        VectorKernels kernels = VectorKernels.getScalar();
+        double[] dot = new double[a.size()];
+        double[] length = new double[a.size()];
+        Vector4dArray norm = new Vector4dArray(a.size());
+        kernels.dot(a.x, a.y, a.z, a.w, b.x, b.y, b.z, b.w, dot);
+        kernels.length(a.x, a.y, a.z, a.w, length);
+        kernels.normalize(a.x, a.y, a.z, a.w, norm.x, norm.y, norm.z, norm.w);
+        for (int i = 0; i < a.size(); i++) {
+            assert dot[i] == Vector4d.dot(a.get(i), b.get(i));
+            assert length[i] == a.get(i).length();
+            assert norm.get(i).equals(Vector4d.norm(a.get(i)));
+        }
+    }
+
+    @Test
+    public void testDefaultKernelsMatchScalar() {
+        VectorKernels scalar = VectorKernels.getScalar();
+        VectorKernels kernels = VectorKernels.getDefault();
+        // в запуске test-simd профиля simd реализация на Vector API обязана загрузиться,
+        // иначе тест сравнивал бы скалярные ядра сами с собой
+        if (Boolean.getBoolean("jmath.test.simd"))
+            assert kernels.getClass().getSimpleName().equals("SimdVectorKernels") : kernels.getClass().getName();
+        // длины, не кратные ширине вектора, чтобы проверить обработку хвостов
+        for (int size : new int[]{0, 1, 3, 7, 8, 17, 1000}) {
+            Vector4dArray a = randArray(size);
+            Vector4dArray b = randArray(size);
+            double[] expected = new double[size];
+            double[] actual = new double[size];
+
+            scalar.add(a.x, b.x, expected);
+            kernels.add(a.x, b.x, actual);
+            assert Arrays.equals(expected, actual);
+            scalar.subtract(a.x, b.x, expected);
+            kernels.subtract(a.x, b.x, actual);
+            assert Arrays.equals(expected, actual);
+            scalar.mul(a.x, b.x, expected);
+            kernels.mul(a.x, b.x, actual);
+            assert Arrays.equals(expected, actual);
+            scalar.mul(a.x, 2.5, expected);
+            kernels.mul(a.x, 2.5, actual);
+            assert Arrays.equals(expected, actual);
+
+            scalar.dot(a.x, a.y, b.x, b.y, expected);
+            kernels.dot(a.x, a.y, b.x, b.y, actual);
+            assert Arrays.equals(expected, actual);
+            scalar.dot(a.x, a.y, a.z, b.x, b.y, b.z, expected);
+            kernels.dot(a.x, a.y, a.z, b.x, b.y, b.z, actual);
+            assert Arrays.equals(expected, actual);
+            scalar.dot(a.x, a.y, a.z, a.w, b.x, b.y, b.z, b.w, expected);
+            kernels.dot(a.x, a.y, a.z, a.w, b.x, b.y, b.z, b.w, actual);
+            assert Arrays.equals(expected, actual);
+
+            scalar.length(a.x, a.y, expected);
+            kernels.length(a.x, a.y, actual);
+            assert Arrays.equals(expected, actual);
+            scalar.length(a.x, a.y, a.z, expected);
+            kernels.length(a.x, a.y, a.z, actual);
+            assert Arrays.equals(expected, actual);
+            scalar.length(a.x, a.y, a.z, a.w, expected);
+            kernels.length(a.x, a.y, a.z, a.w, actual);
+            assert Arrays.equals(expected, actual);
+
+            Vector4dArray expectedNorm = new Vector4dArray(size);
+            Vector4dArray actualNorm = new Vector4dArray(size);
+            scalar.normalize(a.x, a.y, a.z, a.w, expectedNorm.x, expectedNorm.y, expectedNorm.z, expectedNorm.w);
+            kernels.normalize(a.x, a.y, a.z, a.w, actualNorm.x, actualNorm.y, actualNorm.z, actualNorm.w);
+            assert expectedNorm.equals(actualNorm);
+        }
+    }
+}
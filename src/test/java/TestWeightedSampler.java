@@ -0,0 +1,162 @@
+import jMath.aoklyunin.github.com.AliasSampler;
+import jMath.aoklyunin.github.com.Algorithms;
+import jMath.aoklyunin.github.com.FenwickSampler;
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+public class TestWeightedSampler {
+    /**
+     * Количество выборов для проверки частот
+     */
+    private static final int ITERATIONS = 500_000;
+
+    /**
+     * Получить частоты индексов эталонной выборки через Algorithms.findCumulativeValue()
+     *
+     * @param weights веса
+     * @param random  генератор случайных чисел
+     * @return частоты индексов
+     */
+    private static double[] referenceFrequencies(float[] weights, SplittableRandom random) {
+        float[] cumulative = new float[weights.length];
+        float sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cumulative[i] = sum;
+        }
+        int[] hits = new int[weights.length];
+        for (int i = 0; i < ITERATIONS; i++) {
+            // значение строго больше нуля, чтобы не попасть в индексы с нулевым весом в начале
+            float value = (float) ((1 - random.nextDouble()) * sum);
+            hits[Algorithms.findCumulativeValue(cumulative, value)]++;
+        }
+        return toFrequencies(hits);
+    }
+
+    /**
+     * Получить частоты по количествам попаданий
+     *
+     * @param hits количества попаданий
+     * @return частоты
+     */
+    private static double[] toFrequencies(int[] hits) {
+        double[] frequencies = new double[hits.length];
+        for (int i = 0; i < hits.length; i++)
+            frequencies[i] = (double) hits[i] / ITERATIONS;
+        return frequencies;
+    }
+
+    /**
+     * Проверить частоты выбора
+     *
+     * @param frequencies частоты
+     * @param reference   эталонные частоты
+     * @param weights     веса
+     */
+    private static void checkFrequencies(double[] frequencies, double[] reference, float[] weights) {
+        double sum = 0;
+        for (float weight : weights)
+            sum += weight;
+        for (int i = 0; i < weights.length; i++) {
+            double expected = weights[i] / sum;
+            if (weights[i] == 0) {
+                assert frequencies[i] == 0 && reference[i] == 0 : i;
+            } else {
+                assert Math.abs(frequencies[i] - expected) < 0.005 : i + " " + frequencies[i] + " " + expected;
+                assert Math.abs(frequencies[i] - reference[i]) < 0.005 : i + " " + frequencies[i] + " " + reference[i];
+            }
+        }
+    }
+
+    @Test
+    public void testAliasSampler() {
+        float[] weights = {0, 1, 5, 0, 2.5f, 10, 0.5f, 3, 0};
+        SplittableRandom random = new SplittableRandom(42);
+        AliasSampler sampler = new AliasSampler(weights);
+        assert sampler.size() == weights.length;
+        int[] dest = sampler.sample(new int[ITERATIONS], random);
+        int[] hits = new int[weights.length];
+        for (int index : dest)
+            hits[index]++;
+        checkFrequencies(toFrequencies(hits), referenceFrequencies(weights, random), weights);
+
+        // единственный положительный вес
+        AliasSampler single = new AliasSampler(new double[]{0, 0, 3, 0});
+        for (int index : single.sample(1000))
+            assert index == 2;
+
+        for (double[] invalid : new double[][]{{}, {0, 0}, {1, -1}, {1, Double.NaN}, {Double.POSITIVE_INFINITY}}) {
+            try {
+                new AliasSampler(invalid);
+                assert false;
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+    }
+
+    @Test
+    public void testFenwickSampler() {
+        float[] weights = {0, 1, 5, 0, 2.5f, 10, 0.5f, 3, 0};
+        SplittableRandom random = new SplittableRandom(7);
+        FenwickSampler sampler = new FenwickSampler(weights);
+        assert sampler.size() == weights.length;
+        assert sampler.getTotalWeight() == 22;
+        assert sampler.getPrefixWeight(3) == 6;
+        int[] hits = new int[weights.length];
+        for (int index : sampler.sample(new int[ITERATIONS], random))
+            hits[index]++;
+        checkFrequencies(toFrequencies(hits), referenceFrequencies(weights, random), weights);
+
+        // изменение весов
+        sampler.set(5, 0);
+        sampler.set(0, 4);
+        sampler.set(8, 2);
+        weights[5] = 0;
+        weights[0] = 4;
+        weights[8] = 2;
+        assert sampler.get(0) == 4;
+        assert sampler.getTotalWeight() == 18;
+        hits = new int[weights.length];
+        for (int i = 0; i < ITERATIONS; i++)
+            hits[sampler.sample(random)]++;
+        checkFrequencies(toFrequencies(hits), referenceFrequencies(weights, random), weights);
+
+        try {
+            sampler.set(1, -1);
+            assert false;
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
+    @Test
+    public void testFenwickUpdates() {
+        SplittableRandom random = new SplittableRandom(1);
+        int n = 1000;
+        FenwickSampler sampler = new FenwickSampler(n);
+        double[] weights = new double[n];
+        // многократные изменения не накапливают ошибку префиксных сумм
+        for (int k = 0; k < 50_000; k++) {
+            int i = random.nextInt(n);
+            weights[i] = random.nextInt(4) == 0 ? 0 : random.nextDouble() * 100;
+            sampler.set(i, weights[i]);
+            if (k % 997 == 0) {
+                double prefix = 0;
+                for (int j = 0; j < n; j++) {
+                    assert Math.abs(sampler.getPrefixWeight(j) - prefix) < 1e-6 : j;
+                    prefix += weights[j];
+                }
+            }
+        }
+        for (int k = 0; k < 100_000; k++) {
+            int index = sampler.sample(random);
+            assert weights[index] > 0 : index;
+        }
+
+        try {
+            new FenwickSampler(3).sample(random);
+            assert false;
+        } catch (IllegalStateException ignored) {
+        }
+    }
+}
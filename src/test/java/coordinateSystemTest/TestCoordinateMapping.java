@@ -0,0 +1,113 @@
+package coordinateSystemTest;
+
+import jMath.aoklyunin.github.com.coordinateSystem.*;
+import jMath.aoklyunin.github.com.vector.*;
+import org.junit.Test;
+
+public class TestCoordinateMapping {
+
+    @Test
+    public void test2dTo2i() {
+        CoordinateSystem2i c = new CoordinateSystem2i(1919, 1079);
+        CoordinateSystem2d cs = new CoordinateSystem2d(-10, 10, -5, 5);
+        RealToIntMapping mapping = c.mappingFrom(cs);
+        Vector2i dest = new Vector2i();
+        for (int i = 0; i < 1000; i++) {
+            Vector2d v = Vector2d.rand(cs.getMin(), cs.getMax());
+            assert mapping.map(v.x, v.y, dest).equals(c.getCoords(v, cs));
+            assert mapping.mapFloor(v.x, v.y, dest).equals(c.getFloorCoords(v, cs));
+            assert mapping.mapSize(v.x, v.y, dest).equals(c.getSize(v, cs));
+        }
+    }
+
+    @Test
+    public void test2iTo2d() {
+        CoordinateSystem2d c = new CoordinateSystem2d(-10, 10, -5, 5);
+        CoordinateSystem2i cs = new CoordinateSystem2i(-3, 1919, 7, 1079);
+        IntToRealMapping mapping = c.mappingFrom(cs);
+        Vector2d dest = new Vector2d();
+        for (int x = -3; x <= 1919; x += 17)
+            for (int y = 7; y <= 1079; y += 13) {
+                assert mapping.map(x, y, dest).equals(c.getCoords(x, y, cs));
+                assert mapping.mapSize(x, y, dest).equals(c.getSize(x, y, cs));
+            }
+    }
+
+    @Test
+    public void test3iTo3i() {
+        CoordinateSystem3i c = new CoordinateSystem3i(-50, 200, 0, 100, -10, 10);
+        CoordinateSystem3i cs = new CoordinateSystem3i(0, 17, -4, 4, 0, 31);
+        IntToIntMapping mapping = c.mappingFrom(cs);
+        Vector3i dest = new Vector3i();
+        for (int x = 0; x <= 17; x++)
+            for (int y = -4; y <= 4; y++)
+                for (int z = 0; z <= 31; z++) {
+                    assert mapping.map(x, y, z, dest).equals(c.getCoords(x, y, z, cs));
+                    assert mapping.mapFloor(x, y, z, dest).equals(c.getFloorCoords(x, y, z, cs));
+                    assert mapping.mapSize(x, y, z, dest).equals(c.getSize(x, y, z, cs));
+                }
+    }
+
+    @Test
+    public void test2dTo4d() {
+        CoordinateSystem4d c = new CoordinateSystem4d(-1, 1, -2, 2, -3, 3, -4, 4);
+        CoordinateSystem2d cs = new CoordinateSystem2d(-10, 10, -5, 5);
+        RealToRealMapping mapping = c.mappingFrom(cs);
+        Vector4d dest = new Vector4d();
+        for (int i = 0; i < 1000; i++) {
+            Vector2d v = Vector2d.rand(cs.getMin(), cs.getMax());
+            assert mapping.map(v.x, v.y, 100, 100, dest).equals(c.getCoords(v, cs));
+            assert mapping.mapSize(v.x, v.y, 100, 100, dest).equals(c.getSize(v, cs));
+        }
+    }
+
+    @Test
+    public void testBulk() {
+        CoordinateSystem3i c = new CoordinateSystem3i(1919, 1079, 15);
+        CoordinateSystem3d cs = new CoordinateSystem3d(-1, 1, -1, 1, -1, 1);
+        RealToIntMapping mapping = c.mappingFrom(cs);
+        Vector3dArray src = new Vector3dArray(1000);
+        for (int i = 0; i < src.size(); i++)
+            src.set(i, Vector3d.rand(cs.getMin(), cs.getMax()));
+        Vector3iArray dest = new Vector3iArray(src.size());
+        mapping.map(0, src.x, dest.x);
+        mapping.map(1, src.y, dest.y);
+        mapping.map(2, src.z, dest.z);
+        assert dest.equals(c.getCoords(src, cs));
+        mapping.mapFloor(0, src.x, dest.x);
+        mapping.mapFloor(1, src.y, dest.y);
+        mapping.mapFloor(2, src.z, dest.z);
+        assert dest.equals(c.getFloorCoords(src, cs));
+    }
+
+    @Test
+    public void testInverse() {
+        CoordinateSystem2i c = new CoordinateSystem2i(1919, 1079);
+        CoordinateSystem2d cs = new CoordinateSystem2d(-10, 10, -5, 5);
+        assert c.mappingFrom(cs).inverse().equals(cs.mappingFrom(c));
+        assert c.mappingFrom(cs).inverse().inverse().equals(c.mappingFrom(cs));
+
+        CoordinateSystem3d cs3 = new CoordinateSystem3d(-1, 1, -1, 1, -1, 1);
+        assert cs3.mappingFrom(c).inverse().equals(c.mappingFrom(cs3));
+    }
+
+    @Test
+    public void testTypes() {
+        CoordinateSystem2i c = new CoordinateSystem2i(1919, 1079);
+        CoordinateSystem2d cs = new CoordinateSystem2d(-10, 10, -5, 5);
+        RealToIntMapping mapping = c.mappingFrom(cs);
+        assert !mapping.isSourceInteger() && mapping.isTargetInteger();
+        IntToRealMapping inverse = mapping.inverse();
+        assert inverse.isSourceInteger() && !inverse.isTargetInteger();
+        // целые координаты вещественной исходной СК расширяются до double
+        assert mapping.map(1, 2, new Vector2i()).equals(mapping.map(1.0, 2.0, new Vector2i()));
+        assert !mapping.equals(cs.mappingFrom(c));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrongTargetDimension() {
+        CoordinateSystem2i c = new CoordinateSystem2i(1919, 1079);
+        CoordinateSystem2d cs = new CoordinateSystem2d(-10, 10, -5, 5);
+        c.mappingFrom(cs).map(1.0, 2.0, 3.0, new Vector3i());
+    }
+}
@@ -148,5 +148,18 @@ public class TestCoordinateSystem2d {
         }
     }
 
-
+    @Test
+    public void testCoordinateSystem2dDeconvDest() {
+        Vector2d dest = new Vector2d();
+        for (CoordinateSystem2d c : new CoordinateSystem2d[]{
+                new CoordinateSystem2d(-10, 10, -20, 20),
+                new CoordinateSystem2d(-10, 10, 3, 3),
+                new CoordinateSystem2d(4, 4, -20, 20)
+        }) {
+            for (int i = 0; i < c.getConvValue(divideCnt); i++) {
+                assert c.deconv(i, divideCnt, dest) == dest;
+                assert dest.equals(c.deconv(i, divideCnt));
+            }
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package coordinateSystemTest;
 
 import jMath.aoklyunin.github.com.vector.Vector2i;
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem2d;
 import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem2i;
 
 import org.junit.Test;
@@ -88,6 +89,29 @@ public class TestCoordinateSystem2i {
     }
 
 
+    @Test
+    public void testCoordinateSystem2iDeconvDest() {
+        CoordinateSystem2i c = new CoordinateSystem2i(-10, 10, -20, 20);
+        Vector2i dest = new Vector2i();
+        for (int i = 0; i < c.getConvValue(); i++) {
+            assert c.deconv(i, dest) == dest;
+            assert dest.equals(c.deconv(i));
+            assert c.conv(dest) == i;
+        }
+    }
+
+    @Test
+    public void testCoordinateSystem2iGetCoordsDest() {
+        CoordinateSystem2i c = new CoordinateSystem2i(1919, 1079);
+        CoordinateSystem2d cs = new CoordinateSystem2d(-10, 10, -5, 5);
+        Vector2i dest = new Vector2i();
+        for (double x = -10; x <= 10; x += 0.75)
+            for (double y = -5; y <= 5; y += 0.5) {
+                assert c.getCoords(x, y, cs, dest) == dest;
+                assert dest.equals(c.getCoords(x, y, cs));
+            }
+    }
+
     private void testCoordinateSystem2iConv(int width, int height) {
         CoordinateSystem2i c = new CoordinateSystem2i(width - 1, height - 1);
         boolean[] arr = new boolean[c.getConvValue() + 1];
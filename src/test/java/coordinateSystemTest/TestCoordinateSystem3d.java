@@ -199,5 +199,18 @@ public class TestCoordinateSystem3d {
         }
     }
 
-
+    @Test
+    public void testCoordinateSystem3dDeconvDest() {
+        Vector3d dest = new Vector3d();
+        for (CoordinateSystem3d c : new CoordinateSystem3d[]{
+                new CoordinateSystem3d(-10, 10, -20, 20, 1, 7),
+                new CoordinateSystem3d(-10, 10, 3, 3, 1, 7),
+                new CoordinateSystem3d(4, 4, -20, 20, 1, 1)
+        }) {
+            for (int i = 0; i < c.getConvValue(divideCnt); i++) {
+                assert c.deconv(i, divideCnt, dest) == dest;
+                assert dest.equals(c.deconv(i, divideCnt));
+            }
+        }
+    }
 }
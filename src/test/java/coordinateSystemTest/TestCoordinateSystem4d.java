@@ -269,5 +269,18 @@ public class TestCoordinateSystem4d {
         }
     }
 
-
+    @Test
+    public void testCoordinateSystem4dDeconvDest() {
+        Vector4d dest = new Vector4d();
+        for (CoordinateSystem4d c : new CoordinateSystem4d[]{
+                new CoordinateSystem4d(-10, 10, -20, 20, 1, 7, -3, 2),
+                new CoordinateSystem4d(-10, 10, 3, 3, 1, 7, 2, 2),
+                new CoordinateSystem4d(4, 4, -20, 20, 1, 1, -3, 2)
+        }) {
+            for (int i = 0; i < c.getConvValue(divideCnt); i++) {
+                assert c.deconv(i, divideCnt, dest) == dest;
+                assert dest.equals(c.deconv(i, divideCnt));
+            }
+        }
+    }
 }
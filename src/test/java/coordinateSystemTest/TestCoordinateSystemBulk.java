@@ -0,0 +1,98 @@
+package coordinateSystemTest;
+
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem2d;
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem2i;
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem3d;
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem3i;
+import jMath.aoklyunin.github.com.coordinateSystem.CoordinateSystem4d;
+import jMath.aoklyunin.github.com.vector.*;
+import org.junit.Test;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+public class TestCoordinateSystemBulk {
+    private static final int POINT_CNT = 1000;
+
+    private static Vector2dArray rand2d(CoordinateSystem2d cs) {
+        Vector2dArray arr = new Vector2dArray(POINT_CNT);
+        for (int i = 0; i < POINT_CNT; i++)
+            arr.set(i, Vector2d.rand(cs.getMin(), cs.getMax()));
+        return arr;
+    }
+
+    private static Vector3iArray rand3i(CoordinateSystem3i cs) {
+        Vector3iArray arr = new Vector3iArray(POINT_CNT);
+        for (int i = 0; i < POINT_CNT; i++)
+            arr.set(i,
+                    ThreadLocalRandom.current().nextInt(cs.getMin().x, cs.getMax().x + 1),
+                    ThreadLocalRandom.current().nextInt(cs.getMin().y, cs.getMax().y + 1),
+                    ThreadLocalRandom.current().nextInt(cs.getMin().z, cs.getMax().z + 1)
+            );
+        return arr;
+    }
+
+    @Test
+    public void test2dTo2i() {
+        CoordinateSystem2i c = new CoordinateSystem2i(1919, 1079);
+        CoordinateSystem2d cs = new CoordinateSystem2d(-10, 10, -5, 5);
+        Vector2dArray src = rand2d(cs);
+        Vector2iArray coords = c.getCoords(src, cs);
+        Vector2iArray floorCoords = c.getFloorCoords(src, cs);
+        Vector2iArray sizes = c.getSize(src, cs);
+        for (int i = 0; i < POINT_CNT; i++) {
+            assert coords.get(i).equals(c.getCoords(src.get(i), cs));
+            assert floorCoords.get(i).equals(c.getFloorCoords(src.get(i), cs));
+            assert sizes.get(i).equals(c.getSize(src.get(i), cs));
+        }
+    }
+
+    @Test
+    public void test2dTo4d() {
+        CoordinateSystem4d c = new CoordinateSystem4d(-1, 1, -2, 2, -3, 3, -4, 4);
+        CoordinateSystem2d cs = new CoordinateSystem2d(-10, 10, -5, 5);
+        Vector2dArray src = rand2d(cs);
+        Vector4dArray coords = c.getCoords(src, cs);
+        Vector4dArray sizes = c.getSize(src, cs);
+        for (int i = 0; i < POINT_CNT; i++) {
+            assert coords.get(i).equals(c.getCoords(src.get(i), cs));
+            assert sizes.get(i).equals(c.getSize(src.get(i), cs));
+        }
+    }
+
+    @Test
+    public void test3iTo3i() {
+        CoordinateSystem3i c = new CoordinateSystem3i(-50, 200, 0, 100, -10, 10);
+        CoordinateSystem3i cs = new CoordinateSystem3i(0, 17, -4, 4, 0, 31);
+        Vector3iArray src = rand3i(cs);
+        Vector3iArray dest = new Vector3iArray(POINT_CNT);
+        assert c.getCoords(src, cs, dest) == dest;
+        for (int i = 0; i < POINT_CNT; i++)
+            assert dest.get(i).equals(c.getCoords(src.get(i), cs));
+        c.getFloorCoords(src, cs, dest);
+        for (int i = 0; i < POINT_CNT; i++)
+            assert dest.get(i).equals(c.getFloorCoords(src.get(i), cs));
+        c.getSize(src, cs, dest);
+        for (int i = 0; i < POINT_CNT; i++)
+            assert dest.get(i).equals(c.getSize(src.get(i), cs));
+    }
+
+    @Test
+    public void test3iTo3d() {
+        CoordinateSystem3d c = new CoordinateSystem3d(-1, 1, -1, 1, -1, 1);
+        CoordinateSystem3i cs = new CoordinateSystem3i(0, 17, -4, 4, 0, 31);
+        Vector3iArray src = rand3i(cs);
+        Vector3dArray coords = c.getCoords(src, cs);
+        Vector3dArray sizes = c.getSize(src, cs);
+        for (int i = 0; i < POINT_CNT; i++) {
+            assert coords.get(i).equals(c.getCoords(src.get(i), cs));
+            assert sizes.get(i).equals(c.getSize(src.get(i), cs));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDifferentSizes() {
+        CoordinateSystem2i c = new CoordinateSystem2i(100, 100);
+        CoordinateSystem2d cs = new CoordinateSystem2d(-10, 10, -5, 5);
+        c.getCoords(new Vector2dArray(3), cs, new Vector2iArray(4));
+    }
+}